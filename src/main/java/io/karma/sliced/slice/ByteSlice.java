@@ -18,6 +18,8 @@ package io.karma.sliced.slice;
 import io.karma.sliced.function.ByteFunction;
 import io.karma.sliced.slice.impl.ArrayByteSlice;
 import io.karma.sliced.slice.impl.EmptyByteSlice;
+import io.karma.sliced.util.Hashes;
+import io.karma.sliced.util.Search;
 import io.karma.sliced.view.ByteView;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -108,6 +110,209 @@ public interface ByteSlice extends ByteView, Slice<Byte> {
         return function.apply(getByte(index));
     }
 
+    /**
+     * Finds the first occurrence of the given value within the given range of this slice.
+     *
+     * @param value  The value to search for.
+     * @param offset The index at which to start searching.
+     * @param size   The number of elements to search.
+     * @return The index of the first occurrence relative to this slice, or -1 if there is none.
+     */
+    default int indexOf(final byte value, final int offset, final int size) {
+        final int index = Search.indexOf(toByteArray(offset, size), 0, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the first occurrence of the given value in this slice.
+     *
+     * @param value The value to search for.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOf(final byte value) {
+        return indexOf(value, 0, size());
+    }
+
+    /**
+     * Finds the first occurrence of the given sequence of bytes
+     * within the given range of this slice.
+     *
+     * @param needle The bytes to search for.
+     * @param offset The index at which to start searching.
+     * @param size   The number of elements to search.
+     * @return The index of the first occurrence relative to this slice,
+     * or -1 if there is none. An empty needle is found at the given offset.
+     */
+    default int indexOf(final byte[] needle, final int offset, final int size) {
+        final int index = Search.indexOf(toByteArray(offset, size), 0, size, needle);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the first occurrence of the given sequence of bytes at or after the given index.
+     *
+     * @param needle    The bytes to search for.
+     * @param fromIndex The index at which to start searching.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOf(final byte[] needle, final int fromIndex) {
+        final int size = size();
+        final int from = Math.min(Math.max(fromIndex, 0), size);
+        return indexOf(needle, from, size - from);
+    }
+
+    /**
+     * Finds the first occurrence of the given sequence of bytes in this slice.
+     *
+     * @param needle The bytes to search for.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOf(final byte... needle) {
+        return indexOf(needle, 0, size());
+    }
+
+    /**
+     * Finds the last occurrence of the given sequence of bytes
+     * within the given range of this slice.
+     *
+     * @param needle The bytes to search for.
+     * @param offset The index at which the searched range begins.
+     * @param size   The number of elements to search.
+     * @return The index of the last occurrence relative to this slice,
+     * or -1 if there is none. An empty needle is found at the end of the range.
+     */
+    default int lastIndexOf(final byte[] needle, final int offset, final int size) {
+        final int index = Search.lastIndexOf(toByteArray(offset, size), 0, size, needle);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the last occurrence of the given sequence of bytes in this slice.
+     *
+     * @param needle The bytes to search for.
+     * @return The index of the last occurrence, or -1 if there is none.
+     */
+    default int lastIndexOf(final byte... needle) {
+        return lastIndexOf(needle, 0, size());
+    }
+
+    /**
+     * Checks whether this slice contains the given sequence of bytes.
+     *
+     * @param needle The bytes to search for.
+     * @return True if this slice contains the given sequence of bytes.
+     */
+    default boolean contains(final byte... needle) {
+        return indexOf(needle, 0, size()) >= 0;
+    }
+
+    /**
+     * Finds the index of the first element at which this slice
+     * and the given slice differ.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter slice if it is a proper prefix of the other one, or -1 if both slices are equal.
+     */
+    default int mismatch(final @NotNull ByteSlice other) {
+        final int size = size();
+        final int otherSize = other.size();
+        final int minSize = Math.min(size, otherSize);
+
+        for (int i = 0; i < minSize; i++) {
+            if (getByte(i) != other.getByte(i)) {
+                return i;
+            }
+        }
+
+        return size == otherSize ? -1 : minSize;
+    }
+
+    /**
+     * Checks whether the elements referenced by this slice are equal
+     * to the elements referenced by the given slice, regardless of
+     * the underlying storage and offset of either slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return True if both slices have the same size and contain the same elements.
+     */
+    default boolean rangeEquals(final @NotNull ByteSlice other) {
+        return size() == other.size() && mismatch(other) < 0;
+    }
+
+    /**
+     * Lexicographically compares the elements of this slice
+     * with the elements of the given slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return 0 if both slices are equal, a negative value if this slice is
+     * lexicographically less than the given slice, and a positive value otherwise.
+     */
+    default int compareTo(final @NotNull ByteSlice other) {
+        final int index = mismatch(other);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        final int size = size();
+        final int otherSize = other.size();
+
+        if (index < size && index < otherSize) {
+            return Byte.compare(getByte(index), other.getByte(index));
+        }
+
+        return size - otherSize;
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 64-bit hash (xxHash64)
+     * of the elements referenced by this slice.
+     *
+     * @return The 64-bit content hash of this slice instance.
+     * @see Hashes#xxHash64(byte[], int, int, long)
+     */
+    default long hash64() {
+        return hash64(0L);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 64-bit hash (xxHash64)
+     * of the elements referenced by this slice, using the given seed.
+     *
+     * @param seed The seed of the hash.
+     * @return The 64-bit content hash of this slice instance.
+     * @see Hashes#xxHash64(byte[], int, int, long)
+     */
+    default long hash64(final long seed) {
+        final byte[] data = toByteArray();
+        return Hashes.xxHash64(data, 0, data.length, seed);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 128-bit hash (MurmurHash3)
+     * of the elements referenced by this slice.
+     *
+     * @return A new array containing the lower and upper 64 bits of the content hash.
+     * @see Hashes#murmur3x128(byte[], int, int, long)
+     */
+    default long[] hash128() {
+        return hash128(0L);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 128-bit hash (MurmurHash3)
+     * of the elements referenced by this slice, using the given seed.
+     *
+     * @param seed The seed of the hash.
+     * @return A new array containing the lower and upper 64 bits of the content hash.
+     * @see Hashes#murmur3x128(byte[], int, int, long)
+     */
+    default long[] hash128(final long seed) {
+        final byte[] data = toByteArray();
+        return Hashes.murmur3x128(data, 0, data.length, seed);
+    }
+
     @Override
     default @NotNull Slice<Byte> asSlice() {
         return this;
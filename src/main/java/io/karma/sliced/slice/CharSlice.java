@@ -15,14 +15,27 @@
 
 package io.karma.sliced.slice;
 
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.impl.ArrayCharSlice;
 import io.karma.sliced.slice.impl.CharSeqSlice;
 import io.karma.sliced.slice.impl.EmptyCharSlice;
+import io.karma.sliced.slice.impl.Latin1CharSlice;
+import io.karma.sliced.slice.impl.Utf8CharSlice;
+import io.karma.sliced.util.CaseFolding;
+import io.karma.sliced.util.CharClass;
+import io.karma.sliced.util.CharSliceTokenizer;
+import io.karma.sliced.util.Hashes;
+import io.karma.sliced.util.Numbers;
+import io.karma.sliced.util.Search;
 import io.karma.sliced.view.CharView;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 
+import java.text.ParsePosition;
+import java.util.ArrayList;
+import java.util.Comparator;
+
 /**
  * A char slice is a specialized form of {@link Slice}, which provides
  * primitive specializations and additional functionality through extending {@link CharSequence}.
@@ -41,6 +54,17 @@ public interface CharSlice extends CharView, Slice<Character> {
         return EmptyCharSlice.INSTANCE;
     }
 
+    /**
+     * Retrieves a comparator which orders char slices (and any other
+     * character sequences) lexicographically, ignoring case.
+     *
+     * @return A case-insensitive comparator for character sequences.
+     * @see CaseFolding#comparator()
+     */
+    static @NotNull Comparator<CharSequence> caseInsensitiveOrder() {
+        return CaseFolding.comparator();
+    }
+
     /**
      * Creates a new string slice for the given character sequence,
      * with the given start- and end index.<br>
@@ -89,6 +113,122 @@ public interface CharSlice extends CharView, Slice<Character> {
         return new ArrayCharSlice(ref, 0, ref.length);
     }
 
+    /**
+     * Creates a new char slice which views the given range
+     * of UTF-8 encoded bytes as characters, without decoding them upfront.
+     *
+     * @param ref    The UTF-8 encoded bytes to create a slice of.
+     * @param offset The index of the first byte of the newly created slice.
+     * @param size   The number of bytes referenced by the newly created slice.
+     * @return A new char slice referencing the given byte array.
+     */
+    static @NotNull CharSlice ofUtf8(final byte[] ref, final int offset, final int size) {
+        return new Utf8CharSlice(ref, offset, size);
+    }
+
+    /**
+     * Creates a new char slice which views the given
+     * UTF-8 encoded bytes as characters, without decoding them upfront.
+     *
+     * @param ref The UTF-8 encoded bytes to create a slice of.
+     * @return A new char slice referencing the given byte array.
+     */
+    static @NotNull CharSlice ofUtf8(final byte... ref) {
+        return new Utf8CharSlice(ref, 0, ref.length);
+    }
+
+    /**
+     * Creates a new char slice which views the UTF-8 encoded bytes
+     * referenced by the given byte slice as characters, without decoding them upfront.
+     * The bytes are only copied if the given slice is not backed by an array.
+     *
+     * @param slice The slice of UTF-8 encoded bytes to create a char slice of.
+     * @return A new char slice referencing the bytes of the given slice.
+     */
+    static @NotNull CharSlice ofUtf8(final @NotNull ByteSlice slice) {
+        if (slice instanceof ArrayBacked) {
+            return new Utf8CharSlice((byte[]) ((ArrayBacked<?>) slice).array(), slice.offset(), slice.size());
+        }
+
+        final byte[] bytes = slice.toByteArray();
+        return new Utf8CharSlice(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Creates a new char slice which views the given range of
+     * ISO-8859-1 (Latin-1) encoded bytes as characters, one byte per character.
+     *
+     * @param ref    The Latin-1 encoded bytes to create a slice of.
+     * @param offset The index of the first byte of the newly created slice.
+     * @param size   The number of bytes referenced by the newly created slice.
+     * @return A new char slice referencing the given byte array.
+     */
+    static @NotNull CharSlice ofLatin1(final byte[] ref, final int offset, final int size) {
+        return new Latin1CharSlice(ref, offset, size);
+    }
+
+    /**
+     * Creates a new char slice which views the given
+     * ISO-8859-1 (Latin-1) encoded bytes as characters, one byte per character.
+     *
+     * @param ref The Latin-1 encoded bytes to create a slice of.
+     * @return A new char slice referencing the given byte array.
+     */
+    static @NotNull CharSlice ofLatin1(final byte... ref) {
+        return new Latin1CharSlice(ref, 0, ref.length);
+    }
+
+    /**
+     * Creates a new char slice which views the given range of
+     * ASCII encoded bytes as characters, one byte per character.
+     *
+     * @param ref    The ASCII encoded bytes to create a slice of.
+     * @param offset The index of the first byte of the newly created slice.
+     * @param size   The number of bytes referenced by the newly created slice.
+     * @return A new char slice referencing the given byte array.
+     * @throws IllegalArgumentException if the given range contains non-ASCII bytes.
+     */
+    static @NotNull CharSlice ofAscii(final byte[] ref, final int offset, final int size) {
+        final Latin1CharSlice result = new Latin1CharSlice(ref, offset, size);
+
+        if (!result.isAscii()) {
+            throw new IllegalArgumentException("Byte range contains non-ASCII characters");
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new char slice which views the given
+     * ASCII encoded bytes as characters, one byte per character.
+     *
+     * @param ref The ASCII encoded bytes to create a slice of.
+     * @return A new char slice referencing the given byte array.
+     * @throws IllegalArgumentException if the given array contains non-ASCII bytes.
+     */
+    static @NotNull CharSlice ofAscii(final byte... ref) {
+        return ofAscii(ref, 0, ref.length);
+    }
+
+    /**
+     * Creates a new char slice containing a copy of the given character sequence,
+     * stored as one byte per character if every character is in ISO-8859-1 (Latin-1),
+     * and as a {@code char} array otherwise.
+     *
+     * @param seq The character sequence to copy.
+     * @return A new char slice containing the characters of the given sequence.
+     */
+    static @NotNull CharSlice compact(final @NotNull CharSequence seq) {
+        final byte[] bytes = Latin1CharSlice.encode(seq);
+
+        if (bytes != null) {
+            return new Latin1CharSlice(bytes, 0, bytes.length);
+        }
+
+        final char[] chars = seq.toString().toCharArray();
+        return new ArrayCharSlice(chars, 0, chars.length);
+    }
+
     /**
      * Splits the given {@link CharSequence} {code seq} at each given delimiter {@code delimiter},
      * between the given start and end index.
@@ -102,63 +242,28 @@ public interface CharSlice extends CharView, Slice<Character> {
      */
     static @NotNull CharSlice[] split(final @NotNull CharSequence seq, final @NotNull CharSequence delimiter,
                                       final int offset, final int size) {
-        final int seqSize = seq.length();
-        final int maxIndex = seqSize - 1;
-
-        if (offset < 0 || offset > maxIndex || size < 0) {
-            throw new ArrayIndexOutOfBoundsException("Start index is out of range");
+        if (offset < 0 || size < 0 || offset > seq.length() - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
-        final int end = offset + size;
-
-        // Find number of delimiters
-        final int delimiterLength = delimiter.length();
-        int numDelimiters = 0; // # of delimiters total
-        int matchingChars = 0; // # of matching characters for the delimiter
-
-        for (int i = offset; i <= end; i++) {
-            if (seq.charAt(i) != delimiter.charAt(matchingChars)) {
-                matchingChars = 0; // Reset number of matching chars
-                continue;
-            }
+        final int delimiterSize = delimiter.length();
 
-            matchingChars++;
-
-            if (matchingChars != delimiterLength) {
-                continue;
-            }
-
-            matchingChars = 0;
-            numDelimiters++;
+        if (delimiterSize == 0) {
+            return new CharSlice[]{new CharSeqSlice(seq, offset, size)};
         }
 
-        // Create sub-views
-        final int numSlices = numDelimiters + 1;
-        final CharSlice[] slices = new CharSlice[numSlices];
-        int index = 0;
+        final ArrayList<CharSlice> slices = new ArrayList<>();
+        final int end = offset + size;
         int lastEnd = offset;
+        int index;
 
-        matchingChars = 0; // Reset # of matching chars
-
-        for (int i = offset; i <= end; i++) {
-            if (seq.charAt(i) != delimiter.charAt(matchingChars)) {
-                matchingChars = 0; // Reset number of matching chars
-                continue;
-            }
-
-            matchingChars++;
-
-            if (matchingChars != delimiterLength) {
-                continue;
-            }
-
-            slices[index++] = new CharSeqSlice(seq, lastEnd, i - (delimiterLength - 1));
-            lastEnd = i + 1;
-            matchingChars = 0;
+        while ((index = Search.indexOf(seq, lastEnd, end - lastEnd, delimiter)) >= 0) {
+            slices.add(new CharSeqSlice(seq, lastEnd, index));
+            lastEnd += index + delimiterSize;
         }
 
-        slices[index] = new CharSeqSlice(seq, lastEnd, end + 1);
-        return slices;
+        slices.add(new CharSeqSlice(seq, lastEnd, end - lastEnd));
+        return slices.toArray(new CharSlice[0]);
     }
 
     /**
@@ -170,7 +275,7 @@ public interface CharSlice extends CharView, Slice<Character> {
      * sections of the original char sequence.
      */
     static @NotNull CharSlice[] split(final @NotNull CharSequence seq, final @NotNull CharSequence delimiter) {
-        return split(seq, delimiter, 0, seq.length() - 1);
+        return split(seq, delimiter, 0, seq.length());
     }
 
     /**
@@ -186,43 +291,22 @@ public interface CharSlice extends CharView, Slice<Character> {
      */
     static @NotNull CharSlice[] split(final @NotNull CharSequence seq, final char delimiter, final int offset,
                                       final int size) {
-        final int seqSize = seq.length();
-        final int maxIndex = seqSize - 1;
-
-        if (offset < 0 || offset > maxIndex || size < 0) {
-            throw new ArrayIndexOutOfBoundsException("Start index is out of range");
+        if (offset < 0 || size < 0 || offset > seq.length() - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
+        final ArrayList<CharSlice> slices = new ArrayList<>();
         final int end = offset + size;
+        int lastEnd = offset;
+        int index;
 
-        // Find # of delimiters
-        int numDelimiters = 0;
-
-        for (int i = offset; i <= end; i++) {
-            if (seq.charAt(i) != delimiter) {
-                continue;
-            }
-
-            numDelimiters++;
-        }
-
-        // Create sub-views
-        final int numSlices = numDelimiters + 1;
-        final CharSlice[] slices = new CharSlice[numSlices];
-        int index = 0;
-        int lastEnd = 0;
-
-        for (int i = offset; i <= end; i++) {
-            if (seq.charAt(i) != delimiter) {
-                continue;
-            }
-
-            slices[index++] = new CharSeqSlice(seq, lastEnd, i);
-            lastEnd = i + 1;
+        while ((index = Search.indexOf(seq, lastEnd, end - lastEnd, delimiter)) >= 0) {
+            slices.add(new CharSeqSlice(seq, lastEnd, index));
+            lastEnd += index + 1;
         }
 
-        slices[index] = new CharSeqSlice(seq, lastEnd, end + 1);
-        return slices;
+        slices.add(new CharSeqSlice(seq, lastEnd, end - lastEnd));
+        return slices.toArray(new CharSlice[0]);
     }
 
     /**
@@ -234,7 +318,7 @@ public interface CharSlice extends CharView, Slice<Character> {
      * sections of the original char sequence.
      */
     static @NotNull CharSlice[] split(final @NotNull CharSequence seq, final char delimiter) {
-        return split(seq, delimiter, 0, seq.length() - 1);
+        return split(seq, delimiter, 0, seq.length());
     }
 
     // Instance functions
@@ -269,7 +353,7 @@ public interface CharSlice extends CharView, Slice<Character> {
      * sections of the original char sequence.
      */
     default @NotNull CharSlice[] split(final char delimiter) {
-        return split(delimiter, 0, length() - 1);
+        return split(delimiter, 0, length());
     }
 
     /**
@@ -294,7 +378,216 @@ public interface CharSlice extends CharView, Slice<Character> {
      * sections of the original char sequence.
      */
     default @NotNull CharSlice[] split(final @NotNull CharSequence delimiter) {
-        return split(delimiter, 0, length() - 1);
+        return split(delimiter, 0, length());
+    }
+
+    /**
+     * Creates a new tokenizer which lazily splits this {@link CharSlice}
+     * at any of the given delimiters, skipping empty tokens.
+     *
+     * @param delimiters The characters which separate tokens.
+     * @return A new tokenizer over this slice.
+     */
+    default @NotNull CharSliceTokenizer tokenize(final @NotNull CharClass delimiters) {
+        return new CharSliceTokenizer(this, delimiters);
+    }
+
+    /**
+     * Finds the first occurrence of the given character within the given range of this slice.
+     *
+     * @param value  The character to search for.
+     * @param offset The index at which to start searching.
+     * @param size   The number of characters to search.
+     * @return The index of the first occurrence relative to this slice, or -1 if there is none.
+     */
+    default int indexOf(final char value, final int offset, final int size) {
+        final int index = Search.indexOf(this, offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the first occurrence of the given character at or after the given index.
+     *
+     * @param value     The character to search for.
+     * @param fromIndex The index at which to start searching.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOf(final char value, final int fromIndex) {
+        final int size = length();
+        final int from = Math.min(Math.max(fromIndex, 0), size);
+        return indexOf(value, from, size - from);
+    }
+
+    /**
+     * Finds the first occurrence of the given character in this slice.
+     *
+     * @param value The character to search for.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOf(final char value) {
+        return indexOf(value, 0, length());
+    }
+
+    /**
+     * Finds the last occurrence of the given character within the given range of this slice.
+     *
+     * @param value  The character to search for.
+     * @param offset The index at which the searched range begins.
+     * @param size   The number of characters to search.
+     * @return The index of the last occurrence relative to this slice, or -1 if there is none.
+     */
+    default int lastIndexOf(final char value, final int offset, final int size) {
+        final int index = Search.lastIndexOf(this, offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the last occurrence of the given character in this slice.
+     *
+     * @param value The character to search for.
+     * @return The index of the last occurrence, or -1 if there is none.
+     */
+    default int lastIndexOf(final char value) {
+        return lastIndexOf(value, 0, length());
+    }
+
+    /**
+     * Finds the first occurrence of the given character sequence
+     * within the given range of this slice.
+     *
+     * @param seq    The character sequence to search for.
+     * @param offset The index at which to start searching.
+     * @param size   The number of characters to search.
+     * @return The index of the first occurrence relative to this slice,
+     * or -1 if there is none. An empty sequence is found at the given offset.
+     */
+    default int indexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        final int index = Search.indexOf(this, offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the first occurrence of the given character sequence at or after the given index.
+     *
+     * @param seq       The character sequence to search for.
+     * @param fromIndex The index at which to start searching.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOf(final @NotNull CharSequence seq, final int fromIndex) {
+        final int size = length();
+        final int from = Math.min(Math.max(fromIndex, 0), size);
+        return indexOf(seq, from, size - from);
+    }
+
+    /**
+     * Finds the first occurrence of the given character sequence in this slice.
+     *
+     * @param seq The character sequence to search for.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOf(final @NotNull CharSequence seq) {
+        return indexOf(seq, 0, length());
+    }
+
+    /**
+     * Finds the last occurrence of the given character sequence
+     * within the given range of this slice.
+     *
+     * @param seq    The character sequence to search for.
+     * @param offset The index at which the searched range begins.
+     * @param size   The number of characters to search.
+     * @return The index of the last occurrence relative to this slice,
+     * or -1 if there is none. An empty sequence is found at the end of the range.
+     */
+    default int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        final int index = Search.lastIndexOf(this, offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the last occurrence of the given character sequence
+     * which starts at or before the given index.
+     *
+     * @param seq       The character sequence to search for.
+     * @param fromIndex The greatest index at which an occurrence may start.
+     * @return The index of the last occurrence, or -1 if there is none.
+     */
+    default int lastIndexOf(final @NotNull CharSequence seq, final int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+
+        return lastIndexOf(seq, 0, (int) Math.min(length(), (long) fromIndex + seq.length()));
+    }
+
+    /**
+     * Finds the last occurrence of the given character sequence in this slice.
+     *
+     * @param seq The character sequence to search for.
+     * @return The index of the last occurrence, or -1 if there is none.
+     */
+    default int lastIndexOf(final @NotNull CharSequence seq) {
+        return lastIndexOf(seq, 0, length());
+    }
+
+    /**
+     * Checks whether this slice contains the given character sequence.
+     *
+     * @param seq The character sequence to search for.
+     * @return True if this slice contains the given character sequence.
+     */
+    default boolean contains(final @NotNull CharSequence seq) {
+        return indexOf(seq, 0, length()) >= 0;
+    }
+
+    /**
+     * Finds the first occurrence of the given character sequence
+     * within the given range of this slice, ignoring case.
+     *
+     * @param seq    The character sequence to search for.
+     * @param offset The index at which to start searching.
+     * @param size   The number of characters to search.
+     * @return The index of the first occurrence relative to this slice,
+     * or -1 if there is none. An empty sequence is found at the given offset.
+     * @see CaseFolding
+     */
+    default int indexOfIgnoreCase(final @NotNull CharSequence seq, final int offset, final int size) {
+        final int index = Search.indexOfIgnoreCase(this, offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    /**
+     * Finds the first occurrence of the given character sequence
+     * at or after the given index, ignoring case.
+     *
+     * @param seq       The character sequence to search for.
+     * @param fromIndex The index at which to start searching.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOfIgnoreCase(final @NotNull CharSequence seq, final int fromIndex) {
+        final int size = length();
+        final int from = Math.min(Math.max(fromIndex, 0), size);
+        return indexOfIgnoreCase(seq, from, size - from);
+    }
+
+    /**
+     * Finds the first occurrence of the given character sequence in this slice, ignoring case.
+     *
+     * @param seq The character sequence to search for.
+     * @return The index of the first occurrence, or -1 if there is none.
+     */
+    default int indexOfIgnoreCase(final @NotNull CharSequence seq) {
+        return indexOfIgnoreCase(seq, 0, length());
+    }
+
+    /**
+     * Checks whether this slice contains the given character sequence, ignoring case.
+     *
+     * @param seq The character sequence to search for.
+     * @return True if this slice contains the given character sequence ignoring case.
+     */
+    default boolean containsIgnoreCase(final @NotNull CharSequence seq) {
+        return indexOfIgnoreCase(seq, 0, length()) >= 0;
     }
 
     /**
@@ -302,22 +595,47 @@ public interface CharSlice extends CharView, Slice<Character> {
      * off the original char sequence and returns a new {@link CharSlice},
      * which only references the non-leading-WS part of the original
      * underlying character sequence.
+     * <p>
+     * Like {@link String#trim()}, every character up to and including
+     * {@code U+0020} is considered whitespace. See {@link #stripLeading()}
+     * for Unicode whitespace.
      *
      * @return A new {@link CharSlice} referencing all non-leading-WS
      * characters of the original slice instance's character sequence.
      */
-    @NotNull CharSlice trimLeading();
+    default @NotNull CharSlice trimLeading() {
+        final int size = length();
+        int start = 0;
+
+        while (start < size && getChar(start) <= ' ') {
+            start++;
+        }
+
+        return (CharSlice) slice(start, size - start);
+    }
 
     /**
      * Trims all trailing whitespace (space, tab, newline etc.)
      * off the original char sequence and returns a new {@link CharSlice},
      * which only references the non-trailing-WS part of the original
      * underlying character sequence.
+     * <p>
+     * Like {@link String#trim()}, every character up to and including
+     * {@code U+0020} is considered whitespace. See {@link #stripTrailing()}
+     * for Unicode whitespace.
      *
      * @return A new {@link CharSlice} referencing all non-trailing-WS
      * characters of the original slice instance's character sequence.
      */
-    @NotNull CharSlice trimTrailing();
+    default @NotNull CharSlice trimTrailing() {
+        int end = length();
+
+        while (end > 0 && getChar(end - 1) <= ' ') {
+            end--;
+        }
+
+        return (CharSlice) slice(0, end);
+    }
 
     /**
      * Trims both leading and trailing whitespace off the original
@@ -334,6 +652,88 @@ public interface CharSlice extends CharView, Slice<Character> {
         return trimLeading().trimTrailing();
     }
 
+    /**
+     * Trims all leading characters contained in the given class
+     * and returns a new {@link CharSlice} referencing the remaining
+     * part of the original underlying character sequence.
+     *
+     * @param chars The class of characters to trim.
+     * @return A new {@link CharSlice} referencing all characters after the trimmed ones.
+     */
+    default @NotNull CharSlice trimLeading(final @NotNull CharClass chars) {
+        final int size = length();
+        int start = 0;
+
+        while (start < size && chars.contains(getChar(start))) {
+            start++;
+        }
+
+        return (CharSlice) slice(start, size - start);
+    }
+
+    /**
+     * Trims all trailing characters contained in the given class
+     * and returns a new {@link CharSlice} referencing the remaining
+     * part of the original underlying character sequence.
+     *
+     * @param chars The class of characters to trim.
+     * @return A new {@link CharSlice} referencing all characters before the trimmed ones.
+     */
+    default @NotNull CharSlice trimTrailing(final @NotNull CharClass chars) {
+        int end = length();
+
+        while (end > 0 && chars.contains(getChar(end - 1))) {
+            end--;
+        }
+
+        return (CharSlice) slice(0, end);
+    }
+
+    /**
+     * Trims all leading and trailing characters contained in the given class
+     * and returns a new {@link CharSlice} referencing the remaining
+     * center part of the original underlying character sequence.
+     *
+     * @param chars The class of characters to trim.
+     * @return A new {@link CharSlice} referencing all characters between the trimmed ones.
+     */
+    default @NotNull CharSlice trim(final @NotNull CharClass chars) {
+        return trimLeading(chars).trimTrailing(chars);
+    }
+
+    /**
+     * Strips all leading Unicode whitespace, as defined by {@link Character#isWhitespace(char)}.
+     * ASCII characters are tested against a bit mask without any table lookup.
+     *
+     * @return A new {@link CharSlice} referencing all characters after the leading whitespace.
+     * @see CharClass#whitespace()
+     */
+    default @NotNull CharSlice stripLeading() {
+        return trimLeading(CharClass.whitespace());
+    }
+
+    /**
+     * Strips all trailing Unicode whitespace, as defined by {@link Character#isWhitespace(char)}.
+     * ASCII characters are tested against a bit mask without any table lookup.
+     *
+     * @return A new {@link CharSlice} referencing all characters before the trailing whitespace.
+     * @see CharClass#whitespace()
+     */
+    default @NotNull CharSlice stripTrailing() {
+        return trimTrailing(CharClass.whitespace());
+    }
+
+    /**
+     * Strips all leading and trailing Unicode whitespace, as defined by {@link Character#isWhitespace(char)}.
+     * ASCII characters are tested against a bit mask without any table lookup.
+     *
+     * @return A new {@link CharSlice} referencing all characters between the whitespace.
+     * @see CharClass#whitespace()
+     */
+    default @NotNull CharSlice strip() {
+        return trim(CharClass.whitespace());
+    }
+
     /**
      * Creates a new {@code char} array with the appropriate size,
      * and copies all values from {@code start} to {@code end} into
@@ -351,6 +751,242 @@ public interface CharSlice extends CharView, Slice<Character> {
         return toCharArray(0, length());
     }
 
+    /**
+     * Finds the index of the first element at which this slice
+     * and the given slice differ.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter slice if it is a proper prefix of the other one, or -1 if both slices are equal.
+     */
+    default int mismatch(final @NotNull CharSlice other) {
+        final int size = size();
+        final int otherSize = other.size();
+        final int minSize = Math.min(size, otherSize);
+
+        for (int i = 0; i < minSize; i++) {
+            if (getChar(i) != other.getChar(i)) {
+                return i;
+            }
+        }
+
+        return size == otherSize ? -1 : minSize;
+    }
+
+    /**
+     * Checks whether the elements referenced by this slice are equal
+     * to the elements referenced by the given slice, regardless of
+     * the underlying storage and offset of either slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return True if both slices have the same size and contain the same elements.
+     */
+    default boolean rangeEquals(final @NotNull CharSlice other) {
+        return size() == other.size() && mismatch(other) < 0;
+    }
+
+    /**
+     * Lexicographically compares the elements of this slice
+     * with the elements of the given slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return 0 if both slices are equal, a negative value if this slice is
+     * lexicographically less than the given slice, and a positive value otherwise.
+     */
+    default int compareTo(final @NotNull CharSlice other) {
+        final int index = mismatch(other);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        final int size = size();
+        final int otherSize = other.size();
+
+        if (index < size && index < otherSize) {
+            return Character.compare(getChar(index), other.getChar(index));
+        }
+
+        return size - otherSize;
+    }
+
+    /**
+     * Checks whether this slice and the given character sequence are equal, ignoring case.
+     * Unlike comparing lowercase copies, this never allocates.
+     *
+     * @param seq The character sequence to compare this slice with.
+     * @return True if both have the same length and are equal ignoring case.
+     * @see CaseFolding#equals(CharSequence, CharSequence)
+     */
+    default boolean equalsIgnoreCase(final @NotNull CharSequence seq) {
+        return CaseFolding.equals(this, seq);
+    }
+
+    /**
+     * Computes a hash code for this slice which is equal for all
+     * slices that are equal ignoring case, for use as a lookup key.
+     *
+     * @return A case-insensitive hash code of this slice.
+     * @see CaseFolding#hashCode(CharSequence)
+     */
+    default int hashCodeIgnoreCase() {
+        return CaseFolding.hashCode(this);
+    }
+
+    /**
+     * Lexicographically compares this slice with the given character sequence, ignoring case.
+     *
+     * @param seq The character sequence to compare this slice with.
+     * @return 0 if both are equal ignoring case, a negative value if this slice is
+     * less than the given sequence, and a positive value otherwise.
+     * @see CaseFolding#compare(CharSequence, CharSequence)
+     */
+    default int compareToIgnoreCase(final @NotNull CharSequence seq) {
+        return CaseFolding.compare(this, seq);
+    }
+
+    /**
+     * Parses this slice as a signed decimal {@code int}, without converting it to a string.
+     *
+     * @return The parsed value.
+     * @throws NumberFormatException if this slice is not a valid {@code int}.
+     * @see Numbers#parseInt(CharSequence, int)
+     */
+    default int parseInt() {
+        return Numbers.parseInt(this, 10);
+    }
+
+    /**
+     * Parses this slice as a signed {@code int} of the given radix, without converting it to a string.
+     *
+     * @param radix The radix of the number.
+     * @return The parsed value.
+     * @throws NumberFormatException if this slice is not a valid {@code int}.
+     * @see Numbers#parseInt(CharSequence, int)
+     */
+    default int parseInt(final int radix) {
+        return Numbers.parseInt(this, radix);
+    }
+
+    /**
+     * Parses a signed {@code int} of the given radix, starting at the index of the given position.
+     * Errors are reported through the error index of the given position instead of an exception.
+     *
+     * @param radix    The radix of the number.
+     * @param position The position to start parsing at, which is updated with the result.
+     * @return The parsed value, or zero if the error index of the given position was set.
+     * @see Numbers#parseInt(CharSequence, int, ParsePosition)
+     */
+    default int parseInt(final int radix, final @NotNull ParsePosition position) {
+        return Numbers.parseInt(this, radix, position);
+    }
+
+    /**
+     * Parses this slice as a signed decimal {@code long}, without converting it to a string.
+     *
+     * @return The parsed value.
+     * @throws NumberFormatException if this slice is not a valid {@code long}.
+     * @see Numbers#parseLong(CharSequence, int)
+     */
+    default long parseLong() {
+        return Numbers.parseLong(this, 10);
+    }
+
+    /**
+     * Parses this slice as a signed {@code long} of the given radix, without converting it to a string.
+     *
+     * @param radix The radix of the number.
+     * @return The parsed value.
+     * @throws NumberFormatException if this slice is not a valid {@code long}.
+     * @see Numbers#parseLong(CharSequence, int)
+     */
+    default long parseLong(final int radix) {
+        return Numbers.parseLong(this, radix);
+    }
+
+    /**
+     * Parses a signed {@code long} of the given radix, starting at the index of the given position.
+     * Errors are reported through the error index of the given position instead of an exception.
+     *
+     * @param radix    The radix of the number.
+     * @param position The position to start parsing at, which is updated with the result.
+     * @return The parsed value, or zero if the error index of the given position was set.
+     * @see Numbers#parseLong(CharSequence, int, ParsePosition)
+     */
+    default long parseLong(final int radix, final @NotNull ParsePosition position) {
+        return Numbers.parseLong(this, radix, position);
+    }
+
+    /**
+     * Parses this slice as a {@code double}, without converting it to a string.
+     *
+     * @return The parsed value.
+     * @throws NumberFormatException if this slice is not a valid decimal number.
+     * @see Numbers#parseDouble(CharSequence)
+     */
+    default double parseDouble() {
+        return Numbers.parseDouble(this);
+    }
+
+    /**
+     * Parses a {@code double}, starting at the index of the given position.
+     * Errors are reported through the error index of the given position instead of an exception.
+     *
+     * @param position The position to start parsing at, which is updated with the result.
+     * @return The parsed value, or zero if the error index of the given position was set.
+     * @see Numbers#parseDouble(CharSequence, ParsePosition)
+     */
+    default double parseDouble(final @NotNull ParsePosition position) {
+        return Numbers.parseDouble(this, position);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 64-bit hash (xxHash64)
+     * of the elements referenced by this slice.
+     *
+     * @return The 64-bit content hash of this slice instance.
+     * @see Hashes#xxHash64(CharSequence, int, int, long)
+     */
+    default long hash64() {
+        return hash64(0L);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 64-bit hash (xxHash64)
+     * of the elements referenced by this slice, using the given seed.
+     *
+     * @param seed The seed of the hash.
+     * @return The 64-bit content hash of this slice instance.
+     * @see Hashes#xxHash64(CharSequence, int, int, long)
+     */
+    default long hash64(final long seed) {
+        return Hashes.xxHash64(this, 0, length(), seed);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 128-bit hash (MurmurHash3)
+     * of the elements referenced by this slice.
+     *
+     * @return A new array containing the lower and upper 64 bits of the content hash.
+     * @see Hashes#murmur3x128(char[], int, int, long)
+     */
+    default long[] hash128() {
+        return hash128(0L);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 128-bit hash (MurmurHash3)
+     * of the elements referenced by this slice, using the given seed.
+     *
+     * @param seed The seed of the hash.
+     * @return A new array containing the lower and upper 64 bits of the content hash.
+     * @see Hashes#murmur3x128(char[], int, int, long)
+     */
+    default long[] hash128(final long seed) {
+        final char[] data = toCharArray();
+        return Hashes.murmur3x128(data, 0, data.length, seed);
+    }
+
     // Slice functions
 
     @Override
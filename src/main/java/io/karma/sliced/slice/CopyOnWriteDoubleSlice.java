@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice;
+
+import io.karma.sliced.slice.impl.CopyOnWriteArrayDoubleSlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A primitive specialization of a {@link CopyOnWriteSlice}&lt;{@link Double}&gt;,
+ * which allows writing its elements without boxing them.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public interface CopyOnWriteDoubleSlice extends CopyOnWriteSlice<Double>, DoubleSlice {
+    /**
+     * Creates a new copy-on-write slice instance which references the given array.
+     * The given array is never written to.
+     *
+     * @param ref    The array of which to create a slice.
+     * @param offset The index at which the newly created slice should begin.
+     * @param size   The size of the newly created slice.
+     * @return A new copy-on-write slice instance, which references the given array.
+     */
+    static @NotNull CopyOnWriteDoubleSlice of(final double[] ref, final int offset, final int size) {
+        return new CopyOnWriteArrayDoubleSlice(ref, offset, size);
+    }
+
+    /**
+     * Creates a new copy-on-write slice instance which references the given array.
+     * The given array is never written to.
+     *
+     * @param ref The array of which to create a slice.
+     * @return A new copy-on-write slice instance, which references the given array.
+     */
+    static @NotNull CopyOnWriteDoubleSlice of(final double... ref) {
+        return new CopyOnWriteArrayDoubleSlice(ref, 0, ref.length);
+    }
+
+    /**
+     * Replaces the element at the given index of this slice.
+     * If the array of this slice is shared, the elements of this slice are
+     * copied into a new array first.
+     *
+     * @param index The index of the element to replace, relative to this slice.
+     * @param value The new value of the element.
+     */
+    void setDouble(final int index, final double value);
+
+    @Override
+    default void set(final int index, final @NotNull Double value) {
+        setDouble(index, value);
+    }
+
+    @Override
+    @NotNull CopyOnWriteDoubleSlice fork();
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice;
+
+import io.karma.sliced.slice.impl.CopyOnWriteArraySlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A copy-on-write slice is a subtype of a regular {@link Slice},
+ * which allows writing its elements without affecting the array it was created from.
+ * <p>
+ * The slice references the given array until its first write, which copies
+ * only the elements of the slice into a new array owned by it. Any number of
+ * forks may be created from a slice in constant time, which share its array
+ * in the same way, so mostly reading forks of a large array costs no copies at all.
+ * An array is never written while it is shared, so forks may be handed to other threads.
+ * A single instance is not thread-safe however.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public interface CopyOnWriteSlice<T> extends Slice<T> {
+    /**
+     * Creates a new copy-on-write slice instance which references the given array.
+     * The given array is never written to.
+     *
+     * @param <T>    The element type of the given array, and the newly created slice.
+     * @param ref    The array of which to create a slice.
+     * @param offset The index at which the newly created slice should begin.
+     * @param size   The size of the newly created slice.
+     * @return A new copy-on-write slice instance, which references the given array.
+     */
+    static <T> @NotNull CopyOnWriteSlice<T> of(final @NotNull T[] ref, final int offset, final int size) {
+        return new CopyOnWriteArraySlice<>(ref, offset, size);
+    }
+
+    /**
+     * Creates a new copy-on-write slice instance which references the given array.
+     * The given array is never written to.
+     *
+     * @param <T> The element type of the given array, and the newly created slice.
+     * @param ref The array of which to create a slice.
+     * @return A new copy-on-write slice instance, which references the given array.
+     */
+    static <T> @NotNull CopyOnWriteSlice<T> of(final @NotNull T[] ref) {
+        return new CopyOnWriteArraySlice<>(ref, 0, ref.length);
+    }
+
+    /**
+     * Replaces the element at the given index of this slice.
+     * If the array of this slice is shared, the elements of this slice are
+     * copied into a new array first.
+     *
+     * @param index The index of the element to replace, relative to this slice.
+     * @param value The new value of the element.
+     */
+    void set(final int index, final @Nullable T value);
+
+    /**
+     * Creates a new slice with the same elements as this slice in constant time.
+     * This slice and the fork share their array until either of them is written to.
+     *
+     * @return A new copy-on-write slice with the same elements as this slice.
+     */
+    @NotNull CopyOnWriteSlice<T> fork();
+
+    /**
+     * Determines whether the array of this slice may be referenced by another
+     * slice or the code which created this slice, in which case the next write copies it.
+     *
+     * @return True if the next write to this slice copies its elements.
+     */
+    boolean isShared();
+}
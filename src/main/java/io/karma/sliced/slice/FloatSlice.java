@@ -108,6 +108,65 @@ public interface FloatSlice extends FloatView, Slice<Float> {
         return function.apply(getFloat(index));
     }
 
+    /**
+     * Finds the index of the first element at which this slice
+     * and the given slice differ.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter slice if it is a proper prefix of the other one, or -1 if both slices are equal.
+     */
+    default int mismatch(final @NotNull FloatSlice other) {
+        final int size = size();
+        final int otherSize = other.size();
+        final int minSize = Math.min(size, otherSize);
+
+        for (int i = 0; i < minSize; i++) {
+            if (Float.floatToIntBits(getFloat(i)) != Float.floatToIntBits(other.getFloat(i))) {
+                return i;
+            }
+        }
+
+        return size == otherSize ? -1 : minSize;
+    }
+
+    /**
+     * Checks whether the elements referenced by this slice are equal
+     * to the elements referenced by the given slice, regardless of
+     * the underlying storage and offset of either slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return True if both slices have the same size and contain the same elements.
+     */
+    default boolean rangeEquals(final @NotNull FloatSlice other) {
+        return size() == other.size() && mismatch(other) < 0;
+    }
+
+    /**
+     * Lexicographically compares the elements of this slice
+     * with the elements of the given slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return 0 if both slices are equal, a negative value if this slice is
+     * lexicographically less than the given slice, and a positive value otherwise.
+     */
+    default int compareTo(final @NotNull FloatSlice other) {
+        final int index = mismatch(other);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        final int size = size();
+        final int otherSize = other.size();
+
+        if (index < size && index < otherSize) {
+            return Float.compare(getFloat(index), other.getFloat(index));
+        }
+
+        return size - otherSize;
+    }
+
     @Override
     default @NotNull Slice<Float> asSlice() {
         return this;
@@ -17,6 +17,7 @@ package io.karma.sliced.slice;
 
 import io.karma.sliced.slice.impl.ArrayIntSlice;
 import io.karma.sliced.slice.impl.EmptyIntSlice;
+import io.karma.sliced.util.Hashes;
 import io.karma.sliced.view.IntView;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -109,6 +110,113 @@ public interface IntSlice extends IntView, Slice<Integer> {
         return function.apply(getInt(index));
     }
 
+    /**
+     * Finds the index of the first element at which this slice
+     * and the given slice differ.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter slice if it is a proper prefix of the other one, or -1 if both slices are equal.
+     */
+    default int mismatch(final @NotNull IntSlice other) {
+        final int size = size();
+        final int otherSize = other.size();
+        final int minSize = Math.min(size, otherSize);
+
+        for (int i = 0; i < minSize; i++) {
+            if (getInt(i) != other.getInt(i)) {
+                return i;
+            }
+        }
+
+        return size == otherSize ? -1 : minSize;
+    }
+
+    /**
+     * Checks whether the elements referenced by this slice are equal
+     * to the elements referenced by the given slice, regardless of
+     * the underlying storage and offset of either slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return True if both slices have the same size and contain the same elements.
+     */
+    default boolean rangeEquals(final @NotNull IntSlice other) {
+        return size() == other.size() && mismatch(other) < 0;
+    }
+
+    /**
+     * Lexicographically compares the elements of this slice
+     * with the elements of the given slice.
+     *
+     * @param other The slice to compare this slice instance with.
+     * @return 0 if both slices are equal, a negative value if this slice is
+     * lexicographically less than the given slice, and a positive value otherwise.
+     */
+    default int compareTo(final @NotNull IntSlice other) {
+        final int index = mismatch(other);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        final int size = size();
+        final int otherSize = other.size();
+
+        if (index < size && index < otherSize) {
+            return Integer.compare(getInt(index), other.getInt(index));
+        }
+
+        return size - otherSize;
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 64-bit hash (xxHash64)
+     * of the elements referenced by this slice.
+     *
+     * @return The 64-bit content hash of this slice instance.
+     * @see Hashes#xxHash64(int[], int, int, long)
+     */
+    default long hash64() {
+        return hash64(0L);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 64-bit hash (xxHash64)
+     * of the elements referenced by this slice, using the given seed.
+     *
+     * @param seed The seed of the hash.
+     * @return The 64-bit content hash of this slice instance.
+     * @see Hashes#xxHash64(int[], int, int, long)
+     */
+    default long hash64(final long seed) {
+        final int[] data = toIntArray();
+        return Hashes.xxHash64(data, 0, data.length, seed);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 128-bit hash (MurmurHash3)
+     * of the elements referenced by this slice.
+     *
+     * @return A new array containing the lower and upper 64 bits of the content hash.
+     * @see Hashes#murmur3x128(int[], int, int, long)
+     */
+    default long[] hash128() {
+        return hash128(0L);
+    }
+
+    /**
+     * Computes a fast, non-cryptographic 128-bit hash (MurmurHash3)
+     * of the elements referenced by this slice, using the given seed.
+     *
+     * @param seed The seed of the hash.
+     * @return A new array containing the lower and upper 64 bits of the content hash.
+     * @see Hashes#murmur3x128(int[], int, int, long)
+     */
+    default long[] hash128(final long seed) {
+        final int[] data = toIntArray();
+        return Hashes.murmur3x128(data, 0, data.length, seed);
+    }
+
     @Override
     default @NotNull Slice<Integer> asSlice() {
         return this;
@@ -108,6 +108,37 @@ public interface Slice<T> extends View<T>, ResettableEnumeration<T> {
         return new ListSlice<>(list, 0, list.size());
     }
 
+    /**
+     * Creates a new versioned slice instance which references the given {@link List}.
+     * <p>
+     * The slice captures the modification count of the list on creation, and every access
+     * afterwards throws a {@link ConcurrentModificationException} once the list was
+     * modified structurally. This relies on the sub lists of the given list being fail-fast,
+     * which is the case for all lists in {@code java.util}.
+     *
+     * @param <T>    The element type of the given list, and the newly created slice.
+     * @param list   The list of which to create a slice.
+     * @param offset The index at which the newly created slice should begin.
+     * @param size   The size of the newly created slice.
+     * @return A new versioned slice instance, which references the given list.
+     */
+    static <T> @NotNull Slice<T> versionedOf(final @NotNull List<T> list, final int offset, final int size) {
+        // Sub lists check the modification count of their parent on every access
+        return new ListSlice<>(list.subList(0, list.size()), offset, size);
+    }
+
+    /**
+     * Creates a new versioned slice instance which references the given {@link List}.
+     *
+     * @param <T>  The element type of the given list, and the newly created slice.
+     * @param list The list of which to create a slice.
+     * @return A new versioned slice instance, which references the given list.
+     * @see #versionedOf(List, int, int)
+     */
+    static <T> @NotNull Slice<T> versionedOf(final @NotNull List<T> list) {
+        return versionedOf(list, 0, list.size());
+    }
+
     /**
      * Creates a new slice instance which references a copy of the given array.
      *
@@ -15,8 +15,10 @@
 
 package io.karma.sliced.slice;
 
+import io.karma.sliced.slice.impl.DequeStackSlice;
 import io.karma.sliced.slice.impl.EmptyStackSlice;
 import io.karma.sliced.slice.impl.StackSliceImpl;
+import io.karma.sliced.util.IndexedDeque;
 import io.karma.sliced.view.StackView;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
@@ -67,4 +69,59 @@ public interface StackSlice<T> extends Slice<T>, StackView<T> {
     static <T> @NotNull StackSlice<T> of(final @NotNull Stack<T> stack) {
         return new StackSliceImpl<>(stack, 0, stack.size());
     }
+
+    /**
+     * Creates a new slice instance which references the given {@link IndexedDeque}.
+     * Unlike a {@link Stack}, the deque is not synchronized, and the top
+     * of the stack is the last element of the deque.
+     *
+     * @param <T>    The element type of the given deque, and the newly created slice.
+     * @param deque  The deque of which to create a slice.
+     * @param offset The index at which the newly created slice should begin.
+     * @param size   The size of the newly created slice.
+     * @return A new slice instance, which references the given deque.
+     */
+    static <T> @NotNull StackSlice<T> of(final @NotNull IndexedDeque<T> deque, final int offset, final int size) {
+        return new DequeStackSlice<>(deque, offset, size);
+    }
+
+    /**
+     * Creates a new slice instance which references the given {@link IndexedDeque}.
+     *
+     * @param <T>   The element type of the given deque, and the newly created slice.
+     * @param deque The deque of which to create a slice.
+     * @return A new slice instance, which references the given deque.
+     * @see #of(IndexedDeque, int, int)
+     */
+    static <T> @NotNull StackSlice<T> of(final @NotNull IndexedDeque<T> deque) {
+        return new DequeStackSlice<>(deque, 0, deque.size());
+    }
+
+    /**
+     * Creates a new versioned slice instance which references the given {@link Stack}.
+     * Every access throws a {@link java.util.ConcurrentModificationException}
+     * once the stack was modified structurally after the slice was created.
+     *
+     * @param <T>    The element type of the given stack, and the newly created slice.
+     * @param stack  The stack of which to create a slice.
+     * @param offset The index at which the newly created slice should begin.
+     * @param size   The size of the newly created slice.
+     * @return A new versioned slice instance, which references the given stack.
+     * @see Slice#versionedOf(java.util.List, int, int)
+     */
+    static <T> @NotNull StackSlice<T> versionedOf(final @NotNull Stack<T> stack, final int offset, final int size) {
+        return new StackSliceImpl<>(stack.subList(0, stack.size()), offset, size);
+    }
+
+    /**
+     * Creates a new versioned slice instance which references the given {@link Stack}.
+     *
+     * @param <T>   The element type of the given stack, and the newly created slice.
+     * @param stack The stack of which to create a slice.
+     * @return A new versioned slice instance, which references the given stack.
+     * @see #versionedOf(Stack, int, int)
+     */
+    static <T> @NotNull StackSlice<T> versionedOf(final @NotNull Stack<T> stack) {
+        return versionedOf(stack, 0, stack.size());
+    }
 }
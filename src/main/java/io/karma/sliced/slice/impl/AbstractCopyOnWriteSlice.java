@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import io.karma.sliced.slice.CopyOnWriteSlice;
+import io.karma.sliced.slice.Slice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The copy-on-write bookkeeping shared by all array-backed copy-on-write slices.
+ * <p>
+ * The slice starts out referencing a shared array at {@link #base}. The first write
+ * copies the window into an array owned by the slice, and rebases it to 0.
+ * Forks and read-only sub-slices share the current array again.
+ *
+ * @param <T> The element type of this slice.
+ * @param <A> The array type of this slice.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public abstract class AbstractCopyOnWriteSlice<T, A> implements CopyOnWriteSlice<T> {
+    protected final int size;
+    protected A ref;
+    protected int base;
+    protected int iterationIndex;
+    private boolean shared = true;
+
+    protected AbstractCopyOnWriteSlice(final @NotNull A ref, final int base, final int size) {
+        this.ref = ref;
+        this.base = base;
+        this.size = size;
+    }
+
+    /**
+     * Copies the given range of the given array into a new array.
+     *
+     * @param ref    The array to copy from.
+     * @param offset The index of the first element to copy.
+     * @param size   The number of elements to copy.
+     * @return A new array containing the given range.
+     */
+    protected abstract @NotNull A copy(final @NotNull A ref, final int offset, final int size);
+
+    protected final void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    protected final void checkRange(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    /**
+     * Validates the given index, and copies the window into an array
+     * owned by this slice if the current one is shared.
+     *
+     * @param index The index which is about to be written.
+     */
+    protected final void prepareWrite(final int index) {
+        checkIndex(index);
+
+        if (shared) {
+            // Only copy the window, the rest of the shared array is never visible through this slice
+            ref = copy(ref, base, size);
+            base = 0;
+            shared = false;
+        }
+    }
+
+    /**
+     * Marks the current array as shared, so the next write copies it.
+     *
+     * @return The current array.
+     */
+    protected final @NotNull A share() {
+        shared = true;
+        return ref;
+    }
+
+    @Override
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public @NotNull Slice<T> asSlice() {
+        return this;
+    }
+
+    @Override
+    public int offset() {
+        return base;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean hasMoreElements() {
+        return iterationIndex < size;
+    }
+
+    @Override
+    public void reset() {
+        iterationIndex = 0;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Implemented by all slices which directly reference a primitive array,
+ * so bulk operations between two slices can work on the arrays directly
+ * instead of going through the per-element accessors.
+ *
+ * @param <A> The type of the referenced array.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public interface ArrayBacked<A> {
+    /**
+     * Retrieves the array referenced by this slice instance.
+     * The slice's own {@code offset} and {@code size} still apply.
+     *
+     * @return The array referenced by this slice instance.
+     */
+    @NotNull A array();
+}
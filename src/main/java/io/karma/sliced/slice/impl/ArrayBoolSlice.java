@@ -26,7 +26,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -34,7 +33,7 @@ import java.util.Iterator;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class ArrayBoolSlice extends AbstractSlice<Boolean> implements BoolSlice {
+public final class ArrayBoolSlice extends AbstractSlice<Boolean> implements BoolSlice, ArrayBacked<boolean[]> {
     private final boolean[] ref;
     private int iterationIndex;
 
@@ -54,8 +53,12 @@ public final class ArrayBoolSlice extends AbstractSlice<Boolean> implements Bool
     }
 
     @Override
-    public @NotNull Slice<Boolean> slice(final int start, final int end) {
-        return new ArrayBoolSlice(ref, this.offset + start, this.offset + end);
+    public @NotNull Slice<Boolean> slice(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        return new ArrayBoolSlice(ref, this.offset + offset, size);
     }
 
     @Override
@@ -75,37 +78,45 @@ public final class ArrayBoolSlice extends AbstractSlice<Boolean> implements Bool
 
     @Override
     public @NotNull Boolean nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public boolean[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull BoolSlice other) {
+        if (other instanceof ArrayBacked) {
+            final boolean[] otherRef = (boolean[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return BoolSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof ArrayBoolSlice) {
-            final ArrayBoolSlice other = (ArrayBoolSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull BoolSlice other) {
+        if (other instanceof ArrayBacked) {
+            final boolean[] otherRef = (boolean[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof BoolSlice) {
-            final BoolSlice slice = (BoolSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return BoolSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getBool(i) != slice.getBool(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof BoolSlice) {
+            return rangeEquals((BoolSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
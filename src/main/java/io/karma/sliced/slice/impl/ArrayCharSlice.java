@@ -17,14 +17,16 @@ package io.karma.sliced.slice.impl;
 
 import io.karma.sliced.slice.CharSlice;
 import io.karma.sliced.slice.Slice;
+import io.karma.sliced.util.CaseFolding;
+import io.karma.sliced.util.Hashes;
 import io.karma.sliced.util.MoreArrays;
+import io.karma.sliced.util.Search;
 import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -32,7 +34,7 @@ import java.util.Iterator;
  * @since 14/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class ArrayCharSlice extends AbstractSlice<Character> implements CharSlice {
+public final class ArrayCharSlice extends AbstractSlice<Character> implements CharSlice, ArrayBacked<char[]> {
     private final char[] ref;
     private int iterationIndex;
 
@@ -43,24 +45,41 @@ public final class ArrayCharSlice extends AbstractSlice<Character> implements Ch
 
     @Override
     public @NotNull CharSlice trimLeading() {
-        int start = 0;
+        final int end = offset + size;
+        int start = offset;
 
-        while (ref[start] == ' ') {
+        while (start < end && ref[start] <= ' ') {
             start++;
         }
 
-        return new ArrayCharSlice(ref, start, size);
+        return new ArrayCharSlice(ref, start, end - start);
     }
 
     @Override
     public @NotNull CharSlice trimTrailing() {
-        int end = length() - 1;
+        int end = offset + size;
 
-        while (ref[end] == ' ') {
+        while (end > offset && ref[end - 1] <= ' ') {
             end--;
         }
 
-        return new ArrayCharSlice(ref, offset, end);
+        return new ArrayCharSlice(ref, offset, end - offset);
+    }
+
+    @Override
+    public @NotNull CharSlice trim() {
+        int start = offset;
+        int end = offset + size;
+
+        while (start < end && ref[start] <= ' ') {
+            start++;
+        }
+
+        while (end > start && ref[end - 1] <= ' ') {
+            end--;
+        }
+
+        return new ArrayCharSlice(ref, start, end - start);
     }
 
     @Override
@@ -69,19 +88,12 @@ public final class ArrayCharSlice extends AbstractSlice<Character> implements Ch
     }
 
     @Override
-    public @NotNull Slice<Character> slice(final int start, final int end) {
-        final int actualStart = this.offset + start;
-        final int actualEnd = this.offset + end;
-
-        if (actualStart < 0 || actualStart > maxIndex) {
-            throw new ArrayIndexOutOfBoundsException("Start index is out of range");
-        }
-
-        if (actualEnd < 0 || actualEnd > maxIndex || actualEnd < actualStart) {
-            throw new ArrayIndexOutOfBoundsException("End index is out of range");
+    public @NotNull Slice<Character> slice(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
-        return new ArrayCharSlice(ref, actualStart, actualEnd);
+        return new ArrayCharSlice(ref, this.offset + offset, size);
     }
 
     @Override
@@ -112,34 +124,102 @@ public final class ArrayCharSlice extends AbstractSlice<Character> implements Ch
         iterationIndex = 0;
     }
 
-    // Object functions
+    @Override
+    public char[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull CharSlice other) {
+        if (other instanceof ArrayBacked) {
+            final char[] otherRef = (char[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return CharSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof ArrayCharSlice) {
-            final ArrayCharSlice other = (ArrayCharSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull CharSlice other) {
+        if (other instanceof ArrayBacked) {
+            final char[] otherRef = (char[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof CharSlice) {
-            final CharSlice slice = (CharSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return CharSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getChar(i) != slice.getChar(i)) {
-                    return false;
-                }
-            }
+    @Override
+    public boolean equalsIgnoreCase(final @NotNull CharSequence seq) {
+        if (seq instanceof ArrayBacked && ((ArrayBacked<?>) seq).array() instanceof char[]) {
+            final char[] otherRef = (char[]) ((ArrayBacked<?>) seq).array();
+            final int otherSize = seq.length();
+            return otherSize == size && CaseFolding.regionMatches(ref, offset, otherRef, ((CharSlice) seq).offset(), size);
+        }
 
-            return true;
+        return CharSlice.super.equalsIgnoreCase(seq);
+    }
+
+    @Override
+    public int hashCodeIgnoreCase() {
+        return CaseFolding.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public long hash64(final long seed) {
+        return Hashes.xxHash64(ref, offset, size, seed);
+    }
+
+    @Override
+    public long[] hash128(final long seed) {
+        return Hashes.murmur3x128(ref, offset, size, seed);
+    }
+
+    @Override
+    public int indexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int indexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    private void checkRange(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof CharSlice) {
+            return rangeEquals((CharSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
@@ -181,6 +261,6 @@ public final class ArrayCharSlice extends AbstractSlice<Character> implements Ch
 
     @Override
     public @NotNull String toString() {
-        return MoreArrays.toString(ref, offset, size);
+        return new String(ref, offset, size);
     }
 }
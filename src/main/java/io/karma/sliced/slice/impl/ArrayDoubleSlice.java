@@ -26,7 +26,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -36,7 +35,7 @@ import java.util.Spliterators;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class ArrayDoubleSlice extends AbstractSlice<Double> implements DoubleSlice {
+public final class ArrayDoubleSlice extends AbstractSlice<Double> implements DoubleSlice, ArrayBacked<double[]> {
     private final double[] ref;
     private int iterationIndex;
 
@@ -67,7 +66,7 @@ public final class ArrayDoubleSlice extends AbstractSlice<Double> implements Dou
 
     @Override
     public @NotNull Spliterator.OfDouble doubleSpliterator() {
-        return Spliterators.spliterator(ref, offset, size, 0);
+        return Spliterators.spliterator(ref, offset, offset + size, 0);
     }
 
     @Override
@@ -82,37 +81,45 @@ public final class ArrayDoubleSlice extends AbstractSlice<Double> implements Dou
 
     @Override
     public @NotNull Double nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public double[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull DoubleSlice other) {
+        if (other instanceof ArrayBacked) {
+            final double[] otherRef = (double[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return DoubleSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof ArrayDoubleSlice) {
-            final ArrayDoubleSlice other = (ArrayDoubleSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull DoubleSlice other) {
+        if (other instanceof ArrayBacked) {
+            final double[] otherRef = (double[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof DoubleSlice) {
-            final DoubleSlice slice = (DoubleSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return DoubleSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getDouble(i) != slice.getDouble(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof DoubleSlice) {
+            return rangeEquals((DoubleSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
@@ -26,7 +26,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -34,7 +33,7 @@ import java.util.Iterator;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class ArrayFloatSlice extends AbstractSlice<Float> implements FloatSlice {
+public final class ArrayFloatSlice extends AbstractSlice<Float> implements FloatSlice, ArrayBacked<float[]> {
     private final float[] ref;
     private int iterationIndex;
 
@@ -75,37 +74,45 @@ public final class ArrayFloatSlice extends AbstractSlice<Float> implements Float
 
     @Override
     public @NotNull Float nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public float[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull FloatSlice other) {
+        if (other instanceof ArrayBacked) {
+            final float[] otherRef = (float[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return FloatSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof ArrayFloatSlice) {
-            final ArrayFloatSlice other = (ArrayFloatSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull FloatSlice other) {
+        if (other instanceof ArrayBacked) {
+            final float[] otherRef = (float[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof FloatSlice) {
-            final FloatSlice slice = (FloatSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return FloatSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getFloat(i) != slice.getFloat(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof FloatSlice) {
+            return rangeEquals((FloatSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
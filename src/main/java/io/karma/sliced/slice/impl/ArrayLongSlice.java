@@ -19,6 +19,7 @@ import io.karma.sliced.iterator.LongIterator;
 import io.karma.sliced.iterator.impl.RangedArrayLongIterator;
 import io.karma.sliced.slice.LongSlice;
 import io.karma.sliced.slice.Slice;
+import io.karma.sliced.util.Hashes;
 import io.karma.sliced.util.MoreArrays;
 import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
@@ -26,7 +27,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -36,7 +36,7 @@ import java.util.Spliterators;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class ArrayLongSlice extends AbstractSlice<Long> implements LongSlice {
+public final class ArrayLongSlice extends AbstractSlice<Long> implements LongSlice, ArrayBacked<long[]> {
     private final long[] ref;
     private int iterationIndex;
 
@@ -67,7 +67,7 @@ public final class ArrayLongSlice extends AbstractSlice<Long> implements LongSli
 
     @Override
     public @NotNull Spliterator.OfLong longSpliterator() {
-        return Spliterators.spliterator(ref, offset, size, 0);
+        return Spliterators.spliterator(ref, offset, offset + size, 0);
     }
 
     @Override
@@ -82,37 +82,55 @@ public final class ArrayLongSlice extends AbstractSlice<Long> implements LongSli
 
     @Override
     public @NotNull Long nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public long[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull LongSlice other) {
+        if (other instanceof ArrayBacked) {
+            final long[] otherRef = (long[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return LongSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof ArrayLongSlice) {
-            final ArrayLongSlice other = (ArrayLongSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull LongSlice other) {
+        if (other instanceof ArrayBacked) {
+            final long[] otherRef = (long[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof LongSlice) {
-            final LongSlice slice = (LongSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return LongSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getLong(i) != slice.getLong(i)) {
-                    return false;
-                }
-            }
+    @Override
+    public long hash64(final long seed) {
+        return Hashes.xxHash64(ref, offset, size, seed);
+    }
 
-            return true;
+    @Override
+    public long[] hash128(final long seed) {
+        return Hashes.murmur3x128(ref, offset, size, seed);
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof LongSlice) {
+            return rangeEquals((LongSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
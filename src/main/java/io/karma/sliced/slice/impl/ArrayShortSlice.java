@@ -26,7 +26,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -34,7 +33,7 @@ import java.util.Iterator;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class ArrayShortSlice extends AbstractSlice<Short> implements ShortSlice {
+public final class ArrayShortSlice extends AbstractSlice<Short> implements ShortSlice, ArrayBacked<short[]> {
     private final short[] ref;
     private int iterationIndex;
 
@@ -75,37 +74,45 @@ public final class ArrayShortSlice extends AbstractSlice<Short> implements Short
 
     @Override
     public @NotNull Short nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public short[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull ShortSlice other) {
+        if (other instanceof ArrayBacked) {
+            final short[] otherRef = (short[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return ShortSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof ArrayShortSlice) {
-            final ArrayShortSlice other = (ArrayShortSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull ShortSlice other) {
+        if (other instanceof ArrayBacked) {
+            final short[] otherRef = (short[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof ShortSlice) {
-            final ShortSlice slice = (ShortSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return ShortSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getShort(i) != slice.getShort(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof ShortSlice) {
+            return rangeEquals((ShortSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
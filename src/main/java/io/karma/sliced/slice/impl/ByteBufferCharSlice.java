@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+
+/**
+ * A {@link CharSlice} which views a range of a {@link ByteBuffer} as
+ * ISO-8859-1 (Latin-1) encoded characters, which includes ASCII.
+ * Every byte maps to exactly one character, so the buffer is never decoded.
+ * This works for heap buffers as well as direct and memory-mapped buffers.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class ByteBufferCharSlice extends AbstractSlice<Character> implements CharSlice {
+    private final ByteBuffer ref;
+    private int iterationIndex;
+
+    public ByteBufferCharSlice(final @NotNull ByteBuffer ref, final int offset, final int size) {
+        super(offset, size);
+
+        if (offset < 0 || size < 0 || offset > ref.limit() - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        this.ref = ref;
+    }
+
+    @Override
+    public char getChar(final int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return (char) (ref.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public char[] toCharArray(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        final char[] result = new char[size];
+        final int start = this.offset + offset;
+
+        for (int i = 0; i < size; i++) {
+            result[i] = (char) (ref.get(start + i) & 0xFF);
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NotNull Slice<Character> slice(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        return new ByteBufferCharSlice(ref, this.offset + offset, size);
+    }
+
+    @Override
+    public @NotNull CharSlice trimLeading() {
+        final int end = offset + size;
+        int start = offset;
+
+        while (start < end && (ref.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+
+        return new ByteBufferCharSlice(ref, start, end - start);
+    }
+
+    @Override
+    public @NotNull CharSlice trimTrailing() {
+        int end = offset + size;
+
+        while (end > offset && (ref.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+
+        return new ByteBufferCharSlice(ref, offset, end - offset);
+    }
+
+    @Override
+    public boolean hasMoreElements() {
+        return iterationIndex < size;
+    }
+
+    @Override
+    public @NotNull Character nextElement() {
+        return (char) (ref.get(offset + iterationIndex++) & 0xFF);
+    }
+
+    @SuppressWarnings("all")
+    @Override
+    public @NotNull Object clone() {
+        final ByteBufferCharSlice result = new ByteBufferCharSlice(ref, offset, size);
+        result.iterationIndex = iterationIndex;
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        iterationIndex = 0;
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        final int end = offset + size;
+        int result = 1;
+
+        for (int i = offset; i < end; i++) {
+            result = 31 * result + (ref.get(i) & 0xFF);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof CharSlice) {
+            return rangeEquals((CharSlice) obj);
+        }
+        else if (obj instanceof Slice) {
+            final Slice<?> slice = (Slice<?>) obj;
+
+            if (slice.size() != size) {
+                return false;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (!slice.get(i).equals(getChar(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        else if (obj instanceof View) {
+            final View<?> view = (View<?>) obj;
+
+            if (view.size() != size) {
+                return false;
+            }
+
+            final Iterator<?> itr = view.iterator();
+
+            for (int i = 0; i < size; i++) {
+                if (!itr.next().equals(getChar(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return new String(toCharArray());
+    }
+}
@@ -17,6 +17,7 @@ package io.karma.sliced.slice.impl;
 
 import io.karma.sliced.slice.CharSlice;
 import io.karma.sliced.slice.Slice;
+import io.karma.sliced.util.Search;
 import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
@@ -39,38 +40,17 @@ public final class CharSeqSlice extends AbstractSlice<Character> implements Char
         this.ref = ref;
     }
 
-    @Override
-    public @NotNull CharSlice trimLeading() {
-        int start = 0;
-
-        while (ref.charAt(start) == ' ') {
-            start++;
-        }
-
-        return new CharSeqSlice(ref, start, size);
-    }
-
-    @Override
-    public @NotNull CharSlice trimTrailing() {
-        int end = length() - 1;
-
-        while (ref.charAt(end) == ' ') {
-            end--;
-        }
-
-        return new CharSeqSlice(ref, offset, size - end);
-    }
-
     @Override
     public char[] toCharArray(final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > this.size || offset >= size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
         final char[] result = new char[size];
+        final int start = this.offset + offset;
 
         for (int i = 0; i < size; i++) {
-            result[i] = getChar(i);
+            result[i] = ref.charAt(start + i);
         }
 
         return result;
@@ -109,13 +89,53 @@ public final class CharSeqSlice extends AbstractSlice<Character> implements Char
         iterationIndex = 0;
     }
 
+    @Override
+    public int indexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int indexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    private void checkRange(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
     // Object functions
 
     @Override
     public int hashCode() {
-        return toString().hashCode(); // TODO: make this more efficient
-        // I did not, because i am lazy lol
-        // @ the next person who reads this, you need to fix it now.
+        // Same as MoreArrays.hashCode, so equal char slices hash equally regardless of their storage
+        final int end = offset + size;
+        int result = 1;
+
+        for (int i = offset; i < end; i++) {
+            result = 31 * result + ref.charAt(i);
+        }
+
+        return result;
     }
 
     @Override
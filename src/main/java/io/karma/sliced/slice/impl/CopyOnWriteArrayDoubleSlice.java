@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import io.karma.sliced.iterator.DoubleIterator;
+import io.karma.sliced.iterator.impl.RangedArrayDoubleIterator;
+import io.karma.sliced.slice.CopyOnWriteDoubleSlice;
+import io.karma.sliced.slice.DoubleSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.util.MoreArrays;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class CopyOnWriteArrayDoubleSlice extends AbstractCopyOnWriteSlice<Double, double[]> implements CopyOnWriteDoubleSlice {
+    public CopyOnWriteArrayDoubleSlice(final double[] ref, final int offset, final int size) {
+        super(ref, offset, size);
+    }
+
+    @Override
+    protected double[] copy(final double[] ref, final int offset, final int size) {
+        return MoreArrays.copy(ref, offset, size);
+    }
+
+    @Override
+    public double getDouble(final int index) {
+        checkIndex(index);
+        return ref[base + index];
+    }
+
+    @Override
+    public void setDouble(final int index, final double value) {
+        prepareWrite(index);
+        ref[base + index] = value;
+    }
+
+    @Override
+    public @NotNull CopyOnWriteDoubleSlice fork() {
+        return new CopyOnWriteArrayDoubleSlice(share(), base, size);
+    }
+
+    @Override
+    public double[] toDoubleArray(final int offset, final int size) {
+        checkRange(offset, size);
+        return MoreArrays.copy(ref, base + offset, size);
+    }
+
+    @Override
+    public @NotNull Slice<Double> slice(final int offset, final int size) {
+        checkRange(offset, size);
+        // The returned slice is read-only, so it has to keep observing the current elements
+        return new ArrayDoubleSlice(share(), base + offset, size);
+    }
+
+    @Override
+    public @NotNull DoubleIterator doubleIterator() {
+        return new RangedArrayDoubleIterator(ref, base, size);
+    }
+
+    @Override
+    public @NotNull Spliterator.OfDouble doubleSpliterator() {
+        return Spliterators.spliterator(ref, base, base + size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public @NotNull Double nextElement() {
+        return ref[base + iterationIndex++];
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        final int maxIndex = base + size;
+        int result = 1;
+
+        for (int i = base; i < maxIndex; i++) {
+            final long bits = Double.doubleToLongBits(ref[i]);
+            result = 31 * result + (int) (bits ^ (bits >>> 32));
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof DoubleSlice) {
+            return rangeEquals((DoubleSlice) obj);
+        }
+        else if (obj instanceof Slice) {
+            final Slice<?> slice = (Slice<?>) obj;
+            final int size = slice.size();
+
+            if (size != this.size) {
+                return false;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (!slice.get(i).equals(getDouble(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        else if (obj instanceof View) {
+            final View<?> view = (View<?>) obj;
+            final int size = view.size();
+
+            if (size != this.size) {
+                return false;
+            }
+
+            final Iterator<?> itr = view.iterator();
+
+            for (int i = 0; i < size; i++) {
+                if (!itr.next().equals(getDouble(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append(ref[base + i]);
+        }
+
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import io.karma.sliced.iterator.impl.RangedArrayIterator;
+import io.karma.sliced.slice.CopyOnWriteSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class CopyOnWriteArraySlice<T> extends AbstractCopyOnWriteSlice<T, T[]> {
+    public CopyOnWriteArraySlice(final @NotNull T[] ref, final int offset, final int size) {
+        super(ref, offset, size);
+    }
+
+    @Override
+    protected @NotNull T[] copy(final @NotNull T[] ref, final int offset, final int size) {
+        return Arrays.copyOfRange(ref, offset, offset + size);
+    }
+
+    @Override
+    public T get(final int index) {
+        checkIndex(index);
+        return ref[base + index];
+    }
+
+    @Override
+    public void set(final int index, final @Nullable T value) {
+        prepareWrite(index);
+        ref[base + index] = value;
+    }
+
+    @Override
+    public @NotNull CopyOnWriteSlice<T> fork() {
+        return new CopyOnWriteArraySlice<>(share(), base, size);
+    }
+
+    @Override
+    public @NotNull Slice<T> slice(final int offset, final int size) {
+        checkRange(offset, size);
+        // The returned slice is read-only, so it has to keep observing the current elements
+        return new ArraySlice<>(share(), base + offset, size);
+    }
+
+    @Override
+    public T nextElement() {
+        return ref[base + iterationIndex++];
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return new RangedArrayIterator<>(ref, base, size);
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        final int maxIndex = base + size;
+        int result = 1;
+
+        for (int i = base; i < maxIndex; i++) {
+            result = 31 * result + Objects.hashCode(ref[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (!(obj instanceof View)) {
+            return false;
+        }
+
+        final View<?> view = (View<?>) obj;
+
+        if (view.size() != size) {
+            return false;
+        }
+
+        final Iterator<?> itr = view.iterator();
+
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(ref[base + i], itr.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return Arrays.toString(Arrays.copyOfRange(ref, base, base + size));
+    }
+}
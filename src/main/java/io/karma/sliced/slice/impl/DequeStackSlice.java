@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.StackSlice;
+import io.karma.sliced.util.IndexedDeque;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class DequeStackSlice<T> extends AbstractSlice<T> implements StackSlice<T> {
+    private final IndexedDeque<T> ref;
+    private int iterationIndex;
+
+    public DequeStackSlice(final @NotNull IndexedDeque<T> ref, final int offset, final int size) {
+        super(offset, size);
+        this.ref = ref;
+    }
+
+    @Override
+    public T get(final int index) {
+        return ref.get(offset + index);
+    }
+
+    @Override
+    public @Nullable T peek() {
+        return size == 0 ? null : ref.get(offset + maxIndex);
+    }
+
+    @Override
+    public @NotNull Slice<T> slice(final int offset, final int size) {
+        return new DequeStackSlice<>(ref, this.offset + offset, size);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return ref.get(offset + index++);
+            }
+        };
+    }
+
+    @Override
+    public boolean hasMoreElements() {
+        return iterationIndex < size;
+    }
+
+    @Override
+    public T nextElement() {
+        return ref.get(offset + iterationIndex++);
+    }
+
+    @Override
+    public void reset() {
+        iterationIndex = 0;
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + get(i).hashCode();
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof DequeStackSlice) {
+            final DequeStackSlice<?> other = (DequeStackSlice<?>) obj;
+
+            if (other.ref == ref && other.offset == offset && other.size == size) {
+                return true;
+            }
+        }
+
+        if (obj instanceof Slice) {
+            final Slice<?> slice = (Slice<?>) obj;
+
+            if (slice.size() != size) {
+                return false;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (!get(i).equals(slice.get(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        else if (obj instanceof View) {
+            final View<?> view = (View<?>) obj;
+
+            if (view.size() != size) {
+                return false;
+            }
+
+            final Iterator<?> itr = view.iterator();
+
+            for (int i = 0; i < size; i++) {
+                if (!get(i).equals(itr.next())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('[');
+
+        for (int i = 0; i < size; i++) {
+            builder.append(get(i));
+
+            if (i < maxIndex) {
+                builder.append(',');
+            }
+        }
+
+        return builder.append(']').toString();
+    }
+}
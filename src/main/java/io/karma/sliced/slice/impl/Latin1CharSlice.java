@@ -0,0 +1,398 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.util.CaseFolding;
+import io.karma.sliced.util.MoreArrays;
+import io.karma.sliced.util.Search;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * A {@link CharSlice} which stores ISO-8859-1 (Latin-1) encoded characters,
+ * which includes ASCII, as one byte per character.
+ * <p>
+ * This halves the footprint compared to an {@link ArrayCharSlice} over a {@code char[]},
+ * the same way compact strings do in the JDK. Comparing, hashing and searching
+ * operate directly on the bytes, characters outside of Latin-1 can never match.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class Latin1CharSlice extends AbstractSlice<Character> implements CharSlice {
+    private final byte[] ref;
+    private int iterationIndex;
+
+    public Latin1CharSlice(final byte[] ref, final int offset, final int size) {
+        super(offset, size);
+
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        this.ref = ref;
+    }
+
+    /**
+     * Encodes the given character sequence as Latin-1 if every character
+     * can be represented by a single byte.
+     *
+     * @param seq The character sequence to encode.
+     * @return The encoded bytes, or null if the sequence contains characters outside of Latin-1.
+     */
+    public static byte[] encode(final @NotNull CharSequence seq) {
+        final int length = seq.length();
+        final byte[] result = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            final char value = seq.charAt(i);
+
+            if (value > 0xFF) {
+                return null;
+            }
+
+            result[i] = (byte) value;
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the Latin-1 encoded bytes referenced by this slice.
+     * The slice's own {@code offset} and {@code size} still apply.
+     *
+     * @return The byte array referenced by this slice.
+     */
+    public byte[] bytes() {
+        return ref;
+    }
+
+    /**
+     * Determines whether all characters in this slice are ASCII characters.
+     *
+     * @return True if this slice only contains ASCII characters.
+     */
+    public boolean isAscii() {
+        final int end = offset + size;
+        int bits = 0;
+
+        for (int i = offset; i < end; i++) {
+            bits |= ref[i]; // ORs all sign bits together, which vectorizes well
+        }
+
+        return bits >= 0;
+    }
+
+    @Override
+    public char getChar(final int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return (char) (ref[offset + index] & 0xFF);
+    }
+
+    @Override
+    public char[] toCharArray(final int offset, final int size) {
+        checkRange(offset, size);
+        final char[] result = new char[size];
+        final int start = this.offset + offset;
+
+        for (int i = 0; i < size; i++) {
+            result[i] = (char) (ref[start + i] & 0xFF);
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NotNull Slice<Character> slice(final int offset, final int size) {
+        checkRange(offset, size);
+        return new Latin1CharSlice(ref, this.offset + offset, size);
+    }
+
+    @Override
+    public @NotNull CharSlice trimLeading() {
+        final int end = offset + size;
+        int start = offset;
+
+        while (start < end && (ref[start] & 0xFF) <= ' ') {
+            start++;
+        }
+
+        return new Latin1CharSlice(ref, start, end - start);
+    }
+
+    @Override
+    public @NotNull CharSlice trimTrailing() {
+        int end = offset + size;
+
+        while (end > offset && (ref[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+
+        return new Latin1CharSlice(ref, offset, end - offset);
+    }
+
+    @Override
+    public @NotNull CharSlice trim() {
+        int start = offset;
+        int end = offset + size;
+
+        while (start < end && (ref[start] & 0xFF) <= ' ') {
+            start++;
+        }
+
+        while (end > start && (ref[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+
+        return new Latin1CharSlice(ref, start, end - start);
+    }
+
+    @Override
+    public boolean hasMoreElements() {
+        return iterationIndex < size;
+    }
+
+    @Override
+    public @NotNull Character nextElement() {
+        return (char) (ref[offset + iterationIndex++] & 0xFF);
+    }
+
+    @SuppressWarnings("all")
+    @Override
+    public @NotNull Object clone() {
+        final Latin1CharSlice result = new Latin1CharSlice(ref, offset, size);
+        result.iterationIndex = iterationIndex;
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        iterationIndex = 0;
+    }
+
+    @Override
+    public int mismatch(final @NotNull CharSlice other) {
+        if (other instanceof Latin1CharSlice) {
+            return MoreArrays.mismatch(ref, offset, size, ((Latin1CharSlice) other).ref, other.offset(), other.size());
+        }
+
+        return CharSlice.super.mismatch(other);
+    }
+
+    @Override
+    public int compareTo(final @NotNull CharSlice other) {
+        if (other instanceof Latin1CharSlice) {
+            final Latin1CharSlice slice = (Latin1CharSlice) other;
+            final int index = MoreArrays.mismatch(ref, offset, size, slice.ref, slice.offset, slice.size);
+
+            if (index < 0) {
+                return 0;
+            }
+            else if (index < size && index < slice.size) {
+                // Compare unsigned, MoreArrays.compare would treat the bytes as signed values
+                return (ref[offset + index] & 0xFF) - (slice.ref[slice.offset + index] & 0xFF);
+            }
+
+            return size - slice.size;
+        }
+
+        return CharSlice.super.compareTo(other);
+    }
+
+    @Override
+    public boolean equalsIgnoreCase(final @NotNull CharSequence seq) {
+        if (!(seq instanceof Latin1CharSlice)) {
+            return CharSlice.super.equalsIgnoreCase(seq);
+        }
+
+        final Latin1CharSlice slice = (Latin1CharSlice) seq;
+
+        if (slice.size != size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            final byte value = ref[offset + i];
+            final byte otherValue = slice.ref[slice.offset + i];
+
+            if (value != otherValue
+                && CaseFolding.fold((char) (value & 0xFF)) != CaseFolding.fold((char) (otherValue & 0xFF))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCodeIgnoreCase() {
+        final int end = offset + size;
+        int result = 1;
+
+        for (int i = offset; i < end; i++) {
+            result = 31 * result + CaseFolding.fold((char) (ref[i] & 0xFF));
+        }
+
+        return result;
+    }
+
+    @Override
+    public int indexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (value > 0xFF) {
+            return -1;
+        }
+
+        final int index = Search.indexOf(ref, this.offset + offset, size, (byte) value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (value > 0xFF) {
+            return -1;
+        }
+
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, (byte) value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int indexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (seq instanceof Latin1CharSlice) { // Search the bytes of the other slice in place
+            final Latin1CharSlice other = (Latin1CharSlice) seq;
+            final int index = Search.indexOf(ref, this.offset + offset, size, other.ref, other.offset, other.size);
+            return index < 0 ? -1 : offset + index;
+        }
+
+        final byte[] needle = encode(seq);
+
+        if (needle == null) {
+            return -1;
+        }
+
+        final int index = Search.indexOf(ref, this.offset + offset, size, needle);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (seq instanceof Latin1CharSlice) {
+            final Latin1CharSlice other = (Latin1CharSlice) seq;
+            final int index = Search.lastIndexOf(ref, this.offset + offset, size, other.ref, other.offset, other.size);
+            return index < 0 ? -1 : offset + index;
+        }
+
+        final byte[] needle = encode(seq);
+
+        if (needle == null) {
+            return -1;
+        }
+
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, needle);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    private void checkRange(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        // Must match the hash of every other CharSlice with the same content
+        final int end = offset + size;
+        int result = 1;
+
+        for (int i = offset; i < end; i++) {
+            result = 31 * result + (ref[i] & 0xFF);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof Latin1CharSlice) {
+            final Latin1CharSlice slice = (Latin1CharSlice) obj;
+            return slice.size == size && MoreArrays.mismatch(ref, offset, size, slice.ref, slice.offset, size) < 0;
+        }
+        else if (obj instanceof CharSlice) {
+            return rangeEquals((CharSlice) obj);
+        }
+        else if (obj instanceof Slice) {
+            final Slice<?> slice = (Slice<?>) obj;
+
+            if (slice.size() != size) {
+                return false;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (!slice.get(i).equals(getChar(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        else if (obj instanceof View) {
+            final View<?> view = (View<?>) obj;
+
+            if (view.size() != size) {
+                return false;
+            }
+
+            final Iterator<?> itr = view.iterator();
+
+            for (int i = 0; i < size; i++) {
+                if (!itr.next().equals(getChar(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return new String(ref, offset, size, StandardCharsets.ISO_8859_1);
+    }
+}
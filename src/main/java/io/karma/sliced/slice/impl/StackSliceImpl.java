@@ -25,15 +25,15 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
-import java.util.Stack;
 
 /**
  * @author Alexander Hinze
  * @since 09/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class StackSliceImpl<T, S extends Stack<T>> extends AbstractSlice<T> implements StackSlice<T> {
+public final class StackSliceImpl<T, S extends List<T>> extends AbstractSlice<T> implements StackSlice<T> {
     private final S ref;
     private int iterationIndex;
 
@@ -49,7 +49,7 @@ public final class StackSliceImpl<T, S extends Stack<T>> extends AbstractSlice<T
 
     @Override
     public T peek() {
-        return get(size);
+        return size == 0 ? null : get(maxIndex);
     }
 
     @Override
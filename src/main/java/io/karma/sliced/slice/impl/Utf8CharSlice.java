@@ -0,0 +1,497 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.slice.impl;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.util.MoreArrays;
+import io.karma.sliced.util.Search;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * A {@link CharSlice} which views a range of UTF-8 encoded bytes as characters.
+ * <p>
+ * The byte range is only scanned once it is first needed. Pure ASCII content
+ * is never decoded, every character maps to exactly one byte. Any other content
+ * is decoded once (replacing malformed input) and the decoded characters are
+ * retained by the slice from then on.
+ * Trimming, splitting, searching and hashing operate directly on the bytes whenever possible.
+ * <p>
+ * The scan result is published through a volatile field, so a slice may be
+ * read from multiple threads, at worst scanning the bytes more than once.
+ * Equality is always based on the decoded characters, so malformed input
+ * compares equal whenever it decodes to the same replacement characters.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class Utf8CharSlice implements CharSlice {
+    private static final int KIND_UNKNOWN = 0;
+    private static final int KIND_ASCII = 1;
+    private static final int KIND_DECODED = 2;
+
+    private final byte[] ref;
+    private final int offset;
+    private final int byteSize;
+    private volatile int kind;
+    private char[] decoded;
+    private int size;
+    private int iterationIndex;
+
+    public Utf8CharSlice(final byte[] ref, final int offset, final int byteSize) {
+        this(ref, offset, byteSize, KIND_UNKNOWN);
+    }
+
+    private Utf8CharSlice(final byte[] ref, final int offset, final int byteSize, final int kind) {
+        if (offset < 0 || byteSize < 0 || offset > ref.length - byteSize) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        this.ref = ref;
+        this.offset = offset;
+        this.byteSize = byteSize;
+        this.kind = kind;
+    }
+
+    // Writes the decoded state before the volatile kind, so every thread which observes the kind also observes it
+    private int kind() {
+        final int kind = this.kind;
+
+        if (kind != KIND_UNKNOWN) {
+            return kind;
+        }
+
+        final int end = offset + byteSize;
+        int bits = 0;
+
+        for (int i = offset; i < end; i++) {
+            bits |= ref[i]; // ORs all sign bits together, which vectorizes well
+        }
+
+        if (bits >= 0) {
+            return this.kind = KIND_ASCII;
+        }
+
+        final CharBuffer buffer = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(ref, offset, byteSize));
+        decoded = buffer.array();
+        size = buffer.remaining();
+        return this.kind = KIND_DECODED;
+    }
+
+    /**
+     * Determines whether all characters in this slice are ASCII characters,
+     * in which case every character maps to exactly one byte.
+     *
+     * @return True if this slice only contains ASCII characters.
+     */
+    public boolean isAscii() {
+        return kind() == KIND_ASCII;
+    }
+
+    /**
+     * Retrieves the number of UTF-8 encoded bytes referenced by this slice.
+     *
+     * @return The number of UTF-8 encoded bytes referenced by this slice.
+     */
+    public int byteSize() {
+        return byteSize;
+    }
+
+    @Override
+    public int offset() {
+        return offset;
+    }
+
+    @Override
+    public int size() {
+        return kind() == KIND_ASCII ? byteSize : size;
+    }
+
+    @Override
+    public @NotNull Slice<Character> asSlice() {
+        return this;
+    }
+
+    @Override
+    public char getChar(final int index) {
+        if (kind() == KIND_ASCII) {
+            if (index < 0 || index >= byteSize) {
+                throw new ArrayIndexOutOfBoundsException(index);
+            }
+
+            return (char) ref[offset + index];
+        }
+
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return decoded[index];
+    }
+
+    @Override
+    public char[] toCharArray(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > size() - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        final char[] result = new char[size];
+
+        if (kind() == KIND_ASCII) {
+            final int start = this.offset + offset;
+
+            for (int i = 0; i < size; i++) {
+                result[i] = (char) ref[start + i];
+            }
+        }
+        else {
+            System.arraycopy(decoded, offset, result, 0, size);
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NotNull Slice<Character> slice(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > size() - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        if (kind() == KIND_ASCII) {
+            return new Utf8CharSlice(ref, this.offset + offset, size, KIND_ASCII);
+        }
+
+        return new ArrayCharSlice(decoded, offset, size);
+    }
+
+    @Override
+    public @NotNull CharSlice trimLeading() {
+        final int end = offset + byteSize;
+        int start = offset;
+
+        while (start < end && isWhitespace(ref[start])) {
+            start++;
+        }
+
+        return new Utf8CharSlice(ref, start, end - start, kind == KIND_ASCII ? KIND_ASCII : KIND_UNKNOWN);
+    }
+
+    @Override
+    public @NotNull CharSlice trimTrailing() {
+        int end = offset + byteSize;
+
+        while (end > offset && isWhitespace(ref[end - 1])) {
+            end--;
+        }
+
+        return new Utf8CharSlice(ref, offset, end - offset, kind == KIND_ASCII ? KIND_ASCII : KIND_UNKNOWN);
+    }
+
+    @Override
+    public @NotNull CharSlice trim() {
+        final int end = offset + byteSize;
+        int start = offset;
+
+        while (start < end && isWhitespace(ref[start])) {
+            start++;
+        }
+
+        int newEnd = end;
+
+        while (newEnd > start && isWhitespace(ref[newEnd - 1])) {
+            newEnd--;
+        }
+
+        return new Utf8CharSlice(ref, start, newEnd - start, kind == KIND_ASCII ? KIND_ASCII : KIND_UNKNOWN);
+    }
+
+    @Override
+    public @NotNull CharSlice[] split(final char delimiter) {
+        if (Character.isSurrogate(delimiter)) {
+            return CharSlice.super.split(delimiter);
+        }
+
+        if (delimiter < 0x80) {
+            return split(new byte[]{(byte) delimiter});
+        }
+
+        return split(String.valueOf(delimiter).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public @NotNull CharSlice[] split(final @NotNull CharSequence delimiter) {
+        final int length = delimiter.length();
+
+        if (length == 0) {
+            return CharSlice.super.split(delimiter);
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (Character.isSurrogate(delimiter.charAt(i))) {
+                return CharSlice.super.split(delimiter);
+            }
+        }
+
+        return split(delimiter.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // UTF-8 is self-synchronizing, so a byte-wise match always starts and ends on character boundaries
+    private @NotNull CharSlice[] split(final byte[] delimiter) {
+        final int childKind = kind == KIND_ASCII ? KIND_ASCII : KIND_UNKNOWN;
+        final ArrayList<CharSlice> slices = new ArrayList<>();
+        final int end = offset + byteSize;
+        int start = offset;
+        int index;
+
+        while ((index = Search.indexOf(ref, start, end - start, delimiter)) >= 0) {
+            slices.add(new Utf8CharSlice(ref, start, index, childKind));
+            start += index + delimiter.length;
+        }
+
+        slices.add(new Utf8CharSlice(ref, start, end - start, childKind));
+        return slices.toArray(new CharSlice[0]);
+    }
+
+    @Override
+    public int indexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (kind() == KIND_ASCII) {
+            if (value >= 0x80) {
+                return -1;
+            }
+
+            final int index = Search.indexOf(ref, this.offset + offset, size, (byte) value);
+            return index < 0 ? -1 : offset + index;
+        }
+
+        final int index = Search.indexOf(decoded, offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (kind() == KIND_ASCII) {
+            if (value >= 0x80) {
+                return -1;
+            }
+
+            final int index = Search.lastIndexOf(ref, this.offset + offset, size, (byte) value);
+            return index < 0 ? -1 : offset + index;
+        }
+
+        final int index = Search.lastIndexOf(decoded, offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int indexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (kind() == KIND_ASCII) {
+            final byte[] needle = toAscii(seq);
+
+            if (needle == null) {
+                return -1;
+            }
+
+            final int index = Search.indexOf(ref, this.offset + offset, size, needle);
+            return index < 0 ? -1 : offset + index;
+        }
+
+        final int index = Search.indexOf(decoded, offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+
+        if (kind() == KIND_ASCII) {
+            final byte[] needle = toAscii(seq);
+
+            if (needle == null) {
+                return -1;
+            }
+
+            final int index = Search.lastIndexOf(ref, this.offset + offset, size, needle);
+            return index < 0 ? -1 : offset + index;
+        }
+
+        final int index = Search.lastIndexOf(decoded, offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    private void checkRange(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > size() - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    private static byte[] toAscii(final CharSequence seq) {
+        final int size = seq.length();
+        final byte[] result = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            final char value = seq.charAt(i);
+
+            if (value >= 0x80) {
+                return null;
+            }
+
+            result[i] = (byte) value;
+        }
+
+        return result;
+    }
+
+    private static boolean isWhitespace(final byte value) {
+        return value >= 0 && value <= ' ';
+    }
+
+    @Override
+    public int mismatch(final @NotNull CharSlice other) {
+        if (other instanceof Utf8CharSlice && kind() == KIND_ASCII) {
+            final Utf8CharSlice slice = (Utf8CharSlice) other;
+
+            if (slice.kind() == KIND_ASCII) {
+                return MoreArrays.mismatch(ref, offset, byteSize, slice.ref, slice.offset, slice.byteSize);
+            }
+        }
+
+        return CharSlice.super.mismatch(other);
+    }
+
+    @Override
+    public boolean rangeEquals(final @NotNull CharSlice other) {
+        if (other instanceof Utf8CharSlice) {
+            // Equal bytes always decode to equal characters, but malformed input may decode
+            // to equal characters from different bytes, so only pure ASCII can be unequal by bytes
+            final Utf8CharSlice slice = (Utf8CharSlice) other;
+
+            if (MoreArrays.mismatch(ref, offset, byteSize, slice.ref, slice.offset, slice.byteSize) < 0) {
+                return true;
+            }
+            else if (kind() == KIND_ASCII && slice.kind() == KIND_ASCII) {
+                return false;
+            }
+        }
+
+        return CharSlice.super.rangeEquals(other);
+    }
+
+    @Override
+    public boolean hasMoreElements() {
+        return iterationIndex < size();
+    }
+
+    @Override
+    public @NotNull Character nextElement() {
+        return getChar(iterationIndex++);
+    }
+
+    @Override
+    public void reset() {
+        iterationIndex = 0;
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+
+        if (kind() == KIND_ASCII) {
+            final int end = offset + byteSize;
+
+            for (int i = offset; i < end; i++) {
+                result = 31 * result + ref[i];
+            }
+        }
+        else {
+            for (int i = 0; i < size; i++) {
+                result = 31 * result + decoded[i];
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof CharSlice) {
+            return rangeEquals((CharSlice) obj);
+        }
+        else if (obj instanceof Slice) {
+            final Slice<?> slice = (Slice<?>) obj;
+            final int size = slice.size();
+
+            if (size != size()) {
+                return false;
+            }
+
+            for (int i = 0; i < size; i++) {
+                if (!slice.get(i).equals(getChar(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+        else if (obj instanceof View) {
+            final View<?> view = (View<?>) obj;
+            final int size = view.size();
+
+            if (size != size()) {
+                return false;
+            }
+
+            final Iterator<?> itr = view.iterator();
+
+            for (int i = 0; i < size; i++) {
+                if (!itr.next().equals(getChar(i))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        if (kind() == KIND_ASCII) {
+            return new String(ref, offset, byteSize, StandardCharsets.ISO_8859_1);
+        }
+
+        return new String(decoded, 0, size);
+    }
+}
@@ -18,6 +18,7 @@ package io.karma.sliced.slice.mutable.impl;
 import io.karma.sliced.iterator.BoolIterator;
 import io.karma.sliced.iterator.impl.RangedArrayBoolIterator;
 import io.karma.sliced.slice.BoolSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayBoolSlice;
 import io.karma.sliced.slice.mutable.MutableBoolSlice;
@@ -28,7 +29,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -36,7 +36,7 @@ import java.util.Iterator;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MutableArrayBoolSlice extends AbstractMutableSlice<Boolean> implements MutableBoolSlice {
+public final class MutableArrayBoolSlice extends AbstractMutableSlice<Boolean> implements MutableBoolSlice, ArrayBacked<boolean[]> {
     private final boolean[] ref;
     private int iterationIndex;
 
@@ -72,7 +72,7 @@ public final class MutableArrayBoolSlice extends AbstractMutableSlice<Boolean> i
 
     @Override
     public @NotNull Boolean nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
     @Override
@@ -80,34 +80,42 @@ public final class MutableArrayBoolSlice extends AbstractMutableSlice<Boolean> i
         return new RangedArrayBoolIterator(ref, offset, size);
     }
 
-    // Object functions
+    @Override
+    public boolean[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull BoolSlice other) {
+        if (other instanceof ArrayBacked) {
+            final boolean[] otherRef = (boolean[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return MutableBoolSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof MutableArrayBoolSlice) {
-            final MutableArrayBoolSlice other = (MutableArrayBoolSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull BoolSlice other) {
+        if (other instanceof ArrayBacked) {
+            final boolean[] otherRef = (boolean[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof BoolSlice) {
-            final BoolSlice slice = (BoolSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return MutableBoolSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getBool(i) != slice.getBool(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof BoolSlice) {
+            return rangeEquals((BoolSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
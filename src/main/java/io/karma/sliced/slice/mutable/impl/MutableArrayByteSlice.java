@@ -18,17 +18,19 @@ package io.karma.sliced.slice.mutable.impl;
 import io.karma.sliced.iterator.ByteIterator;
 import io.karma.sliced.iterator.impl.RangedArrayByteIterator;
 import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayByteSlice;
 import io.karma.sliced.slice.mutable.MutableByteSlice;
+import io.karma.sliced.util.Hashes;
 import io.karma.sliced.util.MoreArrays;
+import io.karma.sliced.util.Search;
 import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -36,7 +38,7 @@ import java.util.Iterator;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MutableArrayByteSlice extends AbstractMutableSlice<Byte> implements MutableByteSlice {
+public final class MutableArrayByteSlice extends AbstractMutableSlice<Byte> implements MutableByteSlice, ArrayBacked<byte[]> {
     private final byte[] ref;
     private int iterationIndex;
 
@@ -77,37 +79,82 @@ public final class MutableArrayByteSlice extends AbstractMutableSlice<Byte> impl
 
     @Override
     public @NotNull Byte nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public byte[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull ByteSlice other) {
+        if (other instanceof ArrayBacked) {
+            final byte[] otherRef = (byte[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return MutableByteSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof MutableArrayByteSlice) {
-            final MutableArrayByteSlice other = (MutableArrayByteSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull ByteSlice other) {
+        if (other instanceof ArrayBacked) {
+            final byte[] otherRef = (byte[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof ByteSlice) {
-            final ByteSlice slice = (ByteSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return MutableByteSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getByte(i) != slice.getByte(i)) {
-                    return false;
-                }
-            }
+    @Override
+    public long hash64(final long seed) {
+        return Hashes.xxHash64(ref, offset, size, seed);
+    }
 
-            return true;
+    @Override
+    public long[] hash128(final long seed) {
+        return Hashes.murmur3x128(ref, offset, size, seed);
+    }
+
+    @Override
+    public int indexOf(final byte value, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int indexOf(final byte[] needle, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, needle);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final byte[] needle, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, needle);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    private void checkRange(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof ByteSlice) {
+            return rangeEquals((ByteSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
@@ -17,17 +17,19 @@ package io.karma.sliced.slice.mutable.impl;
 
 import io.karma.sliced.iterator.impl.RangedArrayCharIterator;
 import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayCharSlice;
 import io.karma.sliced.slice.mutable.MutableCharSlice;
+import io.karma.sliced.util.Hashes;
 import io.karma.sliced.util.MoreArrays;
+import io.karma.sliced.util.Search;
 import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -35,7 +37,7 @@ import java.util.Iterator;
  * @since 17/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MutableArrayCharSlice extends AbstractMutableSlice<Character> implements MutableCharSlice {
+public final class MutableArrayCharSlice extends AbstractMutableSlice<Character> implements MutableCharSlice, ArrayBacked<char[]> {
     private final char[] ref;
     private int iterationIndex;
 
@@ -46,24 +48,41 @@ public final class MutableArrayCharSlice extends AbstractMutableSlice<Character>
 
     @Override
     public @NotNull CharSlice trimLeading() {
-        int start = 0;
+        final int end = offset + size;
+        int start = offset;
 
-        while (ref[start] == ' ') {
+        while (start < end && ref[start] <= ' ') {
             start++;
         }
 
-        return new ArrayCharSlice(ref, start, size);
+        return new ArrayCharSlice(ref, start, end - start);
     }
 
     @Override
     public @NotNull CharSlice trimTrailing() {
-        int end = length() - 1;
+        int end = offset + size;
 
-        while (ref[end] == ' ') {
+        while (end > offset && ref[end - 1] <= ' ') {
             end--;
         }
 
-        return new ArrayCharSlice(ref, offset, end);
+        return new ArrayCharSlice(ref, offset, end - offset);
+    }
+
+    @Override
+    public @NotNull CharSlice trim() {
+        int start = offset;
+        int end = offset + size;
+
+        while (start < end && ref[start] <= ' ') {
+            start++;
+        }
+
+        while (end > start && ref[end - 1] <= ' ') {
+            end--;
+        }
+
+        return new ArrayCharSlice(ref, start, end - start);
     }
 
     @Override
@@ -109,34 +128,86 @@ public final class MutableArrayCharSlice extends AbstractMutableSlice<Character>
         iterationIndex = 0;
     }
 
-    // Object functions
+    @Override
+    public char[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull CharSlice other) {
+        if (other instanceof ArrayBacked) {
+            final char[] otherRef = (char[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return MutableCharSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof MutableArrayCharSlice) {
-            final MutableArrayCharSlice other = (MutableArrayCharSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull CharSlice other) {
+        if (other instanceof ArrayBacked) {
+            final char[] otherRef = (char[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof CharSlice) {
-            final CharSlice slice = (CharSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return MutableCharSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getChar(i) != slice.getChar(i)) {
-                    return false;
-                }
-            }
+    @Override
+    public long hash64(final long seed) {
+        return Hashes.xxHash64(ref, offset, size, seed);
+    }
 
-            return true;
+    @Override
+    public long[] hash128(final long seed) {
+        return Hashes.murmur3x128(ref, offset, size, seed);
+    }
+
+    @Override
+    public int indexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final char value, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, value);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int indexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.indexOf(ref, this.offset + offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    @Override
+    public int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size) {
+        checkRange(offset, size);
+        final int index = Search.lastIndexOf(ref, this.offset + offset, size, seq);
+        return index < 0 ? -1 : offset + index;
+    }
+
+    private void checkRange(final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof CharSlice) {
+            return rangeEquals((CharSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
@@ -178,6 +249,6 @@ public final class MutableArrayCharSlice extends AbstractMutableSlice<Character>
 
     @Override
     public @NotNull String toString() {
-        return MoreArrays.toString(ref, offset, size);
+        return new String(ref, offset, size);
     }
 }
@@ -18,6 +18,7 @@ package io.karma.sliced.slice.mutable.impl;
 import io.karma.sliced.iterator.DoubleIterator;
 import io.karma.sliced.iterator.impl.RangedArrayDoubleIterator;
 import io.karma.sliced.slice.DoubleSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayDoubleSlice;
 import io.karma.sliced.slice.mutable.MutableDoubleSlice;
@@ -28,7 +29,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -38,7 +38,7 @@ import java.util.Spliterators;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MutableArrayDoubleSlice extends AbstractMutableSlice<Double> implements MutableDoubleSlice {
+public final class MutableArrayDoubleSlice extends AbstractMutableSlice<Double> implements MutableDoubleSlice, ArrayBacked<double[]> {
     private final double[] ref;
     private int iterationIndex;
 
@@ -69,7 +69,7 @@ public final class MutableArrayDoubleSlice extends AbstractMutableSlice<Double>
 
     @Override
     public @NotNull Spliterator.OfDouble doubleSpliterator() {
-        return Spliterators.spliterator(ref, offset, size, 0);
+        return Spliterators.spliterator(ref, offset, offset + size, 0);
     }
 
     @Override
@@ -84,37 +84,45 @@ public final class MutableArrayDoubleSlice extends AbstractMutableSlice<Double>
 
     @Override
     public @NotNull Double nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public double[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull DoubleSlice other) {
+        if (other instanceof ArrayBacked) {
+            final double[] otherRef = (double[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return MutableDoubleSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof MutableArrayDoubleSlice) {
-            final MutableArrayDoubleSlice other = (MutableArrayDoubleSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull DoubleSlice other) {
+        if (other instanceof ArrayBacked) {
+            final double[] otherRef = (double[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof DoubleSlice) {
-            final DoubleSlice slice = (DoubleSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return MutableDoubleSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getDouble(i) != slice.getDouble(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof DoubleSlice) {
+            return rangeEquals((DoubleSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
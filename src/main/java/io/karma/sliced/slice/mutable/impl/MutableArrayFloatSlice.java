@@ -18,6 +18,7 @@ package io.karma.sliced.slice.mutable.impl;
 import io.karma.sliced.iterator.FloatIterator;
 import io.karma.sliced.iterator.impl.RangedArrayFloatIterator;
 import io.karma.sliced.slice.FloatSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayFloatSlice;
 import io.karma.sliced.slice.mutable.MutableFloatSlice;
@@ -28,7 +29,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -36,7 +36,7 @@ import java.util.Iterator;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MutableArrayFloatSlice extends AbstractMutableSlice<Float> implements MutableFloatSlice {
+public final class MutableArrayFloatSlice extends AbstractMutableSlice<Float> implements MutableFloatSlice, ArrayBacked<float[]> {
     private final float[] ref;
     private int iterationIndex;
 
@@ -77,37 +77,45 @@ public final class MutableArrayFloatSlice extends AbstractMutableSlice<Float> im
 
     @Override
     public @NotNull Float nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public float[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull FloatSlice other) {
+        if (other instanceof ArrayBacked) {
+            final float[] otherRef = (float[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return MutableFloatSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof MutableArrayFloatSlice) {
-            final MutableArrayFloatSlice other = (MutableArrayFloatSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull FloatSlice other) {
+        if (other instanceof ArrayBacked) {
+            final float[] otherRef = (float[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof FloatSlice) {
-            final FloatSlice slice = (FloatSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return MutableFloatSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getFloat(i) != slice.getFloat(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof FloatSlice) {
+            return rangeEquals((FloatSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
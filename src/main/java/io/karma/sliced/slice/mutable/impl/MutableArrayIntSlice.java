@@ -18,9 +18,11 @@ package io.karma.sliced.slice.mutable.impl;
 import io.karma.sliced.iterator.IntIterator;
 import io.karma.sliced.iterator.impl.RangedArrayIntIterator;
 import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayIntSlice;
 import io.karma.sliced.slice.mutable.MutableIntSlice;
+import io.karma.sliced.util.Hashes;
 import io.karma.sliced.util.MoreArrays;
 import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
@@ -28,7 +30,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -38,7 +39,7 @@ import java.util.Spliterators;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MutableArrayIntSlice extends AbstractMutableSlice<Integer> implements MutableIntSlice {
+public final class MutableArrayIntSlice extends AbstractMutableSlice<Integer> implements MutableIntSlice, ArrayBacked<int[]> {
     private final int[] ref;
     private int iterationIndex;
 
@@ -69,7 +70,7 @@ public final class MutableArrayIntSlice extends AbstractMutableSlice<Integer> im
 
     @Override
     public @NotNull Spliterator.OfInt intSpliterator() {
-        return Spliterators.spliterator(ref, offset, size, 0);
+        return Spliterators.spliterator(ref, offset, offset + size, 0);
     }
 
     @Override
@@ -84,37 +85,55 @@ public final class MutableArrayIntSlice extends AbstractMutableSlice<Integer> im
 
     @Override
     public @NotNull Integer nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public int[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull IntSlice other) {
+        if (other instanceof ArrayBacked) {
+            final int[] otherRef = (int[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return MutableIntSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof MutableArrayIntSlice) {
-            final MutableArrayIntSlice other = (MutableArrayIntSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull IntSlice other) {
+        if (other instanceof ArrayBacked) {
+            final int[] otherRef = (int[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof IntSlice) {
-            final IntSlice slice = (IntSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return MutableIntSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getInt(i) != slice.getInt(i)) {
-                    return false;
-                }
-            }
+    @Override
+    public long hash64(final long seed) {
+        return Hashes.xxHash64(ref, offset, size, seed);
+    }
 
-            return true;
+    @Override
+    public long[] hash128(final long seed) {
+        return Hashes.murmur3x128(ref, offset, size, seed);
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof IntSlice) {
+            return rangeEquals((IntSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
@@ -18,6 +18,7 @@ package io.karma.sliced.slice.mutable.impl;
 import io.karma.sliced.iterator.ShortIterator;
 import io.karma.sliced.iterator.impl.RangedArrayShortIterator;
 import io.karma.sliced.slice.ShortSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayShortSlice;
 import io.karma.sliced.slice.mutable.MutableShortSlice;
@@ -28,7 +29,6 @@ import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.Iterator;
 
 /**
@@ -36,7 +36,7 @@ import java.util.Iterator;
  * @since 25/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MutableArrayShortSlice extends AbstractMutableSlice<Short> implements MutableShortSlice {
+public final class MutableArrayShortSlice extends AbstractMutableSlice<Short> implements MutableShortSlice, ArrayBacked<short[]> {
     private final short[] ref;
     private int iterationIndex;
 
@@ -77,37 +77,45 @@ public final class MutableArrayShortSlice extends AbstractMutableSlice<Short> im
 
     @Override
     public @NotNull Short nextElement() {
-        return ref[iterationIndex++];
+        return ref[offset + iterationIndex++];
     }
 
-    // Object functions
+    @Override
+    public short[] array() {
+        return ref;
+    }
 
     @Override
-    public int hashCode() {
-        return MoreArrays.hashCode(ref, offset, size);
+    public int mismatch(final @NotNull ShortSlice other) {
+        if (other instanceof ArrayBacked) {
+            final short[] otherRef = (short[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.mismatch(ref, offset, size, otherRef, other.offset(), other.size());
+        }
+
+        return MutableShortSlice.super.mismatch(other);
     }
 
     @Override
-    public boolean equals(final @Nullable Object obj) {
-        if (obj instanceof MutableArrayShortSlice) {
-            final MutableArrayShortSlice other = (MutableArrayShortSlice) obj;
-            return Arrays.equals(other.ref, ref) && other.offset == offset && other.size == size;
+    public int compareTo(final @NotNull ShortSlice other) {
+        if (other instanceof ArrayBacked) {
+            final short[] otherRef = (short[]) ((ArrayBacked<?>) other).array();
+            return MoreArrays.compare(ref, offset, size, otherRef, other.offset(), other.size());
         }
-        else if (obj instanceof ShortSlice) {
-            final ShortSlice slice = (ShortSlice) obj;
-            final int size = slice.size();
 
-            if (size != this.size) {
-                return false;
-            }
+        return MutableShortSlice.super.compareTo(other);
+    }
 
-            for (int i = 0; i < size; i++) {
-                if (getShort(i) != slice.getShort(i)) {
-                    return false;
-                }
-            }
+    // Object functions
 
-            return true;
+    @Override
+    public int hashCode() {
+        return MoreArrays.hashCode(ref, offset, size);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj instanceof ShortSlice) {
+            return rangeEquals((ShortSlice) obj);
         }
         else if (obj instanceof Slice) {
             final Slice<?> slice = (Slice<?>) obj;
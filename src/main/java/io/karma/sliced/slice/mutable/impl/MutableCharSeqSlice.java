@@ -16,9 +16,7 @@
 package io.karma.sliced.slice.mutable.impl;
 
 import io.karma.sliced.iterator.impl.RangedCharSeqCharIterator;
-import io.karma.sliced.slice.CharSlice;
 import io.karma.sliced.slice.Slice;
-import io.karma.sliced.slice.impl.CharSeqSlice;
 import io.karma.sliced.slice.mutable.MutableCharSlice;
 import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
@@ -42,38 +40,17 @@ public final class MutableCharSeqSlice extends AbstractMutableSlice<Character> i
         this.ref = ref;
     }
 
-    @Override
-    public @NotNull CharSlice trimLeading() {
-        int start = 0;
-
-        while (ref.charAt(start) == ' ') {
-            start++;
-        }
-
-        return new CharSeqSlice(ref, start, size);
-    }
-
-    @Override
-    public @NotNull CharSlice trimTrailing() {
-        int end = length() - 1;
-
-        while (ref.charAt(end) == ' ') {
-            end--;
-        }
-
-        return new CharSeqSlice(ref, offset, end);
-    }
-
     @Override
     public char[] toCharArray(final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > this.size || offset >= size) {
+        if (offset < 0 || size < 0 || offset > this.size - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
         final char[] result = new char[size];
+        final int start = this.offset + offset;
 
         for (int i = 0; i < size; i++) {
-            result[i] = getChar(i);
+            result[i] = ref.charAt(start + i);
         }
 
         return result;
@@ -121,9 +98,15 @@ public final class MutableCharSeqSlice extends AbstractMutableSlice<Character> i
 
     @Override
     public int hashCode() {
-        return toString().hashCode(); // TODO: make this more efficient
-        // I did not, because i am lazy lol
-        // @ the next person who reads this, you need to fix it now.
+        // Same as MoreArrays.hashCode, so equal char slices hash equally regardless of their storage
+        final int end = offset + size;
+        int result = 1;
+
+        for (int i = offset; i < end; i++) {
+            result = 31 * result + ref.charAt(i);
+        }
+
+        return result;
     }
 
     @Override
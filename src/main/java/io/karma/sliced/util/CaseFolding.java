@@ -0,0 +1,223 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+
+/**
+ * Case-insensitive comparison and hashing of character sequences,
+ * which never creates upper- or lowercase copies of its inputs.
+ * <p>
+ * Two characters are considered equal ignoring case under the same rules as
+ * {@link String#equalsIgnoreCase(String)}. Every character is mapped to a canonical
+ * case using {@link #fold(char)}, so equality, hashing and ordering are consistent
+ * with each other. ASCII characters take a branch-free fast path which does not
+ * consult the Unicode tables at all.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.STABLE)
+public final class CaseFolding {
+    private static final Comparator<CharSequence> COMPARATOR = CaseFolding::compare;
+
+    // @formatter:off
+    private CaseFolding() {}
+    // @formatter:on
+
+    /**
+     * Retrieves a comparator which orders character sequences lexicographically, ignoring case.
+     * The ordering is consistent with {@link #equals(CharSequence, CharSequence)}.
+     *
+     * @return A case-insensitive comparator for character sequences.
+     */
+    public static @NotNull Comparator<CharSequence> comparator() {
+        return COMPARATOR;
+    }
+
+    /**
+     * Maps the given character to its canonical case, so that two characters
+     * are equal ignoring case if and only if their folded values are equal.
+     *
+     * @param value The character to fold.
+     * @return The canonical case of the given character.
+     */
+    public static char fold(final char value) {
+        if (value < 0x80) {
+            // Adds 0x20 if the value is within ['A', 'Z'], both differences are negative only in that case
+            return (char) (value | ((('A' - 1 - value) & (value - ('Z' + 1))) >>> 26 & 0x20));
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(value));
+    }
+
+    /**
+     * Checks whether the given characters are equal, ignoring case.
+     *
+     * @param a The first character to compare.
+     * @param b The second character to compare.
+     * @return True if both characters are equal ignoring case.
+     */
+    public static boolean equals(final char a, final char b) {
+        return a == b || fold(a) == fold(b);
+    }
+
+    /**
+     * Checks whether the given character sequences are equal, ignoring case.
+     *
+     * @param a The first sequence to compare.
+     * @param b The second sequence to compare.
+     * @return True if both sequences have the same length and are equal ignoring case.
+     */
+    public static boolean equals(final @NotNull CharSequence a, final @NotNull CharSequence b) {
+        final int size = a.length();
+        return size == b.length() && regionMatches(a, 0, b, 0, size);
+    }
+
+    /**
+     * Checks whether the given regions of the given character sequences are equal, ignoring case.
+     *
+     * @param a       The first sequence to compare.
+     * @param aOffset The offset into the first sequence.
+     * @param b       The second sequence to compare.
+     * @param bOffset The offset into the second sequence.
+     * @param size    The number of characters to compare.
+     * @return True if both regions are equal ignoring case.
+     */
+    public static boolean regionMatches(final @NotNull CharSequence a, final int aOffset,
+                                        final @NotNull CharSequence b, final int bOffset, final int size) {
+        if (aOffset < 0 || bOffset < 0 || size < 0 || aOffset > a.length() - size || bOffset > b.length() - size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            final char aValue = a.charAt(aOffset + i);
+            final char bValue = b.charAt(bOffset + i);
+
+            if (aValue != bValue && fold(aValue) != fold(bValue)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether the given regions of the given {@code char} arrays are equal, ignoring case.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array.
+     * @param size    The number of characters to compare.
+     * @return True if both regions are equal ignoring case.
+     */
+    public static boolean regionMatches(final char[] a, final int aOffset, final char[] b, final int bOffset,
+                                        final int size) {
+        if (aOffset < 0 || bOffset < 0 || size < 0 || aOffset > a.length - size || bOffset > b.length - size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            final char aValue = a[aOffset + i];
+            final char bValue = b[bOffset + i];
+
+            if (aValue != bValue && fold(aValue) != fold(bValue)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Computes a hash code for the given character sequence which is
+     * equal for all sequences that are equal ignoring case.
+     * For sequences which only contain folded characters,
+     * it equals the hash code of any {@link io.karma.sliced.slice.CharSlice} with the same content.
+     *
+     * @param seq The sequence to hash.
+     * @return A case-insensitive hash code of the given sequence.
+     */
+    public static int hashCode(final @NotNull CharSequence seq) {
+        final int size = seq.length();
+        int result = 1;
+
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + fold(seq.charAt(i));
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes a case-insensitive hash code for the given range of a {@code char} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of characters to hash.
+     * @return A case-insensitive hash code of the given range.
+     * @see #hashCode(CharSequence)
+     */
+    public static int hashCode(final char[] ref, final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+
+        final int end = offset + size;
+        int result = 1;
+
+        for (int i = offset; i < end; i++) {
+            result = 31 * result + fold(ref[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Lexicographically compares the given character sequences, ignoring case.
+     *
+     * @param a The first sequence to compare.
+     * @param b The second sequence to compare.
+     * @return 0 if both sequences are equal ignoring case, a negative value if the first
+     * sequence is less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final @NotNull CharSequence a, final @NotNull CharSequence b) {
+        final int aSize = a.length();
+        final int bSize = b.length();
+        final int minSize = Math.min(aSize, bSize);
+
+        for (int i = 0; i < minSize; i++) {
+            final char aValue = a.charAt(i);
+            final char bValue = b.charAt(i);
+
+            if (aValue != bValue) {
+                final char aFolded = fold(aValue);
+                final char bFolded = fold(bValue);
+
+                if (aFolded != bFolded) {
+                    return aFolded - bFolded;
+                }
+            }
+        }
+
+        return aSize - bSize;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntPredicate;
+
+/**
+ * An immutable set of characters with constant time membership tests.
+ * <p>
+ * ASCII characters are looked up in a 128-bit mask, which is all
+ * that is ever allocated for pure ASCII classes. Classes containing any
+ * other character additionally carry a 64K-bit (8 KiB) table covering
+ * the entire {@code char} range.
+ * Instances are thread-safe and meant to be created once and reused.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.STABLE)
+public final class CharClass {
+    private static final int TABLE_SIZE = (Character.MAX_VALUE + 1) >>> 6;
+    private static final CharClass WHITESPACE = matching(Character::isWhitespace);
+
+    private final long low;
+    private final long high;
+    private final long[] table;
+
+    private CharClass(final long low, final long high, final long[] table) {
+        this.low = low;
+        this.high = high;
+        this.table = table;
+    }
+
+    /**
+     * Retrieves the class of all characters for which
+     * {@link Character#isWhitespace(char)} returns true.
+     *
+     * @return The class of all whitespace characters.
+     */
+    public static @NotNull CharClass whitespace() {
+        return WHITESPACE;
+    }
+
+    /**
+     * Creates a new class containing exactly the given characters.
+     *
+     * @param chars The characters contained in the newly created class.
+     * @return A new class containing the given characters.
+     */
+    public static @NotNull CharClass of(final char... chars) {
+        final long[] table = new long[TABLE_SIZE];
+        boolean isAscii = true;
+
+        for (final char value : chars) {
+            table[value >>> 6] |= 1L << value;
+            isAscii &= value < 0x80;
+        }
+
+        return new CharClass(table[0], table[1], isAscii ? null : table);
+    }
+
+    /**
+     * Creates a new class containing exactly the characters of the given sequence.
+     *
+     * @param chars The characters contained in the newly created class.
+     * @return A new class containing the characters of the given sequence.
+     */
+    public static @NotNull CharClass of(final @NotNull CharSequence chars) {
+        final int size = chars.length();
+        final char[] values = new char[size];
+
+        for (int i = 0; i < size; i++) {
+            values[i] = chars.charAt(i);
+        }
+
+        return of(values);
+    }
+
+    /**
+     * Creates a new class containing every character accepted by the given predicate.
+     * The predicate is evaluated exactly once for every {@code char} value.
+     *
+     * @param predicate The predicate which decides which characters are contained.
+     * @return A new class containing all characters accepted by the given predicate.
+     */
+    public static @NotNull CharClass matching(final @NotNull IntPredicate predicate) {
+        final long[] table = new long[TABLE_SIZE];
+        boolean isAscii = true;
+
+        for (int value = 0; value <= Character.MAX_VALUE; value++) {
+            if (predicate.test(value)) {
+                table[value >>> 6] |= 1L << value;
+                isAscii &= value < 0x80;
+            }
+        }
+
+        return new CharClass(table[0], table[1], isAscii ? null : table);
+    }
+
+    /**
+     * Checks whether the given character is a member of this class.
+     *
+     * @param value The character to check.
+     * @return True if the given character is a member of this class.
+     */
+    public boolean contains(final char value) {
+        if (value < 0x40) {
+            return (low & 1L << value) != 0;
+        }
+        else if (value < 0x80) {
+            return (high & 1L << value) != 0;
+        }
+
+        return table != null && (table[value >>> 6] & 1L << value) != 0;
+    }
+
+    /**
+     * Determines whether this class only contains ASCII characters,
+     * in which case it is backed by a 128-bit mask only.
+     *
+     * @return True if this class only contains ASCII characters.
+     */
+    public boolean isAscii() {
+        return table == null;
+    }
+}
@@ -0,0 +1,674 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.iterator.CharIterator;
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
+import io.karma.sliced.slice.impl.ArrayCharSlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Assembles large text from many pieces without copying them,
+ * as an alternative to {@link StringBuilder}.
+ * <p>
+ * Appended sequences are kept by reference, as leaves of a binary tree (a rope).
+ * Appending keeps the tree balanced like a binary counter, so its depth stays
+ * logarithmic in the number of pieces, and {@link #charAt(int)} as well as
+ * iteration never need to flatten it. Appending another builder shares its tree,
+ * in which case the tree is rebalanced once it grows too deep.
+ * Very short pieces and single characters are collected in a small tail buffer
+ * instead, so they don't each require a leaf of their own.
+ * <p>
+ * The text is only flattened into a contiguous array by {@link #toString()},
+ * {@link #toCharArray()} and {@link #toCharSlice()}; the result is retained
+ * and reused until the next append.
+ * <p>
+ * Since pieces are referenced rather than copied, they must not be modified
+ * after being appended. Instances are not thread-safe.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class CharSliceBuilder implements CharSequence, Appendable, Resettable {
+    private static final int TAIL_CAPACITY = 256;
+    private static final int COPY_THRESHOLD = 32;
+    private static final int MIN_REBALANCE_DEPTH = 16;
+
+    private Node root;
+    private char[] tail;
+    private int tailSize;
+    private char[] flattened;
+    private String string;
+    private Leaf cachedLeaf;
+    private int cachedLeafStart;
+
+    /**
+     * Creates a new, empty builder.
+     */
+    public CharSliceBuilder() {}
+
+    /**
+     * Creates a new builder which starts out with the given sequence.
+     *
+     * @param seq The sequence to append initially.
+     */
+    public CharSliceBuilder(final @NotNull CharSequence seq) {
+        append(seq);
+    }
+
+    /**
+     * Appends the given sequence to this builder.
+     * Unless the sequence is very short, it is referenced instead of being copied.
+     *
+     * @param seq The sequence to append.
+     * @return This builder instance.
+     */
+    @Override
+    public @NotNull CharSliceBuilder append(final @NotNull CharSequence seq) {
+        if (seq instanceof CharSliceBuilder) {
+            return append((CharSliceBuilder) seq);
+        }
+
+        final int length = seq.length();
+
+        if (length == 0) {
+            return this;
+        }
+        else if (length <= COPY_THRESHOLD) {
+            appendToTail(seq, 0, length);
+            return this;
+        }
+
+        flushTail();
+        appendNode(new Leaf(seq));
+        return this;
+    }
+
+    /**
+     * Appends the given range of the given sequence to this builder.
+     * Unless the range is very short, it is referenced instead of being copied.
+     * A range of another builder is always copied, since a builder may still change.
+     *
+     * @param seq   The sequence to append a range of.
+     * @param start The index of the first character to append.
+     * @param end   The index after the last character to append.
+     * @return This builder instance.
+     */
+    @Override
+    public @NotNull CharSliceBuilder append(final @NotNull CharSequence seq, final int start, final int end) {
+        if (start < 0 || start > end || end > seq.length()) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+        else if (seq instanceof CharSliceBuilder) {
+            return append(seq.subSequence(start, end));
+        }
+
+        final int length = end - start;
+
+        if (length == 0) {
+            return this;
+        }
+        else if (length <= COPY_THRESHOLD) {
+            appendToTail(seq, start, length);
+            return this;
+        }
+
+        flushTail();
+        appendNode(new Leaf(CharSlice.of(seq, start, length)));
+        return this;
+    }
+
+    /**
+     * Appends the given character to this builder.
+     *
+     * @param value The character to append.
+     * @return This builder instance.
+     */
+    @Override
+    public @NotNull CharSliceBuilder append(final char value) {
+        ensureTail(1);
+        tail[tailSize++] = value;
+        invalidate();
+        return this;
+    }
+
+    /**
+     * Appends the current content of the given builder to this builder,
+     * sharing its pieces instead of copying them.
+     * Later changes to the given builder are not reflected by this builder.
+     *
+     * @param builder The builder whose content to append.
+     * @return This builder instance.
+     */
+    public @NotNull CharSliceBuilder append(final @NotNull CharSliceBuilder builder) {
+        if (builder == this) {
+            flushTail();
+
+            if (root != null) {
+                appendNode(root);
+            }
+
+            return this;
+        }
+
+        builder.flushTail();
+
+        if (builder.root != null) {
+            flushTail();
+            appendNode(builder.root);
+        }
+
+        return this;
+    }
+
+    /**
+     * Rebuilds the tree of pieces as a perfectly balanced tree.
+     * This is done automatically whenever the tree grows too deep,
+     * so calling this is only needed to speed up random access
+     * after appending a lot of other builders.
+     */
+    public void balance() {
+        if (root == null || root.depth == 0) {
+            return;
+        }
+
+        final Leaf[] leaves = new Leaf[root.leafCount];
+        final ArrayDeque<Node> stack = new ArrayDeque<>();
+        int index = 0;
+        stack.push(root);
+
+        while (!stack.isEmpty()) {
+            final Node node = stack.pop();
+
+            if (node instanceof Concat) {
+                stack.push(((Concat) node).right);
+                stack.push(((Concat) node).left);
+                continue;
+            }
+
+            leaves[index++] = (Leaf) node;
+        }
+
+        root = build(leaves, 0, leaves.length);
+        cachedLeaf = null;
+    }
+
+    /**
+     * Removes all characters from this builder.
+     */
+    public void clear() {
+        root = null;
+        tail = null;
+        tailSize = 0;
+        cachedLeaf = null;
+        invalidate();
+    }
+
+    @Override
+    public void reset() {
+        clear();
+    }
+
+    /**
+     * Invokes the given callback for every piece of this builder, in order,
+     * without flattening it. This allows writing the content to a sink
+     * without ever assembling it in memory.
+     *
+     * @param callback The callback to invoke for every piece.
+     */
+    public void forEachPiece(final @NotNull Consumer<? super CharSequence> callback) {
+        if (root != null) {
+            final ArrayDeque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+
+            while (!stack.isEmpty()) {
+                final Node node = stack.pop();
+
+                if (node instanceof Concat) {
+                    stack.push(((Concat) node).right);
+                    stack.push(((Concat) node).left);
+                    continue;
+                }
+
+                callback.accept(((Leaf) node).seq);
+            }
+        }
+
+        if (tailSize > 0) {
+            callback.accept(CharSlice.of(tail, 0, tailSize));
+        }
+    }
+
+    /**
+     * Appends the content of this builder to the given {@link Appendable},
+     * piece by piece, without flattening it.
+     *
+     * @param appendable The appendable to write the content of this builder to.
+     * @throws IOException if the given appendable fails to append a piece.
+     */
+    public void appendTo(final @NotNull Appendable appendable) throws IOException {
+        if (root != null) {
+            final ArrayDeque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+
+            while (!stack.isEmpty()) {
+                final Node node = stack.pop();
+
+                if (node instanceof Concat) {
+                    stack.push(((Concat) node).right);
+                    stack.push(((Concat) node).left);
+                    continue;
+                }
+
+                appendable.append(((Leaf) node).seq);
+            }
+        }
+
+        if (tailSize > 0) {
+            appendable.append(CharSlice.of(tail, 0, tailSize));
+        }
+    }
+
+    /**
+     * Creates a new iterator over the characters of this builder,
+     * which walks the pieces directly without flattening them.
+     * The iterator must not be used after modifying this builder.
+     *
+     * @return A new iterator over the characters of this builder.
+     */
+    public @NotNull CharIterator charIterator() {
+        return new RopeCharIterator();
+    }
+
+    /**
+     * Copies the given range of characters into the given array.
+     *
+     * @param start      The index of the first character to copy.
+     * @param end        The index after the last character to copy.
+     * @param dest       The array to copy the characters into.
+     * @param destOffset The index in the given array at which to start writing.
+     */
+    public void getChars(final int start, final int end, final char[] dest, final int destOffset) {
+        if (start < 0 || start > end || end > length()) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+        else if (destOffset < 0 || destOffset > dest.length - (end - start)) {
+            throw new ArrayIndexOutOfBoundsException("Invalid destination range");
+        }
+
+        final int rootLength = root == null ? 0 : root.length;
+        final int rootEnd = Math.min(end, rootLength);
+
+        if (start < rootEnd) {
+            copy(root, start, rootEnd, dest, destOffset);
+        }
+
+        if (end > rootLength) {
+            final int tailStart = Math.max(start, rootLength);
+            System.arraycopy(tail, tailStart - rootLength, dest, destOffset + (tailStart - start), end - tailStart);
+        }
+    }
+
+    /**
+     * Flattens the content of this builder into a new {@code char} array.
+     *
+     * @return A new array containing all characters of this builder.
+     */
+    public char[] toCharArray() {
+        return flatten().clone();
+    }
+
+    /**
+     * Flattens the content of this builder into a char slice.
+     * The returned slice is not affected by subsequent appends.
+     *
+     * @return A char slice containing all characters of this builder.
+     */
+    public @NotNull CharSlice toCharSlice() {
+        final char[] result = flatten();
+        return CharSlice.of(result, 0, result.length);
+    }
+
+    private char[] flatten() {
+        if (flattened != null) {
+            return flattened;
+        }
+
+        final int length = length();
+        final char[] result = new char[length];
+        getChars(0, length, result, 0);
+
+        // Replace the tree by the flattened result, so it is only walked once
+        root = length == 0 ? null : new Leaf(new ArrayCharSlice(result, 0, length));
+        tail = null;
+        tailSize = 0;
+        cachedLeaf = null;
+        return flattened = result;
+    }
+
+    private void appendToTail(final @NotNull CharSequence seq, final int start, final int length) {
+        ensureTail(length);
+
+        if (seq instanceof String) {
+            ((String) seq).getChars(start, start + length, tail, tailSize);
+        }
+        else {
+            for (int i = 0; i < length; i++) {
+                tail[tailSize + i] = seq.charAt(start + i);
+            }
+        }
+
+        tailSize += length;
+        invalidate();
+    }
+
+    private void ensureTail(final int length) {
+        if (tail == null) {
+            tail = new char[TAIL_CAPACITY];
+        }
+        else if (tailSize > TAIL_CAPACITY - length) {
+            flushTail();
+            tail = new char[TAIL_CAPACITY];
+        }
+    }
+
+    private void flushTail() {
+        if (tailSize == 0) {
+            return;
+        }
+
+        // The tail buffer is handed over to the leaf, a new one is allocated on demand
+        final char[] chars = tail;
+        final int size = tailSize;
+        tail = null;
+        tailSize = 0;
+        appendNode(new Leaf(new ArrayCharSlice(chars, 0, size)));
+    }
+
+    private void appendNode(final @NotNull Node node) {
+        if (root == null) {
+            root = node;
+        }
+        else {
+            if ((long) root.length + node.length > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Builder length exceeds the maximum array size");
+            }
+
+            root = concat(root, node);
+
+            // A balanced tree has a depth of about log2(leafCount)
+            if (root.depth > MIN_REBALANCE_DEPTH && root.depth > 2 * (32 - Integer.numberOfLeadingZeros(root.leafCount))) {
+                balance();
+            }
+        }
+
+        invalidate();
+    }
+
+    private void invalidate() {
+        flattened = null;
+        string = null;
+    }
+
+    private static @NotNull Node concat(final @NotNull Node left, final @NotNull Node right) {
+        if (left instanceof Concat) {
+            final Concat concat = (Concat) left;
+
+            // Descend along the right spine until we find a complete subtree, like incrementing a binary counter
+            if (concat.left.depth > Math.max(concat.right.depth, right.depth)) {
+                return new Concat(concat.left, concat(concat.right, right));
+            }
+        }
+
+        return new Concat(left, right);
+    }
+
+    private static @NotNull Node build(final @NotNull Leaf[] leaves, final int from, final int to) {
+        final int count = to - from;
+
+        if (count == 1) {
+            return leaves[from];
+        }
+
+        final int middle = from + (count >>> 1);
+        return new Concat(build(leaves, from, middle), build(leaves, middle, to));
+    }
+
+    private static void copy(final @NotNull Node node, final int start, final int end, final char[] dest,
+                             final int destOffset) {
+        Node current = node;
+        int currentStart = start;
+        int currentEnd = end;
+        int currentDestOffset = destOffset;
+
+        while (current instanceof Concat) {
+            final Concat concat = (Concat) current;
+            final int leftLength = concat.left.length;
+
+            if (currentEnd <= leftLength) {
+                current = concat.left;
+            }
+            else if (currentStart >= leftLength) {
+                current = concat.right;
+                currentStart -= leftLength;
+                currentEnd -= leftLength;
+            }
+            else {
+                copy(concat.left, currentStart, leftLength, dest, currentDestOffset);
+                currentDestOffset += leftLength - currentStart;
+                current = concat.right;
+                currentStart = 0;
+                currentEnd -= leftLength;
+            }
+        }
+
+        copy(((Leaf) current).seq, currentStart, currentEnd, dest, currentDestOffset);
+    }
+
+    private static void copy(final @NotNull CharSequence seq, final int start, final int end, final char[] dest,
+                             final int destOffset) {
+        if (seq instanceof String) {
+            ((String) seq).getChars(start, end, dest, destOffset);
+        }
+        else if (seq instanceof ArrayBacked && ((ArrayBacked<?>) seq).array() instanceof char[]) {
+            final char[] array = (char[]) ((ArrayBacked<?>) seq).array();
+            System.arraycopy(array, ((CharSlice) seq).offset() + start, dest, destOffset, end - start);
+        }
+        else if (seq instanceof StringBuilder) {
+            ((StringBuilder) seq).getChars(start, end, dest, destOffset);
+        }
+        else {
+            for (int i = start; i < end; i++) {
+                dest[destOffset + i - start] = seq.charAt(i);
+            }
+        }
+    }
+
+    // CharSequence functions
+
+    @Override
+    public int length() {
+        return (root == null ? 0 : root.length) + tailSize;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        final int rootLength = root == null ? 0 : root.length;
+
+        if (index < 0 || index >= rootLength + tailSize) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        else if (index >= rootLength) {
+            return tail[index - rootLength];
+        }
+
+        // Sequential access mostly hits the same leaf again
+        final Leaf leaf = cachedLeaf;
+
+        if (leaf != null && index >= cachedLeafStart && index < cachedLeafStart + leaf.length) {
+            return leaf.seq.charAt(index - cachedLeafStart);
+        }
+
+        Node current = root;
+        int start = 0;
+
+        while (current instanceof Concat) {
+            final Concat concat = (Concat) current;
+            final int leftLength = concat.left.length;
+
+            if (index - start < leftLength) {
+                current = concat.left;
+            }
+            else {
+                start += leftLength;
+                current = concat.right;
+            }
+        }
+
+        cachedLeaf = (Leaf) current;
+        cachedLeafStart = start;
+        return cachedLeaf.seq.charAt(index - start);
+    }
+
+    @Override
+    public @NotNull CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || start > end || end > length()) {
+            throw new IndexOutOfBoundsException("Invalid index range");
+        }
+
+        final char[] result = new char[end - start];
+        getChars(start, end, result, 0);
+        return CharSlice.of(result);
+    }
+
+    // Object functions
+
+    @Override
+    public @NotNull String toString() {
+        if (string == null) {
+            string = new String(flatten());
+        }
+
+        return string;
+    }
+
+    private static abstract class Node {
+        final int length;
+        final int depth;
+        final int leafCount;
+
+        Node(final int length, final int depth, final int leafCount) {
+            this.length = length;
+            this.depth = depth;
+            this.leafCount = leafCount;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final CharSequence seq;
+
+        Leaf(final @NotNull CharSequence seq) {
+            super(seq.length(), 0, 1);
+            this.seq = seq;
+        }
+    }
+
+    private static final class Concat extends Node {
+        final Node left;
+        final Node right;
+
+        Concat(final @NotNull Node left, final @NotNull Node right) {
+            super(left.length + right.length, Math.max(left.depth, right.depth) + 1, left.leafCount + right.leafCount);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private final class RopeCharIterator implements CharIterator {
+        private final ArrayDeque<Node> stack = new ArrayDeque<>();
+        private final int tailSize = CharSliceBuilder.this.tailSize;
+        private CharSequence current;
+        private int currentSize;
+        private int index;
+        private boolean isInTail;
+
+        RopeCharIterator() {
+            if (root != null) {
+                stack.push(root);
+            }
+
+            advance();
+        }
+
+        private void advance() {
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+
+                while (node instanceof Concat) {
+                    stack.push(((Concat) node).right);
+                    node = ((Concat) node).left;
+                }
+
+                current = ((Leaf) node).seq;
+                currentSize = node.length;
+                index = 0;
+
+                if (currentSize > 0) {
+                    return;
+                }
+            }
+
+            if (!isInTail && tailSize > 0) {
+                current = CharSlice.of(tail, 0, tailSize);
+                currentSize = tailSize;
+                index = 0;
+                isInTail = true;
+                return;
+            }
+
+            current = null;
+        }
+
+        @Override
+        public char nextChar() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+
+            final char result = current.charAt(index++);
+
+            if (index == currentSize) {
+                advance();
+            }
+
+            return result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ListSlice;
+import io.karma.sliced.view.MapView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An immutable map keyed by character sequences, built once from a fixed set of keys,
+ * which can be queried with any {@link CharSequence} (most notably a {@link CharSlice})
+ * without hashing allocations or converting it to a {@link String}.
+ * This makes it suitable for looking up parsed tokens in a fixed vocabulary,
+ * like field names or enum constants.
+ * <p>
+ * The keys are indexed by a minimal perfect hash, see {@link CharSliceSet}.
+ * Optionally, keys may be matched ignoring case as defined by {@link CaseFolding}.
+ *
+ * @param <V> The value type of this map.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class CharSliceMap<V> implements MapView<CharSequence, V> {
+    private final CharSliceSet keys;
+    private final Object[] values;
+
+    private CharSliceMap(final @NotNull Map<? extends CharSequence, ? extends V> map, final boolean ignoreCase) {
+        final int size = map.size();
+        final CharSequence[] keyArray = new CharSequence[size];
+        final Object[] valueArray = new Object[size];
+        int index = 0;
+
+        for (final Entry<? extends CharSequence, ? extends V> entry : map.entrySet()) {
+            keyArray[index] = entry.getKey();
+            valueArray[index++] = entry.getValue();
+        }
+
+        final PerfectHash hash = new PerfectHash(keyArray, ignoreCase);
+        keys = new CharSliceSet(hash);
+        values = new Object[size];
+
+        for (int slot = 0; slot < size; slot++) {
+            values[slot] = valueArray[hash.order[slot]];
+        }
+    }
+
+    /**
+     * Creates a new map containing the entries of the given map.
+     *
+     * @param <V>        The value type of the map to create.
+     * @param map        The map whose entries to copy.
+     * @param ignoreCase True if keys should be matched ignoring case.
+     * @return A new map containing the entries of the given map.
+     * @throws IllegalArgumentException if {@code ignoreCase} is true and
+     *                                  the given map contains keys which only differ in case.
+     */
+    public static <V> @NotNull CharSliceMap<V> of(final @NotNull Map<? extends CharSequence, ? extends V> map,
+                                                  final boolean ignoreCase) {
+        return new CharSliceMap<>(map, ignoreCase);
+    }
+
+    /**
+     * Creates a new map containing the entries of the given map,
+     * whose keys are matched case-sensitively.
+     *
+     * @param <V> The value type of the map to create.
+     * @param map The map whose entries to copy.
+     * @return A new map containing the entries of the given map.
+     */
+    public static <V> @NotNull CharSliceMap<V> of(final @NotNull Map<? extends CharSequence, ? extends V> map) {
+        return new CharSliceMap<>(map, false);
+    }
+
+    /**
+     * Creates a new map from the names of all constants of the given enum type to the constants.
+     *
+     * @param <E>        The enum type.
+     * @param type       The class of the enum type.
+     * @param ignoreCase True if names should be matched ignoring case.
+     * @return A new map from constant names to constants.
+     * @throws IllegalArgumentException if {@code ignoreCase} is true and
+     *                                  two constants only differ in the case of their name.
+     */
+    public static <E extends Enum<E>> @NotNull CharSliceMap<E> ofEnum(final @NotNull Class<E> type,
+                                                                      final boolean ignoreCase) {
+        final E[] constants = type.getEnumConstants();
+        final Map<String, E> map = new LinkedHashMap<>();
+
+        for (final E constant : constants) {
+            map.put(constant.name(), constant);
+        }
+
+        return new CharSliceMap<>(map, ignoreCase);
+    }
+
+    /**
+     * Creates a new map from the names of all constants of the given enum type to the constants,
+     * whose names are matched case-sensitively.
+     *
+     * @param <E>  The enum type.
+     * @param type The class of the enum type.
+     * @return A new map from constant names to constants.
+     */
+    public static <E extends Enum<E>> @NotNull CharSliceMap<E> ofEnum(final @NotNull Class<E> type) {
+        return ofEnum(type, false);
+    }
+
+    /**
+     * Finds the index of the given key, which is also the index of its value.
+     *
+     * @param key The key to look up.
+     * @return The index of the given key in {@code [0, size())}, or -1 if it is not contained in this map.
+     */
+    public int indexOf(final @NotNull CharSequence key) {
+        return keys.indexOf(key);
+    }
+
+    /**
+     * Retrieves the value with the given index.
+     *
+     * @param index The index of the value to retrieve.
+     * @return The value with the given index.
+     * @see #indexOf(CharSequence)
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(final int index) {
+        return (V) values[index];
+    }
+
+    /**
+     * Retrieves the value associated with the given key,
+     * or the given default value if the key is not contained in this map.
+     *
+     * @param key          The key for which to retrieve the value.
+     * @param defaultValue The value to return if the key is not contained in this map.
+     * @return The value associated with the given key, or the given default value.
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(final @NotNull CharSequence key, final V defaultValue) {
+        final int index = keys.indexOf(key);
+        return index < 0 ? defaultValue : (V) values[index];
+    }
+
+    /**
+     * Determines whether keys of this map are matched ignoring case.
+     *
+     * @return True if keys of this map are matched ignoring case.
+     */
+    public boolean isIgnoreCase() {
+        return keys.isIgnoreCase();
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable CharSequence key) {
+        return key != null && keys.indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final @Nullable V value) {
+        for (final Object element : values) {
+            if (Objects.equals(element, value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(final @Nullable CharSequence key) {
+        if (key == null) {
+            return null;
+        }
+
+        final int index = keys.indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    public @NotNull CharSliceSet keys() {
+        return keys;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull Collection<V> values() {
+        return Collections.unmodifiableList(Arrays.asList((V[]) values));
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public @NotNull Slice<Entry<CharSequence, V>> asSlice() {
+        final ArrayList<Entry<CharSequence, V>> list = new ArrayList<>(values.length);
+
+        for (final Entry<CharSequence, V> entry : this) {
+            list.add(entry);
+        }
+
+        return new ListSlice<>(list, 0, list.size());
+    }
+
+    @Override
+    public @NotNull Iterator<Entry<CharSequence, V>> iterator() {
+        return new Iterator<Entry<CharSequence, V>>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < values.length;
+            }
+
+            @Override
+            public @NotNull Entry<CharSequence, V> next() {
+                if (index >= values.length) {
+                    throw new NoSuchElementException();
+                }
+
+                final int current = index++;
+                return new SimpleImmutableEntry<>(keys.keyAt(current), valueAt(current));
+            }
+        };
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        final boolean ignoreCase = isIgnoreCase();
+        int result = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            final CharSlice key = keys.keyAt(i);
+            final int keyHash = ignoreCase ? key.hashCodeIgnoreCase() : key.hashCode();
+            result += keyHash ^ Objects.hashCode(values[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        else if (!(obj instanceof CharSliceMap)) {
+            return false;
+        }
+
+        final CharSliceMap<?> other = (CharSliceMap<?>) obj;
+
+        if (other.values.length != values.length || other.isIgnoreCase() != isIgnoreCase()) {
+            return false;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            final int index = other.indexOf(keys.keyAt(i));
+
+            if (index < 0 || !Objects.equals(values[i], other.values[index])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(keys.keyAt(i)).append('=').append(values[i]);
+        }
+
+        return builder.append('}').toString();
+    }
+}
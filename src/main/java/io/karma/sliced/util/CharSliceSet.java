@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.CharSlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of character sequences, built once from a fixed set of keys,
+ * which can be queried with any {@link CharSequence} (most notably a {@link CharSlice})
+ * without hashing allocations or converting it to a {@link String}.
+ * <p>
+ * The keys are indexed by a minimal perfect hash, so every key maps to a distinct
+ * index in {@code [0, size())}, see {@link #indexOf(CharSequence)}. A lookup hashes the
+ * query once and compares it with a single candidate. Optionally, keys may be matched
+ * ignoring case as defined by {@link CaseFolding}.
+ * <p>
+ * Iterating over the set yields the keys as char slices, ordered by their index.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class CharSliceSet extends AbstractSet<CharSequence> {
+    private final PerfectHash hash;
+
+    CharSliceSet(final @NotNull PerfectHash hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * Creates a new set containing the given keys.
+     *
+     * @param keys       The keys of the set to create.
+     * @param ignoreCase True if keys should be matched ignoring case.
+     * @return A new set containing the given keys.
+     * @throws IllegalArgumentException if the given keys contain duplicates.
+     */
+    public static @NotNull CharSliceSet of(final @NotNull Collection<? extends CharSequence> keys,
+                                           final boolean ignoreCase) {
+        return new CharSliceSet(new PerfectHash(keys.toArray(new CharSequence[0]), ignoreCase));
+    }
+
+    /**
+     * Creates a new set containing the given keys, which are matched case-sensitively.
+     *
+     * @param keys The keys of the set to create.
+     * @return A new set containing the given keys.
+     * @throws IllegalArgumentException if the given keys contain duplicates.
+     */
+    public static @NotNull CharSliceSet of(final @NotNull Collection<? extends CharSequence> keys) {
+        return of(keys, false);
+    }
+
+    /**
+     * Creates a new set containing the given keys, which are matched case-sensitively.
+     *
+     * @param keys The keys of the set to create.
+     * @return A new set containing the given keys.
+     * @throws IllegalArgumentException if the given keys contain duplicates.
+     */
+    public static @NotNull CharSliceSet of(final @NotNull CharSequence... keys) {
+        return new CharSliceSet(new PerfectHash(keys.clone(), false));
+    }
+
+    /**
+     * Finds the index of the given key.
+     *
+     * @param key The key to look up.
+     * @return The index of the given key in {@code [0, size())}, or -1 if it is not contained in this set.
+     */
+    public int indexOf(final @NotNull CharSequence key) {
+        return hash.indexOf(key);
+    }
+
+    /**
+     * Retrieves the key stored in this set which matches the given key.
+     * This allows replacing a short-lived slice by a retained, canonical instance.
+     *
+     * @param key The key to look up.
+     * @return The matching key of this set, or null if it is not contained in this set.
+     */
+    public @Nullable CharSlice get(final @NotNull CharSequence key) {
+        final int index = hash.indexOf(key);
+        return index < 0 ? null : hash.key(index);
+    }
+
+    /**
+     * Retrieves the key with the given index.
+     *
+     * @param index The index of the key to retrieve.
+     * @return The key with the given index.
+     */
+    public @NotNull CharSlice keyAt(final int index) {
+        if (index < 0 || index >= hash.size()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return hash.key(index);
+    }
+
+    /**
+     * Determines whether keys of this set are matched ignoring case.
+     *
+     * @return True if keys of this set are matched ignoring case.
+     */
+    public boolean isIgnoreCase() {
+        return hash.ignoreCase;
+    }
+
+    @Override
+    public boolean contains(final @Nullable Object obj) {
+        return obj instanceof CharSequence && hash.indexOf((CharSequence) obj) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return hash.size();
+    }
+
+    @Override
+    public @NotNull Iterator<CharSequence> iterator() {
+        return new Iterator<CharSequence>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < hash.size();
+            }
+
+            @Override
+            public @NotNull CharSequence next() {
+                if (index >= hash.size()) {
+                    throw new NoSuchElementException();
+                }
+
+                return hash.key(index++);
+            }
+        };
+    }
+
+    // Object functions
+
+    /**
+     * Computes the hash code of this set. Unless keys are matched ignoring case,
+     * this is the same as {@link java.util.Set#hashCode()}, otherwise the keys
+     * are hashed ignoring case, so sets which are equal ignoring case hash alike.
+     *
+     * @return The hash code of this set.
+     */
+    @Override
+    public int hashCode() {
+        if (!hash.ignoreCase) {
+            return super.hashCode();
+        }
+
+        int result = 0;
+
+        for (int i = 0; i < hash.size(); i++) {
+            result += hash.key(i).hashCodeIgnoreCase();
+        }
+
+        return result;
+    }
+}
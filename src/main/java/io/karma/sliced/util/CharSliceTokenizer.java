@@ -0,0 +1,232 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.impl.ArrayBacked;
+import io.karma.sliced.slice.mutable.MutableCharSlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily splits a character sequence into tokens, separated by
+ * any of the characters of a {@link CharClass}.
+ * <p>
+ * Tokens are handed out as a single {@link MutableCharSlice} which is
+ * repositioned for every token, so iterating over the tokens of an input
+ * does not allocate. A token is only valid until the next call to {@link #next()};
+ * {@link #hasNext()} only looks ahead and leaves the current token untouched.
+ * Copy it (for example using {@link CharSlice#toString()}) to retain it.
+ * <p>
+ * If a quote character is configured, a token which starts with it extends
+ * up to the matching closing quote, ignoring any delimiters in between.
+ * The quotes themselves are not part of the token, and any characters between
+ * the closing quote and the next delimiter are discarded.
+ * If an escape character is configured, the character following it is never
+ * treated as a delimiter or closing quote. Since tokens reference the input
+ * without copying it, escape characters remain part of the token.
+ * <p>
+ * Instances are not thread-safe, but may be reused for any number
+ * of inputs using {@link #reset(CharSequence)}.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.STABLE)
+public final class CharSliceTokenizer implements Iterator<CharSlice>, Resettable {
+    /**
+     * Disables quoting or escaping when passed as the quote or escape character.
+     */
+    public static final int NONE = -1;
+
+    private final CharClass delimiters;
+    private final boolean skipEmpty;
+    private final int quote;
+    private final int escape;
+    private CharSequence input;
+    private char[] array;
+    private int arrayOffset;
+    private int size;
+    private MutableCharSlice token;
+    private int position;
+    private int tokenStart;
+    private int nextStart;
+    private int nextEnd;
+    private boolean isFinished;
+    private boolean hasToken;
+
+    /**
+     * Creates a new tokenizer which splits at the given delimiters.
+     *
+     * @param delimiters The characters which separate tokens.
+     * @param skipEmpty  True if empty tokens should be skipped, which
+     *                   collapses runs of delimiters into a single one.
+     * @param quote      The character which encloses quoted tokens, or {@link #NONE}.
+     * @param escape     The character which escapes the next character, or {@link #NONE}.
+     */
+    public CharSliceTokenizer(final @NotNull CharClass delimiters, final boolean skipEmpty, final int quote,
+                              final int escape) {
+        this.delimiters = delimiters;
+        this.skipEmpty = skipEmpty;
+        this.quote = quote;
+        this.escape = escape;
+        reset("");
+    }
+
+    /**
+     * Creates a new tokenizer which splits at the given delimiters,
+     * skipping empty tokens and without quoting or escaping.
+     *
+     * @param delimiters The characters which separate tokens.
+     */
+    public CharSliceTokenizer(final @NotNull CharClass delimiters) {
+        this(delimiters, true, NONE, NONE);
+    }
+
+    /**
+     * Creates a new tokenizer which splits the given input at the given delimiters,
+     * skipping empty tokens and without quoting or escaping.
+     *
+     * @param input      The input to split.
+     * @param delimiters The characters which separate tokens.
+     */
+    public CharSliceTokenizer(final @NotNull CharSequence input, final @NotNull CharClass delimiters) {
+        this(delimiters);
+        reset(input);
+    }
+
+    /**
+     * Restarts this tokenizer on the given input.
+     *
+     * @param input The input to split.
+     */
+    public void reset(final @NotNull CharSequence input) {
+        this.input = input;
+        size = input.length();
+
+        if (input instanceof ArrayBacked && ((ArrayBacked<?>) input).array() instanceof char[]) {
+            array = (char[]) ((ArrayBacked<?>) input).array();
+            arrayOffset = ((CharSlice) input).offset();
+            token = MutableCharSlice.of(array, arrayOffset, 0);
+        }
+        else {
+            array = null;
+            arrayOffset = 0;
+            token = MutableCharSlice.of(input, 0, 0);
+        }
+
+        reset();
+    }
+
+    @Override
+    public void reset() {
+        position = 0;
+        tokenStart = 0;
+        nextStart = 0;
+        nextEnd = 0;
+        isFinished = false;
+        hasToken = false;
+    }
+
+    /**
+     * Retrieves the index of the most recently returned token within the input.
+     * Like the token itself, this remains valid until the next call to {@link #next()}.
+     *
+     * @return The index of the most recently returned token within the input.
+     */
+    public int tokenStart() {
+        return tokenStart;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasToken || (hasToken = advance());
+    }
+
+    @Override
+    public @NotNull CharSlice next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        hasToken = false;
+        tokenStart = nextStart;
+        token.setOffset(arrayOffset + nextStart);
+        token.setSize(nextEnd - nextStart);
+        return token;
+    }
+
+    private char charAt(final int index) {
+        return array != null ? array[arrayOffset + index] : input.charAt(index);
+    }
+
+    private boolean advance() {
+        while (!isFinished) {
+            final int start = position;
+            final boolean isQuoted = quote != NONE && start < size && charAt(start) == quote;
+            int index = isQuoted ? start + 1 : start;
+
+            while (index < size) {
+                final char value = charAt(index);
+
+                if (value == escape && index + 1 < size) {
+                    index += 2;
+                    continue;
+                }
+
+                if (isQuoted ? value == quote : delimiters.contains(value)) {
+                    break;
+                }
+
+                index++;
+            }
+
+            final int end = index;
+            final int from = isQuoted ? start + 1 : start;
+
+            if (isQuoted) {
+                if (index < size) {
+                    index++; // Skip the closing quote
+                }
+
+                while (index < size && !delimiters.contains(charAt(index))) {
+                    index++;
+                }
+            }
+
+            if (index < size) {
+                position = index + 1;
+            }
+            else {
+                isFinished = true;
+            }
+
+            if (skipEmpty && !isQuoted && end == from) {
+                continue;
+            }
+
+            nextStart = from;
+            nextEnd = end;
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fast, non-cryptographic content hashes over primitive array ranges.
+ * <p>
+ * All functions hash the little-endian byte representation of the given
+ * elements and consume 8 bytes at a time, so a {@code char}, {@code int}
+ * or {@code long} range hashes to the same value as the equivalent
+ * little-endian {@code byte} range.
+ * {@code xxHash64} follows the reference XXH64 specification, and {@code murmur3x128}
+ * follows the reference MurmurHash3_x64_128 for seeds which fit into 32 bits.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.STABLE)
+public final class Hashes {
+    private static final long XX_PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long XX_PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long XX_PRIME_3 = 0x165667B19E3779F9L;
+    private static final long XX_PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long XX_PRIME_5 = 0x27D4EB2F165667C5L;
+    private static final long MURMUR_C1 = 0x87C37B91114253D5L;
+    private static final long MURMUR_C2 = 0x4CF5AD432745937FL;
+
+    // @formatter:off
+    private Hashes() {}
+    // @formatter:on
+
+    /**
+     * Computes the 64-bit xxHash of the given range of a {@code byte} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return The 64-bit hash of the given range.
+     */
+    public static long xxHash64(final byte[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int end = offset + size;
+        int index = offset;
+        long hash;
+
+        if (size >= 32) {
+            long v1 = seed + XX_PRIME_1 + XX_PRIME_2;
+            long v2 = seed + XX_PRIME_2;
+            long v3 = seed;
+            long v4 = seed - XX_PRIME_1;
+
+            for (; index <= end - 32; index += 32) {
+                v1 = xxRound(v1, getLong(ref, index));
+                v2 = xxRound(v2, getLong(ref, index + 8));
+                v3 = xxRound(v3, getLong(ref, index + 16));
+                v4 = xxRound(v4, getLong(ref, index + 24));
+            }
+
+            hash = xxConverge(v1, v2, v3, v4);
+        }
+        else {
+            hash = seed + XX_PRIME_5;
+        }
+
+        hash += size;
+
+        for (; index <= end - 8; index += 8) {
+            hash = xxMixLong(hash, getLong(ref, index));
+        }
+
+        if (index <= end - 4) {
+            hash = xxMixInt(hash, getInt(ref, index));
+            index += 4;
+        }
+
+        for (; index < end; index++) {
+            hash = xxMixByte(hash, ref[index]);
+        }
+
+        return xxAvalanche(hash);
+    }
+
+    /**
+     * Computes the 64-bit xxHash of the given range of a {@code char} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return The 64-bit hash of the given range.
+     */
+    public static long xxHash64(final char[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int end = offset + size;
+        int index = offset;
+        long hash;
+
+        if (size >= 16) {
+            long v1 = seed + XX_PRIME_1 + XX_PRIME_2;
+            long v2 = seed + XX_PRIME_2;
+            long v3 = seed;
+            long v4 = seed - XX_PRIME_1;
+
+            for (; index <= end - 16; index += 16) {
+                v1 = xxRound(v1, getLong(ref, index));
+                v2 = xxRound(v2, getLong(ref, index + 4));
+                v3 = xxRound(v3, getLong(ref, index + 8));
+                v4 = xxRound(v4, getLong(ref, index + 12));
+            }
+
+            hash = xxConverge(v1, v2, v3, v4);
+        }
+        else {
+            hash = seed + XX_PRIME_5;
+        }
+
+        hash += (long) size << 1;
+
+        for (; index <= end - 4; index += 4) {
+            hash = xxMixLong(hash, getLong(ref, index));
+        }
+
+        if (index <= end - 2) {
+            hash = xxMixInt(hash, getInt(ref, index));
+            index += 2;
+        }
+
+        if (index < end) {
+            final char value = ref[index];
+            hash = xxMixByte(xxMixByte(hash, (byte) value), (byte) (value >>> 8));
+        }
+
+        return xxAvalanche(hash);
+    }
+
+    /**
+     * Computes the 64-bit xxHash of the given range of a {@link CharSequence},
+     * without copying it into an intermediate array first.
+     *
+     * @param seq    The character sequence to hash.
+     * @param offset The offset into the sequence at which to start hashing.
+     * @param size   The number of characters to hash.
+     * @param seed   The seed of the hash.
+     * @return The 64-bit hash of the given range.
+     */
+    public static long xxHash64(final @NotNull CharSequence seq, final int offset, final int size, final long seed) {
+        checkRange(seq.length(), offset, size);
+        final int end = offset + size;
+        int index = offset;
+        long hash;
+
+        if (size >= 16) {
+            long v1 = seed + XX_PRIME_1 + XX_PRIME_2;
+            long v2 = seed + XX_PRIME_2;
+            long v3 = seed;
+            long v4 = seed - XX_PRIME_1;
+
+            for (; index <= end - 16; index += 16) {
+                v1 = xxRound(v1, getLong(seq, index));
+                v2 = xxRound(v2, getLong(seq, index + 4));
+                v3 = xxRound(v3, getLong(seq, index + 8));
+                v4 = xxRound(v4, getLong(seq, index + 12));
+            }
+
+            hash = xxConverge(v1, v2, v3, v4);
+        }
+        else {
+            hash = seed + XX_PRIME_5;
+        }
+
+        hash += (long) size << 1;
+
+        for (; index <= end - 4; index += 4) {
+            hash = xxMixLong(hash, getLong(seq, index));
+        }
+
+        if (index <= end - 2) {
+            hash = xxMixInt(hash, seq.charAt(index) | seq.charAt(index + 1) << 16);
+            index += 2;
+        }
+
+        if (index < end) {
+            final char value = seq.charAt(index);
+            hash = xxMixByte(xxMixByte(hash, (byte) value), (byte) (value >>> 8));
+        }
+
+        return xxAvalanche(hash);
+    }
+
+    /**
+     * Computes the 64-bit xxHash of the given range of an {@code int} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return The 64-bit hash of the given range.
+     */
+    public static long xxHash64(final int[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int end = offset + size;
+        int index = offset;
+        long hash;
+
+        if (size >= 8) {
+            long v1 = seed + XX_PRIME_1 + XX_PRIME_2;
+            long v2 = seed + XX_PRIME_2;
+            long v3 = seed;
+            long v4 = seed - XX_PRIME_1;
+
+            for (; index <= end - 8; index += 8) {
+                v1 = xxRound(v1, getLong(ref, index));
+                v2 = xxRound(v2, getLong(ref, index + 2));
+                v3 = xxRound(v3, getLong(ref, index + 4));
+                v4 = xxRound(v4, getLong(ref, index + 6));
+            }
+
+            hash = xxConverge(v1, v2, v3, v4);
+        }
+        else {
+            hash = seed + XX_PRIME_5;
+        }
+
+        hash += (long) size << 2;
+
+        for (; index <= end - 2; index += 2) {
+            hash = xxMixLong(hash, getLong(ref, index));
+        }
+
+        if (index < end) {
+            hash = xxMixInt(hash, ref[index]);
+        }
+
+        return xxAvalanche(hash);
+    }
+
+    /**
+     * Computes the 64-bit xxHash of the given range of a {@code long} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return The 64-bit hash of the given range.
+     */
+    public static long xxHash64(final long[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int end = offset + size;
+        int index = offset;
+        long hash;
+
+        if (size >= 4) {
+            long v1 = seed + XX_PRIME_1 + XX_PRIME_2;
+            long v2 = seed + XX_PRIME_2;
+            long v3 = seed;
+            long v4 = seed - XX_PRIME_1;
+
+            for (; index <= end - 4; index += 4) {
+                v1 = xxRound(v1, ref[index]);
+                v2 = xxRound(v2, ref[index + 1]);
+                v3 = xxRound(v3, ref[index + 2]);
+                v4 = xxRound(v4, ref[index + 3]);
+            }
+
+            hash = xxConverge(v1, v2, v3, v4);
+        }
+        else {
+            hash = seed + XX_PRIME_5;
+        }
+
+        hash += (long) size << 3;
+
+        for (; index < end; index++) {
+            hash = xxMixLong(hash, ref[index]);
+        }
+
+        return xxAvalanche(hash);
+    }
+
+    /**
+     * Computes the 128-bit MurmurHash3 of the given range of a {@code byte} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return A new array containing the lower and upper 64 bits of the hash, in that order.
+     */
+    public static long[] murmur3x128(final byte[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int blockEnd = offset + (size & ~15);
+        long h1 = seed;
+        long h2 = seed;
+
+        for (int i = offset; i < blockEnd; i += 16) {
+            h1 = murmurMix1(h1, h2, getLong(ref, i));
+            h2 = murmurMix2(h2, h1, getLong(ref, i + 8));
+        }
+
+        long k1 = 0L;
+        long k2 = 0L;
+
+        for (int i = size & 15; i > 0; i--) {
+            final long value = ref[blockEnd + i - 1] & 0xFFL;
+
+            if (i > 8) {
+                k2 |= value << ((i - 9) << 3);
+            }
+            else {
+                k1 |= value << ((i - 1) << 3);
+            }
+        }
+
+        return murmurFinish(h1, h2, k1, k2, size);
+    }
+
+    /**
+     * Computes the 128-bit MurmurHash3 of the given range of a {@code char} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return A new array containing the lower and upper 64 bits of the hash, in that order.
+     */
+    public static long[] murmur3x128(final char[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int blockEnd = offset + (size & ~7);
+        long h1 = seed;
+        long h2 = seed;
+
+        for (int i = offset; i < blockEnd; i += 8) {
+            h1 = murmurMix1(h1, h2, getLong(ref, i));
+            h2 = murmurMix2(h2, h1, getLong(ref, i + 4));
+        }
+
+        long k1 = 0L;
+        long k2 = 0L;
+
+        for (int i = size & 7; i > 0; i--) {
+            final long value = ref[blockEnd + i - 1];
+
+            if (i > 4) {
+                k2 |= value << ((i - 5) << 4);
+            }
+            else {
+                k1 |= value << ((i - 1) << 4);
+            }
+        }
+
+        return murmurFinish(h1, h2, k1, k2, (long) size << 1);
+    }
+
+    /**
+     * Computes the 128-bit MurmurHash3 of the given range of an {@code int} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return A new array containing the lower and upper 64 bits of the hash, in that order.
+     */
+    public static long[] murmur3x128(final int[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int blockEnd = offset + (size & ~3);
+        long h1 = seed;
+        long h2 = seed;
+
+        for (int i = offset; i < blockEnd; i += 4) {
+            h1 = murmurMix1(h1, h2, getLong(ref, i));
+            h2 = murmurMix2(h2, h1, getLong(ref, i + 2));
+        }
+
+        long k1 = 0L;
+        long k2 = 0L;
+
+        for (int i = size & 3; i > 0; i--) {
+            final long value = ref[blockEnd + i - 1] & 0xFFFFFFFFL;
+
+            if (i > 2) {
+                k2 |= value << ((i - 3) << 5);
+            }
+            else {
+                k1 |= value << ((i - 1) << 5);
+            }
+        }
+
+        return murmurFinish(h1, h2, k1, k2, (long) size << 2);
+    }
+
+    /**
+     * Computes the 128-bit MurmurHash3 of the given range of a {@code long} array.
+     *
+     * @param ref    The array to hash.
+     * @param offset The offset into the array at which to start hashing.
+     * @param size   The number of elements to hash.
+     * @param seed   The seed of the hash.
+     * @return A new array containing the lower and upper 64 bits of the hash, in that order.
+     */
+    public static long[] murmur3x128(final long[] ref, final int offset, final int size, final long seed) {
+        checkRange(ref.length, offset, size);
+        final int blockEnd = offset + (size & ~1);
+        long h1 = seed;
+        long h2 = seed;
+
+        for (int i = offset; i < blockEnd; i += 2) {
+            h1 = murmurMix1(h1, h2, ref[i]);
+            h2 = murmurMix2(h2, h1, ref[i + 1]);
+        }
+
+        final long k1 = (size & 1) != 0 ? ref[blockEnd] : 0L;
+        return murmurFinish(h1, h2, k1, 0L, (long) size << 3);
+    }
+
+    private static void checkRange(final int length, final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > length - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    private static long getLong(final byte[] ref, final int index) {
+        return (ref[index] & 0xFFL)
+            | (ref[index + 1] & 0xFFL) << 8
+            | (ref[index + 2] & 0xFFL) << 16
+            | (ref[index + 3] & 0xFFL) << 24
+            | (ref[index + 4] & 0xFFL) << 32
+            | (ref[index + 5] & 0xFFL) << 40
+            | (ref[index + 6] & 0xFFL) << 48
+            | (ref[index + 7] & 0xFFL) << 56;
+    }
+
+    private static int getInt(final byte[] ref, final int index) {
+        return (ref[index] & 0xFF)
+            | (ref[index + 1] & 0xFF) << 8
+            | (ref[index + 2] & 0xFF) << 16
+            | (ref[index + 3] & 0xFF) << 24;
+    }
+
+    private static long getLong(final char[] ref, final int index) {
+        return (long) ref[index]
+            | (long) ref[index + 1] << 16
+            | (long) ref[index + 2] << 32
+            | (long) ref[index + 3] << 48;
+    }
+
+    private static int getInt(final char[] ref, final int index) {
+        return ref[index] | ref[index + 1] << 16;
+    }
+
+    private static long getLong(final @NotNull CharSequence seq, final int index) {
+        return (long) seq.charAt(index)
+            | (long) seq.charAt(index + 1) << 16
+            | (long) seq.charAt(index + 2) << 32
+            | (long) seq.charAt(index + 3) << 48;
+    }
+
+    private static long getLong(final int[] ref, final int index) {
+        return (ref[index] & 0xFFFFFFFFL) | (long) ref[index + 1] << 32;
+    }
+
+    private static long xxRound(final long acc, final long input) {
+        return Long.rotateLeft(acc + input * XX_PRIME_2, 31) * XX_PRIME_1;
+    }
+
+    private static long xxMerge(final long hash, final long value) {
+        return (hash ^ xxRound(0L, value)) * XX_PRIME_1 + XX_PRIME_4;
+    }
+
+    private static long xxConverge(final long v1, final long v2, final long v3, final long v4) {
+        long hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+        hash = xxMerge(hash, v1);
+        hash = xxMerge(hash, v2);
+        hash = xxMerge(hash, v3);
+        return xxMerge(hash, v4);
+    }
+
+    private static long xxMixLong(final long hash, final long value) {
+        return Long.rotateLeft(hash ^ xxRound(0L, value), 27) * XX_PRIME_1 + XX_PRIME_4;
+    }
+
+    private static long xxMixInt(final long hash, final int value) {
+        return Long.rotateLeft(hash ^ (value & 0xFFFFFFFFL) * XX_PRIME_1, 23) * XX_PRIME_2 + XX_PRIME_3;
+    }
+
+    private static long xxMixByte(final long hash, final byte value) {
+        return Long.rotateLeft(hash ^ (value & 0xFFL) * XX_PRIME_5, 11) * XX_PRIME_1;
+    }
+
+    private static long xxAvalanche(long hash) {
+        hash ^= hash >>> 33;
+        hash *= XX_PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= XX_PRIME_3;
+        return hash ^ hash >>> 32;
+    }
+
+    private static long murmurMix1(final long h1, final long h2, final long k1) {
+        final long hash = Long.rotateLeft(h1 ^ murmurK1(k1), 27) + h2;
+        return hash * 5 + 0x52DCE729L;
+    }
+
+    private static long murmurMix2(final long h2, final long h1, final long k2) {
+        final long hash = Long.rotateLeft(h2 ^ murmurK2(k2), 31) + h1;
+        return hash * 5 + 0x38495AB5L;
+    }
+
+    private static long murmurK1(final long k1) {
+        return Long.rotateLeft(k1 * MURMUR_C1, 31) * MURMUR_C2;
+    }
+
+    private static long murmurK2(final long k2) {
+        return Long.rotateLeft(k2 * MURMUR_C2, 33) * MURMUR_C1;
+    }
+
+    private static long[] murmurFinish(long h1, long h2, final long k1, final long k2, final long length) {
+        h2 ^= murmurK2(k2);
+        h1 ^= murmurK1(k1);
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = murmurFmix(h1);
+        h2 = murmurFmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[]{h1, h2};
+    }
+
+    private static long murmurFmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        return k ^ k >>> 33;
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.StackSlice;
+import io.karma.sliced.slice.impl.DequeStackSlice;
+import io.karma.sliced.view.DequeView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An unsynchronized, growable deque backed by a circular array,
+ * which supports indexed access in constant time.
+ * <p>
+ * Index 0 always refers to the first element. When used as a stack,
+ * elements are pushed to and popped from the end of the deque, like with
+ * {@link java.util.Stack}, so the top of the stack is the last element.
+ * <p>
+ * The deque is a {@link DequeView} of its elements, and its {@link #asSlice()}
+ * is a {@link StackSlice} which references the deque instead of copying it.
+ * Since the elements may wrap around the end of the backing array, they can
+ * be accessed as at most two zero-copy segments through {@link #firstSegment()}
+ * and {@link #secondSegment()}. Segments and iterators must no longer be used
+ * once the deque was modified.
+ *
+ * @param <T> The element type of this deque.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class IndexedDeque<T> implements DequeView<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int mask;
+    private int head;
+    private int size;
+
+    /**
+     * Creates a new empty deque with the default initial capacity.
+     */
+    public IndexedDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty deque with the given initial capacity.
+     *
+     * @param capacity The minimum number of values the deque can hold before growing, rounded up to the next power of two.
+     * @throws IllegalArgumentException if the given capacity is not between 1 and 2^30.
+     */
+    public IndexedDeque(final int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+
+        elements = new Object[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        mask = elements.length - 1;
+    }
+
+    private void grow() {
+        final int capacity = elements.length;
+
+        if (capacity == MAX_CAPACITY) {
+            throw new IllegalStateException("Deque has reached its maximum capacity");
+        }
+
+        final Object[] result = new Object[capacity << 1];
+        final int first = capacity - head;
+        System.arraycopy(elements, head, result, 0, first);
+        System.arraycopy(elements, 0, result, first, head);
+        elements = result;
+        mask = result.length - 1;
+        head = 0;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for size %d", index, size));
+        }
+    }
+
+    /**
+     * Inserts the given value at the start of this deque.
+     *
+     * @param value The value to insert.
+     * @throws NullPointerException if the given value is null.
+     */
+    public void addFirst(final @NotNull T value) {
+        Objects.requireNonNull(value);
+
+        if (size == elements.length) {
+            grow();
+        }
+
+        head = (head - 1) & mask;
+        elements[head] = value;
+        size++;
+    }
+
+    /**
+     * Appends the given value to the end of this deque.
+     *
+     * @param value The value to append.
+     * @throws NullPointerException if the given value is null.
+     */
+    public void addLast(final @NotNull T value) {
+        Objects.requireNonNull(value);
+
+        if (size == elements.length) {
+            grow();
+        }
+
+        elements[(head + size++) & mask] = value;
+    }
+
+    /**
+     * Pushes the given value onto the top of this deque, which is its end.
+     *
+     * @param value The value to push.
+     * @throws NullPointerException if the given value is null.
+     */
+    public void push(final @NotNull T value) {
+        addLast(value);
+    }
+
+    /**
+     * Removes and returns the value on the top of this deque, which is its last element.
+     *
+     * @return The last element of this deque.
+     * @throws NoSuchElementException if this deque is empty.
+     */
+    public @NotNull T pop() {
+        final T value = pollLast();
+
+        if (value == null) {
+            throw new NoSuchElementException();
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the first element of this deque.
+     *
+     * @return The first element of this deque, or null if it is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+
+        final T value = (T) elements[head];
+        elements[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return value;
+    }
+
+    /**
+     * Removes and returns the last element of this deque.
+     *
+     * @return The last element of this deque, or null if it is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T pollLast() {
+        if (size == 0) {
+            return null;
+        }
+
+        final int slot = (head + --size) & mask;
+        final T value = (T) elements[slot];
+        elements[slot] = null;
+        return value;
+    }
+
+    /**
+     * Retrieves the element at the given index, counted from the start of this deque.
+     *
+     * @param index The index of the element to retrieve.
+     * @return The element at the given index.
+     * @throws IndexOutOfBoundsException if the given index is not within this deque.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull T get(final int index) {
+        checkIndex(index);
+        return (T) elements[(head + index) & mask];
+    }
+
+    /**
+     * Replaces the element at the given index, counted from the start of this deque.
+     *
+     * @param index The index of the element to replace.
+     * @param value The new value of the element.
+     * @return The previous element at the given index.
+     * @throws IndexOutOfBoundsException if the given index is not within this deque.
+     * @throws NullPointerException      if the given value is null.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull T set(final int index, final @NotNull T value) {
+        Objects.requireNonNull(value);
+        checkIndex(index);
+        final int slot = (head + index) & mask;
+        final T previous = (T) elements[slot];
+        elements[slot] = value;
+        return previous;
+    }
+
+    /**
+     * Determines whether this deque has no elements.
+     *
+     * @return True if this deque has no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements from this deque, keeping its capacity.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[(head + i) & mask] = null;
+        }
+
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Creates a segment over the elements at the start of this deque,
+     * up to the end of the backing array.
+     *
+     * @return A slice over the first contiguous run of elements, which may be empty.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Slice<T> firstSegment() {
+        return Slice.of((T[]) elements, head, Math.min(size, elements.length - head));
+    }
+
+    /**
+     * Creates a segment over the elements which wrapped around to the start of the backing array.
+     *
+     * @return A slice over the second contiguous run of elements, which is empty if this deque doesn't wrap.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Slice<T> secondSegment() {
+        return Slice.of((T[]) elements, 0, Math.max(0, size - (elements.length - head)));
+    }
+
+    /**
+     * Copies all elements of this deque into a new array.
+     *
+     * @return A new array containing all elements, first to last.
+     */
+    public @NotNull Object[] toArray() {
+        final Object[] result = new Object[size];
+        final int first = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, result, 0, first);
+        System.arraycopy(elements, 0, result, first, size - first);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @Nullable T peek() {
+        return size == 0 ? null : (T) elements[head];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @Nullable T peekLast() {
+        return size == 0 ? null : (T) elements[(head + size - 1) & mask];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull StackSlice<T> asSlice() {
+        return new DequeStackSlice<>(this, 0, size);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public @NotNull T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(index++);
+            }
+        };
+    }
+
+    // Object functions
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append('[');
+
+        for (int i = 0; i < size; i++) {
+            builder.append(elements[(head + i) & mask]);
+
+            if (i < size - 1) {
+                builder.append(", ");
+            }
+        }
+
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,373 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.impl.ByteBufferCharSlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates the lines of a memory-mapped text file as {@link CharSlice} instances,
+ * without creating a {@link String} per line.
+ * <p>
+ * The file is mapped as a sequence of segments which each end on a line
+ * boundary, so files larger than 2 GiB are supported and every segment
+ * can be processed independently by {@link #lines(boolean) parallel streams}.
+ * Line feeds are located 8 bytes at a time using SWAR (SIMD within a register)
+ * arithmetic on {@code long} words. Lines are terminated by {@code \n} or {@code \r\n},
+ * and never contain their terminator.
+ * <p>
+ * ISO-8859-1 and US-ASCII lines are never decoded, the slices read straight
+ * from the mapped file. UTF-8 lines which only contain ASCII characters are treated
+ * the same way, any other UTF-8 line is decoded into a new array.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class MappedLines implements Iterable<CharSlice> {
+    private static final int MIN_SEGMENT_SIZE = 1 << 20;
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+    private static final long LINE_FEEDS = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private final ByteBuffer[] segments;
+    private final boolean isUtf8;
+
+    private MappedLines(final ByteBuffer[] segments, final boolean isUtf8) {
+        this.segments = segments;
+        this.isUtf8 = isUtf8;
+    }
+
+    /**
+     * Maps the given file, choosing a segment size which allows
+     * for roughly four segments per available processor.
+     *
+     * @param path    The path of the file to map.
+     * @param charset The charset of the file, either ISO-8859-1, US-ASCII or UTF-8.
+     * @return A new line iterable over the given file.
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    public static @NotNull MappedLines open(final @NotNull Path path, final @NotNull Charset charset)
+        throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long targetSize = channel.size() / (Runtime.getRuntime().availableProcessors() << 2);
+            final int segmentSize = (int) Math.max(MIN_SEGMENT_SIZE, Math.min(MAX_SEGMENT_SIZE, targetSize));
+            return map(channel, charset, segmentSize);
+        }
+    }
+
+    /**
+     * Maps the given file using segments of (at most) the given size.
+     * A segment is only ever larger if a single line does not fit into it.
+     *
+     * @param path        The path of the file to map.
+     * @param charset     The charset of the file, either ISO-8859-1, US-ASCII or UTF-8.
+     * @param segmentSize The maximum number of bytes per mapped segment.
+     * @return A new line iterable over the given file.
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    public static @NotNull MappedLines open(final @NotNull Path path, final @NotNull Charset charset,
+                                            final int segmentSize) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be greater than zero");
+        }
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return map(channel, charset, segmentSize);
+        }
+    }
+
+    private static @NotNull MappedLines map(final FileChannel channel, final Charset charset,
+                                            final int segmentSize) throws IOException {
+        final boolean isUtf8;
+
+        if (charset.equals(StandardCharsets.UTF_8)) {
+            isUtf8 = true;
+        }
+        else if (charset.equals(StandardCharsets.ISO_8859_1) || charset.equals(StandardCharsets.US_ASCII)) {
+            isUtf8 = false;
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported charset " + charset.name());
+        }
+
+        final long size = channel.size();
+        final ArrayList<ByteBuffer> segments = new ArrayList<>();
+        long position = 0;
+
+        while (position < size) {
+            final long remaining = size - position;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                Math.min(remaining, segmentSize));
+            int end = buffer.limit();
+
+            if (end < remaining) {
+                end = lastIndexOfLineFeed(buffer, end) + 1;
+
+                if (end == 0) {
+                    // A single line exceeds the segment size, so grow the segment up to its end
+                    buffer = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(remaining, Integer.MAX_VALUE));
+                    end = indexOfLineFeed(buffer, segmentSize, buffer.limit()) + 1;
+
+                    if (end == 0) {
+                        if (buffer.limit() < remaining) {
+                            throw new IOException("Line at offset " + position + " is too long to be mapped");
+                        }
+
+                        end = buffer.limit();
+                    }
+                }
+            }
+
+            buffer.limit(end);
+            segments.add(buffer.slice());
+            position += end;
+        }
+
+        return new MappedLines(segments.toArray(new ByteBuffer[0]), isUtf8);
+    }
+
+    /**
+     * Retrieves the number of segments the file was mapped as,
+     * which bounds the parallelism of {@link #lines(boolean)}.
+     *
+     * @return The number of mapped segments.
+     */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    @Override
+    public @NotNull Iterator<CharSlice> iterator() {
+        return new LineIterator(0, segments.length);
+    }
+
+    @Override
+    public @NotNull Spliterator<CharSlice> spliterator() {
+        return new LineSpliterator(0, segments.length);
+    }
+
+    /**
+     * Creates a new stream of all lines of the file.
+     *
+     * @param parallel True if the stream should process segments in parallel.
+     *                 The lines within a single segment are always processed in order.
+     * @return A new stream of all lines of the file.
+     */
+    public @NotNull Stream<CharSlice> lines(final boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
+    }
+
+    /**
+     * Invokes the given action for every line of the file,
+     * processing segments in parallel on the common fork-join pool.
+     *
+     * @param action The action to invoke for every line.
+     *               Must be safe to invoke concurrently.
+     */
+    public void forEachParallel(final @NotNull Consumer<? super CharSlice> action) {
+        lines(true).forEach(action);
+    }
+
+    // Finds the first line feed in the given range using SWAR, based on the exact zero byte test
+    private static int indexOfLineFeed(final ByteBuffer buffer, final int from, final int to) {
+        int index = from;
+
+        for (; index <= to - Long.BYTES; index += Long.BYTES) {
+            final long word = buffer.getLong(index) ^ LINE_FEEDS;
+            final long found = ~((word & LOW_BITS) + LOW_BITS | word | LOW_BITS);
+
+            if (found != 0) {
+                return index + (Long.numberOfLeadingZeros(found) >>> 3); // Buffers are big endian
+            }
+        }
+
+        for (; index < to; index++) {
+            if (buffer.get(index) == '\n') {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int lastIndexOfLineFeed(final ByteBuffer buffer, final int to) {
+        for (int index = to - 1; index >= 0; index--) {
+            if (buffer.get(index) == '\n') {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isAscii(final ByteBuffer buffer, final int from, final int to) {
+        long bits = 0;
+        int index = from;
+
+        for (; index <= to - Long.BYTES; index += Long.BYTES) {
+            bits |= buffer.getLong(index);
+        }
+
+        for (; index < to; index++) {
+            bits |= buffer.get(index);
+        }
+
+        return (bits & HIGH_BITS) == 0;
+    }
+
+    private final class LineIterator implements Iterator<CharSlice> {
+        private final int endSegment;
+        private int segment;
+        private int position;
+        private CharSlice next;
+
+        LineIterator(final int segment, final int endSegment) {
+            this.segment = segment;
+            this.endSegment = endSegment;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null || (next = advance()) != null;
+        }
+
+        @Override
+        public @NotNull CharSlice next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final CharSlice result = next;
+            next = null;
+            return result;
+        }
+
+        private @Nullable CharSlice advance() {
+            while (segment < endSegment) {
+                final ByteBuffer buffer = segments[segment];
+                final int limit = buffer.limit();
+
+                if (position == limit) {
+                    segment++;
+                    position = 0;
+                    continue;
+                }
+
+                final int start = position;
+                final int lineFeed = indexOfLineFeed(buffer, start, limit);
+                int end = lineFeed < 0 ? limit : lineFeed;
+                position = lineFeed < 0 ? limit : lineFeed + 1;
+
+                if (end > start && buffer.get(end - 1) == '\r') {
+                    end--;
+                }
+
+                if (isUtf8 && !isAscii(buffer, start, end)) {
+                    final ByteBuffer bytes = buffer.duplicate();
+                    bytes.limit(end);
+                    bytes.position(start);
+                    final CharBuffer chars = StandardCharsets.UTF_8.decode(bytes);
+                    return CharSlice.of(chars.array(), chars.arrayOffset() + chars.position(), chars.remaining());
+                }
+
+                return new ByteBufferCharSlice(buffer, start, end - start);
+            }
+
+            return null;
+        }
+    }
+
+    private final class LineSpliterator implements Spliterator<CharSlice> {
+        private final int endSegment;
+        private int segment;
+        private LineIterator iterator;
+
+        LineSpliterator(final int segment, final int endSegment) {
+            this.segment = segment;
+            this.endSegment = endSegment;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super CharSlice> action) {
+            if (iterator == null) {
+                iterator = new LineIterator(segment, endSegment);
+            }
+
+            if (!iterator.hasNext()) {
+                return false;
+            }
+
+            action.accept(iterator.next());
+            return true;
+        }
+
+        @Override
+        public @Nullable Spliterator<CharSlice> trySplit() {
+            if (iterator != null || endSegment - segment < 2) {
+                return null;
+            }
+
+            final int middle = (segment + endSegment) >>> 1;
+            final LineSpliterator prefix = new LineSpliterator(segment, middle);
+            segment = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            if (iterator != null) {
+                return Long.MAX_VALUE;
+            }
+
+            long size = 0;
+
+            for (int i = segment; i < endSegment; i++) {
+                size += segments[i].limit();
+            }
+
+            return size; // Every line consumes at least one byte
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+    }
+}
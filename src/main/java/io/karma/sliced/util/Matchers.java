@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Provides reusable, thread-local {@link Matcher} instances,
+ * so matching a pattern against many inputs does not allocate
+ * a new matcher for every input.
+ * <p>
+ * Every thread owns a small 8-way set-associative table of matchers, indexed
+ * by the identity hash of their pattern, so a working set of a few dozen patterns
+ * stays resident. Within a set, the least recently used matcher is evicted first.
+ * A matcher handed out by {@link #local(Pattern, CharSequence)} remains valid until
+ * the same thread requests a matcher for the same pattern again, or until it was evicted,
+ * so it must not escape the current thread or be held across such calls.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class Matchers {
+    private static final int WAYS = 8;
+    private static final int SETS = 32;
+    private static final ThreadLocal<Matcher[]> MATCHERS = ThreadLocal.withInitial(() -> new Matcher[SETS * WAYS]);
+
+    // @formatter:off
+    private Matchers() {}
+    // @formatter:on
+
+    /**
+     * Retrieves the matcher of the current thread for the given pattern,
+     * reset to match against the given input. Pass the matcher to
+     * {@link #release(Matcher)} once done, so the table doesn't keep the input reachable.
+     *
+     * @param pattern The pattern to retrieve a matcher for.
+     * @param input   The input to reset the matcher to.
+     * @return The matcher of the current thread for the given pattern.
+     */
+    public static @NotNull Matcher local(final @NotNull Pattern pattern, final @NotNull CharSequence input) {
+        final Matcher[] matchers = MATCHERS.get();
+        final int hash = System.identityHashCode(pattern) * 0x9E3779B9;
+        final int set = (hash >>> 27) * WAYS;
+        Matcher matcher = null;
+        int way = 0;
+
+        for (; way < WAYS; way++) {
+            final Matcher current = matchers[set + way];
+
+            if (current == null) {
+                break;
+            }
+            else if (current.pattern() == pattern) {
+                matcher = current.reset(input);
+                break;
+            }
+        }
+
+        if (matcher == null) {
+            matcher = pattern.matcher(input);
+            way = Math.min(way, WAYS - 1);
+        }
+
+        // Move the matcher to the front of its set, which evicts the least recently used one on a miss
+        System.arraycopy(matchers, set, matchers, set + 1, way);
+        matchers[set] = matcher;
+        return matcher;
+    }
+
+    /**
+     * Resets the given matcher to an empty input,
+     * so the matcher table of the current thread doesn't keep its last input reachable.
+     *
+     * @param matcher The matcher to release.
+     */
+    public static void release(final @NotNull Matcher matcher) {
+        matcher.reset("");
+    }
+
+    /**
+     * Checks whether the entire given input matches the given pattern,
+     * using the matcher of the current thread.
+     *
+     * @param pattern The pattern to match.
+     * @param input   The input to match against.
+     * @return True if the entire input matches the given pattern.
+     */
+    public static boolean matches(final @NotNull Pattern pattern, final @NotNull CharSequence input) {
+        final Matcher matcher = local(pattern, input);
+        final boolean result = matcher.matches();
+        release(matcher);
+        return result;
+    }
+
+    /**
+     * Checks whether the given input contains a match of the given pattern,
+     * using the matcher of the current thread.
+     *
+     * @param pattern The pattern to find.
+     * @param input   The input to search.
+     * @return True if the given pattern matches any part of the input.
+     */
+    public static boolean find(final @NotNull Pattern pattern, final @NotNull CharSequence input) {
+        final Matcher matcher = local(pattern, input);
+        final boolean result = matcher.find();
+        release(matcher);
+        return result;
+    }
+}
@@ -18,7 +18,12 @@ package io.karma.sliced.util;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -30,6 +35,16 @@ import java.util.List;
  */
 @API(status = Status.STABLE)
 public final class MoreArrays {
+    // Range overloads of Arrays.mismatch are only available (and vectorized) on Java 9+
+    private static final MethodHandle BOOL_MISMATCH = findMismatch(boolean[].class);
+    private static final MethodHandle BYTE_MISMATCH = findMismatch(byte[].class);
+    private static final MethodHandle SHORT_MISMATCH = findMismatch(short[].class);
+    private static final MethodHandle CHAR_MISMATCH = findMismatch(char[].class);
+    private static final MethodHandle INT_MISMATCH = findMismatch(int[].class);
+    private static final MethodHandle LONG_MISMATCH = findMismatch(long[].class);
+    private static final MethodHandle FLOAT_MISMATCH = findMismatch(float[].class);
+    private static final MethodHandle DOUBLE_MISMATCH = findMismatch(double[].class);
+
     // @formatter:off
     private MoreArrays() {}
     // @formatter:on
@@ -44,7 +59,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static boolean[] copy(final boolean[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -73,7 +88,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static byte[] copy(final byte[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -102,7 +117,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static short[] copy(final short[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -131,7 +146,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static int[] copy(final int[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -160,7 +175,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static long[] copy(final long[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -189,7 +204,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static float[] copy(final float[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -218,7 +233,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static double[] copy(final double[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -247,7 +262,7 @@ public final class MoreArrays {
      * all the elements from the given array, at the given indices.
      */
     public static char[] copy(final char[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -283,7 +298,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final boolean[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -314,7 +329,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final byte[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -345,7 +360,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final short[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -376,7 +391,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final int[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -407,7 +422,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final long[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -439,7 +454,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final float[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -470,7 +485,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final double[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -502,7 +517,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final char[] ref, final int offset, final int size) {
-        if (ref == null || offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (ref == null || offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -532,7 +547,7 @@ public final class MoreArrays {
      * @return a content-based hash code for <b>a</b>.
      */
     public static int hashCode(final @NotNull Object[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -560,7 +575,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final boolean[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -568,7 +583,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -593,7 +608,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final byte[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -601,7 +616,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -626,7 +641,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final short[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -634,7 +649,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -659,7 +674,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final int[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -667,7 +682,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -692,7 +707,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final long[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -700,7 +715,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -725,7 +740,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final float[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -733,7 +748,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -758,7 +773,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final double[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -766,7 +781,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -791,7 +806,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final char[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -799,7 +814,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -824,7 +839,7 @@ public final class MoreArrays {
      * @return a string representation of {@code ref}.
      */
     public static @NotNull String toString(final @NotNull Object[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -832,7 +847,7 @@ public final class MoreArrays {
         builder.append('[');
 
         for (int i = 0; i < size; i++) {
-            builder.append(ref[i]);
+            builder.append(ref[offset + i]);
 
             if (i < size - 1) {
                 builder.append(',');
@@ -853,7 +868,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Boolean[] box(final boolean[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -889,7 +904,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Byte[] box(final byte[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -925,7 +940,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Short[] box(final short[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -961,7 +976,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Integer[] box(final int[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -997,7 +1012,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Long[] box(final long[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1033,7 +1048,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Float[] box(final float[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1069,7 +1084,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Double[] box(final double[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1105,7 +1120,7 @@ public final class MoreArrays {
      * wrapped as a boxed type instance.
      */
     public static @NotNull Character[] box(final char[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1141,7 +1156,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static boolean[] unbox(final @NotNull Boolean[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1177,7 +1192,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static byte[] unbox(final @NotNull Byte[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1213,7 +1228,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static short[] unbox(final @NotNull Short[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1249,7 +1264,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static int[] unbox(final @NotNull Integer[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1285,7 +1300,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static long[] unbox(final @NotNull Long[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1321,7 +1336,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static float[] unbox(final @NotNull Float[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1357,7 +1372,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static double[] unbox(final @NotNull Double[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1393,7 +1408,7 @@ public final class MoreArrays {
      * as their natural primitive type.
      */
     public static char[] unbox(final @NotNull Character[] ref, final int offset, final int size) {
-        if (offset < 0 || size < 0 || size > ref.length || offset >= size) {
+        if (offset < 0 || size < 0 || offset > ref.length - size) {
             throw new ArrayIndexOutOfBoundsException("Invalid index range");
         }
 
@@ -1454,4 +1469,569 @@ public final class MoreArrays {
     public static boolean refsEqual(final @NotNull Object[] a1, final @NotNull Object[] a2) {
         return refsEqual(a1, 0, a1.length, a2);
     }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code boolean} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final boolean[] a, final int aOffset, final int aSize, final boolean[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (BOOL_MISMATCH != null) {
+            try {
+                return (int) BOOL_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code boolean} array ranges,
+     * like {@link Boolean#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final boolean[] a, final int aOffset, final int aSize, final boolean[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Boolean.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code byte} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final byte[] a, final int aOffset, final int aSize, final byte[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (BYTE_MISMATCH != null) {
+            try {
+                return (int) BYTE_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code byte} array ranges,
+     * like {@link Byte#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final byte[] a, final int aOffset, final int aSize, final byte[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Byte.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code short} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final short[] a, final int aOffset, final int aSize, final short[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (SHORT_MISMATCH != null) {
+            try {
+                return (int) SHORT_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code short} array ranges,
+     * like {@link Short#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final short[] a, final int aOffset, final int aSize, final short[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Short.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code char} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final char[] a, final int aOffset, final int aSize, final char[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (CHAR_MISMATCH != null) {
+            try {
+                return (int) CHAR_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code char} array ranges,
+     * like {@link Character#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final char[] a, final int aOffset, final int aSize, final char[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Character.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code int} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final int[] a, final int aOffset, final int aSize, final int[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (INT_MISMATCH != null) {
+            try {
+                return (int) INT_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code int} array ranges,
+     * like {@link Integer#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final int[] a, final int aOffset, final int aSize, final int[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Integer.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code long} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final long[] a, final int aOffset, final int aSize, final long[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (LONG_MISMATCH != null) {
+            try {
+                return (int) LONG_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code long} array ranges,
+     * like {@link Long#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final long[] a, final int aOffset, final int aSize, final long[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Long.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code float} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final float[] a, final int aOffset, final int aSize, final float[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (FLOAT_MISMATCH != null) {
+            try {
+                return (int) FLOAT_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (Float.floatToIntBits(a[aOffset + i]) != Float.floatToIntBits(b[bOffset + i])) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code float} array ranges,
+     * like {@link Float#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final float[] a, final int aOffset, final int aSize, final float[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Float.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    /**
+     * Finds the relative index of the first mismatch between the two given {@code double} array ranges.
+     * When running on Java 9 or newer, this delegates to the vectorized range overload
+     * of {@link Arrays}{@code .mismatch}, otherwise the ranges are compared element by element.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return The relative index of the first mismatching element, the size of the
+     * shorter range if it is a proper prefix of the other one, or -1 if both ranges are equal.
+     */
+    public static int mismatch(final double[] a, final int aOffset, final int aSize, final double[] b, final int bOffset,
+                               final int bSize) {
+        checkRange(a, a.length, aOffset, aSize);
+        checkRange(b, b.length, bOffset, bSize);
+
+        if (DOUBLE_MISMATCH != null) {
+            try {
+                return (int) DOUBLE_MISMATCH.invokeExact(a, aOffset, aOffset + aSize, b, bOffset, bOffset + bSize);
+            }
+            catch (Throwable error) {
+                throw rethrow(error);
+            }
+        }
+
+        final int size = Math.min(aSize, bSize);
+
+        for (int i = 0; i < size; i++) {
+            if (Double.doubleToLongBits(a[aOffset + i]) != Double.doubleToLongBits(b[bOffset + i])) {
+                return i;
+            }
+        }
+
+        return aSize == bSize ? -1 : size;
+    }
+
+    /**
+     * Lexicographically compares the two given {@code double} array ranges,
+     * like {@link Double#compare} does for single elements.
+     *
+     * @param a       The first array to compare.
+     * @param aOffset The offset into the first array at which to start comparing.
+     * @param aSize   The number of elements to compare from the first array.
+     * @param b       The second array to compare.
+     * @param bOffset The offset into the second array at which to start comparing.
+     * @param bSize   The number of elements to compare from the second array.
+     * @return 0 if both ranges are equal, a negative value if the first range is
+     * lexicographically less than the second one, and a positive value otherwise.
+     */
+    public static int compare(final double[] a, final int aOffset, final int aSize, final double[] b, final int bOffset,
+                              final int bSize) {
+        final int index = mismatch(a, aOffset, aSize, b, bOffset, bSize);
+
+        if (index < 0) {
+            return 0;
+        }
+
+        if (index < aSize && index < bSize) {
+            return Double.compare(a[aOffset + index], b[bOffset + index]);
+        }
+
+        return aSize - bSize;
+    }
+
+    private static void checkRange(final @Nullable Object ref, final int length, final int offset, final int size) {
+        if (ref == null || offset < 0 || size < 0 || offset > length - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+
+    private static @Nullable MethodHandle findMismatch(final @NotNull Class<?> type) {
+        try {
+            final MethodType methodType = MethodType.methodType(int.class, type, int.class, int.class, type, int.class,
+                int.class);
+            return MethodHandles.publicLookup().findStatic(Arrays.class, "mismatch", methodType);
+        }
+        catch (NoSuchMethodException | IllegalAccessException error) {
+            return null; // We are running on Java 8, so use the scalar fallback
+        }
+    }
+
+    private static @NotNull RuntimeException rethrow(final @NotNull Throwable error) {
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+
+        return new IllegalStateException("Could not invoke Arrays.mismatch", error);
+    }
 }
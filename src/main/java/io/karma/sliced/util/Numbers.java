@@ -0,0 +1,340 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.text.ParsePosition;
+
+/**
+ * Parses numbers directly from character sequences, without
+ * converting them to a {@link String} first.
+ * <p>
+ * Every function comes in two flavours: without a {@link ParsePosition}, the entire
+ * sequence has to be a valid number, and any error is reported by throwing a
+ * {@link NumberFormatException}. With a {@link ParsePosition}, parsing starts at
+ * its index and consumes the longest valid number. On success, the index is advanced
+ * past the number, otherwise the error index is set and zero is returned, so errors
+ * can be handled without exceptions or allocations.
+ * <p>
+ * Integers accept an optional leading sign followed by digits of the given radix,
+ * like {@link Long#parseLong(String, int)}. Decimal numbers accept an optional sign,
+ * digits with an optional fraction, an optional exponent, as well as {@code NaN} and
+ * {@code Infinity}. Decimal numbers whose significand fits into 53 bits and whose exponent
+ * is small are converted exactly without allocating, everything else is delegated to
+ * {@link Double#parseDouble(String)}.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.STABLE)
+public final class Numbers {
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int MAX_MANTISSA_DIGITS = 18; // 19 digits may overflow a long
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXPONENT = 100_000;
+
+    // @formatter:off
+    private Numbers() {}
+    // @formatter:on
+
+    /**
+     * Parses the given sequence as a signed {@code int} of the given radix.
+     *
+     * @param seq   The sequence to parse.
+     * @param radix The radix of the number.
+     * @return The parsed value.
+     * @throws NumberFormatException if the sequence is not a valid {@code int}.
+     */
+    public static int parseInt(final @NotNull CharSequence seq, final int radix) {
+        return (int) parse(seq, radix, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Parses a signed {@code int} of the given radix, starting at the index of the given position.
+     *
+     * @param seq      The sequence to parse.
+     * @param radix    The radix of the number.
+     * @param position The position to start parsing at, which is updated with the result.
+     * @return The parsed value, or zero if the error index of the given position was set.
+     */
+    public static int parseInt(final @NotNull CharSequence seq, final int radix,
+                               final @NotNull ParsePosition position) {
+        return (int) parse(seq, radix, Integer.MAX_VALUE, position);
+    }
+
+    /**
+     * Parses the given sequence as a signed {@code long} of the given radix.
+     *
+     * @param seq   The sequence to parse.
+     * @param radix The radix of the number.
+     * @return The parsed value.
+     * @throws NumberFormatException if the sequence is not a valid {@code long}.
+     */
+    public static long parseLong(final @NotNull CharSequence seq, final int radix) {
+        return parse(seq, radix, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * Parses a signed {@code long} of the given radix, starting at the index of the given position.
+     *
+     * @param seq      The sequence to parse.
+     * @param radix    The radix of the number.
+     * @param position The position to start parsing at, which is updated with the result.
+     * @return The parsed value, or zero if the error index of the given position was set.
+     */
+    public static long parseLong(final @NotNull CharSequence seq, final int radix,
+                                 final @NotNull ParsePosition position) {
+        return parse(seq, radix, Long.MAX_VALUE, position);
+    }
+
+    /**
+     * Parses the given sequence as a {@code double}.
+     *
+     * @param seq The sequence to parse.
+     * @return The parsed value.
+     * @throws NumberFormatException if the sequence is not a valid decimal number.
+     */
+    public static double parseDouble(final @NotNull CharSequence seq) {
+        return parseDecimal(seq, null);
+    }
+
+    /**
+     * Parses a {@code double}, starting at the index of the given position.
+     *
+     * @param seq      The sequence to parse.
+     * @param position The position to start parsing at, which is updated with the result.
+     * @return The parsed value, or zero if the error index of the given position was set.
+     */
+    public static double parseDouble(final @NotNull CharSequence seq, final @NotNull ParsePosition position) {
+        return parseDecimal(seq, position);
+    }
+
+    private static long parse(final CharSequence seq, final int radix, final long max,
+                              final @Nullable ParsePosition position) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new NumberFormatException("Invalid radix " + radix);
+        }
+
+        final int start = position != null ? position.getIndex() : 0;
+        final int end = seq.length();
+        int index = start;
+        boolean isNegative = false;
+
+        if (index < end) {
+            final char sign = seq.charAt(index);
+
+            if (sign == '-' || sign == '+') {
+                isNegative = sign == '-';
+                index++;
+            }
+        }
+
+        // Accumulate negatively, since the negative range is larger
+        final long limit = isNegative ? -max - 1 : -max;
+        final long multiplyLimit = limit / radix;
+        final int digitsStart = index;
+        long result = 0;
+
+        while (index < end) {
+            final int digit = Character.digit(seq.charAt(index), radix);
+
+            if (digit < 0) {
+                break;
+            }
+
+            if (result < multiplyLimit || (result *= radix) < limit + digit) {
+                return fail(seq, index, position);
+            }
+
+            result -= digit;
+            index++;
+        }
+
+        if (index == digitsStart || (position == null && index != end)) {
+            return fail(seq, index, position);
+        }
+
+        if (position != null) {
+            position.setIndex(index);
+        }
+
+        return isNegative ? result : -result;
+    }
+
+    private static double parseDecimal(final CharSequence seq, final @Nullable ParsePosition position) {
+        final int start = position != null ? position.getIndex() : 0;
+        final int end = seq.length();
+        int index = start;
+        boolean isNegative = false;
+
+        if (index < end) {
+            final char sign = seq.charAt(index);
+
+            if (sign == '-' || sign == '+') {
+                isNegative = sign == '-';
+                index++;
+            }
+        }
+
+        double result = Double.NaN;
+
+        if (regionMatches(seq, index, "NaN")) {
+            index += 3;
+        }
+        else if (regionMatches(seq, index, "Infinity")) {
+            result = isNegative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            index += 8;
+        }
+        else {
+            long mantissa = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean hasDigits = false;
+            boolean isTruncated = false;
+
+            for (; index < end; index++) {
+                final int digit = seq.charAt(index) - '0';
+
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+
+                hasDigits = true;
+
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + digit;
+                    digits += mantissa == 0 ? 0 : 1; // Leading zeros are not significant
+                }
+                else {
+                    exponent++;
+                    isTruncated |= digit != 0;
+                }
+            }
+
+            if (index < end && seq.charAt(index) == '.') {
+                for (index++; index < end; index++) {
+                    final int digit = seq.charAt(index) - '0';
+
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+
+                    hasDigits = true;
+
+                    if (digits < MAX_MANTISSA_DIGITS) {
+                        mantissa = mantissa * 10 + digit;
+                        digits += mantissa == 0 ? 0 : 1;
+                        exponent--;
+                    }
+                    else {
+                        isTruncated |= digit != 0;
+                    }
+                }
+            }
+
+            if (!hasDigits) {
+                return fail(seq, index, position);
+            }
+
+            if (index < end && (seq.charAt(index) | 0x20) == 'e') {
+                int exponentIndex = index + 1;
+                boolean isExponentNegative = false;
+
+                if (exponentIndex < end) {
+                    final char sign = seq.charAt(exponentIndex);
+
+                    if (sign == '-' || sign == '+') {
+                        isExponentNegative = sign == '-';
+                        exponentIndex++;
+                    }
+                }
+
+                final int digitsStart = exponentIndex;
+                int value = 0;
+
+                for (; exponentIndex < end; exponentIndex++) {
+                    final int digit = seq.charAt(exponentIndex) - '0';
+
+                    if (digit < 0 || digit > 9) {
+                        break;
+                    }
+
+                    value = Math.min(value * 10 + digit, MAX_EXPONENT);
+                }
+
+                // Without any digits, the exponent is not part of the number
+                if (exponentIndex != digitsStart) {
+                    exponent += isExponentNegative ? -value : value;
+                    index = exponentIndex;
+                }
+            }
+
+            if (mantissa == 0) {
+                result = isNegative ? -0.0 : 0.0;
+            }
+            else if (!isTruncated && mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22) {
+                // Both operands are exact, so the result is correctly rounded
+                result = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+                result = isNegative ? -result : result;
+            }
+            else {
+                result = Double.parseDouble(new StringBuilder(index - start).append(seq, start, index).toString());
+            }
+        }
+
+        if (position == null && index != end) {
+            return fail(seq, index, position);
+        }
+
+        if (position != null) {
+            position.setIndex(index);
+        }
+
+        return result;
+    }
+
+    private static boolean regionMatches(final CharSequence seq, final int index, final String value) {
+        final int size = value.length();
+
+        if (index > seq.length() - size) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (seq.charAt(index + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long fail(final CharSequence seq, final int index, final @Nullable ParsePosition position) {
+        if (position == null) {
+            throw new NumberFormatException("For input string: \"" + seq + "\"");
+        }
+
+        position.setErrorIndex(index);
+        return 0;
+    }
+}
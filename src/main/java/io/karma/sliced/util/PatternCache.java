@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded, thread-safe cache of compiled {@link Pattern} instances,
+ * keyed by the content of the character sequence they were compiled from.
+ * <p>
+ * Looking up a cached pattern neither copies nor converts the given sequence,
+ * it is hashed and compared against {@link Pattern#pattern()} in place.
+ * Only a cache miss creates a {@link String} to compile the pattern from.
+ * Like {@link SliceInterner}, the cache is organized as a lock-free, 8-way
+ * set-associative table with clock-style second-chance eviction.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class PatternCache {
+    private static final int WAYS = 8;
+    private static final long SEED = 0x5DEECE66DL;
+    private static final PatternCache SHARED = new PatternCache(512);
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int setMask;
+
+    /**
+     * Creates a new cache which holds at most (roughly) the given number of patterns.
+     *
+     * @param capacity The maximum number of patterns to retain.
+     *                 Rounded up to the next power of two which is a multiple of 8.
+     * @throws IllegalArgumentException if the given capacity is not greater than zero.
+     */
+    public PatternCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+
+        final int sets = Math.max(1, Integer.highestOneBit(((capacity + WAYS - 1) / WAYS - 1) << 1));
+        entries = new AtomicReferenceArray<>(sets * WAYS);
+        setMask = sets - 1;
+    }
+
+    /**
+     * Retrieves the cache used by {@link io.karma.sliced.view.CharView#compilePattern()}.
+     *
+     * @return The shared pattern cache.
+     */
+    public static @NotNull PatternCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retrieves the compiled pattern for the given regular expression,
+     * compiling and retaining it if it is not cached yet.
+     *
+     * @param regex The regular expression to compile.
+     * @param flags The match flags, as accepted by {@link Pattern#compile(String, int)}.
+     * @return The compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid.
+     */
+    public @NotNull Pattern compile(final @NotNull CharSequence regex, final int flags) {
+        final long hash = Hashes.xxHash64(regex, 0, regex.length(), SEED) ^ flags;
+        final int set = ((int) (hash ^ hash >>> 32) & setMask) * WAYS;
+
+        for (int i = 0; i < WAYS; i++) {
+            final Entry entry = entries.get(set + i);
+
+            if (entry != null && entry.hash == hash && entry.pattern.flags() == flags
+                && entry.pattern.pattern().contentEquals(regex)) {
+                entry.markReferenced();
+                return entry.pattern;
+            }
+        }
+
+        final Pattern pattern = Pattern.compile(regex.toString(), flags);
+        insert(set, new Entry(hash, pattern));
+        return pattern;
+    }
+
+    /**
+     * Retrieves the compiled pattern for the given regular expression,
+     * compiling and retaining it if it is not cached yet.
+     *
+     * @param regex The regular expression to compile.
+     * @return The compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid.
+     */
+    public @NotNull Pattern compile(final @NotNull CharSequence regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * Retrieves the maximum number of patterns this cache retains.
+     *
+     * @return The maximum number of patterns this cache retains.
+     */
+    public int capacity() {
+        return entries.length();
+    }
+
+    /**
+     * Drops all patterns retained by this cache.
+     */
+    public void clear() {
+        final int capacity = entries.length();
+
+        for (int i = 0; i < capacity; i++) {
+            entries.set(i, null);
+        }
+    }
+
+    private void insert(final int set, final @NotNull Entry newEntry) {
+        final int start = (int) (newEntry.hash >>> 61);
+
+        // Two passes at most, since the first one clears all reference bits
+        for (int i = 0; i < WAYS << 1; i++) {
+            final int index = set + ((start + i) & (WAYS - 1));
+            final Entry entry = entries.get(index);
+
+            if (entry == null || !entry.referenced) {
+                entries.set(index, newEntry);
+                return;
+            }
+
+            entry.referenced = false;
+        }
+    }
+
+    private static final class Entry {
+        final long hash;
+        final Pattern pattern;
+        // Racy on purpose; a lost update only affects which entry gets evicted
+        boolean referenced;
+
+        Entry(final long hash, final Pattern pattern) {
+            this.hash = hash;
+            this.pattern = pattern;
+        }
+
+        void markReferenced() {
+            // Only write when needed, so hits of a hot pattern don't keep dirtying its cache line
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.CharSlice;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A minimal perfect hash over a fixed set of character sequences,
+ * built using hash-and-displace: keys are grouped into buckets by one hash,
+ * and every bucket stores the displacement which maps all of its keys
+ * into distinct slots of a second hash. Buckets with a single key
+ * store their slot directly.
+ * <p>
+ * Every lookup hashes the key exactly once, without allocating, and compares
+ * it with the only candidate in its slot. All keys are stored back to back
+ * in a single {@code char} array.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+final class PerfectHash {
+    private static final long INITIAL_SEED = 0x2545F4914F6CDD1DL;
+    private static final long DISPLACEMENT_STEP = 0x9E3779B97F4A7C15L;
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+
+    final boolean ignoreCase;
+    final int[] order;
+    private final long seed;
+    private final int[] displacements;
+    private final long[] hashes;
+    private final char[] chars;
+    private final int[] offsets;
+    private final CharSlice[] keys;
+
+    /**
+     * @param keys       The keys to build the hash for, which must be distinct.
+     * @param ignoreCase True if keys should be matched ignoring case.
+     * @throws IllegalArgumentException if the given keys are not distinct.
+     */
+    PerfectHash(final @NotNull CharSequence[] keys, final boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        final int size = keys.length;
+        final long[] keyHashes = new long[size];
+        long currentSeed = INITIAL_SEED;
+        int[] currentDisplacements;
+        int[] slots;
+
+        // A retry with another seed is only needed if two distinct keys share all 64 bits of their hash
+        while (true) {
+            for (int i = 0; i < size; i++) {
+                keyHashes[i] = hash(keys[i], ignoreCase, currentSeed);
+            }
+
+            currentDisplacements = new int[size];
+            slots = place(keys, keyHashes, currentDisplacements, ignoreCase);
+
+            if (slots != null) {
+                break;
+            }
+
+            currentSeed = mix(currentSeed + DISPLACEMENT_STEP);
+        }
+
+        seed = currentSeed;
+        displacements = currentDisplacements;
+        order = new int[size];
+        hashes = new long[size];
+        offsets = new int[size + 1];
+        this.keys = new CharSlice[size];
+        int totalLength = 0;
+
+        for (int i = 0; i < size; i++) {
+            order[slots[i]] = i;
+            totalLength += keys[i].length();
+        }
+
+        chars = new char[totalLength];
+
+        for (int slot = 0; slot < size; slot++) {
+            final int index = order[slot];
+            final CharSequence key = keys[index];
+            final int offset = offsets[slot];
+            final int length = key.length();
+
+            for (int i = 0; i < length; i++) {
+                chars[offset + i] = key.charAt(i);
+            }
+
+            hashes[slot] = keyHashes[index];
+            offsets[slot + 1] = offset + length;
+            this.keys[slot] = CharSlice.of(chars, offset, length);
+        }
+    }
+
+    // Returns the slot of every key, or null if the keys could not be separated using the current seed
+    private static int[] place(final CharSequence[] keys, final long[] keyHashes, final int[] displacements,
+                               final boolean ignoreCase) {
+        final int size = keys.length;
+        final int[] slots = new int[size];
+        final boolean[] isTaken = new boolean[size];
+        final int[] bucketSizes = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            bucketSizes[bucket(keyHashes[i], size)]++;
+        }
+
+        // Group the keys by bucket, largest buckets first, since those are the hardest to place
+        final Integer[] buckets = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            buckets[i] = i;
+        }
+
+        Arrays.sort(buckets, (a, b) -> bucketSizes[b] - bucketSizes[a]);
+        final int[][] members = new int[size][];
+
+        for (int i = 0; i < size; i++) {
+            final int bucket = bucket(keyHashes[i], size);
+
+            if (members[bucket] == null) {
+                members[bucket] = new int[bucketSizes[bucket]];
+                bucketSizes[bucket] = 0;
+            }
+
+            members[bucket][bucketSizes[bucket]++] = i;
+        }
+
+        int freeSlot = 0;
+
+        for (final int bucket : buckets) {
+            final int[] keyIndices = members[bucket];
+
+            if (keyIndices == null) {
+                break; // All remaining buckets are empty as well
+            }
+
+            if (keyIndices.length == 1) {
+                while (isTaken[freeSlot]) {
+                    freeSlot++;
+                }
+
+                isTaken[freeSlot] = true;
+                slots[keyIndices[0]] = freeSlot;
+                displacements[bucket] = -freeSlot - 1;
+                continue;
+            }
+
+            checkDistinct(keys, keyIndices, ignoreCase);
+            int displacement = 1;
+
+            while (!tryPlace(keyIndices, keyHashes, displacement, isTaken, slots)) {
+                if (++displacement == MAX_DISPLACEMENT) {
+                    return null;
+                }
+            }
+
+            displacements[bucket] = displacement;
+        }
+
+        return slots;
+    }
+
+    private static boolean tryPlace(final int[] keyIndices, final long[] keyHashes, final int displacement,
+                                    final boolean[] isTaken, final int[] slots) {
+        final int size = isTaken.length;
+        int placed = 0;
+
+        for (; placed < keyIndices.length; placed++) {
+            final int slot = slot(keyHashes[keyIndices[placed]], displacement, size);
+
+            if (isTaken[slot]) {
+                break;
+            }
+
+            isTaken[slot] = true;
+            slots[keyIndices[placed]] = slot;
+        }
+
+        if (placed == keyIndices.length) {
+            return true;
+        }
+
+        for (int i = 0; i < placed; i++) {
+            isTaken[slots[keyIndices[i]]] = false;
+        }
+
+        return false;
+    }
+
+    private static void checkDistinct(final CharSequence[] keys, final int[] keyIndices, final boolean ignoreCase) {
+        for (int i = 0; i < keyIndices.length; i++) {
+            for (int j = i + 1; j < keyIndices.length; j++) {
+                final CharSequence a = keys[keyIndices[i]];
+                final CharSequence b = keys[keyIndices[j]];
+
+                if (ignoreCase ? CaseFolding.equals(a, b) : contentEquals(a, b)) {
+                    throw new IllegalArgumentException(String.format("Duplicate key '%s'", a));
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the slot of the given key.
+     *
+     * @param key The key to look up.
+     * @return The slot of the given key, or -1 if it is not one of the keys of this hash.
+     */
+    int indexOf(final @NotNull CharSequence key) {
+        final int size = keys.length;
+
+        if (size == 0) {
+            return -1;
+        }
+
+        final long hash = hash(key, ignoreCase, seed);
+        final int displacement = displacements[bucket(hash, size)];
+        final int slot = displacement < 0 ? -displacement - 1 : slot(hash, displacement, size);
+
+        if (hashes[slot] != hash) {
+            return -1;
+        }
+
+        final int offset = offsets[slot];
+        final int length = key.length();
+
+        if (offsets[slot + 1] - offset != length) {
+            return -1;
+        }
+
+        for (int i = 0; i < length; i++) {
+            final char value = key.charAt(i);
+            final char candidate = chars[offset + i];
+
+            if (value != candidate && (!ignoreCase || CaseFolding.fold(value) != CaseFolding.fold(candidate))) {
+                return -1;
+            }
+        }
+
+        return slot;
+    }
+
+    int size() {
+        return keys.length;
+    }
+
+    @NotNull CharSlice key(final int slot) {
+        return keys[slot];
+    }
+
+    private static long hash(final @NotNull CharSequence key, final boolean ignoreCase, final long seed) {
+        if (!ignoreCase) {
+            return key instanceof CharSlice ? ((CharSlice) key).hash64(seed) : Hashes.xxHash64(key, 0, key.length(), seed);
+        }
+
+        final int length = key.length();
+        long hash = seed ^ 0xCBF29CE484222325L;
+
+        for (int i = 0; i < length; i++) {
+            hash = (hash ^ CaseFolding.fold(key.charAt(i))) * 0x100000001B3L;
+        }
+
+        return mix(hash);
+    }
+
+    private static int bucket(final long hash, final int size) {
+        return (int) ((hash >>> 33) % size);
+    }
+
+    private static int slot(final long hash, final int displacement, final int size) {
+        return (int) ((mix(hash + displacement * DISPLACEMENT_STEP) >>> 33) % size);
+    }
+
+    private static boolean contentEquals(final CharSequence a, final CharSequence b) {
+        final int length = a.length();
+
+        if (length != b.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (a.charAt(i) != b.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        return value ^ value >>> 33;
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.slice.mutable.MutableIntSlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A streaming parser for delimited records, such as CSV (RFC 4180) or TSV.
+ * <p>
+ * All records are parsed into one shared character buffer which is refilled
+ * from the underlying source as needed, so no strings are ever created.
+ * Quoted fields are unescaped in place. The boundaries of the fields of the
+ * current record are exposed as an {@link IntSlice} of {@code [start, end)}
+ * pairs into {@link #buffer()}, and every field can be viewed as a {@link CharSlice}.
+ * All of these are only valid until the next call to {@link #next()}.
+ * <p>
+ * Records are terminated by {@code \n}, {@code \r\n} or a lone {@code \r}.
+ * A field which starts with the quote character extends up to the next
+ * unpaired quote, and may contain delimiters, line breaks and doubled quotes,
+ * which represent a single quote. Malformed input is parsed leniently:
+ * characters following a closing quote are appended to the field,
+ * and an unterminated quoted field ends with the input.
+ * The buffer grows as needed to hold the longest record.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class RecordReader implements Closeable {
+    /**
+     * Disables quoting when passed as the quote character.
+     */
+    public static final int NONE = -1;
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+    private static final int STATE_FIELD_START = 0;
+    private static final int STATE_UNQUOTED = 1;
+    private static final int STATE_QUOTED = 2;
+    private static final int STATE_QUOTE_IN_QUOTED = 3;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final int quote;
+    private char[] buffer;
+    private int limit;
+    private int position;
+    private int recordStart;
+    private boolean skipLineFeed;
+    private int[] bounds = new int[16];
+    private int fieldCount;
+    private MutableIntSlice fields;
+
+    /**
+     * Creates a new record reader which parses the characters of the given reader.
+     *
+     * @param reader     The reader to parse records from.
+     * @param delimiter  The character which separates fields.
+     * @param quote      The character which encloses quoted fields, or {@link #NONE}.
+     * @param bufferSize The initial size of the shared character buffer.
+     */
+    public RecordReader(final @NotNull Reader reader, final char delimiter, final int quote, final int bufferSize) {
+        if (bufferSize < 2) {
+            throw new IllegalArgumentException("Buffer size must be at least 2");
+        }
+
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.quote = quote;
+        buffer = new char[bufferSize];
+        fields = MutableIntSlice.of(bounds, 0, 0);
+    }
+
+    /**
+     * Creates a new record reader which parses the characters of the given reader.
+     *
+     * @param reader    The reader to parse records from.
+     * @param delimiter The character which separates fields.
+     * @param quote     The character which encloses quoted fields, or {@link #NONE}.
+     */
+    public RecordReader(final @NotNull Reader reader, final char delimiter, final int quote) {
+        this(reader, delimiter, quote, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new record reader which parses comma separated values with double quotes.
+     *
+     * @param reader The reader to parse records from.
+     * @return A new CSV record reader.
+     */
+    public static @NotNull RecordReader csv(final @NotNull Reader reader) {
+        return new RecordReader(reader, ',', '"');
+    }
+
+    /**
+     * Creates a new record reader which parses tab separated values without quoting.
+     *
+     * @param reader The reader to parse records from.
+     * @return A new TSV record reader.
+     */
+    public static @NotNull RecordReader tsv(final @NotNull Reader reader) {
+        return new RecordReader(reader, '\t', NONE);
+    }
+
+    /**
+     * Creates a new record reader which parses the remaining characters of the given buffer.
+     * The position of the given buffer is advanced as characters are consumed.
+     *
+     * @param buffer    The buffer to parse records from.
+     * @param delimiter The character which separates fields.
+     * @param quote     The character which encloses quoted fields, or {@link #NONE}.
+     * @return A new record reader over the given buffer.
+     */
+    public static @NotNull RecordReader of(final @NotNull CharBuffer buffer, final char delimiter,
+                                           final int quote) {
+        return new RecordReader(new CharBufferReader(buffer), delimiter, quote);
+    }
+
+    /**
+     * Creates a new record reader which parses the given file. The file is mapped
+     * into memory and decoded chunk by chunk as the shared buffer is refilled.
+     * Malformed or unmappable input is replaced.
+     *
+     * @param path      The path of the file to parse records from.
+     * @param charset   The charset the file is encoded with.
+     * @param delimiter The character which separates fields.
+     * @param quote     The character which encloses quoted fields, or {@link #NONE}.
+     * @return A new record reader over the given file.
+     * @throws IOException if the file could not be opened or mapped.
+     */
+    public static @NotNull RecordReader open(final @NotNull Path path, final @NotNull Charset charset,
+                                             final char delimiter, final int quote) throws IOException {
+        final ByteBuffer bytes;
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        return new RecordReader(new ByteBufferReader(bytes, charset), delimiter, quote);
+    }
+
+    /**
+     * Parses the next record.
+     *
+     * @return True if a record was parsed, false if the end of the input was reached.
+     * @throws IOException if the underlying source could not be read.
+     */
+    public boolean next() throws IOException {
+        fieldCount = 0;
+
+        if (skipLineFeed) {
+            if (position == limit) {
+                recordStart = position;
+                fill();
+            }
+
+            if (position < limit && buffer[position] == '\n') {
+                position++;
+            }
+
+            skipLineFeed = false;
+        }
+
+        recordStart = position;
+        int state = STATE_FIELD_START;
+        int fieldStart = position;
+        int write = position;
+
+        while (true) {
+            if (position == limit) {
+                final int shift = recordStart;
+
+                if (!fill()) {
+                    if (state == STATE_FIELD_START && fieldCount == 0 && position == recordStart) {
+                        return false;
+                    }
+
+                    addField(fieldStart - shift, write - shift);
+                    return true;
+                }
+
+                fieldStart -= shift;
+                write -= shift;
+                continue;
+            }
+
+            final char value = buffer[position++];
+
+            switch (state) {
+                case STATE_FIELD_START:
+                    if (value == quote) {
+                        fieldStart = write = position;
+                        state = STATE_QUOTED;
+                        continue;
+                    }
+
+                    // Handle the first character of an unquoted field again in the unquoted state
+                    fieldStart = write = --position;
+                    state = STATE_UNQUOTED;
+                    continue;
+                case STATE_UNQUOTED:
+                case STATE_QUOTE_IN_QUOTED:
+                    if (value == delimiter) {
+                        addField(fieldStart, write);
+                        state = STATE_FIELD_START;
+                        fieldStart = write = position;
+                        continue;
+                    }
+                    else if (value == '\n' || value == '\r') {
+                        addField(fieldStart, write);
+                        skipLineFeed = value == '\r';
+                        return true;
+                    }
+                    else if (value == quote && state == STATE_QUOTE_IN_QUOTED) {
+                        buffer[write++] = value; // A doubled quote represents a single quote
+                        state = STATE_QUOTED;
+                        continue;
+                    }
+
+                    buffer[write++] = value;
+                    state = STATE_UNQUOTED;
+                    continue;
+                case STATE_QUOTED:
+                    if (value == quote) {
+                        state = STATE_QUOTE_IN_QUOTED;
+                        continue;
+                    }
+
+                    buffer[write++] = value;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the number of fields of the current record.
+     *
+     * @return The number of fields of the current record.
+     */
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Retrieves the boundaries of the fields of the current record,
+     * as {@code [start, end)} pairs of indices into {@link #buffer()}.
+     *
+     * @return A slice containing two indices per field of the current record.
+     */
+    public @NotNull IntSlice fields() {
+        return fields;
+    }
+
+    /**
+     * Retrieves a view of the field at the given index of the current record.
+     *
+     * @param index The index of the field to retrieve.
+     * @return A new slice referencing the field at the given index within the shared buffer.
+     */
+    public @NotNull CharSlice field(final int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        final int start = bounds[index << 1];
+        return CharSlice.of(buffer, start, bounds[(index << 1) + 1] - start);
+    }
+
+    /**
+     * Retrieves a view of the shared buffer which the fields of the current record index into.
+     *
+     * @return A new slice referencing the shared buffer.
+     */
+    public @NotNull CharSlice buffer() {
+        return CharSlice.of(buffer, 0, limit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void addField(final int start, final int end) {
+        final int index = fieldCount << 1;
+
+        if (index == bounds.length) {
+            bounds = Arrays.copyOf(bounds, index << 1);
+            fields = MutableIntSlice.of(bounds, 0, 0);
+        }
+
+        bounds[index] = start;
+        bounds[index + 1] = end;
+        fields.setSize(index + 2);
+        fieldCount++;
+    }
+
+    // Moves the current record to the start of the buffer, grows it if needed and reads more characters
+    private boolean fill() throws IOException {
+        if (recordStart > 0) {
+            final int shift = recordStart;
+            System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+            limit -= shift;
+            position -= shift;
+            recordStart = 0;
+
+            for (int i = 0; i < fieldCount << 1; i++) {
+                bounds[i] -= shift;
+            }
+        }
+
+        if (buffer.length - limit < buffer.length >>> 1) {
+            buffer = Arrays.copyOf(buffer, buffer.length << 1);
+        }
+
+        int count;
+
+        while ((count = reader.read(buffer, limit, buffer.length - limit)) == 0) {
+            buffer = Arrays.copyOf(buffer, buffer.length << 1); // Not enough room for a surrogate pair
+        }
+
+        if (count < 0) {
+            return false;
+        }
+
+        limit += count;
+        return true;
+    }
+
+    private static final class CharBufferReader extends Reader {
+        private final CharBuffer buffer;
+
+        CharBufferReader(final CharBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read(final char[] target, final int offset, final int size) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            final int count = Math.min(size, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class ByteBufferReader extends Reader {
+        private final ByteBuffer buffer;
+        private final CharsetDecoder decoder;
+        private boolean isFlushed;
+
+        ByteBufferReader(final ByteBuffer buffer, final Charset charset) {
+            this.buffer = buffer;
+            decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public int read(final char[] target, final int offset, final int size) {
+            final CharBuffer output = CharBuffer.wrap(target, offset, size);
+
+            if (buffer.hasRemaining()) {
+                final CoderResult result = decoder.decode(buffer, output, true);
+
+                if (result.isUnderflow()) {
+                    decoder.flush(output);
+                    isFlushed = true;
+                }
+            }
+            else if (!isFlushed) {
+                decoder.flush(output);
+                isFlushed = true;
+            }
+
+            final int count = output.position() - offset;
+            return count == 0 && !buffer.hasRemaining() ? -1 : count;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
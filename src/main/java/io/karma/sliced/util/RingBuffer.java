@@ -0,0 +1,292 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.view.QueueView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free ring buffer of elements for a single consumer,
+ * and either a single or multiple producers.
+ * <p>
+ * Besides polling single values, the consumer can drain the buffer in batches
+ * through zero-copy {@link Slice} windows over the backing array. The readable
+ * region is split into at most two windows where it wraps around the end of the array.
+ * A window stays valid until its elements are released, after which producers may overwrite them.
+ * Released slots are cleared, so the buffer doesn't keep consumed elements reachable.
+ * <p>
+ * The buffer is also a {@link QueueView} of its readable elements. Methods which
+ * consume elements may only be called by the consumer thread, observing the buffer
+ * from any other thread is weakly consistent.
+ *
+ * @param <T> The element type of this buffer.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class RingBuffer<T> implements QueueView<T> {
+    private final RingIndex index;
+    private final Object[] elements;
+
+    private RingBuffer(final int capacity, final boolean multiProducer) {
+        index = new RingIndex(capacity, multiProducer);
+        elements = new Object[index.capacity];
+    }
+
+    /**
+     * Creates a new ring buffer which may only be written to by a single thread at a time.
+     *
+     * @param <T>      The element type of the buffer to create.
+     * @param capacity The minimum number of values the buffer can hold, rounded up to the next power of two.
+     * @return A new single-producer ring buffer.
+     * @throws IllegalArgumentException if the given capacity is not between 1 and 2^30.
+     */
+    public static <T> @NotNull RingBuffer<T> singleProducer(final int capacity) {
+        return new RingBuffer<>(capacity, false);
+    }
+
+    /**
+     * Creates a new ring buffer which may be written to by any number of threads concurrently.
+     *
+     * @param <T>      The element type of the buffer to create.
+     * @param capacity The minimum number of values the buffer can hold, rounded up to the next power of two.
+     * @return A new multi-producer ring buffer.
+     * @throws IllegalArgumentException if the given capacity is not between 1 and 2^30.
+     */
+    public static <T> @NotNull RingBuffer<T> multiProducer(final int capacity) {
+        return new RingBuffer<>(capacity, true);
+    }
+
+    /**
+     * Retrieves the maximum number of values this buffer can hold.
+     *
+     * @return The maximum number of values this buffer can hold.
+     */
+    public int capacity() {
+        return index.capacity;
+    }
+
+    /**
+     * Determines whether this buffer may be written to by multiple threads concurrently.
+     *
+     * @return True if this buffer may be written to by multiple threads concurrently.
+     */
+    public boolean isMultiProducer() {
+        return index.isMultiProducer();
+    }
+
+    /**
+     * Appends the given value to this buffer, unless it is full.
+     *
+     * @param value The value to append.
+     * @return True if the value was appended, false if the buffer is full.
+     * @throws NullPointerException if the given value is null.
+     */
+    public boolean offer(final @NotNull T value) {
+        Objects.requireNonNull(value);
+        final long slot = index.claim();
+
+        if (slot < 0) {
+            return false;
+        }
+
+        elements[(int) slot & index.mask] = value;
+        index.publish(slot);
+        return true;
+    }
+
+    /**
+     * Determines whether this buffer has no readable values.
+     *
+     * @return True if this buffer has no readable values.
+     */
+    public boolean isEmpty() {
+        return !index.hasReadable();
+    }
+
+    /**
+     * Removes and returns the oldest readable value of this buffer.
+     *
+     * @return The oldest readable value of this buffer, or null if it has no readable values.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T poll() {
+        if (!index.hasReadable()) {
+            return null;
+        }
+
+        final int slot = (int) index.head() & index.mask;
+        final T value = (T) elements[slot];
+        elements[slot] = null;
+        index.release(1);
+        return value;
+    }
+
+    /**
+     * Creates a window over the readable values at the start of this buffer,
+     * up to the end of the backing array. Call {@link #release(int)} once the
+     * values were processed, after which the window must no longer be used.
+     *
+     * @return A slice over the first contiguous run of readable values, which may be empty.
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Slice<T> window() {
+        final int start = (int) index.head() & index.mask;
+        return Slice.of((T[]) elements, start, index.readable(index.capacity - start));
+    }
+
+    /**
+     * Removes the given number of values from the start of this buffer,
+     * and makes their slots available to the producers again.
+     *
+     * @param count The number of values to remove.
+     * @throws IllegalArgumentException if the given count is negative or exceeds the number of values in this buffer.
+     */
+    public void release(final int count) {
+        index.checkRelease(count);
+        final long head = index.head();
+
+        // Clear the slots before handing them back, producers may write to them right after
+        for (int i = 0; i < count; i++) {
+            elements[(int) (head + i) & index.mask] = null;
+        }
+
+        index.release(count);
+    }
+
+    /**
+     * Passes all readable values of this buffer to the given function
+     * as one or two windows, and removes them afterwards.
+     *
+     * @param consumer The function to call with every window.
+     * @return The number of values which were removed.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainWindows(final @NotNull Consumer<? super Slice<T>> consumer) {
+        final int readable = index.readable();
+
+        if (readable == 0) {
+            return 0;
+        }
+
+        final int start = (int) index.head() & index.mask;
+        final int first = Math.min(readable, index.capacity - start);
+        consumer.accept(Slice.of((T[]) elements, start, first));
+
+        if (first < readable) {
+            consumer.accept(Slice.of((T[]) elements, 0, readable - first));
+        }
+
+        release(readable);
+        return readable;
+    }
+
+    /**
+     * Passes all readable values of this buffer to the given function, and removes them afterwards.
+     *
+     * @param consumer The function to call with every value.
+     * @return The number of values which were removed.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(final @NotNull Consumer<? super T> consumer) {
+        final int readable = index.readable();
+        final long head = index.head();
+
+        for (int i = 0; i < readable; i++) {
+            consumer.accept((T) elements[(int) (head + i) & index.mask]);
+        }
+
+        release(readable);
+        return readable;
+    }
+
+    /**
+     * Copies all readable values of this buffer into a new array, without removing them.
+     *
+     * @return A new array containing all readable values, oldest first.
+     */
+    public @NotNull Object[] toArray() {
+        final int readable = index.readable();
+        final long head = index.head();
+        final Object[] result = new Object[readable];
+
+        for (int i = 0; i < readable; i++) {
+            result[i] = elements[(int) (head + i) & index.mask];
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @Nullable T peek() {
+        return !index.hasReadable() ? null : (T) elements[(int) index.head() & index.mask];
+    }
+
+    @Override
+    public int size() {
+        return index.readable();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Slice<T> asSlice() {
+        final Object[] elements = toArray();
+        return Slice.of((T[]) elements, 0, elements.length);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        final int readable = index.readable();
+        final long head = index.head();
+
+        return new Iterator<T>() {
+            private int offset;
+
+            @Override
+            public boolean hasNext() {
+                return offset < readable;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public @NotNull T next() {
+                if (offset >= readable) {
+                    throw new NoSuchElementException();
+                }
+
+                return (T) elements[(int) (head + offset++) & index.mask];
+            }
+        };
+    }
+
+    // Object functions
+
+    @Override
+    public @NotNull String toString() {
+        return Arrays.toString(toArray());
+    }
+}
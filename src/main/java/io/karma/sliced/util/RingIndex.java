@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The index bookkeeping shared by all ring buffers.
+ * <p>
+ * Indices grow monotonically and are mapped to slots with a mask.
+ * The consumer owns the head index, producers claim slots by advancing
+ * the tail index. With a single producer, the tail is published with an
+ * ordered store after the element was written, so every index below the tail
+ * is readable. With multiple producers, the tail is advanced with a CAS before
+ * the element is written, and every slot is published separately by storing
+ * its index plus one into a sequence array, so the consumer only reads
+ * the contiguous run of published slots after the head. The consumer remembers
+ * how far that run was found to reach, so every slot is only scanned once.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+final class RingIndex {
+    final int capacity;
+    final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final @Nullable AtomicLongArray sequences;
+    private long limit; // Owned by the consumer, every index below it is published
+
+    RingIndex(final int capacity, final boolean multiProducer) {
+        if (capacity <= 0 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        mask = this.capacity - 1;
+        sequences = multiProducer ? new AtomicLongArray(this.capacity) : null;
+    }
+
+    boolean isMultiProducer() {
+        return sequences != null;
+    }
+
+    /**
+     * Claims the next slot for writing.
+     *
+     * @return The index of the claimed slot, or -1 if the buffer is full.
+     */
+    long claim() {
+        if (sequences == null) {
+            final long index = tail.get();
+            return index - head.get() >= capacity ? -1L : index;
+        }
+
+        while (true) {
+            final long index = tail.get();
+
+            if (index - head.get() >= capacity) {
+                return -1L;
+            }
+            else if (tail.compareAndSet(index, index + 1)) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Makes the element written to the slot at the given index readable.
+     *
+     * @param index The index returned by {@link #claim()}.
+     */
+    void publish(final long index) {
+        if (sequences == null) {
+            tail.lazySet(index + 1);
+            return;
+        }
+
+        sequences.lazySet((int) index & mask, index + 1);
+    }
+
+    long head() {
+        return head.get();
+    }
+
+    /**
+     * @return The number of contiguous, readable elements after the head.
+     */
+    int readable() {
+        return readable(capacity);
+    }
+
+    /**
+     * @return True if the element at the head is readable.
+     */
+    boolean hasReadable() {
+        return readable(1) != 0;
+    }
+
+    /**
+     * Determines the number of contiguous, readable elements after the head,
+     * without looking past the given number of elements.
+     *
+     * @param max The maximum number of elements to look for.
+     * @return The number of readable elements, at most the given maximum.
+     */
+    int readable(final int max) {
+        final long head = this.head.get();
+        final long tail = this.tail.get();
+
+        if (sequences == null) {
+            return (int) Math.min(tail - head, max);
+        }
+
+        final long end = Math.min(tail, head + max);
+        long limit = Math.max(this.limit, head);
+
+        while (limit < end && sequences.get((int) limit & mask) == limit + 1) {
+            limit++;
+        }
+
+        this.limit = limit;
+        return (int) Math.min(limit - head, max);
+    }
+
+    /**
+     * Ensures that the given number of slots after the head may be released.
+     * Slots which were claimed but not published yet are still owned by their producer.
+     *
+     * @param count The number of elements to release.
+     * @throws IllegalArgumentException if the given count is negative or exceeds the number of readable elements.
+     */
+    void checkRelease(final int count) {
+        if (count < 0 || count > readable(count)) {
+            throw new IllegalArgumentException("Cannot release more elements than are readable");
+        }
+    }
+
+    /**
+     * Hands the given number of slots after the head back to the producers.
+     * The count must not exceed the number of readable elements,
+     * see {@link #checkRelease(int)}.
+     *
+     * @param count The number of elements to release.
+     */
+    void release(final int count) {
+        head.lazySet(head.get() + count);
+    }
+}
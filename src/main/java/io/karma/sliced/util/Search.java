@@ -0,0 +1,624 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Fast substring search over primitive array ranges and character sequences.
+ * <p>
+ * Single elements are found with a plain linear scan, which the JIT
+ * unrolls and vectorizes where possible. Longer needles are found using
+ * Boyer-Moore-Horspool, which skips ahead by up to the length of the needle
+ * on every mismatch. {@code char} values are hashed into a 256 entry skip table
+ * by their lower 8 bits, keeping the smallest skip distance on collisions.
+ * <p>
+ * All functions return the index of the match relative to the given offset,
+ * or -1 if the needle could not be found.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.STABLE)
+public final class Search {
+    private static final int SKIP_TABLE_SIZE = 256;
+    private static final int SKIP_TABLE_MASK = SKIP_TABLE_SIZE - 1;
+
+    // @formatter:off
+    private Search() {}
+    // @formatter:on
+
+    /**
+     * Finds the first occurrence of the given value within the given range of a {@code char} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param value  The value to search for.
+     * @return The index of the first occurrence relative to the given offset, or -1.
+     */
+    public static int indexOf(final char[] ref, final int offset, final int size, final char value) {
+        checkRange(ref.length, offset, size);
+        final int end = offset + size;
+
+        for (int i = offset; i < end; i++) {
+            if (ref[i] == value) {
+                return i - offset;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the given value within the given range of a {@code char} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param value  The value to search for.
+     * @return The index of the last occurrence relative to the given offset, or -1.
+     */
+    public static int lastIndexOf(final char[] ref, final int offset, final int size, final char value) {
+        checkRange(ref.length, offset, size);
+
+        for (int i = offset + size - 1; i >= offset; i--) {
+            if (ref[i] == value) {
+                return i - offset;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of the given needle within the given range of a {@code char} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param needle The sequence to search for.
+     * @return The index of the first occurrence relative to the given offset,
+     * 0 if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int indexOf(final char[] ref, final int offset, final int size,
+                              final @NotNull CharSequence needle) {
+        checkRange(ref.length, offset, size);
+        final int needleSize = needle.length();
+
+        if (needleSize == 0) {
+            return 0;
+        }
+        else if (needleSize > size) {
+            return -1;
+        }
+        else if (needleSize == 1) {
+            return indexOf(ref, offset, size, needle.charAt(0));
+        }
+
+        final char[] pattern = toCharArray(needle);
+        final int[] skips = forwardSkips(pattern);
+        final int last = needleSize - 1;
+        final char lastValue = pattern[last];
+        final int end = offset + size - needleSize;
+        int index = offset;
+
+        while (index <= end) {
+            final char value = ref[index + last];
+
+            if (value == lastValue && matches(ref, index, pattern, 0, last)) {
+                return index - offset;
+            }
+
+            index += skips[value & SKIP_TABLE_MASK];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the given needle within the given range of a {@code char} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param needle The sequence to search for.
+     * @return The index of the last occurrence relative to the given offset,
+     * the given size if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int lastIndexOf(final char[] ref, final int offset, final int size,
+                                  final @NotNull CharSequence needle) {
+        checkRange(ref.length, offset, size);
+        final int needleSize = needle.length();
+
+        if (needleSize == 0) {
+            return size;
+        }
+        else if (needleSize > size) {
+            return -1;
+        }
+        else if (needleSize == 1) {
+            return lastIndexOf(ref, offset, size, needle.charAt(0));
+        }
+
+        final char[] pattern = toCharArray(needle);
+        final int[] skips = backwardSkips(pattern);
+        final char firstValue = pattern[0];
+        int index = offset + size - needleSize;
+
+        while (index >= offset) {
+            final char value = ref[index];
+
+            if (value == firstValue && matches(ref, index, pattern, 1, needleSize)) {
+                return index - offset;
+            }
+
+            index -= skips[value & SKIP_TABLE_MASK];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of the given value within the given range of a character sequence.
+     *
+     * @param seq    The sequence to search.
+     * @param offset The offset into the sequence at which to start searching.
+     * @param size   The number of characters to search.
+     * @param value  The value to search for.
+     * @return The index of the first occurrence relative to the given offset, or -1.
+     */
+    public static int indexOf(final @NotNull CharSequence seq, final int offset, final int size, final char value) {
+        checkRange(seq.length(), offset, size);
+        final int end = offset + size;
+
+        for (int i = offset; i < end; i++) {
+            if (seq.charAt(i) == value) {
+                return i - offset;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the given value within the given range of a character sequence.
+     *
+     * @param seq    The sequence to search.
+     * @param offset The offset into the sequence at which to start searching.
+     * @param size   The number of characters to search.
+     * @param value  The value to search for.
+     * @return The index of the last occurrence relative to the given offset, or -1.
+     */
+    public static int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size,
+                                  final char value) {
+        checkRange(seq.length(), offset, size);
+
+        for (int i = offset + size - 1; i >= offset; i--) {
+            if (seq.charAt(i) == value) {
+                return i - offset;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of the given needle within the given range of a character sequence.
+     *
+     * @param seq    The sequence to search.
+     * @param offset The offset into the sequence at which to start searching.
+     * @param size   The number of characters to search.
+     * @param needle The sequence to search for.
+     * @return The index of the first occurrence relative to the given offset,
+     * 0 if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int indexOf(final @NotNull CharSequence seq, final int offset, final int size,
+                              final @NotNull CharSequence needle) {
+        checkRange(seq.length(), offset, size);
+        final int needleSize = needle.length();
+
+        if (needleSize == 0) {
+            return 0;
+        }
+        else if (needleSize > size) {
+            return -1;
+        }
+        else if (needleSize == 1) {
+            return indexOf(seq, offset, size, needle.charAt(0));
+        }
+
+        final char[] pattern = toCharArray(needle);
+        final int[] skips = forwardSkips(pattern);
+        final int last = needleSize - 1;
+        final char lastValue = pattern[last];
+        final int end = offset + size - needleSize;
+        int index = offset;
+
+        while (index <= end) {
+            final char value = seq.charAt(index + last);
+
+            if (value == lastValue && matches(seq, index, pattern, 0, last)) {
+                return index - offset;
+            }
+
+            index += skips[value & SKIP_TABLE_MASK];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of the given needle within the given range
+     * of a character sequence, ignoring case as defined by {@link CaseFolding}.
+     *
+     * @param seq    The sequence to search.
+     * @param offset The offset into the sequence at which to start searching.
+     * @param size   The number of characters to search.
+     * @param needle The sequence to search for.
+     * @return The index of the first occurrence relative to the given offset,
+     * 0 if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int indexOfIgnoreCase(final @NotNull CharSequence seq, final int offset, final int size,
+                                        final @NotNull CharSequence needle) {
+        checkRange(seq.length(), offset, size);
+        final int needleSize = needle.length();
+
+        if (needleSize == 0) {
+            return 0;
+        }
+        else if (needleSize > size) {
+            return -1;
+        }
+
+        final char[] pattern = new char[needleSize];
+
+        for (int i = 0; i < needleSize; i++) {
+            pattern[i] = CaseFolding.fold(needle.charAt(i));
+        }
+
+        // Skips are looked up by the folded value, so both cases of a character share an entry
+        final int[] skips = forwardSkips(pattern);
+        final int last = needleSize - 1;
+        final char lastValue = pattern[last];
+        final int end = offset + size - needleSize;
+        int index = offset;
+
+        while (index <= end) {
+            final char value = CaseFolding.fold(seq.charAt(index + last));
+
+            if (value == lastValue && matchesIgnoreCase(seq, index, pattern, last)) {
+                return index - offset;
+            }
+
+            index += skips[value & SKIP_TABLE_MASK];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the given needle within the given range of a character sequence.
+     *
+     * @param seq    The sequence to search.
+     * @param offset The offset into the sequence at which to start searching.
+     * @param size   The number of characters to search.
+     * @param needle The sequence to search for.
+     * @return The index of the last occurrence relative to the given offset,
+     * the given size if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int lastIndexOf(final @NotNull CharSequence seq, final int offset, final int size,
+                                  final @NotNull CharSequence needle) {
+        checkRange(seq.length(), offset, size);
+        final int needleSize = needle.length();
+
+        if (needleSize == 0) {
+            return size;
+        }
+        else if (needleSize > size) {
+            return -1;
+        }
+        else if (needleSize == 1) {
+            return lastIndexOf(seq, offset, size, needle.charAt(0));
+        }
+
+        final char[] pattern = toCharArray(needle);
+        final int[] skips = backwardSkips(pattern);
+        final char firstValue = pattern[0];
+        int index = offset + size - needleSize;
+
+        while (index >= offset) {
+            final char value = seq.charAt(index);
+
+            if (value == firstValue && matches(seq, index, pattern, 1, needleSize)) {
+                return index - offset;
+            }
+
+            index -= skips[value & SKIP_TABLE_MASK];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of the given value within the given range of a {@code byte} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param value  The value to search for.
+     * @return The index of the first occurrence relative to the given offset, or -1.
+     */
+    public static int indexOf(final byte[] ref, final int offset, final int size, final byte value) {
+        checkRange(ref.length, offset, size);
+        final int end = offset + size;
+
+        for (int i = offset; i < end; i++) {
+            if (ref[i] == value) {
+                return i - offset;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the given value within the given range of a {@code byte} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param value  The value to search for.
+     * @return The index of the last occurrence relative to the given offset, or -1.
+     */
+    public static int lastIndexOf(final byte[] ref, final int offset, final int size, final byte value) {
+        checkRange(ref.length, offset, size);
+
+        for (int i = offset + size - 1; i >= offset; i--) {
+            if (ref[i] == value) {
+                return i - offset;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the first occurrence of the given needle within the given range of a {@code byte} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param needle The bytes to search for.
+     * @return The index of the first occurrence relative to the given offset,
+     * 0 if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int indexOf(final byte[] ref, final int offset, final int size, final byte[] needle) {
+        return indexOf(ref, offset, size, needle, 0, needle.length);
+    }
+
+    /**
+     * Finds the first occurrence of the given range of a needle within the given range of a {@code byte} array.
+     *
+     * @param ref          The array to search.
+     * @param offset       The offset into the array at which to start searching.
+     * @param size         The number of elements to search.
+     * @param needle       The array containing the bytes to search for.
+     * @param needleOffset The offset into the needle array at which the bytes to search for start.
+     * @param needleSize   The number of bytes to search for.
+     * @return The index of the first occurrence relative to the given offset,
+     * 0 if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int indexOf(final byte[] ref, final int offset, final int size, final byte[] needle,
+                              final int needleOffset, final int needleSize) {
+        checkRange(ref.length, offset, size);
+        checkRange(needle.length, needleOffset, needleSize);
+
+        if (needleSize == 0) {
+            return 0;
+        }
+        else if (needleSize > size) {
+            return -1;
+        }
+        else if (needleSize == 1) {
+            return indexOf(ref, offset, size, needle[needleOffset]);
+        }
+
+        final int last = needleSize - 1;
+        final int[] skips = new int[SKIP_TABLE_SIZE];
+        Arrays.fill(skips, needleSize);
+
+        for (int i = 0; i < last; i++) {
+            skips[needle[needleOffset + i] & SKIP_TABLE_MASK] = last - i;
+        }
+
+        final byte lastValue = needle[needleOffset + last];
+        final int end = offset + size - needleSize;
+        int index = offset;
+
+        while (index <= end) {
+            final byte value = ref[index + last];
+
+            if (value == lastValue && matches(ref, index, needle, needleOffset, 0, last)) {
+                return index - offset;
+            }
+
+            index += skips[value & SKIP_TABLE_MASK];
+        }
+
+        return -1;
+    }
+
+    /**
+     * Finds the last occurrence of the given needle within the given range of a {@code byte} array.
+     *
+     * @param ref    The array to search.
+     * @param offset The offset into the array at which to start searching.
+     * @param size   The number of elements to search.
+     * @param needle The bytes to search for.
+     * @return The index of the last occurrence relative to the given offset,
+     * the given size if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int lastIndexOf(final byte[] ref, final int offset, final int size, final byte[] needle) {
+        return lastIndexOf(ref, offset, size, needle, 0, needle.length);
+    }
+
+    /**
+     * Finds the last occurrence of the given range of a needle within the given range of a {@code byte} array.
+     *
+     * @param ref          The array to search.
+     * @param offset       The offset into the array at which to start searching.
+     * @param size         The number of elements to search.
+     * @param needle       The array containing the bytes to search for.
+     * @param needleOffset The offset into the needle array at which the bytes to search for start.
+     * @param needleSize   The number of bytes to search for.
+     * @return The index of the last occurrence relative to the given offset,
+     * the given size if the needle is empty, or -1 if there is no occurrence.
+     */
+    public static int lastIndexOf(final byte[] ref, final int offset, final int size, final byte[] needle,
+                                  final int needleOffset, final int needleSize) {
+        checkRange(ref.length, offset, size);
+        checkRange(needle.length, needleOffset, needleSize);
+
+        if (needleSize == 0) {
+            return size;
+        }
+        else if (needleSize > size) {
+            return -1;
+        }
+        else if (needleSize == 1) {
+            return lastIndexOf(ref, offset, size, needle[needleOffset]);
+        }
+
+        final int[] skips = new int[SKIP_TABLE_SIZE];
+        Arrays.fill(skips, needleSize);
+
+        for (int i = needleSize - 1; i > 0; i--) {
+            skips[needle[needleOffset + i] & SKIP_TABLE_MASK] = i;
+        }
+
+        final byte firstValue = needle[needleOffset];
+        int index = offset + size - needleSize;
+
+        while (index >= offset) {
+            final byte value = ref[index];
+
+            if (value == firstValue && matches(ref, index, needle, needleOffset, 1, needleSize)) {
+                return index - offset;
+            }
+
+            index -= skips[value & SKIP_TABLE_MASK];
+        }
+
+        return -1;
+    }
+
+    // Skip distances when aligning the last character of the needle
+    private static int[] forwardSkips(final char[] pattern) {
+        final int size = pattern.length;
+        final int last = size - 1;
+        final int[] skips = new int[SKIP_TABLE_SIZE];
+        Arrays.fill(skips, size);
+
+        for (int i = 0; i < last; i++) {
+            skips[pattern[i] & SKIP_TABLE_MASK] = last - i;
+        }
+
+        return skips;
+    }
+
+    // Skip distances when aligning the first character of the needle
+    private static int[] backwardSkips(final char[] pattern) {
+        final int size = pattern.length;
+        final int[] skips = new int[SKIP_TABLE_SIZE];
+        Arrays.fill(skips, size);
+
+        for (int i = size - 1; i > 0; i--) {
+            skips[pattern[i] & SKIP_TABLE_MASK] = i;
+        }
+
+        return skips;
+    }
+
+    private static boolean matches(final char[] ref, final int index, final char[] pattern, final int start,
+                                   final int end) {
+        for (int i = start; i < end; i++) {
+            if (ref[index + i] != pattern[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matches(final CharSequence seq, final int index, final char[] pattern,
+                                   final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (seq.charAt(index + i) != pattern[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matches(final byte[] ref, final int index, final byte[] pattern,
+                                   final int patternOffset, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (ref[index + i] != pattern[patternOffset + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matchesIgnoreCase(final CharSequence seq, final int index, final char[] folded,
+                                             final int size) {
+        for (int i = 0; i < size; i++) {
+            if (CaseFolding.fold(seq.charAt(index + i)) != folded[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static char[] toCharArray(final CharSequence seq) {
+        if (seq instanceof String) {
+            return ((String) seq).toCharArray();
+        }
+
+        final int size = seq.length();
+        final char[] result = new char[size];
+
+        for (int i = 0; i < size; i++) {
+            result[i] = seq.charAt(i);
+        }
+
+        return result;
+    }
+
+    private static void checkRange(final int length, final int offset, final int size) {
+        if (offset < 0 || size < 0 || offset > length - size) {
+            throw new ArrayIndexOutOfBoundsException("Invalid index range");
+        }
+    }
+}
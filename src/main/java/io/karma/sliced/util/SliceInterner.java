@@ -0,0 +1,220 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.util;
+
+import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.CharSlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, thread-safe pool which deduplicates equal {@link CharSlice}
+ * and {@link ByteSlice} contents into canonical instances.
+ * <p>
+ * Canonical instances are backed by an exactly sized copy of the interned
+ * content, so they don't keep the (potentially large) storage of the
+ * slice they were created from alive.
+ * <p>
+ * The pool is organized as a lock-free, 8-way set-associative cache
+ * indexed by the 64-bit content hash of a slice. Once a set is full,
+ * a clock-style second-chance policy evicts an entry which was not
+ * looked up since the last time it was considered for eviction.
+ * Deduplication is best-effort: concurrent interning of the same
+ * content or eviction may hand out more than one canonical instance
+ * for equal contents, so compare interned slices with {@code equals}.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public final class SliceInterner {
+    private static final int WAYS = 8;
+    private static final long CHAR_SEED = 0x632BE59BD9B4E019L;
+    private static final long BYTE_SEED = 0x8CB92BA72F3D8DD7L;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int setMask;
+
+    /**
+     * Creates a new interner which holds at most (roughly) the given number of canonical instances.
+     *
+     * @param capacity The maximum number of canonical instances to retain.
+     *                 Rounded up to the next power of two which is a multiple of 8.
+     * @throws IllegalArgumentException if the given capacity is not greater than zero.
+     */
+    public SliceInterner(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+
+        final int sets = Math.max(1, Integer.highestOneBit(((capacity + WAYS - 1) / WAYS - 1) << 1));
+        entries = new AtomicReferenceArray<>(sets * WAYS);
+        setMask = sets - 1;
+    }
+
+    /**
+     * Retrieves the canonical instance for the content of the given slice,
+     * creating and retaining a compact copy of it if there is none yet.
+     *
+     * @param slice The slice to intern.
+     * @return A canonical slice with the same content as the given slice.
+     */
+    public @NotNull CharSlice intern(final @NotNull CharSlice slice) {
+        if (slice.length() == 0) {
+            return CharSlice.empty();
+        }
+
+        final long hash = slice.hash64(CHAR_SEED);
+        final int set = setOf(hash);
+
+        for (int i = 0; i < WAYS; i++) {
+            final Entry entry = entries.get(set + i);
+
+            if (entry == null || entry.hash != hash || !(entry.slice instanceof CharSlice)) {
+                continue;
+            }
+
+            final CharSlice candidate = (CharSlice) entry.slice;
+
+            if (candidate.rangeEquals(slice)) {
+                entry.markReferenced();
+                return candidate;
+            }
+        }
+
+        final CharSlice canonical = CharSlice.of(slice.toCharArray());
+        insert(set, hash, canonical);
+        return canonical;
+    }
+
+    /**
+     * Retrieves the canonical instance for the content of the given slice,
+     * creating and retaining a compact copy of it if there is none yet.
+     *
+     * @param slice The slice to intern.
+     * @return A canonical slice with the same content as the given slice.
+     */
+    public @NotNull ByteSlice intern(final @NotNull ByteSlice slice) {
+        if (slice.size() == 0) {
+            return ByteSlice.empty();
+        }
+
+        final long hash = slice.hash64(BYTE_SEED);
+        final int set = setOf(hash);
+
+        for (int i = 0; i < WAYS; i++) {
+            final Entry entry = entries.get(set + i);
+
+            if (entry == null || entry.hash != hash || !(entry.slice instanceof ByteSlice)) {
+                continue;
+            }
+
+            final ByteSlice candidate = (ByteSlice) entry.slice;
+
+            if (candidate.rangeEquals(slice)) {
+                entry.markReferenced();
+                return candidate;
+            }
+        }
+
+        final ByteSlice canonical = ByteSlice.of(slice.toByteArray());
+        insert(set, hash, canonical);
+        return canonical;
+    }
+
+    /**
+     * Retrieves the maximum number of canonical instances this interner retains.
+     *
+     * @return The maximum number of canonical instances this interner retains.
+     */
+    public int capacity() {
+        return entries.length();
+    }
+
+    /**
+     * Counts the canonical instances currently retained by this interner.
+     * This walks the entire pool, and the result may already be outdated
+     * when other threads are interning concurrently.
+     *
+     * @return The number of canonical instances currently retained by this interner.
+     */
+    public int size() {
+        final int capacity = entries.length();
+        int size = 0;
+
+        for (int i = 0; i < capacity; i++) {
+            if (entries.get(i) != null) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Drops all canonical instances retained by this interner.
+     */
+    public void clear() {
+        final int capacity = entries.length();
+
+        for (int i = 0; i < capacity; i++) {
+            entries.set(i, null);
+        }
+    }
+
+    private int setOf(final long hash) {
+        return ((int) (hash ^ hash >>> 32) & setMask) * WAYS;
+    }
+
+    private void insert(final int set, final long hash, final @NotNull Object slice) {
+        final Entry newEntry = new Entry(hash, slice);
+        final int start = (int) (hash >>> 61); // Spread victims of different hashes across the set
+
+        // Two passes at most, since the first one clears all reference bits
+        for (int i = 0; i < WAYS << 1; i++) {
+            final int index = set + ((start + i) & (WAYS - 1));
+            final Entry entry = entries.get(index);
+
+            if (entry == null || !entry.referenced) {
+                entries.set(index, newEntry);
+                return;
+            }
+
+            entry.referenced = false;
+        }
+    }
+
+    private static final class Entry {
+        final long hash;
+        final Object slice;
+        // Racy on purpose; a lost update only affects which entry gets evicted
+        boolean referenced;
+
+        Entry(final long hash, final @NotNull Object slice) {
+            this.hash = hash;
+            this.slice = slice;
+        }
+
+        void markReferenced() {
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
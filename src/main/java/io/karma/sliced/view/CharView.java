@@ -19,6 +19,8 @@ import io.karma.sliced.iterator.CharIterator;
 import io.karma.sliced.iterator.TextIterator;
 import io.karma.sliced.iterator.impl.CharSeqCharIterator;
 import io.karma.sliced.iterator.impl.CharSeqTextIterator;
+import io.karma.sliced.util.Matchers;
+import io.karma.sliced.util.PatternCache;
 import io.karma.sliced.view.impl.ArrayCharView;
 import io.karma.sliced.view.impl.EmptyCharView;
 import org.apiguardian.api.API;
@@ -59,23 +61,85 @@ public interface CharView extends View<Character>, CharSequence {
     }
 
     /**
-     * Compiles this character sequence as a new {@link Pattern} instance.
+     * Compiles this character sequence as a {@link Pattern} instance.
+     * Patterns are cached by content in {@link PatternCache#shared()},
+     * so compiling equal sequences repeatedly neither copies nor recompiles them.
      *
-     * @return A new {@link Pattern} instance, containing this char slice
+     * @return A {@link Pattern} instance, containing this char slice
      * as its regular expression pattern.
      */
     default @NotNull Pattern compilePattern() {
-        return Pattern.compile(new String(toCharArray())); // why no CharSequence brian? WHY BRIAN?!
+        return PatternCache.shared().compile(this, 0);
     }
 
     /**
-     * @param pattern
-     * @return
+     * Compiles this character sequence as a {@link Pattern} instance with the given flags.
+     * Patterns are cached by content in {@link PatternCache#shared()},
+     * so compiling equal sequences repeatedly neither copies nor recompiles them.
+     *
+     * @param flags The match flags, as accepted by {@link Pattern#compile(String, int)}.
+     * @return A {@link Pattern} instance, containing this char slice
+     * as its regular expression pattern.
+     */
+    default @NotNull Pattern compilePattern(final int flags) {
+        return PatternCache.shared().compile(this, flags);
+    }
+
+    /**
+     * Creates a new {@link Matcher} which matches the given pattern against this view.
+     *
+     * @param pattern The pattern to match.
+     * @return A new matcher over this view.
      */
     default @NotNull Matcher matcher(final @NotNull Pattern pattern) {
         return pattern.matcher(this);
     }
 
+    /**
+     * Resets the given, caller-owned matcher to match against this view.
+     *
+     * @param matcher The matcher to reuse.
+     * @return The given matcher, reset to this view.
+     */
+    default @NotNull Matcher matcher(final @NotNull Matcher matcher) {
+        return matcher.reset(this);
+    }
+
+    /**
+     * Retrieves the matcher of the current thread for the given pattern,
+     * reset to match against this view. Pass it to {@link Matchers#release(Matcher)}
+     * once done, so the matcher doesn't keep this view reachable.
+     *
+     * @param pattern The pattern to match.
+     * @return The thread-local matcher for the given pattern.
+     * @see Matchers#local(Pattern, CharSequence)
+     */
+    default @NotNull Matcher localMatcher(final @NotNull Pattern pattern) {
+        return Matchers.local(pattern, this);
+    }
+
+    /**
+     * Checks whether this entire view matches the given pattern,
+     * without allocating a new matcher.
+     *
+     * @param pattern The pattern to match.
+     * @return True if this entire view matches the given pattern.
+     */
+    default boolean matches(final @NotNull Pattern pattern) {
+        return Matchers.matches(pattern, this);
+    }
+
+    /**
+     * Checks whether this view contains a match of the given pattern,
+     * without allocating a new matcher.
+     *
+     * @param pattern The pattern to find.
+     * @return True if the given pattern matches any part of this view.
+     */
+    default boolean find(final @NotNull Pattern pattern) {
+        return Matchers.find(pattern, this);
+    }
+
     /**
      * Creates a new {@code char} array with the appropriate size,
      * and copies all values into new newly created array using {@link System#arraycopy(Object, int, Object, int, int)}.
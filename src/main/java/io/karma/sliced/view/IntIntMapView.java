@@ -0,0 +1,236 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view;
+
+import io.karma.sliced.iterator.IntIterator;
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.view.impl.IntIntHashMapView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A specialization of {@link MapView} for {@code int} keys and values,
+ * which provides access to its entries without boxing them.
+ * <p>
+ * Instances created by this interface are immutable, and store their
+ * entries in a compact open-addressing hash table of parallel arrays,
+ * instead of one entry object per mapping.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public interface IntIntMapView extends MapView<Integer, Integer> {
+    /**
+     * Creates a new map view of the given parallel arrays of keys and values.
+     * The arrays are copied into the hash table, and may be reused afterwards.
+     *
+     * @param keys   The keys of all entries.
+     * @param values The values of all entries, at the same index as their key.
+     * @return A new map view containing the given entries.
+     * @throws IllegalArgumentException if both arrays differ in length, or if a key occurs more than once.
+     */
+    static @NotNull IntIntMapView of(final int[] keys, final int[] values) {
+        return new IntIntHashMapView(keys, values);
+    }
+
+    /**
+     * Creates a new map view containing the entries of the given map.
+     *
+     * @param map The map whose entries to copy.
+     * @return A new map view containing the entries of the given map.
+     * @throws NullPointerException if the given map contains a null key or value.
+     */
+    static @NotNull IntIntMapView copyOf(final @NotNull Map<Integer, Integer> map) {
+        final int size = map.size();
+        final int[] keys = new int[size];
+        final int[] values = new int[size];
+        int index = 0;
+
+        for (final Entry<Integer, Integer> entry : map.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index++] = entry.getValue();
+        }
+
+        return new IntIntHashMapView(keys, values);
+    }
+
+    /**
+     * Determines whether the given key is present within this view.
+     *
+     * @param key The key to check for.
+     * @return True if the given key is present within this view.
+     */
+    boolean containsKey(final int key);
+
+    /**
+     * Determines whether the given value is present within this view at least once.
+     *
+     * @param value The value to check for.
+     * @return True if the given value is present within this view.
+     */
+    boolean containsValue(final int value);
+
+    /**
+     * Retrieves the value associated with the given key.
+     * Since there is no value to indicate a missing key, this returns 0 in that case;
+     * use {@link #getOrDefault(int, int)} or {@link #containsKey(int)} to tell both cases apart.
+     *
+     * @param key The key for which to retrieve the value.
+     * @return The value associated with the given key, or 0 if the given key doesn't exist.
+     */
+    int get(final int key);
+
+    /**
+     * Retrieves the value associated with the given key,
+     * or the given default value if the key doesn't exist.
+     *
+     * @param key          The key for which to retrieve the value.
+     * @param defaultValue The value to return if the given key doesn't exist.
+     * @return The value associated with the given key, or the given default value.
+     */
+    int getOrDefault(final int key, final int defaultValue);
+
+    /**
+     * Creates a new {@link IntIterator} over all keys of this view.
+     *
+     * @return A new iterator over all keys of this view.
+     */
+    @NotNull IntIterator keyIterator();
+
+    /**
+     * Creates a new {@link Spliterator.OfInt} over all keys of this view.
+     *
+     * @return A new spliterator over all keys of this view.
+     */
+    @NotNull Spliterator.OfInt keySpliterator();
+
+    /**
+     * Creates a new {@link IntIterator} over all values of this view,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new iterator over all values of this view.
+     */
+    @NotNull IntIterator valueIterator();
+
+    /**
+     * Creates a new {@link Spliterator.OfInt} over all values of this view.
+     *
+     * @return A new spliterator over all values of this view.
+     */
+    @NotNull Spliterator.OfInt valueSpliterator();
+
+    /**
+     * Copies all keys of this view into a new slice,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new slice containing all keys of this view.
+     */
+    @NotNull IntSlice keySlice();
+
+    /**
+     * Copies all values of this view into a new slice,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new slice containing all values of this view.
+     */
+    @NotNull IntSlice valueSlice();
+
+    /**
+     * Invokes the given consumer for every entry of this view,
+     * without boxing keys or values, or creating entry objects.
+     *
+     * @param consumer The consumer to invoke for every entry.
+     */
+    void forEachEntry(final @NotNull EntryConsumer consumer);
+
+    /**
+     * Creates a new non-parallel {@link IntStream} of all keys of this view.
+     *
+     * @return A new stream of all keys of this view.
+     */
+    default @NotNull IntStream keyIntStream() {
+        return StreamSupport.intStream(keySpliterator(), false);
+    }
+
+    /**
+     * Creates a new parallel {@link IntStream} of all keys of this view.
+     *
+     * @return A new parallel stream of all keys of this view.
+     */
+    default @NotNull IntStream parallelKeyIntStream() {
+        return StreamSupport.intStream(keySpliterator(), true);
+    }
+
+    /**
+     * Creates a new non-parallel {@link IntStream} of all values of this view.
+     *
+     * @return A new stream of all values of this view.
+     */
+    default @NotNull IntStream valueIntStream() {
+        return StreamSupport.intStream(valueSpliterator(), false);
+    }
+
+    /**
+     * Creates a new parallel {@link IntStream} of all values of this view.
+     *
+     * @return A new parallel stream of all values of this view.
+     */
+    default @NotNull IntStream parallelValueIntStream() {
+        return StreamSupport.intStream(valueSpliterator(), true);
+    }
+
+    @Override
+    default boolean containsKey(final @Nullable Integer key) {
+        return key != null && containsKey(key.intValue());
+    }
+
+    @Override
+    default boolean containsValue(final @Nullable Integer value) {
+        return value != null && containsValue(value.intValue());
+    }
+
+    @Override
+    default Integer get(final @Nullable Integer key) {
+        if (key == null || !containsKey(key.intValue())) {
+            return null;
+        }
+
+        return get(key.intValue());
+    }
+
+    /**
+     * Accepts the key and value of a single entry of a {@link IntIntMapView}.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+        /**
+         * Accepts the given entry.
+         *
+         * @param key   The key of the entry.
+         * @param value The value of the entry.
+         */
+        void accept(final int key, final int value);
+    }
+}
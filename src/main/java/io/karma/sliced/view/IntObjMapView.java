@@ -0,0 +1,208 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view;
+
+import io.karma.sliced.iterator.IntIterator;
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.view.impl.IntObjHashMapView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A specialization of {@link MapView} for {@code int} keys,
+ * which provides access to its keys without boxing them.
+ * <p>
+ * Instances created by this interface are immutable, and store their
+ * entries in a compact open-addressing hash table of parallel arrays,
+ * instead of one entry object per mapping.
+ *
+ * @param <V> The value type of this view.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public interface IntObjMapView<V> extends MapView<Integer, V> {
+    /**
+     * Creates a new map view of the given parallel arrays of keys and values.
+     * The arrays are copied into the hash table, and may be reused afterwards.
+     *
+     * @param <V>    The value type of the view to create.
+     * @param keys   The keys of all entries.
+     * @param values The values of all entries, at the same index as their key.
+     * @return A new map view containing the given entries.
+     * @throws IllegalArgumentException if both arrays differ in length, or if a key occurs more than once.
+     */
+    static <V> @NotNull IntObjMapView<V> of(final int[] keys, final V[] values) {
+        return new IntObjHashMapView<>(keys, values);
+    }
+
+    /**
+     * Creates a new map view containing the entries of the given map.
+     *
+     * @param <V> The value type of the view to create.
+     * @param map The map whose entries to copy.
+     * @return A new map view containing the entries of the given map.
+     * @throws NullPointerException if the given map contains a null key.
+     */
+    static <V> @NotNull IntObjMapView<V> copyOf(final @NotNull Map<Integer, ? extends V> map) {
+        final int size = map.size();
+        final int[] keys = new int[size];
+        final Object[] values = new Object[size];
+        int index = 0;
+
+        for (final Entry<Integer, ? extends V> entry : map.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index++] = entry.getValue();
+        }
+
+        return new IntObjHashMapView<>(keys, values);
+    }
+
+    /**
+     * Determines whether the given key is present within this view.
+     *
+     * @param key The key to check for.
+     * @return True if the given key is present within this view.
+     */
+    boolean containsKey(final int key);
+
+    /**
+     * Retrieves the value associated with the given key.
+     *
+     * @param key The key for which to retrieve the value.
+     * @return The value associated with the given key. Null if the given key doesn't exist.
+     */
+    V get(final int key);
+
+    /**
+     * Retrieves the value associated with the given key,
+     * or the given default value if the key doesn't exist.
+     *
+     * @param key          The key for which to retrieve the value.
+     * @param defaultValue The value to return if the given key doesn't exist.
+     * @return The value associated with the given key, or the given default value.
+     */
+    V getOrDefault(final int key, final V defaultValue);
+
+    /**
+     * Creates a new {@link IntIterator} over all keys of this view.
+     *
+     * @return A new iterator over all keys of this view.
+     */
+    @NotNull IntIterator keyIterator();
+
+    /**
+     * Creates a new {@link Spliterator.OfInt} over all keys of this view.
+     *
+     * @return A new spliterator over all keys of this view.
+     */
+    @NotNull Spliterator.OfInt keySpliterator();
+
+    /**
+     * Creates a new iterator over all values of this view,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new iterator over all values of this view.
+     */
+    @NotNull Iterator<V> valueIterator();
+
+    /**
+     * Creates a new spliterator over all values of this view.
+     *
+     * @return A new spliterator over all values of this view.
+     */
+    @NotNull Spliterator<V> valueSpliterator();
+
+    /**
+     * Copies all keys of this view into a new slice,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new slice containing all keys of this view.
+     */
+    @NotNull IntSlice keySlice();
+
+    /**
+     * Invokes the given consumer for every entry of this view,
+     * without boxing keys or creating entry objects.
+     *
+     * @param consumer The consumer to invoke for every entry.
+     */
+    void forEachEntry(final @NotNull EntryConsumer<? super V> consumer);
+
+    /**
+     * Creates a new non-parallel {@link IntStream} of all keys of this view.
+     *
+     * @return A new stream of all keys of this view.
+     */
+    default @NotNull IntStream keyIntStream() {
+        return StreamSupport.intStream(keySpliterator(), false);
+    }
+
+    /**
+     * Creates a new parallel {@link IntStream} of all keys of this view.
+     *
+     * @return A new parallel stream of all keys of this view.
+     */
+    default @NotNull IntStream parallelKeyIntStream() {
+        return StreamSupport.intStream(keySpliterator(), true);
+    }
+
+    @Override
+    default @NotNull Stream<V> valueStream() {
+        return StreamSupport.stream(valueSpliterator(), false);
+    }
+
+    @Override
+    default @NotNull Stream<V> parallelValueStream() {
+        return StreamSupport.stream(valueSpliterator(), true);
+    }
+
+    @Override
+    default boolean containsKey(final @Nullable Integer key) {
+        return key != null && containsKey(key.intValue());
+    }
+
+    @Override
+    default V get(final @Nullable Integer key) {
+        return key == null ? null : get(key.intValue());
+    }
+
+    /**
+     * Accepts the key and value of a single entry of an {@link IntObjMapView}.
+     *
+     * @param <V> The value type of the entry.
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V> {
+        /**
+         * Accepts the given entry.
+         *
+         * @param key   The key of the entry.
+         * @param value The value of the entry.
+         */
+        void accept(final int key, final V value);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view;
+
+import io.karma.sliced.iterator.LongIterator;
+import io.karma.sliced.slice.LongSlice;
+import io.karma.sliced.view.impl.LongLongHashMapView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A specialization of {@link MapView} for {@code long} keys and values,
+ * which provides access to its entries without boxing them.
+ * <p>
+ * Instances created by this interface are immutable, and store their
+ * entries in a compact open-addressing hash table of parallel arrays,
+ * instead of one entry object per mapping.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public interface LongLongMapView extends MapView<Long, Long> {
+    /**
+     * Creates a new map view of the given parallel arrays of keys and values.
+     * The arrays are copied into the hash table, and may be reused afterwards.
+     *
+     * @param keys   The keys of all entries.
+     * @param values The values of all entries, at the same index as their key.
+     * @return A new map view containing the given entries.
+     * @throws IllegalArgumentException if both arrays differ in length, or if a key occurs more than once.
+     */
+    static @NotNull LongLongMapView of(final long[] keys, final long[] values) {
+        return new LongLongHashMapView(keys, values);
+    }
+
+    /**
+     * Creates a new map view containing the entries of the given map.
+     *
+     * @param map The map whose entries to copy.
+     * @return A new map view containing the entries of the given map.
+     * @throws NullPointerException if the given map contains a null key or value.
+     */
+    static @NotNull LongLongMapView copyOf(final @NotNull Map<Long, Long> map) {
+        final int size = map.size();
+        final long[] keys = new long[size];
+        final long[] values = new long[size];
+        int index = 0;
+
+        for (final Entry<Long, Long> entry : map.entrySet()) {
+            keys[index] = entry.getKey();
+            values[index++] = entry.getValue();
+        }
+
+        return new LongLongHashMapView(keys, values);
+    }
+
+    /**
+     * Determines whether the given key is present within this view.
+     *
+     * @param key The key to check for.
+     * @return True if the given key is present within this view.
+     */
+    boolean containsKey(final long key);
+
+    /**
+     * Determines whether the given value is present within this view at least once.
+     *
+     * @param value The value to check for.
+     * @return True if the given value is present within this view.
+     */
+    boolean containsValue(final long value);
+
+    /**
+     * Retrieves the value associated with the given key.
+     * Since there is no value to indicate a missing key, this returns 0 in that case;
+     * use {@link #getOrDefault(long, long)} or {@link #containsKey(long)} to tell both cases apart.
+     *
+     * @param key The key for which to retrieve the value.
+     * @return The value associated with the given key, or 0 if the given key doesn't exist.
+     */
+    long get(final long key);
+
+    /**
+     * Retrieves the value associated with the given key,
+     * or the given default value if the key doesn't exist.
+     *
+     * @param key          The key for which to retrieve the value.
+     * @param defaultValue The value to return if the given key doesn't exist.
+     * @return The value associated with the given key, or the given default value.
+     */
+    long getOrDefault(final long key, final long defaultValue);
+
+    /**
+     * Creates a new {@link LongIterator} over all keys of this view.
+     *
+     * @return A new iterator over all keys of this view.
+     */
+    @NotNull LongIterator keyIterator();
+
+    /**
+     * Creates a new {@link Spliterator.OfLong} over all keys of this view.
+     *
+     * @return A new spliterator over all keys of this view.
+     */
+    @NotNull Spliterator.OfLong keySpliterator();
+
+    /**
+     * Creates a new {@link LongIterator} over all values of this view,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new iterator over all values of this view.
+     */
+    @NotNull LongIterator valueIterator();
+
+    /**
+     * Creates a new {@link Spliterator.OfLong} over all values of this view.
+     *
+     * @return A new spliterator over all values of this view.
+     */
+    @NotNull Spliterator.OfLong valueSpliterator();
+
+    /**
+     * Copies all keys of this view into a new slice,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new slice containing all keys of this view.
+     */
+    @NotNull LongSlice keySlice();
+
+    /**
+     * Copies all values of this view into a new slice,
+     * in the same order as {@link #keyIterator()}.
+     *
+     * @return A new slice containing all values of this view.
+     */
+    @NotNull LongSlice valueSlice();
+
+    /**
+     * Invokes the given consumer for every entry of this view,
+     * without boxing keys or values, or creating entry objects.
+     *
+     * @param consumer The consumer to invoke for every entry.
+     */
+    void forEachEntry(final @NotNull EntryConsumer consumer);
+
+    /**
+     * Creates a new non-parallel {@link LongStream} of all keys of this view.
+     *
+     * @return A new stream of all keys of this view.
+     */
+    default @NotNull LongStream keyLongStream() {
+        return StreamSupport.longStream(keySpliterator(), false);
+    }
+
+    /**
+     * Creates a new parallel {@link LongStream} of all keys of this view.
+     *
+     * @return A new parallel stream of all keys of this view.
+     */
+    default @NotNull LongStream parallelKeyLongStream() {
+        return StreamSupport.longStream(keySpliterator(), true);
+    }
+
+    /**
+     * Creates a new non-parallel {@link LongStream} of all values of this view.
+     *
+     * @return A new stream of all values of this view.
+     */
+    default @NotNull LongStream valueLongStream() {
+        return StreamSupport.longStream(valueSpliterator(), false);
+    }
+
+    /**
+     * Creates a new parallel {@link LongStream} of all values of this view.
+     *
+     * @return A new parallel stream of all values of this view.
+     */
+    default @NotNull LongStream parallelValueLongStream() {
+        return StreamSupport.longStream(valueSpliterator(), true);
+    }
+
+    @Override
+    default boolean containsKey(final @Nullable Long key) {
+        return key != null && containsKey(key.longValue());
+    }
+
+    @Override
+    default boolean containsValue(final @Nullable Long value) {
+        return value != null && containsValue(value.longValue());
+    }
+
+    @Override
+    default Long get(final @Nullable Long key) {
+        if (key == null || !containsKey(key.longValue())) {
+            return null;
+        }
+
+        return get(key.longValue());
+    }
+
+    /**
+     * Accepts the key and value of a single entry of a {@link LongLongMapView}.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+        /**
+         * Accepts the given entry.
+         *
+         * @param key   The key of the entry.
+         * @param value The value of the entry.
+         */
+        void accept(final long key, final long value);
+    }
+}
@@ -15,6 +15,8 @@
 
 package io.karma.sliced.view;
 
+import io.karma.sliced.view.impl.CompactMapView;
+import io.karma.sliced.view.impl.ConcurrentMapViewImpl;
 import io.karma.sliced.view.impl.EmptyMapView;
 import io.karma.sliced.view.impl.MapViewImpl;
 import org.apiguardian.api.API;
@@ -26,6 +28,11 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -50,6 +57,11 @@ public interface MapView<K, V> extends View<Entry<K, V>> {
 
     /**
      * Creates a new view instance which references the given {@link Map}.
+     * <p>
+     * For a {@link java.util.HashMap} or {@link java.util.TreeMap}, whose entries
+     * reflect value updates, the entries backing {@link #asSlice()} are collected once
+     * and reused until the size of the map changes, or {@link #refresh()} is called.
+     * For any other map, they are collected again on every call.
      *
      * @param <K> The key type of the given map and view to create.
      * @param <V> The value type of the given map and view to create.
@@ -60,6 +72,61 @@ public interface MapView<K, V> extends View<Entry<K, V>> {
         return new MapViewImpl<>(map);
     }
 
+    /**
+     * Creates a new, immutable view containing a frozen copy of the entries of the given map.
+     * <p>
+     * The entries are stored in a compact, array-backed open-addressing layout
+     * without any per-entry objects, which takes considerably less memory than
+     * the given map and speeds up lookups. Iteration follows the iteration order
+     * of the given map. The returned view may be shared between threads freely.
+     *
+     * @param <K> The key type of the view to create.
+     * @param <V> The value type of the view to create.
+     * @param map The map whose entries to copy.
+     * @return A new, immutable view containing the entries of the given map.
+     */
+    static <K, V> @NotNull MapView<K, V> copyOf(final @NotNull Map<? extends K, ? extends V> map) {
+        return new CompactMapView<>(map);
+    }
+
+    /**
+     * Creates a new, immutable view containing a snapshot of the entries of the given concurrent map.
+     * <p>
+     * The entries are collected with a single call to {@link Map#forEach}, which walks
+     * the table of a {@link java.util.concurrent.ConcurrentHashMap} directly, and are stored
+     * in the same layout as {@link #copyOf(Map)}. The returned view is always self-consistent:
+     * its size matches the number of entries it iterates over, and every key occurs once.
+     * It contains every mapping which was present for the entire copy, and may or may not contain
+     * mappings added, removed or replaced during the copy. For a snapshot of a single point in time,
+     * writers have to be paused while it is taken.
+     *
+     * @param <K> The key type of the view to create.
+     * @param <V> The value type of the view to create.
+     * @param map The concurrent map of which to create a snapshot.
+     * @return A new, immutable view containing the entries of the given map.
+     */
+    static <K, V> @NotNull MapView<K, V> snapshotOf(final @NotNull ConcurrentMap<? extends K, ? extends V> map) {
+        return new CompactMapView<>(map);
+    }
+
+    /**
+     * Creates a new, weakly consistent view which references the given concurrent map.
+     * <p>
+     * Lookups reflect the latest completed updates of the map. Iterating reflects the state
+     * of the map at some point at or since the creation of the iterator, and never throws
+     * {@link java.util.ConcurrentModificationException}. {@link #size()} is only an estimate
+     * while the map is modified concurrently. {@link #asSlice()} and {@link #toArray(IntFunction)}
+     * copy the entries on every call, so their size always matches their contents.
+     *
+     * @param <K> The key type of the given map and view to create.
+     * @param <V> The value type of the given map and view to create.
+     * @param map The concurrent map of which to create a view.
+     * @return A new view instance, which references the given map.
+     */
+    static <K, V> @NotNull MapView<K, V> concurrentOf(final @NotNull ConcurrentMap<K, V> map) {
+        return new ConcurrentMapViewImpl<>(map);
+    }
+
     /**
      * Determines whether the given key is present
      * within the map referenced by this view instance.
@@ -98,6 +165,17 @@ public interface MapView<K, V> extends View<Entry<K, V>> {
      */
     @NotNull Set<K> keys();
 
+    /**
+     * Creates a new read-only view of all keys contained within
+     * the map, which is referenced by this view instance.
+     * Unlike {@link #keys()}, the returned view never allows modifying the map.
+     *
+     * @return A new view of all keys contained within the map referenced by this view instance.
+     */
+    default @NotNull View<K> keyView() {
+        return View.of(keys());
+    }
+
     /**
      * Creates a new stream instance of all keys contained within
      * the map, which is referenced by this view instance.
@@ -128,6 +206,16 @@ public interface MapView<K, V> extends View<Entry<K, V>> {
      */
     @NotNull Collection<V> values();
 
+    /**
+     * Creates a new read-only view of all values contained within
+     * the map, which is referenced by this view instance.
+     *
+     * @return A new view of all values contained within the map referenced by this view instance.
+     */
+    default @NotNull View<V> valueView() {
+        return View.of(values());
+    }
+
     /**
      * Creates a new stream instance of all values contained within
      * the map, which is referenced by this view instance.
@@ -149,4 +237,44 @@ public interface MapView<K, V> extends View<Entry<K, V>> {
     default @NotNull Stream<V> parallelValueStream() {
         return values().parallelStream();
     }
+
+    /**
+     * Creates a new spliterator over all entries of the map referenced by this view,
+     * which knows the exact number of entries. Views backed by a map use the spliterator
+     * of its entry set, and array-backed views split their index range in halves,
+     * so parallel streams of all entries split evenly.
+     *
+     * @return A new spliterator over all entries of the map referenced by this view instance.
+     */
+    @Override
+    default @NotNull Spliterator<Entry<K, V>> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Calls the given function for every key and its associated value, in parallel.
+     * Views which store keys and values directly, or reference a
+     * {@link java.util.concurrent.ConcurrentHashMap}, pass them on without
+     * creating an entry object for every mapping.
+     * <p>
+     * The given function may be called from multiple threads at the same time,
+     * and in no particular order.
+     *
+     * @param consumer The function to call for every key and its associated value.
+     */
+    default void forEachParallel(final @NotNull BiConsumer<? super K, ? super V> consumer) {
+        parallelStream().forEach(entry -> consumer.accept(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Discards any state this view caches about the map it references,
+     * like the entries backing {@link #asSlice()}. Views which cache state
+     * detect changes of the map size on their own, this only needs to be called
+     * after the map was modified without changing its size, for example by
+     * removing one key and adding another one.
+     * Does nothing for views which don't cache any state.
+     */
+    // @formatter:off
+    default void refresh() {}
+    // @formatter:on
 }
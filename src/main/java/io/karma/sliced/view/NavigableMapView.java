@@ -0,0 +1,256 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view;
+
+import io.karma.sliced.view.impl.NavigableMapViewImpl;
+import io.karma.sliced.view.impl.SortedArrayMapView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+
+/**
+ * A specialized {@link MapView} whose entries are ordered by their keys,
+ * which provides access to the closest keys of a given key, and
+ * to key ranges of the referenced map.
+ * <p>
+ * Range views share the storage of the view they were created from,
+ * and {@link #asSlice()} provides indexed access to the entries in key order.
+ * <p>
+ * Like with {@link NavigableMap}, a range view remembers the bounds it was created with,
+ * not only the keys it contains. Creating a range view of a range view throws an
+ * {@link IllegalArgumentException} if one of the new bounds lies outside of these bounds,
+ * instead of silently narrowing the range.
+ *
+ * @param <K> The key type of this view.
+ * @param <V> The value type of this view.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.EXPERIMENTAL)
+public interface NavigableMapView<K, V> extends MapView<K, V> {
+    /**
+     * Creates a new view instance which references the given {@link NavigableMap}.
+     * Lookups and range views are delegated to the given map.
+     *
+     * @param <K> The key type of the given map and view to create.
+     * @param <V> The value type of the given map and view to create.
+     * @param map The map of which to create a view.
+     * @return A new view instance, which references the given map.
+     */
+    static <K, V> @NotNull NavigableMapView<K, V> of(final @NotNull NavigableMap<K, V> map) {
+        return new NavigableMapViewImpl<>(map);
+    }
+
+    /**
+     * Creates a new, immutable view containing a frozen copy of the entries of the given map,
+     * ordered by the given comparator.
+     * <p>
+     * The entries are stored in two parallel arrays sorted by key, so lookups
+     * are a binary search, and range views only narrow the window into the arrays.
+     *
+     * @param <K>        The key type of the view to create.
+     * @param <V>        The value type of the view to create.
+     * @param map        The map whose entries to copy.
+     * @param comparator The comparator to order the keys by, or null to use their natural ordering.
+     * @return A new, immutable view containing the entries of the given map.
+     * @throws IllegalArgumentException if the comparator considers two keys of the given map equal.
+     */
+    static <K, V> @NotNull NavigableMapView<K, V> copyOf(final @NotNull Map<? extends K, ? extends V> map,
+                                                        final @Nullable Comparator<? super K> comparator) {
+        return new SortedArrayMapView<>(map, comparator);
+    }
+
+    /**
+     * Creates a new, immutable view containing a frozen copy of the entries of the given map.
+     * The order of a {@link SortedMap} is retained, the entries of any other map
+     * are ordered by the natural ordering of their keys.
+     *
+     * @param <K> The key type of the view to create.
+     * @param <V> The value type of the view to create.
+     * @param map The map whose entries to copy.
+     * @return A new, immutable view containing the entries of the given map.
+     * @see #copyOf(Map, Comparator)
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> @NotNull NavigableMapView<K, V> copyOf(final @NotNull Map<? extends K, ? extends V> map) { // @formatter:off
+        return new SortedArrayMapView<>(map, map instanceof SortedMap
+            ? ((SortedMap<K, ?>) map).comparator()
+            : null);
+    } // @formatter:on
+
+    /**
+     * Retrieves the comparator used to order the keys of this view.
+     *
+     * @return The comparator used to order the keys of this view,
+     * or null if the keys use their natural ordering.
+     */
+    @Nullable Comparator<? super K> comparator();
+
+    /**
+     * Retrieves the lowest key of this view.
+     *
+     * @return The lowest key of this view.
+     * @throws NoSuchElementException if this view is empty.
+     */
+    K firstKey();
+
+    /**
+     * Retrieves the highest key of this view.
+     *
+     * @return The highest key of this view.
+     * @throws NoSuchElementException if this view is empty.
+     */
+    K lastKey();
+
+    /**
+     * Retrieves the entry with the highest key less than or equal to the given key.
+     *
+     * @param key The key to search for.
+     * @return The entry with the highest key less than or equal to the given key,
+     * or null if there is no such key.
+     */
+    @Nullable Entry<K, V> floorEntry(final K key);
+
+    /**
+     * Retrieves the entry with the lowest key greater than or equal to the given key.
+     *
+     * @param key The key to search for.
+     * @return The entry with the lowest key greater than or equal to the given key,
+     * or null if there is no such key.
+     */
+    @Nullable Entry<K, V> ceilingEntry(final K key);
+
+    /**
+     * Retrieves the entry with the highest key strictly less than the given key.
+     *
+     * @param key The key to search for.
+     * @return The entry with the highest key strictly less than the given key,
+     * or null if there is no such key.
+     */
+    @Nullable Entry<K, V> lowerEntry(final K key);
+
+    /**
+     * Retrieves the entry with the lowest key strictly greater than the given key.
+     *
+     * @param key The key to search for.
+     * @return The entry with the lowest key strictly greater than the given key,
+     * or null if there is no such key.
+     */
+    @Nullable Entry<K, V> higherEntry(final K key);
+
+    /**
+     * Retrieves the highest key less than or equal to the given key.
+     *
+     * @param key The key to search for.
+     * @return The highest key less than or equal to the given key,
+     * or null if there is no such key.
+     */
+    default @Nullable K floorKey(final K key) {
+        final Entry<K, V> entry = floorEntry(key);
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * Retrieves the lowest key greater than or equal to the given key.
+     *
+     * @param key The key to search for.
+     * @return The lowest key greater than or equal to the given key,
+     * or null if there is no such key.
+     */
+    default @Nullable K ceilingKey(final K key) {
+        final Entry<K, V> entry = ceilingEntry(key);
+        return entry == null ? null : entry.getKey();
+    }
+
+    /**
+     * Creates a view of the entries of this view whose keys lie within the given range.
+     * The returned view references the same storage as this view.
+     *
+     * @param fromKey       The lower bound of the range.
+     * @param fromInclusive True if the lower bound itself is part of the range.
+     * @param toKey         The upper bound of the range.
+     * @param toInclusive   True if the upper bound itself is part of the range.
+     * @return A view of the entries whose keys lie within the given range.
+     * @throws IllegalArgumentException if the lower bound is greater than the upper bound,
+     *                                  or if a bound lies outside of the range of this view.
+     */
+    @NotNull NavigableMapView<K, V> subView(final K fromKey, final boolean fromInclusive, final K toKey,
+                                            final boolean toInclusive);
+
+    /**
+     * Creates a view of the entries of this view whose keys are greater than or equal
+     * to the given lower bound, and strictly less than the given upper bound.
+     *
+     * @param fromKey The inclusive lower bound of the range.
+     * @param toKey   The exclusive upper bound of the range.
+     * @return A view of the entries whose keys lie within the given range.
+     * @throws IllegalArgumentException if the lower bound is greater than the upper bound,
+     *                                  or if a bound lies outside of the range of this view.
+     */
+    default @NotNull NavigableMapView<K, V> subView(final K fromKey, final K toKey) {
+        return subView(fromKey, true, toKey, false);
+    }
+
+    /**
+     * Creates a view of the entries of this view whose keys are less than the given key.
+     *
+     * @param toKey     The upper bound of the range.
+     * @param inclusive True if the upper bound itself is part of the range.
+     * @return A view of the entries whose keys are less than the given key.
+     * @throws IllegalArgumentException if the given bound lies outside of the range of this view.
+     */
+    @NotNull NavigableMapView<K, V> headView(final K toKey, final boolean inclusive);
+
+    /**
+     * Creates a view of the entries of this view whose keys are strictly less than the given key.
+     *
+     * @param toKey The exclusive upper bound of the range.
+     * @return A view of the entries whose keys are strictly less than the given key.
+     * @throws IllegalArgumentException if the given bound lies outside of the range of this view.
+     */
+    default @NotNull NavigableMapView<K, V> headView(final K toKey) {
+        return headView(toKey, false);
+    }
+
+    /**
+     * Creates a view of the entries of this view whose keys are greater than the given key.
+     *
+     * @param fromKey   The lower bound of the range.
+     * @param inclusive True if the lower bound itself is part of the range.
+     * @return A view of the entries whose keys are greater than the given key.
+     * @throws IllegalArgumentException if the given bound lies outside of the range of this view.
+     */
+    @NotNull NavigableMapView<K, V> tailView(final K fromKey, final boolean inclusive);
+
+    /**
+     * Creates a view of the entries of this view whose keys are greater than or equal to the given key.
+     *
+     * @param fromKey The inclusive lower bound of the range.
+     * @return A view of the entries whose keys are greater than or equal to the given key.
+     * @throws IllegalArgumentException if the given bound lies outside of the range of this view.
+     */
+    default @NotNull NavigableMapView<K, V> tailView(final K fromKey) {
+        return tailView(fromKey, true);
+    }
+}
@@ -18,8 +18,10 @@ package io.karma.sliced.view;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.view.impl.ArrayView;
 import io.karma.sliced.view.impl.CollectionView;
+import io.karma.sliced.view.impl.ConcurrentCollectionView;
 import io.karma.sliced.view.impl.EmptyView;
 import io.karma.sliced.view.impl.ListView;
+import io.karma.sliced.view.impl.VersionedCollectionView;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -92,6 +94,87 @@ public interface View<T> extends Iterable<T> {
         return new ListView<>(list);
     }
 
+    /**
+     * Creates a new versioned view instance which references the given {@link Collection}.
+     * <p>
+     * The view captures a modification stamp of the collection on creation, and every access
+     * afterwards throws a {@link ConcurrentModificationException} once the stamp has changed.
+     * This detects mutation without copying the collection. For a {@link List}, the stamp is
+     * the modification count the list maintains for its fail-fast iterators, so all structural
+     * modifications are detected. For any other collection, the stamp is its size, so outside of
+     * iteration only modifications which change the size are detected. Use
+     * {@link #versionedOf(Collection, IntSupplier)} to provide a precise stamp instead.
+     *
+     * @param <T>        The element type of the given collection, and the newly created view.
+     * @param collection The collection of which to create a view.
+     * @return A new versioned view instance, which references the given collection.
+     */
+    static <T> @NotNull View<T> versionedOf(final @NotNull Collection<T> collection) {
+        if (collection instanceof List) {
+            // Sub lists check the modification count of their parent on every access
+            final List<T> list = (List<T>) collection;
+            return new ListView<>(list.subList(0, list.size()));
+        }
+
+        return new VersionedCollectionView<>(collection, collection::size);
+    }
+
+    /**
+     * Creates a new versioned view instance which references the given {@link Collection},
+     * and uses the given function to obtain its modification stamp.
+     * The function is called once on creation, and once for every access afterwards,
+     * so it should be as cheap as reading a field.
+     *
+     * @param <T>        The element type of the given collection, and the newly created view.
+     * @param collection The collection of which to create a view.
+     * @param stamp      The function which returns the current modification stamp of the given collection.
+     * @return A new versioned view instance, which references the given collection.
+     * @see #versionedOf(Collection)
+     */
+    static <T> @NotNull View<T> versionedOf(final @NotNull Collection<T> collection,
+                                            final @NotNull IntSupplier stamp) {
+        return new VersionedCollectionView<>(collection, stamp);
+    }
+
+    /**
+     * Creates a new, immutable view containing a snapshot of the elements of the given collection.
+     * <p>
+     * The elements are copied into an array with a single call to {@link Collection#toArray()},
+     * so the size of the returned view always matches the number of elements it iterates over.
+     * For a {@link java.util.concurrent.CopyOnWriteArrayList} and synchronized collections,
+     * the snapshot reflects the state of the collection at one point in time. For weakly consistent
+     * collections like the key set of a {@link java.util.concurrent.ConcurrentHashMap},
+     * it contains every element which was present for the entire copy, and may or may not contain
+     * elements added or removed during the copy.
+     *
+     * @param <T>        The element type of the given collection, and the newly created view.
+     * @param collection The collection of which to create a snapshot.
+     * @return A new, immutable view containing the elements of the given collection.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull View<T> snapshotOf(final @NotNull Collection<? extends T> collection) {
+        return new ArrayView<>((T[]) collection.toArray());
+    }
+
+    /**
+     * Creates a new, weakly consistent view which references the given concurrent {@link Collection}.
+     * <p>
+     * Unlike {@link #of(Collection)}, the returned view never assumes that {@link #size()}
+     * matches the number of elements it iterates over. Iterating reflects the state of the
+     * collection at some point at or since the creation of the iterator, and never throws
+     * {@link ConcurrentModificationException}, if the iterators of the given collection don't.
+     * {@link #size()} is only an estimate while the collection is modified concurrently.
+     * {@link #asSlice()} and {@link #toArray(IntFunction)} take a snapshot like
+     * {@link #snapshotOf(Collection)}, so their size always matches their contents.
+     *
+     * @param <T>        The element type of the given collection, and the newly created view.
+     * @param collection The concurrent collection of which to create a view.
+     * @return A new view instance, which references the given collection.
+     */
+    static <T> @NotNull View<T> concurrentOf(final @NotNull Collection<T> collection) {
+        return new ConcurrentCollectionView<>(collection);
+    }
+
     /**
      * Retrieves the number of elements contained within the array/collection
      * referenced by this array.
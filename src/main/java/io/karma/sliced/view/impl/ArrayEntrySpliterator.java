@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the entries of a map stored in two parallel arrays
+ * of keys and values. Entries are created on demand, and splitting halves
+ * the index range, so both halves always know their exact size.
+ *
+ * @param <K> The key type of the entries.
+ * @param <V> The value type of the entries.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class ArrayEntrySpliterator<K, V> implements Spliterator<Entry<K, V>> {
+    private static final int CHARACTERISTICS = SIZED | SUBSIZED | ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    private final Object[] keys;
+    private final Object[] values;
+    private int index;
+    private final int end;
+
+    /**
+     * @param keys   The array of keys.
+     * @param values The array of values, at the same index as their key.
+     * @param index  The index of the first entry.
+     * @param end    The index past the last entry.
+     */
+    public ArrayEntrySpliterator(final @NotNull Object[] keys, final @NotNull Object[] values, final int index,
+                                 final int end) {
+        this.keys = keys;
+        this.values = values;
+        this.index = index;
+        this.end = end;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Entry<K, V> entryAt(final int index) {
+        return new SimpleImmutableEntry<>((K) keys[index], (V) values[index]);
+    }
+
+    @Override
+    public boolean tryAdvance(final @NotNull Consumer<? super Entry<K, V>> action) {
+        if (index >= end) {
+            return false;
+        }
+
+        action.accept(entryAt(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final @NotNull Consumer<? super Entry<K, V>> action) {
+        final int end = this.end;
+        int index = this.index;
+        this.index = end;
+
+        for (; index < end; index++) {
+            action.accept(entryAt(index));
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<Entry<K, V>> trySplit() {
+        final int middle = (index + end) >>> 1;
+
+        if (middle <= index) {
+            return null;
+        }
+
+        final ArrayEntrySpliterator<K, V> prefix = new ArrayEntrySpliterator<>(keys, values, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
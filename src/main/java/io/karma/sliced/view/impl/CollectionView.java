@@ -43,9 +43,10 @@ public class CollectionView<T, C extends Collection<T>> implements View<T> {
     @SuppressWarnings("unchecked")
     @Override
     public @NotNull Slice<T> asSlice() { // @formatter:off
-        return new ListSlice<>(ref instanceof List
+        final List<T> list = ref instanceof List
             ? (List<T>)ref
-            : new ArrayList<>(ref), 0, ref.size());
+            : new ArrayList<>(ref);
+        return new ListSlice<>(list, 0, list.size());
     } // @formatter:on
 
     @Override
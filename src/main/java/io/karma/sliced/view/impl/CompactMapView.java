@@ -0,0 +1,374 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ArraySlice;
+import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable {@link MapView} which stores a frozen copy of a map in a compact layout.
+ * <p>
+ * Keys and values are stored densely in parallel arrays, in the iteration order
+ * of the source map, alongside the hash of every key. An open-addressing table
+ * of {@code int} indices into these arrays, probed linearly and at most half full,
+ * is used for lookups. There are no per-entry objects, and a lookup touches the
+ * index table plus one element of each array in the common case.
+ * <p>
+ * All state is final, so instances may be shared between threads without synchronization.
+ *
+ * @param <K> The key type of this view.
+ * @param <V> The value type of this view.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class CompactMapView<K, V> implements MapView<K, V> {
+    private final Object[] keys;
+    private final Object[] values;
+    private final int[] hashes;
+    private final int[] table;
+    private final int mask;
+    private volatile Entry<K, V>[] entries;
+
+    public CompactMapView(final @NotNull Map<? extends K, ? extends V> map) {
+        this(Builder.of(map));
+    }
+
+    private CompactMapView(final @NotNull Builder builder) {
+        final int size = builder.size;
+
+        // Only a map which changed while it was copied leaves unused capacity behind
+        keys = size == builder.keys.length ? builder.keys : Arrays.copyOf(builder.keys, size);
+        values = size == builder.values.length ? builder.values : Arrays.copyOf(builder.values, size);
+        hashes = size == builder.hashes.length ? builder.hashes : Arrays.copyOf(builder.hashes, size);
+        table = builder.table;
+        mask = builder.table.length - 1;
+    }
+
+    private static int hash(final @Nullable Object key) {
+        final int hash = Objects.hashCode(key) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int capacityFor(final int size) {
+        // Keep the index table at most half full, it only costs 4 bytes per slot
+        return Math.max(2, Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1);
+    }
+
+    private int indexOf(final @Nullable Object key) {
+        final int hash = hash(key);
+        int slot = hash & mask;
+
+        for (int index; (index = table[slot]) != 0; slot = (slot + 1) & mask) {
+            final Object candidate = keys[--index];
+
+            if (hashes[index] == hash && (candidate == key || (key != null && key.equals(candidate)))) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable K key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final @Nullable V value) {
+        for (final Object element : values) {
+            if (Objects.equals(element, value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(final @Nullable K key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull Set<K> keys() {
+        return new AbstractSet<K>() {
+            @Override
+            public boolean contains(final Object obj) {
+                return indexOf(obj) >= 0;
+            }
+
+            @Override
+            public @NotNull Iterator<K> iterator() {
+                return (Iterator<K>) Arrays.asList(keys).iterator();
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public @NotNull Spliterator<K> spliterator() {
+                return Spliterators.spliterator(keys, Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull View<K> keyView() {
+        return new ArrayView<>((K[]) keys);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull Collection<V> values() {
+        return Collections.unmodifiableList(Arrays.asList((V[]) values));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull View<V> valueView() {
+        return new ArrayView<>((V[]) values);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Entry<K, V>[] entries() {
+        Entry<K, V>[] result = entries;
+
+        // Racy on purpose, at worst multiple threads create equal arrays
+        if (result == null) {
+            result = (Entry<K, V>[]) new Entry<?, ?>[keys.length];
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = new SimpleImmutableEntry<>((K) keys[i], (V) values[i]);
+            }
+
+            entries = result;
+        }
+
+        return result;
+    }
+
+    @Override
+    public @NotNull Slice<Entry<K, V>> asSlice() {
+        final Entry<K, V>[] entries = entries();
+        return new ArraySlice<>(entries, 0, entries.length);
+    }
+
+    @Override
+    public @NotNull Entry<K, V>[] toArray(final @NotNull IntFunction<Entry<K, V>[]> factory) {
+        final Entry<K, V>[] entries = entries();
+        final Entry<K, V>[] result = factory.apply(entries.length);
+        System.arraycopy(entries, 0, result, 0, entries.length);
+        return result;
+    }
+
+    @Override
+    public @NotNull Iterator<Entry<K, V>> iterator() {
+        return new Iterator<Entry<K, V>>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < keys.length;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public @NotNull Entry<K, V> next() {
+                if (index >= keys.length) {
+                    throw new NoSuchElementException();
+                }
+
+                final int current = index++;
+                return new SimpleImmutableEntry<>((K) keys[current], (V) values[current]);
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Spliterator<Entry<K, V>> spliterator() {
+        return new ArrayEntrySpliterator<>(keys, values, 0, keys.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachParallel(final @NotNull BiConsumer<? super K, ? super V> consumer) {
+        IntStream.range(0, keys.length).parallel().forEach(i -> consumer.accept((K) keys[i], (V) values[i]));
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        // Same as Map#hashCode, so it matches the hash of an equal map
+        int result = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            result += Objects.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        else if (!(obj instanceof MapView)) {
+            return false;
+        }
+
+        final MapView<?, ?> other = (MapView<?, ?>) obj;
+
+        if (other.size() != keys.length) {
+            return false;
+        }
+
+        for (final Entry<?, ?> entry : other) {
+            final int index = indexOf(entry.getKey());
+
+            if (index < 0 || !Objects.equals(values[index], entry.getValue())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(keys[i]).append('=').append(values[i]);
+        }
+
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Collects the entries of a map in a single traversal.
+     * The arrays are sized for the expected number of entries, and grow
+     * if the map changes concurrently. If a key is passed more than once,
+     * the latest value replaces the previous one.
+     */
+    private static final class Builder {
+        private Object[] keys;
+        private Object[] values;
+        private int[] hashes;
+        private int[] table;
+        private int size;
+
+        private Builder(final int expectedSize) {
+            keys = new Object[expectedSize];
+            values = new Object[expectedSize];
+            hashes = new int[expectedSize];
+            table = new int[capacityFor(expectedSize)];
+        }
+
+        private static @NotNull Builder of(final @NotNull Map<?, ?> map) {
+            final Builder builder = new Builder(map.size());
+            // Map#forEach is a single bulk traversal, which doesn't create entries for most maps
+            map.forEach(builder::put);
+            return builder;
+        }
+
+        private void put(final @Nullable Object key, final @Nullable Object value) {
+            final int hash = hash(key);
+            final int mask = table.length - 1;
+            int slot = hash & mask;
+
+            for (int index; (index = table[slot]) != 0; slot = (slot + 1) & mask) {
+                final Object candidate = keys[--index];
+
+                if (hashes[index] == hash && (candidate == key || (key != null && key.equals(candidate)))) {
+                    values[index] = value;
+                    return;
+                }
+            }
+
+            if (size == keys.length) {
+                grow();
+                put(key, value);
+                return;
+            }
+
+            table[slot] = size + 1;
+            keys[size] = key;
+            values[size] = value;
+            hashes[size++] = hash;
+        }
+
+        private void grow() {
+            final int capacity = Math.max(8, size + (size >> 1));
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            table = new int[capacityFor(capacity)];
+            final int mask = table.length - 1;
+
+            for (int index = 0; index < size; index++) {
+                int slot = hashes[index] & mask;
+
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+
+                table[slot] = index + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ArraySlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link CollectionView} over a concurrent collection, which never relies
+ * on the size of the collection matching the number of elements traversed.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class ConcurrentCollectionView<T> extends CollectionView<T, Collection<T>> {
+    public ConcurrentCollectionView(final @NotNull Collection<T> ref) {
+        super(ref);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull Slice<T> asSlice() {
+        final T[] elements = (T[]) ref.toArray();
+        return new ArraySlice<>(elements, 0, elements.length);
+    }
+
+    @Override
+    public @NotNull T[] toArray(final @NotNull IntFunction<T[]> factory) {
+        final Object[] elements = ref.toArray();
+        final T[] result = factory.apply(elements.length);
+        System.arraycopy(elements, 0, result, 0, elements.length);
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ArraySlice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link MapViewImpl} over a concurrent map, which takes a fresh copy
+ * of the entries for every slice or array instead of caching them,
+ * and never relies on the size of the map matching the number of entries traversed.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class ConcurrentMapViewImpl<K, V> extends MapViewImpl<K, V, ConcurrentMap<K, V>> {
+    public ConcurrentMapViewImpl(final @NotNull ConcurrentMap<K, V> ref) {
+        super(ref);
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Entry<K, V>[] entries() {
+        return (Entry<K, V>[]) ref.entrySet().toArray(new Entry<?, ?>[0]);
+    }
+
+    @Override
+    public @NotNull Entry<K, V>[] toArray(final @NotNull IntFunction<Entry<K, V>[]> factory) {
+        final Entry<K, V>[] entries = entries();
+        final Entry<K, V>[] result = factory.apply(entries.length);
+        System.arraycopy(entries, 0, result, 0, entries.length);
+        return result;
+    }
+
+    @Override
+    public @NotNull Slice<Entry<K, V>> asSlice() {
+        final Entry<K, V>[] entries = entries();
+        return new ArraySlice<>(entries, 0, entries.length);
+    }
+}
@@ -18,6 +18,7 @@ package io.karma.sliced.view.impl;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.util.NopIterator;
 import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -61,6 +62,16 @@ public final class EmptyMapView<K, V> implements MapView<K, V> {
         return Collections.emptyList();
     }
 
+    @Override
+    public @NotNull View<K> keyView() {
+        return View.empty();
+    }
+
+    @Override
+    public @NotNull View<V> valueView() {
+        return View.empty();
+    }
+
     @Override
     public int size() {
         return 0;
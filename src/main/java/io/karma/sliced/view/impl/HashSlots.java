@@ -0,0 +1,470 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.iterator.IntIterator;
+import io.karma.sliced.iterator.LongIterator;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Shared helpers for the open-addressing hash tables backing the primitive map views.
+ * <p>
+ * All tables use linear probing over power-of-two sized key arrays, in which
+ * a key of zero marks a free slot. The zero key itself is stored in an extra slot
+ * at index {@code capacity}, past the end of the probed range, so iterating over
+ * the slots {@code [0, capacity]} visits every entry and there is no need for
+ * a separate array of occupancy flags.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class HashSlots {
+    /**
+     * The maximum ratio of occupied slots.
+     */
+    public static final float LOAD_FACTOR = 0.75F;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    // @formatter:off
+    private HashSlots() {}
+    // @formatter:on
+
+    /**
+     * Computes the power-of-two capacity of a table which holds the given number of entries.
+     *
+     * @param size The number of entries to hold.
+     * @return The number of probed slots of the table.
+     */
+    public static int capacityFor(final int size) {
+        final long required = (long) Math.ceil(size / (double) LOAD_FACTOR);
+
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many entries for a hash table: " + size);
+        }
+
+        return Math.max(2, Integer.highestOneBit((int) Math.max(required, 1) - 1) << 1);
+    }
+
+    /**
+     * Scrambles the bits of the given key, so that consecutive keys spread across the table.
+     *
+     * @param key The key to scramble.
+     * @return The scrambled key.
+     */
+    public static int mix(final int key) {
+        final int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Scrambles the bits of the given key, so that consecutive keys spread across the table.
+     *
+     * @param key The key to scramble.
+     * @return The scrambled key.
+     */
+    public static int mix(final long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    /**
+     * Iterates the {@code int} elements of all occupied slots of a table.
+     */
+    public static final class IntSlotIterator implements IntIterator {
+        private final int[] keys;
+        private final int[] elements;
+        private final boolean hasZeroKey;
+        private int slot;
+
+        public IntSlotIterator(final int[] keys, final int[] elements, final boolean hasZeroKey) {
+            this.keys = keys;
+            this.elements = elements;
+            this.hasZeroKey = hasZeroKey;
+            slot = advance(keys, hasZeroKey, 0);
+        }
+
+        @Override
+        public int nextInt() {
+            if (slot >= keys.length) {
+                throw new NoSuchElementException();
+            }
+
+            final int result = elements[slot];
+            slot = advance(keys, hasZeroKey, slot + 1);
+            return result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+
+        @Override
+        public void reset() {
+            slot = advance(keys, hasZeroKey, 0);
+        }
+    }
+
+    /**
+     * Iterates the {@code long} elements of all occupied slots of a table.
+     */
+    public static final class LongSlotIterator implements LongIterator {
+        private final long[] keys;
+        private final long[] elements;
+        private final boolean hasZeroKey;
+        private int slot;
+
+        public LongSlotIterator(final long[] keys, final long[] elements, final boolean hasZeroKey) {
+            this.keys = keys;
+            this.elements = elements;
+            this.hasZeroKey = hasZeroKey;
+            slot = advance(keys, hasZeroKey, 0);
+        }
+
+        @Override
+        public long nextLong() {
+            if (slot >= keys.length) {
+                throw new NoSuchElementException();
+            }
+
+            final long result = elements[slot];
+            slot = advance(keys, hasZeroKey, slot + 1);
+            return result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+
+        @Override
+        public void reset() {
+            slot = advance(keys, hasZeroKey, 0);
+        }
+    }
+
+    /**
+     * Iterates the object elements of all occupied slots of a table with {@code int} keys.
+     *
+     * @param <T> The type of the elements.
+     */
+    public static final class ObjSlotIterator<T> implements Iterator<T> {
+        private final int[] keys;
+        private final Object[] elements;
+        private final boolean hasZeroKey;
+        private int slot;
+
+        public ObjSlotIterator(final int[] keys, final Object[] elements, final boolean hasZeroKey) {
+            this.keys = keys;
+            this.elements = elements;
+            this.hasZeroKey = hasZeroKey;
+            slot = advance(keys, hasZeroKey, 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+            if (slot >= keys.length) {
+                throw new NoSuchElementException();
+            }
+
+            final T result = (T) elements[slot];
+            slot = advance(keys, hasZeroKey, slot + 1);
+            return result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return slot < keys.length;
+        }
+    }
+
+    /**
+     * Splits the {@code int} elements of all occupied slots of a table by slot ranges.
+     */
+    public static final class IntSlotSpliterator implements Spliterator.OfInt {
+        private final int[] keys;
+        private final int[] elements;
+        private final boolean hasZeroKey;
+        private int characteristics;
+        private int slot;
+        private final int end;
+        private long size;
+
+        public IntSlotSpliterator(final int[] keys, final int[] elements, final boolean hasZeroKey, final int size,
+                                  final int characteristics) {
+            this(keys, elements, hasZeroKey, 0, keys.length, size, characteristics | SIZED | SUBSIZED);
+        }
+
+        private IntSlotSpliterator(final int[] keys, final int[] elements, final boolean hasZeroKey, final int slot,
+                                   final int end, final long size, final int characteristics) {
+            this.keys = keys;
+            this.elements = elements;
+            this.hasZeroKey = hasZeroKey;
+            this.slot = slot;
+            this.end = end;
+            this.size = size;
+            this.characteristics = characteristics | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public boolean tryAdvance(final @NotNull IntConsumer action) {
+            slot = advance(keys, hasZeroKey, slot, end);
+
+            if (slot >= end) {
+                return false;
+            }
+
+            action.accept(elements[slot++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final @NotNull IntConsumer action) {
+            for (; slot < end; slot++) {
+                if (isOccupied(keys, hasZeroKey, slot)) {
+                    action.accept(elements[slot]);
+                }
+            }
+        }
+
+        @Override
+        public OfInt trySplit() {
+            final int middle = (slot + end) >>> 1;
+
+            if (middle <= slot || end - slot < 2) {
+                return null;
+            }
+
+            // Entries are spread evenly across the slots, so the size halves along with the slot range
+            size >>>= 1;
+            final IntSlotSpliterator prefix = new IntSlotSpliterator(keys, elements, hasZeroKey, slot, middle, size,
+                characteristics & ~(SIZED | SUBSIZED));
+            characteristics &= ~(SIZED | SUBSIZED); // Both halves only estimate their size
+            slot = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+
+    /**
+     * Splits the {@code long} elements of all occupied slots of a table by slot ranges.
+     */
+    public static final class LongSlotSpliterator implements Spliterator.OfLong {
+        private final long[] keys;
+        private final long[] elements;
+        private final boolean hasZeroKey;
+        private int characteristics;
+        private int slot;
+        private final int end;
+        private long size;
+
+        public LongSlotSpliterator(final long[] keys, final long[] elements, final boolean hasZeroKey, final int size,
+                                   final int characteristics) {
+            this(keys, elements, hasZeroKey, 0, keys.length, size, characteristics | SIZED | SUBSIZED);
+        }
+
+        private LongSlotSpliterator(final long[] keys, final long[] elements, final boolean hasZeroKey, final int slot,
+                                    final int end, final long size, final int characteristics) {
+            this.keys = keys;
+            this.elements = elements;
+            this.hasZeroKey = hasZeroKey;
+            this.slot = slot;
+            this.end = end;
+            this.size = size;
+            this.characteristics = characteristics | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public boolean tryAdvance(final @NotNull LongConsumer action) {
+            slot = advance(keys, hasZeroKey, slot, end);
+
+            if (slot >= end) {
+                return false;
+            }
+
+            action.accept(elements[slot++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final @NotNull LongConsumer action) {
+            for (; slot < end; slot++) {
+                if (isOccupied(keys, hasZeroKey, slot)) {
+                    action.accept(elements[slot]);
+                }
+            }
+        }
+
+        @Override
+        public OfLong trySplit() {
+            final int middle = (slot + end) >>> 1;
+
+            if (middle <= slot || end - slot < 2) {
+                return null;
+            }
+
+            size >>>= 1;
+            final LongSlotSpliterator prefix = new LongSlotSpliterator(keys, elements, hasZeroKey, slot, middle, size,
+                characteristics & ~(SIZED | SUBSIZED));
+            characteristics &= ~(SIZED | SUBSIZED); // Both halves only estimate their size
+            slot = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+
+    /**
+     * Splits the object elements of all occupied slots of a table with {@code int} keys by slot ranges.
+     *
+     * @param <T> The type of the elements.
+     */
+    public static final class ObjSlotSpliterator<T> implements Spliterator<T> {
+        private final int[] keys;
+        private final Object[] elements;
+        private final boolean hasZeroKey;
+        private int characteristics;
+        private int slot;
+        private final int end;
+        private long size;
+
+        public ObjSlotSpliterator(final int[] keys, final Object[] elements, final boolean hasZeroKey, final int size,
+                                  final int characteristics) {
+            this(keys, elements, hasZeroKey, 0, keys.length, size, characteristics | SIZED | SUBSIZED);
+        }
+
+        private ObjSlotSpliterator(final int[] keys, final Object[] elements, final boolean hasZeroKey, final int slot,
+                                   final int end, final long size, final int characteristics) {
+            this.keys = keys;
+            this.elements = elements;
+            this.hasZeroKey = hasZeroKey;
+            this.slot = slot;
+            this.end = end;
+            this.size = size;
+            this.characteristics = characteristics | IMMUTABLE;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(final @NotNull Consumer<? super T> action) {
+            slot = advance(keys, hasZeroKey, slot, end);
+
+            if (slot >= end) {
+                return false;
+            }
+
+            action.accept((T) elements[slot++]);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void forEachRemaining(final @NotNull Consumer<? super T> action) {
+            for (; slot < end; slot++) {
+                if (isOccupied(keys, hasZeroKey, slot)) {
+                    action.accept((T) elements[slot]);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int middle = (slot + end) >>> 1;
+
+            if (middle <= slot || end - slot < 2) {
+                return null;
+            }
+
+            size >>>= 1;
+            final ObjSlotSpliterator<T> prefix = new ObjSlotSpliterator<>(keys, elements, hasZeroKey, slot, middle,
+                size, characteristics & ~(SIZED | SUBSIZED));
+            characteristics &= ~(SIZED | SUBSIZED); // Both halves only estimate their size
+            slot = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+
+    private static boolean isOccupied(final int[] keys, final boolean hasZeroKey, final int slot) {
+        return keys[slot] != 0 || (slot == keys.length - 1 && hasZeroKey);
+    }
+
+    private static boolean isOccupied(final long[] keys, final boolean hasZeroKey, final int slot) {
+        return keys[slot] != 0 || (slot == keys.length - 1 && hasZeroKey);
+    }
+
+    private static int advance(final int[] keys, final boolean hasZeroKey, final int slot) {
+        return advance(keys, hasZeroKey, slot, keys.length);
+    }
+
+    private static int advance(final int[] keys, final boolean hasZeroKey, int slot, final int end) {
+        while (slot < end && !isOccupied(keys, hasZeroKey, slot)) {
+            slot++;
+        }
+
+        return slot == end ? keys.length : slot;
+    }
+
+    private static int advance(final long[] keys, final boolean hasZeroKey, final int slot) {
+        return advance(keys, hasZeroKey, slot, keys.length);
+    }
+
+    private static int advance(final long[] keys, final boolean hasZeroKey, int slot, final int end) {
+        while (slot < end && !isOccupied(keys, hasZeroKey, slot)) {
+            slot++;
+        }
+
+        return slot == end ? keys.length : slot;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.iterator.IntIterator;
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ListSlice;
+import io.karma.sliced.view.IntObjMapView;
+import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.impl.HashSlots.IntSlotIterator;
+import io.karma.sliced.view.impl.HashSlots.IntSlotSpliterator;
+import io.karma.sliced.view.impl.HashSlots.ObjSlotIterator;
+import io.karma.sliced.view.impl.HashSlots.ObjSlotSpliterator;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+
+/**
+ * An immutable {@link IntObjMapView} backed by an open-addressing hash table,
+ * see {@link HashSlots} for its layout.
+ *
+ * @param <V> The value type of this view.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class IntObjHashMapView<V> implements IntObjMapView<V> {
+    private final int[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final boolean hasZeroKey;
+    private final int size;
+
+    public IntObjHashMapView(final int[] keys, final Object[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values differ in length");
+        }
+
+        final int size = keys.length;
+        final int capacity = HashSlots.capacityFor(size);
+        this.keys = new int[capacity + 1];
+        this.values = new Object[capacity + 1];
+        mask = capacity - 1;
+        boolean hasZeroKey = false;
+
+        for (int i = 0; i < size; i++) {
+            final int key = keys[i];
+            int slot;
+
+            if (key == 0) {
+                if (hasZeroKey) {
+                    throw new IllegalArgumentException("Duplicate key 0");
+                }
+
+                hasZeroKey = true;
+                slot = capacity;
+            }
+            else {
+                slot = HashSlots.mix(key) & mask;
+
+                for (int current; (current = this.keys[slot]) != 0; slot = (slot + 1) & mask) {
+                    if (current == key) {
+                        throw new IllegalArgumentException(String.format("Duplicate key %d", key));
+                    }
+                }
+
+                this.keys[slot] = key;
+            }
+
+            this.values[slot] = values[i];
+        }
+
+        this.hasZeroKey = hasZeroKey;
+        this.size = size;
+    }
+
+    private int slotOf(final int key) {
+        if (key == 0) {
+            return hasZeroKey ? mask + 1 : -1;
+        }
+
+        int slot = HashSlots.mix(key) & mask;
+
+        for (int current; (current = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (current == key) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean isOccupied(final int slot) {
+        return keys[slot] != 0 || (slot == mask + 1 && hasZeroKey);
+    }
+
+    @Override
+    public boolean containsKey(final int key) {
+        return slotOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(final int key) {
+        final int slot = slotOf(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V getOrDefault(final int key, final V defaultValue) {
+        final int slot = slotOf(key);
+        return slot < 0 ? defaultValue : (V) values[slot];
+    }
+
+    @Override
+    public boolean containsValue(final @Nullable V value) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (isOccupied(slot) && Objects.equals(values[slot], value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public @NotNull IntIterator keyIterator() {
+        return new IntSlotIterator(keys, keys, hasZeroKey);
+    }
+
+    @Override
+    public @NotNull Spliterator.OfInt keySpliterator() {
+        return new IntSlotSpliterator(keys, keys, hasZeroKey, size, Spliterator.DISTINCT);
+    }
+
+    @Override
+    public @NotNull Iterator<V> valueIterator() {
+        return new ObjSlotIterator<>(keys, values, hasZeroKey);
+    }
+
+    @Override
+    public @NotNull Spliterator<V> valueSpliterator() {
+        return new ObjSlotSpliterator<>(keys, values, hasZeroKey, size, 0);
+    }
+
+    @Override
+    public @NotNull IntSlice keySlice() {
+        final int[] result = new int[size];
+        final IntIterator itr = keyIterator();
+
+        for (int i = 0; i < size; i++) {
+            result[i] = itr.nextInt();
+        }
+
+        return IntSlice.of(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachEntry(final @NotNull EntryConsumer<? super V> consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (isOccupied(slot)) {
+                consumer.accept(keys[slot], (V) values[slot]);
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Set<Integer> keys() {
+        return new AbstractSet<Integer>() {
+            @Override
+            public boolean contains(final Object obj) {
+                return obj instanceof Integer && containsKey(((Integer) obj).intValue());
+            }
+
+            @Override
+            public @NotNull Iterator<Integer> iterator() {
+                return keyIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public @NotNull Iterator<V> iterator() {
+                return valueIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Slice<Entry<Integer, V>> asSlice() {
+        final ArrayList<Entry<Integer, V>> list = new ArrayList<>(size);
+        forEachEntry((key, value) -> list.add(new SimpleImmutableEntry<>(key, value)));
+        return new ListSlice<>(list, 0, list.size());
+    }
+
+    @Override
+    public @NotNull Iterator<Entry<Integer, V>> iterator() {
+        return new Iterator<Entry<Integer, V>>() {
+            private final IntIterator keyItr = keyIterator();
+            private final Iterator<V> valueItr = valueIterator();
+
+            @Override
+            public boolean hasNext() {
+                return keyItr.hasNext();
+            }
+
+            @Override
+            public @NotNull Entry<Integer, V> next() {
+                if (!keyItr.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return new SimpleImmutableEntry<>(keyItr.nextInt(), valueItr.next());
+            }
+        };
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        // Same as Map#hashCode, so it matches the hash of an equal map
+        int result = 0;
+
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (isOccupied(slot)) {
+                final int key = keys[slot];
+                final Object value = values[slot];
+                result += key ^ Objects.hashCode(value);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        else if (!(obj instanceof MapView)) {
+            return false;
+        }
+
+        final MapView<?, ?> other = (MapView<?, ?>) obj;
+
+        if (other.size() != size) {
+            return false;
+        }
+
+        for (final Entry<?, ?> entry : other) {
+            final Object key = entry.getKey();
+
+            if (!(key instanceof Integer)) {
+                return false;
+            }
+
+            final int slot = slotOf((Integer) key);
+
+            if (slot < 0 || !Objects.equals(values[slot], entry.getValue())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        forEachEntry((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+}
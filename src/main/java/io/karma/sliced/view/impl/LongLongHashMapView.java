@@ -0,0 +1,347 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.iterator.LongIterator;
+import io.karma.sliced.slice.LongSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ListSlice;
+import io.karma.sliced.view.LongLongMapView;
+import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.impl.HashSlots.LongSlotIterator;
+import io.karma.sliced.view.impl.HashSlots.LongSlotSpliterator;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+
+/**
+ * An immutable {@link LongLongMapView} backed by an open-addressing hash table,
+ * see {@link HashSlots} for its layout.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class LongLongHashMapView implements LongLongMapView {
+    private final long[] keys;
+    private final long[] values;
+    private final int mask;
+    private final boolean hasZeroKey;
+    private final int size;
+
+    public LongLongHashMapView(final long[] keys, final long[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values differ in length");
+        }
+
+        final int size = keys.length;
+        final int capacity = HashSlots.capacityFor(size);
+        this.keys = new long[capacity + 1];
+        this.values = new long[capacity + 1];
+        mask = capacity - 1;
+        boolean hasZeroKey = false;
+
+        for (int i = 0; i < size; i++) {
+            final long key = keys[i];
+            int slot;
+
+            if (key == 0) {
+                if (hasZeroKey) {
+                    throw new IllegalArgumentException("Duplicate key 0");
+                }
+
+                hasZeroKey = true;
+                slot = capacity;
+            }
+            else {
+                slot = HashSlots.mix(key) & mask;
+
+                for (long current; (current = this.keys[slot]) != 0; slot = (slot + 1) & mask) {
+                    if (current == key) {
+                        throw new IllegalArgumentException(String.format("Duplicate key %d", key));
+                    }
+                }
+
+                this.keys[slot] = key;
+            }
+
+            this.values[slot] = values[i];
+        }
+
+        this.hasZeroKey = hasZeroKey;
+        this.size = size;
+    }
+
+    private int slotOf(final long key) {
+        if (key == 0) {
+            return hasZeroKey ? mask + 1 : -1;
+        }
+
+        int slot = HashSlots.mix(key) & mask;
+
+        for (long current; (current = keys[slot]) != 0; slot = (slot + 1) & mask) {
+            if (current == key) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    private boolean isOccupied(final int slot) {
+        return keys[slot] != 0 || (slot == mask + 1 && hasZeroKey);
+    }
+
+    @Override
+    public boolean containsKey(final long key) {
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final long value) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (values[slot] == value && isOccupied(slot)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public long get(final long key) {
+        final int slot = slotOf(key);
+        return slot < 0 ? 0 : values[slot];
+    }
+
+    @Override
+    public long getOrDefault(final long key, final long defaultValue) {
+        final int slot = slotOf(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    @Override
+    public Long get(final @Nullable Long key) {
+        if (key == null) {
+            return null;
+        }
+
+        final int slot = slotOf(key);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public @NotNull LongIterator keyIterator() {
+        return new LongSlotIterator(keys, keys, hasZeroKey);
+    }
+
+    @Override
+    public @NotNull Spliterator.OfLong keySpliterator() {
+        return new LongSlotSpliterator(keys, keys, hasZeroKey, size, Spliterator.DISTINCT);
+    }
+
+    @Override
+    public @NotNull LongIterator valueIterator() {
+        return new LongSlotIterator(keys, values, hasZeroKey);
+    }
+
+    @Override
+    public @NotNull Spliterator.OfLong valueSpliterator() {
+        return new LongSlotSpliterator(keys, values, hasZeroKey, size, 0);
+    }
+
+    @Override
+    public @NotNull LongSlice keySlice() {
+        return LongSlice.of(copyOccupied(keys));
+    }
+
+    @Override
+    public @NotNull LongSlice valueSlice() {
+        return LongSlice.of(copyOccupied(values));
+    }
+
+    private long[] copyOccupied(final long[] elements) {
+        final long[] result = new long[size];
+        int index = 0;
+
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (isOccupied(slot)) {
+                result[index++] = elements[slot];
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void forEachEntry(final @NotNull EntryConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (isOccupied(slot)) {
+                consumer.accept(keys[slot], values[slot]);
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Set<Long> keys() {
+        return new AbstractSet<Long>() {
+            @Override
+            public boolean contains(final Object obj) {
+                return obj instanceof Long && containsKey(((Long) obj).longValue());
+            }
+
+            @Override
+            public @NotNull Iterator<Long> iterator() {
+                return keyIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Collection<Long> values() {
+        return new AbstractCollection<Long>() {
+            @Override
+            public boolean contains(final Object obj) {
+                return obj instanceof Long && containsValue(((Long) obj).longValue());
+            }
+
+            @Override
+            public @NotNull Iterator<Long> iterator() {
+                return valueIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Slice<Entry<Long, Long>> asSlice() {
+        final ArrayList<Entry<Long, Long>> list = new ArrayList<>(size);
+        forEachEntry((key, value) -> list.add(new SimpleImmutableEntry<>(key, value)));
+        return new ListSlice<>(list, 0, list.size());
+    }
+
+    @Override
+    public @NotNull Iterator<Entry<Long, Long>> iterator() {
+        return new Iterator<Entry<Long, Long>>() {
+            private final LongIterator keyItr = keyIterator();
+            private final LongIterator valueItr = valueIterator();
+
+            @Override
+            public boolean hasNext() {
+                return keyItr.hasNext();
+            }
+
+            @Override
+            public @NotNull Entry<Long, Long> next() {
+                if (!keyItr.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return new SimpleImmutableEntry<>(keyItr.nextLong(), valueItr.nextLong());
+            }
+        };
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        // Same as Map#hashCode, so it matches the hash of an equal map
+        int result = 0;
+
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (isOccupied(slot)) {
+                final long key = keys[slot];
+                final long value = values[slot];
+                result += Long.hashCode(key) ^ Long.hashCode(value);
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        else if (!(obj instanceof MapView)) {
+            return false;
+        }
+
+        final MapView<?, ?> other = (MapView<?, ?>) obj;
+
+        if (other.size() != size) {
+            return false;
+        }
+
+        for (final Entry<?, ?> entry : other) {
+            final Object key = entry.getKey();
+            final Object value = entry.getValue();
+
+            if (!(key instanceof Long) || !(value instanceof Long)) {
+                return false;
+            }
+
+            final int slot = slotOf((Long) key);
+
+            if (slot < 0 || values[slot] != (Long) value) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        forEachEntry((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+}
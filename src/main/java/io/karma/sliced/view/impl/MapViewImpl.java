@@ -16,8 +16,9 @@
 package io.karma.sliced.view.impl;
 
 import io.karma.sliced.slice.Slice;
-import io.karma.sliced.slice.impl.ListSlice;
+import io.karma.sliced.slice.impl.ArraySlice;
 import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.View;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 import org.jetbrains.annotations.NotNull;
@@ -25,6 +26,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
@@ -33,11 +36,32 @@ import java.util.function.Supplier;
  * @since 09/08/2022
  */
 @API(status = Status.INTERNAL)
-public final class MapViewImpl<K, V, M extends Map<K, V>> implements MapView<K, V> {
-    private final M ref;
+public class MapViewImpl<K, V, M extends Map<K, V>> implements MapView<K, V> {
+    protected final M ref;
+    private final boolean cacheEntries;
+    private volatile Entry<K, V>[] entries;
 
     public MapViewImpl(final @NotNull M ref) {
         this.ref = ref;
+        // Other maps may hand out snapshot entries, which miss value updates
+        cacheEntries = ref instanceof HashMap || ref instanceof TreeMap;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull Entry<K, V>[] entries() {
+        if (!cacheEntries) {
+            return (Entry<K, V>[]) ref.entrySet().toArray(new Entry<?, ?>[0]);
+        }
+
+        Entry<K, V>[] result = entries;
+
+        // A changed size always means the map was modified structurally
+        if (result == null || result.length != ref.size()) {
+            result = (Entry<K, V>[]) ref.entrySet().toArray(new Entry<?, ?>[0]);
+            entries = result;
+        }
+
+        return result;
     }
 
     @Override
@@ -57,12 +81,22 @@ public final class MapViewImpl<K, V, M extends Map<K, V>> implements MapView<K,
 
     @Override
     public @NotNull Set<K> keys() {
-        return ref.keySet();
+        return Collections.unmodifiableSet(ref.keySet());
+    }
+
+    @Override
+    public @NotNull View<K> keyView() {
+        return new CollectionView<>(ref.keySet());
     }
 
     @Override
     public @NotNull Collection<V> values() {
-        return ref.values();
+        return Collections.unmodifiableCollection(ref.values());
+    }
+
+    @Override
+    public @NotNull View<V> valueView() {
+        return new CollectionView<>(ref.values());
     }
 
     @Override
@@ -72,14 +106,9 @@ public final class MapViewImpl<K, V, M extends Map<K, V>> implements MapView<K,
 
     @Override
     public @NotNull Entry<K, V>[] toArray(final @NotNull IntFunction<Entry<K, V>[]> factory) {
-        final Entry<K, V>[] result = factory.apply(size());
-        final Set<Entry<K, V>> entries = ref.entrySet();
-        int index = 0;
-
-        for (final Entry<K, V> entry : entries) {
-            result[index++] = entry;
-        }
-
+        final Entry<K, V>[] entries = entries();
+        final Entry<K, V>[] result = factory.apply(entries.length);
+        System.arraycopy(entries, 0, result, 0, entries.length);
         return result;
     }
 
@@ -92,8 +121,13 @@ public final class MapViewImpl<K, V, M extends Map<K, V>> implements MapView<K,
 
     @Override
     public @NotNull Slice<Entry<K, V>> asSlice() {
-        final ArrayList<Entry<K, V>> list = new ArrayList<>(ref.entrySet());
-        return new ListSlice<>(list, 0, list.size());
+        final Entry<K, V>[] entries = entries();
+        return new ArraySlice<>(entries, 0, entries.length);
+    }
+
+    @Override
+    public void refresh() {
+        entries = null;
     }
 
     @Override
@@ -101,6 +135,22 @@ public final class MapViewImpl<K, V, M extends Map<K, V>> implements MapView<K,
         return ref.entrySet().iterator();
     }
 
+    @Override
+    public @NotNull Spliterator<Entry<K, V>> spliterator() {
+        return ref.entrySet().spliterator();
+    }
+
+    @Override
+    public void forEachParallel(final @NotNull BiConsumer<? super K, ? super V> consumer) {
+        if (ref instanceof ConcurrentHashMap) {
+            // Walks the table nodes directly, instead of creating an entry for every mapping
+            ((ConcurrentHashMap<K, V>) ref).forEach(1L, consumer);
+            return;
+        }
+
+        MapView.super.forEachParallel(consumer);
+    }
+
     @Override
     public int hashCode() {
         return ref.hashCode();
@@ -154,6 +204,6 @@ public final class MapViewImpl<K, V, M extends Map<K, V>> implements MapView<K,
 
     @Override
     public String toString() {
-        return super.toString();
+        return ref.toString();
     }
 }
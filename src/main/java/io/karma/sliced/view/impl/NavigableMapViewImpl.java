@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.view.NavigableMapView;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class NavigableMapViewImpl<K, V> extends MapViewImpl<K, V, NavigableMap<K, V>> implements NavigableMapView<K, V> {
+    public NavigableMapViewImpl(final @NotNull NavigableMap<K, V> ref) {
+        super(ref);
+    }
+
+    @Override
+    public @Nullable Comparator<? super K> comparator() {
+        return ref.comparator();
+    }
+
+    @Override
+    public K firstKey() {
+        return ref.firstKey();
+    }
+
+    @Override
+    public K lastKey() {
+        return ref.lastKey();
+    }
+
+    @Override
+    public @Nullable Entry<K, V> floorEntry(final K key) {
+        return ref.floorEntry(key);
+    }
+
+    @Override
+    public @Nullable Entry<K, V> ceilingEntry(final K key) {
+        return ref.ceilingEntry(key);
+    }
+
+    @Override
+    public @Nullable Entry<K, V> lowerEntry(final K key) {
+        return ref.lowerEntry(key);
+    }
+
+    @Override
+    public @Nullable Entry<K, V> higherEntry(final K key) {
+        return ref.higherEntry(key);
+    }
+
+    @Override
+    public @Nullable K floorKey(final K key) {
+        return ref.floorKey(key);
+    }
+
+    @Override
+    public @Nullable K ceilingKey(final K key) {
+        return ref.ceilingKey(key);
+    }
+
+    @Override
+    public @NotNull NavigableMapView<K, V> subView(final K fromKey, final boolean fromInclusive, final K toKey,
+                                                   final boolean toInclusive) {
+        return new NavigableMapViewImpl<>(ref.subMap(fromKey, fromInclusive, toKey, toInclusive));
+    }
+
+    @Override
+    public @NotNull NavigableMapView<K, V> headView(final K toKey, final boolean inclusive) {
+        return new NavigableMapViewImpl<>(ref.headMap(toKey, inclusive));
+    }
+
+    @Override
+    public @NotNull NavigableMapView<K, V> tailView(final K fromKey, final boolean inclusive) {
+        return new NavigableMapViewImpl<>(ref.tailMap(fromKey, inclusive));
+    }
+}
@@ -0,0 +1,578 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ArraySlice;
+import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.NavigableMapView;
+import io.karma.sliced.view.View;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable {@link NavigableMapView} which stores a frozen copy of a map
+ * in two parallel arrays, sorted by key.
+ * <p>
+ * Lookups are a binary search over the key array. Range views share the arrays
+ * of the view they were created from, and only narrow the window into them,
+ * so creating one costs two binary searches and no copying. The bounds of a range
+ * view are kept alongside its window, so nested range views are validated against
+ * the bounds like {@link java.util.TreeMap} does.
+ * <p>
+ * All state is final, so instances may be shared between threads without synchronization.
+ *
+ * @param <K> The key type of this view.
+ * @param <V> The value type of this view.
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class SortedArrayMapView<K, V> implements NavigableMapView<K, V> {
+    private final Storage<K, V> storage;
+    private final Bounds bounds;
+    private final int offset;
+    private final int size;
+
+    @SuppressWarnings("unchecked")
+    public SortedArrayMapView(final @NotNull Map<? extends K, ? extends V> map,
+                              final @Nullable Comparator<? super K> comparator) {
+        final Entry<K, V>[] entries = (Entry<K, V>[]) map.entrySet().toArray(new Entry<?, ?>[0]);
+        final Comparator<Object> keyComparator = keyComparator(comparator);
+
+        // Skip sorting if the map is already in the right order
+        if (!(map instanceof SortedMap) || ((SortedMap<?, ?>) map).comparator() != comparator) {
+            Arrays.sort(entries, (a, b) -> keyComparator.compare(a.getKey(), b.getKey()));
+        }
+
+        final int size = entries.length;
+        final Object[] keys = new Object[size];
+        final Object[] values = new Object[size];
+
+        for (int i = 0; i < size; i++) {
+            final Entry<K, V> entry = entries[i];
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+
+            if (i > 0 && keyComparator.compare(keys[i - 1], keys[i]) == 0) {
+                throw new IllegalArgumentException(String.format("Duplicate key '%s'", keys[i]));
+            }
+        }
+
+        storage = new Storage<>(keys, values, comparator, keyComparator);
+        bounds = Bounds.UNBOUNDED;
+        offset = 0;
+        this.size = size;
+    }
+
+    private SortedArrayMapView(final @NotNull Storage<K, V> storage, final @NotNull Bounds bounds, final int offset,
+                               final int size) {
+        this.storage = storage;
+        this.bounds = bounds;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static @NotNull Comparator<Object> keyComparator(final @Nullable Comparator<?> comparator) {
+        if (comparator != null) {
+            return (Comparator<Object>) comparator;
+        }
+
+        return (a, b) -> ((Comparable<Object>) a).compareTo(b);
+    }
+
+    /**
+     * @return The index of the first key in this view which is greater than or equal to the given key.
+     */
+    private int lowerBound(final @Nullable Object key) {
+        final Object[] keys = storage.keys;
+        final Comparator<Object> comparator = storage.keyComparator;
+        int low = offset;
+        int high = offset + size;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+
+            if (comparator.compare(keys[mid], key) < 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @return The index of the first key in this view which is strictly greater than the given key.
+     */
+    private int upperBound(final @Nullable Object key) {
+        final Object[] keys = storage.keys;
+        final Comparator<Object> comparator = storage.keyComparator;
+        int low = offset;
+        int high = offset + size;
+
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+
+            if (comparator.compare(keys[mid], key) <= 0) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private int indexOf(final @Nullable Object key) {
+        final int index = lowerBound(key);
+        return index < offset + size && storage.keyComparator.compare(storage.keys[index], key) == 0 ? index : -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private @Nullable Entry<K, V> entryAt(final int index) { // @formatter:off
+        return index < offset || index >= offset + size
+            ? null
+            : new SimpleImmutableEntry<>((K) storage.keys[index], (V) storage.values[index]);
+    } // @formatter:on
+
+    @SuppressWarnings("unchecked")
+    private @Nullable K keyAt(final int index) {
+        return index < offset || index >= offset + size ? null : (K) storage.keys[index];
+    }
+
+    @Override
+    public @Nullable Comparator<? super K> comparator() {
+        return storage.comparator;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public K firstKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (K) storage.keys[offset];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public K lastKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (K) storage.keys[offset + size - 1];
+    }
+
+    @Override
+    public @Nullable Entry<K, V> floorEntry(final K key) {
+        return entryAt(upperBound(key) - 1);
+    }
+
+    @Override
+    public @Nullable Entry<K, V> ceilingEntry(final K key) {
+        return entryAt(lowerBound(key));
+    }
+
+    @Override
+    public @Nullable Entry<K, V> lowerEntry(final K key) {
+        return entryAt(lowerBound(key) - 1);
+    }
+
+    @Override
+    public @Nullable Entry<K, V> higherEntry(final K key) {
+        return entryAt(upperBound(key));
+    }
+
+    @Override
+    public @Nullable K floorKey(final K key) {
+        return keyAt(upperBound(key) - 1);
+    }
+
+    @Override
+    public @Nullable K ceilingKey(final K key) {
+        return keyAt(lowerBound(key));
+    }
+
+    private @NotNull NavigableMapView<K, V> range(final @NotNull Bounds bounds, final int start, final int end) {
+        return new SortedArrayMapView<>(storage, bounds, start, Math.max(end - start, 0));
+    }
+
+    @Override
+    public @NotNull NavigableMapView<K, V> subView(final K fromKey, final boolean fromInclusive, final K toKey,
+                                                   final boolean toInclusive) {
+        final Comparator<Object> comparator = storage.keyComparator;
+
+        if (comparator.compare(fromKey, toKey) > 0) {
+            throw new IllegalArgumentException("Lower bound is greater than upper bound");
+        }
+        else if (!bounds.contains(fromKey, fromInclusive, comparator)) {
+            throw new IllegalArgumentException("Lower bound is out of range");
+        }
+        else if (!bounds.contains(toKey, toInclusive, comparator)) {
+            throw new IllegalArgumentException("Upper bound is out of range");
+        }
+
+        final int start = fromInclusive ? lowerBound(fromKey) : upperBound(fromKey);
+        final int end = toInclusive ? upperBound(toKey) : lowerBound(toKey);
+        return range(new Bounds(true, fromKey, fromInclusive, true, toKey, toInclusive), start, end);
+    }
+
+    @Override
+    public @NotNull NavigableMapView<K, V> headView(final K toKey, final boolean inclusive) {
+        if (!bounds.contains(toKey, inclusive, storage.keyComparator)) {
+            throw new IllegalArgumentException("Upper bound is out of range");
+        }
+
+        final Bounds bounds = new Bounds(this.bounds.hasFrom, this.bounds.fromKey, this.bounds.fromInclusive, true,
+                                         toKey, inclusive);
+        return range(bounds, offset, inclusive ? upperBound(toKey) : lowerBound(toKey));
+    }
+
+    @Override
+    public @NotNull NavigableMapView<K, V> tailView(final K fromKey, final boolean inclusive) {
+        if (!bounds.contains(fromKey, inclusive, storage.keyComparator)) {
+            throw new IllegalArgumentException("Lower bound is out of range");
+        }
+
+        final Bounds bounds = new Bounds(true, fromKey, inclusive, this.bounds.hasTo, this.bounds.toKey,
+                                         this.bounds.toInclusive);
+        return range(bounds, inclusive ? lowerBound(fromKey) : upperBound(fromKey), offset + size);
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable K key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final @Nullable V value) {
+        final Object[] values = storage.values;
+
+        for (int i = offset; i < offset + size; i++) {
+            if (Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(final @Nullable K key) {
+        final int index = indexOf(key);
+        return index < 0 ? null : (V) storage.values[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull List<K> keyList() {
+        return Collections.unmodifiableList(Arrays.asList((K[]) storage.keys).subList(offset, offset + size));
+    }
+
+    @Override
+    public @NotNull Set<K> keys() {
+        return new AbstractSet<K>() {
+            @Override
+            public boolean contains(final Object obj) {
+                try {
+                    return indexOf(obj) >= 0;
+                }
+                catch (ClassCastException error) {
+                    return false;
+                }
+            }
+
+            @Override
+            public @NotNull Iterator<K> iterator() {
+                return keyList().iterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public @NotNull Spliterator<K> spliterator() {
+                return Spliterators.spliterator(storage.keys, offset, offset + size,
+                    Spliterator.DISTINCT | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            }
+        };
+    }
+
+    @Override
+    public @NotNull View<K> keyView() {
+        return View.of(keyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull Collection<V> values() {
+        return Collections.unmodifiableList(Arrays.asList((V[]) storage.values).subList(offset, offset + size));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull View<V> valueView() {
+        return View.of((List<V>) values());
+    }
+
+    private @NotNull Spliterator<V> valueSpliterator() {
+        return Spliterators.spliterator(storage.values, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public @NotNull Stream<V> valueStream() {
+        return StreamSupport.stream(valueSpliterator(), false);
+    }
+
+    @Override
+    public @NotNull Stream<V> parallelValueStream() {
+        return StreamSupport.stream(valueSpliterator(), true);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public @NotNull Slice<Entry<K, V>> asSlice() {
+        return new ArraySlice<>(storage.entries(), offset, size);
+    }
+
+    @Override
+    public @NotNull Entry<K, V>[] toArray(final @NotNull IntFunction<Entry<K, V>[]> factory) {
+        final Entry<K, V>[] result = factory.apply(size);
+        System.arraycopy(storage.entries(), offset, result, 0, size);
+        return result;
+    }
+
+    @Override
+    public @NotNull Iterator<Entry<K, V>> iterator() {
+        return new Iterator<Entry<K, V>>() {
+            private int index = offset;
+
+            @Override
+            public boolean hasNext() {
+                return index < offset + size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public @NotNull Entry<K, V> next() {
+                if (index >= offset + size) {
+                    throw new NoSuchElementException();
+                }
+
+                final int current = index++;
+                return new SimpleImmutableEntry<>((K) storage.keys[current], (V) storage.values[current]);
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Spliterator<Entry<K, V>> spliterator() {
+        return new ArrayEntrySpliterator<>(storage.keys, storage.values, offset, offset + size);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachParallel(final @NotNull BiConsumer<? super K, ? super V> consumer) {
+        final Object[] keys = storage.keys;
+        final Object[] values = storage.values;
+        IntStream.range(offset, offset + size).parallel().forEach(i -> consumer.accept((K) keys[i], (V) values[i]));
+    }
+
+    // Object functions
+
+    @Override
+    public int hashCode() {
+        // Same as Map#hashCode, so it matches the hash of an equal map
+        final Object[] keys = storage.keys;
+        final Object[] values = storage.values;
+        int result = 0;
+
+        for (int i = offset; i < offset + size; i++) {
+            result += Objects.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        else if (!(obj instanceof MapView)) {
+            return false;
+        }
+
+        final MapView<?, ?> other = (MapView<?, ?>) obj;
+
+        if (other.size() != size) {
+            return false;
+        }
+
+        try {
+            for (final Entry<?, ?> entry : other) {
+                final int index = indexOf(entry.getKey());
+
+                if (index < 0 || !Objects.equals(storage.values[index], entry.getValue())) {
+                    return false;
+                }
+            }
+        }
+        catch (ClassCastException | NullPointerException error) {
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public @NotNull String toString() {
+        final Object[] keys = storage.keys;
+        final Object[] values = storage.values;
+        final StringBuilder builder = new StringBuilder("{");
+
+        for (int i = offset; i < offset + size; i++) {
+            if (i > offset) {
+                builder.append(", ");
+            }
+
+            builder.append(keys[i]).append('=').append(values[i]);
+        }
+
+        return builder.append('}').toString();
+    }
+
+    /**
+     * The key range a range view was created with, which may be wider than the keys it contains.
+     */
+    private static final class Bounds {
+        private static final Bounds UNBOUNDED = new Bounds(false, null, false, false, null, false);
+
+        private final boolean hasFrom;
+        private final @Nullable Object fromKey;
+        private final boolean fromInclusive;
+        private final boolean hasTo;
+        private final @Nullable Object toKey;
+        private final boolean toInclusive;
+
+        private Bounds(final boolean hasFrom, final @Nullable Object fromKey, final boolean fromInclusive,
+                       final boolean hasTo, final @Nullable Object toKey, final boolean toInclusive) {
+            this.hasFrom = hasFrom;
+            this.fromKey = fromKey;
+            this.fromInclusive = fromInclusive;
+            this.hasTo = hasTo;
+            this.toKey = toKey;
+            this.toInclusive = toInclusive;
+        }
+
+        /**
+         * Determines whether the given key may be used as a new bound within these bounds.
+         * An exclusive bound may also be equal to an exclusive bound of this range.
+         */
+        private boolean contains(final @Nullable Object key, final boolean inclusive,
+                                 final @NotNull Comparator<Object> comparator) {
+            if (hasFrom) {
+                final int result = comparator.compare(key, fromKey);
+
+                if (result < 0 || (result == 0 && inclusive && !fromInclusive)) {
+                    return false;
+                }
+            }
+
+            if (hasTo) {
+                final int result = comparator.compare(key, toKey);
+                return result < 0 || (result == 0 && (toInclusive || !inclusive));
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * The arrays shared between a view and all of its range views.
+     */
+    private static final class Storage<K, V> {
+        private final Object[] keys;
+        private final Object[] values;
+        private final Comparator<? super K> comparator;
+        private final Comparator<Object> keyComparator;
+        private volatile Entry<K, V>[] entries;
+
+        private Storage(final @NotNull Object[] keys, final @NotNull Object[] values,
+                        final @Nullable Comparator<? super K> comparator,
+                        final @NotNull Comparator<Object> keyComparator) {
+            this.keys = keys;
+            this.values = values;
+            this.comparator = comparator;
+            this.keyComparator = keyComparator;
+        }
+
+        @SuppressWarnings("unchecked")
+        private @NotNull Entry<K, V>[] entries() {
+            Entry<K, V>[] result = entries;
+
+            // Racy on purpose, at worst multiple threads create equal arrays
+            if (result == null) {
+                result = (Entry<K, V>[]) new Entry<?, ?>[keys.length];
+
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = new SimpleImmutableEntry<>((K) keys[i], (V) values[i]);
+                }
+
+                entries = result;
+            }
+
+            return result;
+        }
+    }
+}
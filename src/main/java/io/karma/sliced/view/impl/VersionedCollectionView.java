@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 - 2024 Karma Krafts & associates
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.view.impl;
+
+import io.karma.sliced.slice.Slice;
+import org.apiguardian.api.API;
+import org.apiguardian.api.API.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.function.IntSupplier;
+
+/**
+ * A {@link CollectionView} which captures a modification stamp of its collection
+ * on creation, and throws a {@link ConcurrentModificationException} on access
+ * once the stamp has changed.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@API(status = Status.INTERNAL)
+public final class VersionedCollectionView<T> extends CollectionView<T, Collection<T>> {
+    private final IntSupplier stamp;
+    private final int expectedStamp;
+
+    public VersionedCollectionView(final @NotNull Collection<T> ref, final @NotNull IntSupplier stamp) {
+        super(ref);
+        this.stamp = stamp;
+        expectedStamp = stamp.getAsInt();
+    }
+
+    private void checkStamp() {
+        if (stamp.getAsInt() != expectedStamp) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public @NotNull Slice<T> asSlice() {
+        checkStamp();
+        return super.asSlice();
+    }
+
+    @Override
+    public int size() {
+        checkStamp();
+        return ref.size();
+    }
+
+    @Override
+    public boolean contains(final @Nullable T value) {
+        checkStamp();
+        return ref.contains(value);
+    }
+
+    @Override
+    public @NotNull Iterator<T> iterator() {
+        checkStamp();
+        final Iterator<T> itr = ref.iterator();
+
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return itr.hasNext();
+            }
+
+            @Override
+            public T next() {
+                checkStamp();
+                return itr.next();
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        checkStamp();
+        return super.hashCode();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        checkStamp();
+
+        if (obj instanceof VersionedCollectionView) { // The shortcut below reads the other collection directly
+            ((VersionedCollectionView<?>) obj).checkStamp();
+        }
+
+        return super.equals(obj);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        checkStamp();
+        return super.toString();
+    }
+}
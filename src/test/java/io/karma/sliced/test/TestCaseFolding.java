@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.CaseFolding;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.Locale;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestCaseFolding extends AbstractTest {
+    @Test
+    void testFoldMatchesString() {
+        for (char c = 0; c < 0x800; c++) {
+            for (final char other : new char[]{Character.toUpperCase(c), Character.toLowerCase(c), (char) (c + 1)}) {
+                final boolean expected = String.valueOf(c).equalsIgnoreCase(String.valueOf(other));
+                Assertions.assertEquals(expected, CaseFolding.equals(c, other));
+            }
+        }
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String value = new String(randomChars(RANDOM.nextInt(64)));
+            final String upper = value.toUpperCase(Locale.ROOT);
+            final CharSlice slice = CharSlice.of(value.toCharArray());
+            final CharSlice upperSlice = CharSlice.compact(upper);
+
+            Assertions.assertTrue(slice.equalsIgnoreCase(upper));
+            Assertions.assertTrue(slice.equalsIgnoreCase(CharSlice.of(upper.toCharArray())));
+            Assertions.assertTrue(upperSlice.equalsIgnoreCase(CharSlice.compact(value)));
+            Assertions.assertEquals(slice.hashCodeIgnoreCase(), upperSlice.hashCodeIgnoreCase());
+            Assertions.assertEquals(slice.hashCodeIgnoreCase(), CharSlice.of(upper).hashCodeIgnoreCase());
+            Assertions.assertEquals(0, slice.compareToIgnoreCase(upper));
+            Assertions.assertEquals(0, CharSlice.caseInsensitiveOrder().compare(upperSlice, value));
+        }
+
+        Assertions.assertEquals(CharSlice.of("content-type").hashCode(), CharSlice.of("Content-Type").hashCodeIgnoreCase());
+        Assertions.assertTrue(CharSlice.of("GRÜSSE").equalsIgnoreCase("grüsse"));
+        Assertions.assertFalse(CharSlice.of("Content-Type").equalsIgnoreCase("Content-Typ"));
+        Assertions.assertFalse(CharSlice.of("[").equalsIgnoreCase("{"));
+        Assertions.assertTrue(CharSlice.of("abc").compareToIgnoreCase("ABD") < 0);
+        Assertions.assertTrue(CharSlice.of("abcd").compareToIgnoreCase("ABC") > 0);
+    }
+
+    @Test
+    void testIndexOfIgnoreCase() {
+        final CharSlice slice = CharSlice.of("Accept: text/HTML; Accept-Encoding: GZIP");
+
+        Assertions.assertEquals(0, slice.indexOfIgnoreCase("accept"));
+        Assertions.assertEquals(19, slice.indexOfIgnoreCase("accept", 1));
+        Assertions.assertEquals(13, slice.indexOfIgnoreCase("html"));
+        Assertions.assertEquals(36, slice.indexOfIgnoreCase("gzip"));
+        Assertions.assertEquals(-1, slice.indexOfIgnoreCase("deflate"));
+        Assertions.assertTrue(slice.containsIgnoreCase("ENCODING"));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String value = new String(randomChars(128));
+            final int start = RANDOM.nextInt(120);
+            final String needle = value.substring(start, start + 1 + RANDOM.nextInt(8)).toUpperCase(Locale.ROOT);
+            final int expected = value.toUpperCase(Locale.ROOT).indexOf(needle);
+            Assertions.assertEquals(expected, CharSlice.of(value).indexOfIgnoreCase(needle));
+        }
+    }
+}
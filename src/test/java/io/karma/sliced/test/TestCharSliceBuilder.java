@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test;
+
+import io.karma.sliced.iterator.CharIterator;
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.CharSliceBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestCharSliceBuilder extends AbstractTest {
+    private static void assertContent(final String expected, final CharSliceBuilder builder) {
+        Assertions.assertEquals(expected.length(), builder.length());
+
+        for (int i = 0; i < expected.length(); i++) {
+            Assertions.assertEquals(expected.charAt(i), builder.charAt(i));
+        }
+
+        final CharIterator itr = builder.charIterator();
+
+        for (int i = 0; i < expected.length(); i++) {
+            Assertions.assertTrue(itr.hasNext());
+            Assertions.assertEquals(expected.charAt(i), itr.nextChar());
+        }
+
+        Assertions.assertFalse(itr.hasNext());
+        Assertions.assertEquals(expected, builder.toString());
+        Assertions.assertArrayEquals(expected.toCharArray(), builder.toCharArray());
+    }
+
+    @Test
+    void testAppendMatchesStringBuilder() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final CharSliceBuilder builder = new CharSliceBuilder();
+            final StringBuilder expected = new StringBuilder();
+            final int pieces = RANDOM.nextInt(200);
+
+            for (int j = 0; j < pieces; j++) {
+                final char[] chars = randomChars(RANDOM.nextInt(100));
+
+                switch (RANDOM.nextInt(4)) {
+                    case 0:
+                        builder.append(CharSlice.of(chars));
+                        expected.append(chars);
+                        break;
+                    case 1:
+                        builder.append(new String(chars));
+                        expected.append(chars);
+                        break;
+                    case 2:
+                        final int start = chars.length == 0 ? 0 : RANDOM.nextInt(chars.length);
+                        builder.append(new String(chars), start, chars.length);
+                        expected.append(chars, start, chars.length - start);
+                        break;
+                    default:
+                        final char value = randomChar();
+                        builder.append(value);
+                        expected.append(value);
+                        break;
+                }
+            }
+
+            assertContent(expected.toString(), builder);
+        }
+    }
+
+    @Test
+    void testAppendAfterFlatten() {
+        final CharSliceBuilder builder = new CharSliceBuilder("hello, ");
+        Assertions.assertEquals("hello, ", builder.toString());
+        builder.append(CharSlice.of("this is a rather long piece of text which is referenced"));
+        builder.append('!');
+        assertContent("hello, this is a rather long piece of text which is referenced!", builder);
+        Assertions.assertEquals(builder.toString(), builder.toCharSlice().toString());
+        Assertions.assertEquals("rather", builder.subSequence(17, 23).toString());
+
+        builder.clear();
+        assertContent("", builder);
+    }
+
+    @Test
+    void testAppendBuildersStaysBalanced() {
+        final String piece = "0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+        final CharSliceBuilder builder = new CharSliceBuilder();
+        final StringBuilder expected = new StringBuilder();
+
+        for (int i = 0; i < 200; i++) {
+            final CharSliceBuilder inner = new CharSliceBuilder(piece).append(piece).append("x");
+            builder.append(inner).append(piece);
+            expected.append(piece).append(piece).append('x').append(piece);
+        }
+
+        builder.append(builder);
+        expected.append(expected);
+        assertContent(expected.toString(), builder);
+
+        final List<CharSequence> pieces = new ArrayList<>();
+        builder.forEachPiece(pieces::add);
+        final StringBuilder joined = new StringBuilder();
+        pieces.forEach(joined::append);
+        Assertions.assertEquals(expected.toString(), joined.toString());
+    }
+
+    @Test
+    void testAppendBuilderRangeCopies() {
+        final String piece = "0123456789abcdefghijklmnopqrstuvwxyz0123456789";
+        final CharSliceBuilder source = new CharSliceBuilder(piece);
+        final CharSliceBuilder builder = new CharSliceBuilder().append(source, 2, piece.length());
+        source.clear();
+        source.append("changed");
+        assertContent(piece.substring(2), builder);
+
+        builder.append(builder, 0, 40);
+        assertContent(piece.substring(2) + piece.substring(2, 42), builder);
+    }
+
+    @Test
+    void testSubSequenceBounds() {
+        final CharSliceBuilder builder = new CharSliceBuilder("hello");
+        Assertions.assertEquals("", builder.subSequence(5, 5).toString());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.subSequence(3, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.subSequence(-1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.subSequence(0, 6));
+    }
+}
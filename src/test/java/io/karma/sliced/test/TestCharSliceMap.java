@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.CharSliceMap;
+import io.karma.sliced.util.CharSliceSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestCharSliceMap extends AbstractTest {
+    @Test
+    void testGetMatchesHashMap() {
+        for (int i = 0; i < 16; i++) {
+            final Map<String, Integer> expected = new HashMap<>();
+            final int size = RANDOM.nextInt(2000);
+
+            while (expected.size() < size) {
+                expected.put(new String(randomChars(1 + RANDOM.nextInt(12))), RANDOM.nextInt());
+            }
+
+            final CharSliceMap<Integer> map = CharSliceMap.of(expected);
+            Assertions.assertEquals(expected.size(), map.size());
+
+            final HashSet<Integer> indices = new HashSet<>();
+
+            for (final Entry<String, Integer> entry : expected.entrySet()) {
+                final String key = entry.getKey();
+                final char[] padded = ("<" + key + ">").toCharArray();
+
+                Assertions.assertEquals(entry.getValue(), map.get(key));
+                Assertions.assertEquals(entry.getValue(), map.get(CharSlice.of(padded, 1, key.length())));
+                Assertions.assertTrue(indices.add(map.indexOf(key)));
+                Assertions.assertNull(map.get(key + "~"));
+            }
+
+            for (final Entry<CharSequence, Integer> entry : map) {
+                Assertions.assertEquals(expected.get(entry.getKey().toString()), entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    void testIgnoreCase() {
+        final Map<String, Integer> headers = new HashMap<>();
+        headers.put("Content-Type", 1);
+        headers.put("Content-Length", 2);
+        headers.put("Accept", 3);
+
+        final CharSliceMap<Integer> map = CharSliceMap.of(headers, true);
+        Assertions.assertEquals(Integer.valueOf(1), map.get(CharSlice.of("content-type")));
+        Assertions.assertEquals(Integer.valueOf(2), map.get("CONTENT-LENGTH"));
+        Assertions.assertEquals(Integer.valueOf(3), map.get(CharSlice.compact("aCCEPT")));
+        Assertions.assertNull(map.get("Accepts"));
+        Assertions.assertEquals(-1, (int) CharSliceMap.of(headers).getOrDefault("accept", -1));
+
+        final Map<String, Integer> duplicates = new HashMap<>(headers);
+        duplicates.put("accept", 4);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CharSliceMap.of(duplicates, true));
+    }
+
+    @Test
+    void testEnumAndSet() {
+        final CharSliceMap<DayOfWeek> days = CharSliceMap.ofEnum(DayOfWeek.class, true);
+        Assertions.assertEquals(7, days.size());
+        Assertions.assertEquals(DayOfWeek.FRIDAY, days.get(CharSlice.of("friday")));
+        Assertions.assertTrue(days.containsValue(DayOfWeek.MONDAY));
+        Assertions.assertFalse(days.containsKey("Someday"));
+
+        final CharSliceSet set = CharSliceSet.of("GET", "PUT", "POST", "DELETE");
+        Assertions.assertTrue(set.contains(CharSlice.of("xPOSTx", 1, 4)));
+        Assertions.assertFalse(set.contains("get"));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("GET", "PUT", "POST", "DELETE")).size(), set.size());
+        Assertions.assertSame(set.get("PUT"), set.get(CharSlice.of("PUT")));
+        Assertions.assertEquals("PUT", set.keyAt(set.indexOf("PUT")).toString());
+        Assertions.assertTrue(CharSliceSet.of().isEmpty());
+        Assertions.assertFalse(CharSliceSet.of().contains("GET"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CharSliceSet.of("a", "b", "a"));
+    }
+
+    @Test
+    void testHashCodeAndEquals() {
+        final Map<String, Integer> expected = new HashMap<>();
+
+        while (expected.size() < 500) {
+            expected.put(new String(randomChars(1 + RANDOM.nextInt(12))), RANDOM.nextInt());
+        }
+
+        final CharSliceMap<Integer> map = CharSliceMap.of(expected);
+        final CharSliceMap<Integer> other = CharSliceMap.of(new HashMap<>(expected));
+        Assertions.assertEquals(map, other);
+        Assertions.assertEquals(map.hashCode(), other.hashCode());
+        Assertions.assertEquals(map.keys(), other.keys());
+        Assertions.assertEquals(map.keys().hashCode(), other.keys().hashCode());
+
+        final HashSet<CharSequence> keys = new HashSet<>(map.keys());
+        Assertions.assertEquals(expected.size(), keys.size());
+        Assertions.assertEquals(keys, map.keys());
+        Assertions.assertEquals(map.keys(), keys);
+
+        for (final String key : expected.keySet()) {
+            Assertions.assertTrue(keys.contains(map.keys().get(key)));
+            Assertions.assertTrue(keys.contains(CharSlice.of(key.toCharArray())));
+        }
+
+        expected.put(expected.keySet().iterator().next(), null);
+        Assertions.assertNotEquals(map, CharSliceMap.of(expected));
+
+        final CharSliceMap<Integer> lower = CharSliceMap.of(Collections.singletonMap("Foo", 1), true);
+        final CharSliceMap<Integer> upper = CharSliceMap.of(Collections.singletonMap("FOO", 1), true);
+        Assertions.assertEquals(lower, upper);
+        Assertions.assertEquals(lower.hashCode(), upper.hashCode());
+        Assertions.assertEquals(lower.keys(), upper.keys());
+        Assertions.assertEquals(lower.keys().hashCode(), upper.keys().hashCode());
+
+        final CharSliceSet lowerSet = CharSliceSet.of(Arrays.asList("Foo", "bar"), true);
+        final CharSliceSet upperSet = CharSliceSet.of(Arrays.asList("FOO", "BAR"), true);
+        Assertions.assertEquals(lowerSet, upperSet);
+        Assertions.assertEquals(lowerSet.hashCode(), upperSet.hashCode());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.CharClass;
+import io.karma.sliced.util.CharSliceTokenizer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestCharSliceTokenizer extends AbstractTest {
+    private static List<String> tokens(final CharSliceTokenizer tokenizer) {
+        final ArrayList<String> result = new ArrayList<>();
+
+        while (tokenizer.hasNext()) {
+            result.add(tokenizer.next().toString());
+        }
+
+        return result;
+    }
+
+    @Test
+    void testCharClass() {
+        final CharClass ascii = CharClass.of(",; ");
+        Assertions.assertTrue(ascii.isAscii());
+        Assertions.assertTrue(ascii.contains(','));
+        Assertions.assertTrue(ascii.contains(' '));
+        Assertions.assertFalse(ascii.contains('a'));
+        Assertions.assertFalse(ascii.contains((char) (',' + 0x80)));
+
+        final CharClass wide = CharClass.of('a', '€');
+        Assertions.assertFalse(wide.isAscii());
+        Assertions.assertTrue(wide.contains('€'));
+        Assertions.assertTrue(wide.contains('a'));
+        Assertions.assertFalse(wide.contains('b'));
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            final char value = randomChar();
+            Assertions.assertEquals(Character.isWhitespace(value), CharClass.whitespace().contains(value));
+        }
+
+        Assertions.assertTrue(CharClass.whitespace().contains(' '));
+    }
+
+    @Test
+    void testWhitespace() {
+        final CharSliceTokenizer tokenizer = CharSlice.of(" foo \t bar\nbaz  ").tokenize(CharClass.whitespace());
+        Assertions.assertEquals(Arrays.asList("foo", "bar", "baz"), tokens(tokenizer));
+        Assertions.assertFalse(tokenizer.hasNext());
+
+        tokenizer.reset();
+        Assertions.assertEquals(Arrays.asList("foo", "bar", "baz"), tokens(tokenizer));
+    }
+
+    @Test
+    void testTokensAreReused() {
+        final String input = "a,bb,ccc";
+        final CharSliceTokenizer tokenizer = new CharSliceTokenizer(CharSlice.of(input.toCharArray()),
+            CharClass.of(','));
+        final CharSlice first = tokenizer.next();
+        Assertions.assertEquals(0, tokenizer.tokenStart());
+        Assertions.assertSame(first, tokenizer.next());
+        Assertions.assertEquals(2, tokenizer.tokenStart());
+        Assertions.assertEquals("bb", first.toString());
+    }
+
+    @Test
+    void testHasNextKeepsToken() {
+        for (final CharSequence input : Arrays.asList("a,bb,ccc", CharSlice.of("a,bb,ccc".toCharArray()))) {
+            final CharSliceTokenizer tokenizer = new CharSliceTokenizer(input, CharClass.of(','));
+            final CharSlice token = tokenizer.next();
+            Assertions.assertTrue(tokenizer.hasNext());
+            Assertions.assertEquals("a", token.toString());
+            Assertions.assertEquals(0, tokenizer.tokenStart());
+            Assertions.assertEquals("bb", tokenizer.next().toString());
+            Assertions.assertEquals(2, tokenizer.tokenStart());
+        }
+    }
+
+    @Test
+    void testEmptyTokens() {
+        final CharSliceTokenizer tokenizer = new CharSliceTokenizer(CharClass.of(',', ';'), false,
+            CharSliceTokenizer.NONE, CharSliceTokenizer.NONE);
+        tokenizer.reset("a,;b,");
+        Assertions.assertEquals(Arrays.asList("a", "", "b", ""), tokens(tokenizer));
+
+        tokenizer.reset("");
+        Assertions.assertEquals(Arrays.asList(""), tokens(tokenizer));
+    }
+
+    @Test
+    void testQuotesAndEscapes() {
+        final CharSliceTokenizer tokenizer = new CharSliceTokenizer(CharClass.of(','), false, '"', '\\');
+        tokenizer.reset("a,\"b,c\",d\\,e,\"f\\\"g\"x,\"\"");
+        Assertions.assertEquals(Arrays.asList("a", "b,c", "d\\,e", "f\\\"g", ""), tokens(tokenizer));
+
+        tokenizer.reset("\"unterminated,still");
+        Assertions.assertEquals(Arrays.asList("unterminated,still"), tokens(tokenizer));
+    }
+
+    @Test
+    void testMatchesSplit() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final char[] chars = new char[RANDOM.nextInt(64)];
+
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = "ab,".charAt(RANDOM.nextInt(3));
+            }
+
+            final CharSlice slice = CharSlice.of(chars);
+            final CharSlice[] parts = slice.split(',');
+            final CharSliceTokenizer tokenizer = new CharSliceTokenizer(CharClass.of(','), false,
+                CharSliceTokenizer.NONE, CharSliceTokenizer.NONE);
+            tokenizer.reset(slice);
+
+            for (final CharSlice part : parts) {
+                Assertions.assertTrue(tokenizer.hasNext());
+                Assertions.assertEquals(part.toString(), tokenizer.next().toString());
+            }
+
+            Assertions.assertFalse(tokenizer.hasNext());
+        }
+    }
+}
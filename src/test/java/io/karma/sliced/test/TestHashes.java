@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.util.Hashes;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestHashes extends AbstractTest {
+    private static final String QUICK_FOX = "The quick brown fox jumps over the lazy dog";
+
+    @Test
+    void testXXHash64ReferenceValues() {
+        final byte[] empty = new byte[0];
+        Assertions.assertEquals(0xEF46DB3751D8E999L, Hashes.xxHash64(empty, 0, 0, 0L));
+
+        final byte[] abc = "abc".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(0x44BC2CF5AD770999L, Hashes.xxHash64(abc, 0, abc.length, 0L));
+
+        final byte[] text = "Nobody inspects the spammish repetition".getBytes(StandardCharsets.US_ASCII);
+        Assertions.assertEquals(0xFBCEA83C8A378BF1L, Hashes.xxHash64(text, 0, text.length, 0L));
+    }
+
+    @Test
+    void testMurmur3x128ReferenceValues() {
+        final byte[] text = QUICK_FOX.getBytes(StandardCharsets.US_ASCII);
+        final long[] hash = Hashes.murmur3x128(text, 0, text.length, 0L);
+        Assertions.assertEquals(0xE34BBC7BBC071B6CL, hash[0]);
+        Assertions.assertEquals(0x7A433CA9C49A9347L, hash[1]);
+    }
+
+    @Test
+    void testSliceHashesMatchLittleEndianBytes() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final int[] values = randomInts(RANDOM.nextInt(64) + 1);
+            final byte[] bytes = new byte[values.length << 2];
+
+            for (int j = 0; j < bytes.length; j++) {
+                bytes[j] = (byte) (values[j >> 2] >>> ((j & 3) << 3));
+            }
+
+            final long seed = RANDOM.nextInt();
+            Assertions.assertEquals(ByteSlice.of(bytes).hash64(seed), IntSlice.of(values).hash64(seed));
+            Assertions.assertArrayEquals(ByteSlice.of(bytes).hash128(seed), IntSlice.of(values).hash128(seed));
+        }
+    }
+
+    @Test
+    void testSliceHashesOnlyCoverWindow() {
+        final String padded = "xx" + QUICK_FOX + "yy";
+        final CharSlice slice = CharSlice.of(padded.toCharArray(), 2, QUICK_FOX.length());
+        Assertions.assertEquals(CharSlice.of(QUICK_FOX).hash64(), slice.hash64());
+        Assertions.assertArrayEquals(CharSlice.of(QUICK_FOX).hash128(42L), slice.hash128(42L));
+    }
+}
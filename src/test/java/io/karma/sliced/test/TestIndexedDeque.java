@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.StackSlice;
+import io.karma.sliced.util.IndexedDeque;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Stack;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestIndexedDeque extends AbstractTest {
+    @Test
+    void testMatchesArrayDeque() {
+        final IndexedDeque<Integer> deque = new IndexedDeque<>(1);
+        final Deque<Integer> expected = new ArrayDeque<>();
+
+        for (int i = 0; i < ITERATIONS * 10; i++) {
+            final int value = RANDOM.nextInt();
+
+            switch (RANDOM.nextInt(4)) {
+                case 0:
+                    deque.addFirst(value);
+                    expected.addFirst(value);
+                    break;
+                case 1:
+                    deque.addLast(value);
+                    expected.addLast(value);
+                    break;
+                case 2:
+                    Assertions.assertEquals(expected.pollFirst(), deque.pollFirst());
+                    break;
+                default:
+                    Assertions.assertEquals(expected.pollLast(), deque.pollLast());
+                    break;
+            }
+
+            Assertions.assertEquals(expected.size(), deque.size());
+            Assertions.assertEquals(expected.peekFirst(), deque.peek());
+            Assertions.assertEquals(expected.peekLast(), deque.peekLast());
+        }
+
+        final ArrayList<Integer> elements = new ArrayList<>(expected);
+
+        for (int i = 0; i < elements.size(); i++) {
+            Assertions.assertEquals(elements.get(i), deque.get(i));
+        }
+
+        Assertions.assertTrue(deque.contentEquals(elements));
+    }
+
+    @Test
+    void testStackSlice() {
+        final IndexedDeque<String> deque = new IndexedDeque<>();
+        final Stack<String> stack = new Stack<>();
+
+        for (final String value : randomStrings(ITERATIONS, 8)) {
+            deque.push(value);
+            stack.push(value);
+        }
+
+        final StackSlice<String> slice = deque.asSlice();
+        Assertions.assertEquals(StackSlice.of(stack), slice);
+        Assertions.assertEquals(stack.peek(), slice.peek());
+        Assertions.assertEquals(stack.peek(), StackSlice.of(stack).peek());
+
+        final Slice<String> subSlice = slice.slice(10, 20);
+        Assertions.assertEquals(stack.subList(10, 30), subSlice.copyArrayList());
+
+        Assertions.assertEquals(stack.pop(), deque.pop());
+        Assertions.assertEquals(stack.peek(), StackSlice.of(deque).peek());
+    }
+
+    @Test
+    void testSegments() {
+        final IndexedDeque<Integer> deque = new IndexedDeque<>(8);
+
+        for (int i = 0; i < 4; i++) {
+            deque.addLast(i);
+        }
+
+        Assertions.assertEquals(4, deque.firstSegment().size());
+        Assertions.assertEquals(0, deque.secondSegment().size());
+
+        for (int i = 1; i <= 3; i++) {
+            deque.addFirst(-i);
+        }
+
+        final Slice<Integer> first = deque.firstSegment();
+        final Slice<Integer> second = deque.secondSegment();
+        Assertions.assertEquals(3, first.size());
+        Assertions.assertEquals(4, second.size());
+        Assertions.assertEquals(Integer.valueOf(-3), first.get(0));
+        Assertions.assertEquals(Integer.valueOf(0), second.get(0));
+        Assertions.assertEquals(Integer.valueOf(3), second.get(3));
+        Assertions.assertEquals(7, deque.size());
+
+        final IndexedDeque<Integer> polled = new IndexedDeque<>(16);
+
+        for (int i = 0; i < 12; i++) {
+            polled.addLast(i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            polled.pollFirst();
+        }
+
+        final Slice<Integer> window = polled.firstSegment();
+        Assertions.assertEquals(10, window.offset());
+        Assertions.assertEquals(2, window.size());
+        Assertions.assertEquals("[10,11]", window.toString());
+        Assertions.assertEquals(Arrays.asList(10, 11).hashCode(), window.hashCode());
+        Assertions.assertEquals(0, polled.secondSegment().size());
+    }
+
+    @Test
+    void testBounds() {
+        final IndexedDeque<String> deque = new IndexedDeque<>();
+        Assertions.assertNull(deque.peek());
+        Assertions.assertNull(deque.pollLast());
+        Assertions.assertThrows(NoSuchElementException.class, deque::pop);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> deque.get(0));
+        Assertions.assertThrows(NullPointerException.class, () -> deque.push(null));
+
+        deque.push("a");
+        Assertions.assertEquals("a", deque.set(0, "b"));
+        Assertions.assertEquals("[b]", deque.toString());
+        deque.clear();
+        Assertions.assertTrue(deque.isEmpty());
+        Assertions.assertNull(StackSlice.of(deque).peek());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.MappedLines;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestMappedLines extends AbstractTest {
+    private static List<String> readLines(final String content, final Charset charset, final int segmentSize)
+        throws IOException {
+        final Path path = Files.createTempFile("sliced", ".txt");
+
+        try {
+            Files.write(path, content.getBytes(charset));
+            final MappedLines lines = MappedLines.open(path, charset, segmentSize);
+            final ArrayList<String> result = new ArrayList<>();
+
+            for (final CharSlice line : lines) {
+                result.add(line.toString());
+            }
+
+            Assertions.assertEquals(result, lines.lines(true).map(CharSlice::toString).collect(Collectors.toList()));
+            return result;
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void testLines() throws IOException {
+        final String content = "first line\r\n\nthird\rline\nlast";
+        final List<String> expected = Arrays.asList("first line", "", "third\rline", "last");
+        Assertions.assertEquals(expected, readLines(content, StandardCharsets.US_ASCII, 1 << 20));
+        Assertions.assertEquals(expected, readLines(content, StandardCharsets.UTF_8, 4));
+        Assertions.assertEquals(Arrays.asList("a", "b"), readLines("a\nb\n", StandardCharsets.UTF_8, 1 << 20));
+        Assertions.assertEquals(new ArrayList<String>(), readLines("", StandardCharsets.UTF_8, 1 << 20));
+    }
+
+    @Test
+    void testCharsets() throws IOException {
+        final String content = "Grüße\nnaïve café €5\nplain";
+        final List<String> expected = Arrays.asList("Grüße", "naïve café €5", "plain");
+        Assertions.assertEquals(expected, readLines(content, StandardCharsets.UTF_8, 8));
+        Assertions.assertEquals(Arrays.asList("Grüße", "naïve"), readLines("Grüße\nnaïve", StandardCharsets.ISO_8859_1, 8));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> readLines("", StandardCharsets.UTF_16, 8));
+    }
+
+    @Test
+    void testSegmentBoundaries() throws IOException {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            final StringBuilder builder = new StringBuilder();
+            final ArrayList<String> expected = new ArrayList<>();
+            final int lineCount = RANDOM.nextInt(32) + 1;
+
+            for (int j = 0; j < lineCount; j++) {
+                final char[] chars = new char[RANDOM.nextInt(40)];
+                Arrays.fill(chars, (char) ('a' + RANDOM.nextInt(26)));
+                expected.add(new String(chars));
+                builder.append(chars).append('\n');
+            }
+
+            Assertions.assertEquals(expected, readLines(builder.toString(), StandardCharsets.US_ASCII,
+                RANDOM.nextInt(24) + 1));
+        }
+    }
+
+    @Test
+    void testForEachParallel() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < 1000; i++) {
+            builder.append("line ").append(i).append('\n');
+        }
+
+        final Path path = Files.createTempFile("sliced", ".txt");
+
+        try {
+            Files.write(path, builder.toString().getBytes(StandardCharsets.US_ASCII));
+            final MappedLines lines = MappedLines.open(path, StandardCharsets.US_ASCII, 256);
+            Assertions.assertTrue(lines.segmentCount() > 1);
+
+            final AtomicInteger count = new AtomicInteger();
+            lines.forEachParallel(line -> {
+                if (line.indexOf("line ") == 0) {
+                    count.incrementAndGet();
+                }
+            });
+            Assertions.assertEquals(1000, count.get());
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -16,9 +16,65 @@
 
 package io.karma.sliced.test;
 
+import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.DoubleSlice;
+import io.karma.sliced.util.MoreArrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.Arrays;
+
 /**
  * @author Alexander Hinze
  * @since 07/09/2022
  */
-public final class TestMoreArrays {
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestMoreArrays extends AbstractTest {
+    @Test
+    void testMismatch() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final byte[] values = randomBytes(256);
+            final byte[] copy = new byte[values.length + 16];
+            final int offset = RANDOM.nextInt(16);
+            System.arraycopy(values, 0, copy, offset, values.length);
+
+            Assertions.assertEquals(-1, MoreArrays.mismatch(values, 0, values.length, copy, offset, values.length));
+
+            final int index = RANDOM.nextInt(values.length);
+            copy[offset + index]++;
+            Assertions.assertEquals(index, MoreArrays.mismatch(values, 0, values.length, copy, offset, values.length));
+            Assertions.assertEquals(index, MoreArrays.mismatch(values, 0, values.length, copy, offset, index));
+        }
+    }
+
+    @Test
+    void testCompare() {
+        final char[] values = "foobar".toCharArray();
+        Assertions.assertEquals(0, MoreArrays.compare(values, 0, 3, "xfoo".toCharArray(), 1, 3));
+        Assertions.assertTrue(MoreArrays.compare(values, 0, 3, values, 0, 4) < 0);
+        Assertions.assertTrue(MoreArrays.compare(values, 3, 3, values, 0, 3) < 0);
+        Assertions.assertTrue(MoreArrays.compare(values, 0, 3, values, 3, 3) > 0);
+    }
+
+    @Test
+    void testSliceRangeEquals() {
+        final byte[] values = randomBytes(256);
+        final byte[] copy = Arrays.copyOf(values, values.length);
+        final ByteSlice slice = ByteSlice.of(values, 16, 32);
+
+        Assertions.assertTrue(slice.rangeEquals(ByteSlice.of(copy, 16, 32)));
+        Assertions.assertEquals(slice, ByteSlice.of(copy, 16, 32));
+        Assertions.assertFalse(slice.rangeEquals(ByteSlice.of(copy, 16, 31)));
+        Assertions.assertEquals(31, slice.mismatch(ByteSlice.of(copy, 16, 31)));
+
+        copy[20]++;
+        Assertions.assertNotEquals(slice, ByteSlice.of(copy, 16, 32));
+        Assertions.assertEquals(4, slice.mismatch(ByteSlice.of(copy, 16, 32)));
+        Assertions.assertTrue(slice.compareTo(ByteSlice.of(copy, 16, 32)) < 0);
+        Assertions.assertTrue(CharSlice.of("abc").compareTo(CharSlice.of("abd".toCharArray())) < 0);
+        Assertions.assertTrue(DoubleSlice.of(Double.NaN).rangeEquals(DoubleSlice.of(Double.NaN)));
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.Numbers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.text.ParsePosition;
+import java.util.Locale;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestNumbers extends AbstractTest {
+    private static final String[] INVALID_INTEGERS = {"", "-", "+", "12a", " 1", "1 ", "--1", "0x10"};
+    private static final String[] DECIMALS = {
+        "0", "-0", "+0.0", "1", "-1.5", ".5", "5.", "3.141592653589793", "1e10", "1E-10", "-2.5e+3",
+        "123456789012345678901234567890", "0.1", "0.30000000000000004", "4.9e-324", "1.7976931348623157e308",
+        "1e400", "-1e-400", "NaN", "-Infinity", "9007199254740993", "0.000000000000000000001234",
+        "97892236108662930000", "9999999999999999999.5"
+    };
+    private static final String[] INVALID_DECIMALS = {"", "-", ".", "e5", "1e", "1.2.3", "abc", "1d", "Inf"};
+
+    @Test
+    void testParseInt() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final int value = RANDOM.nextInt();
+            final int radix = RANDOM.nextInt(Character.MAX_RADIX - 1) + 2;
+            final String text = Integer.toString(value, radix);
+            Assertions.assertEquals(value, CharSlice.of(text.toCharArray()).parseInt(radix));
+            Assertions.assertEquals(value, CharSlice.of("x" + text + "x", 1, text.length()).parseInt(radix));
+        }
+
+        Assertions.assertEquals(Integer.MIN_VALUE, CharSlice.of("-2147483648").parseInt());
+        Assertions.assertEquals(Integer.MAX_VALUE, CharSlice.of("+2147483647").parseInt());
+        Assertions.assertThrows(NumberFormatException.class, () -> CharSlice.of("2147483648").parseInt());
+        Assertions.assertThrows(NumberFormatException.class, () -> CharSlice.of("-2147483649").parseInt());
+
+        for (final String text : INVALID_INTEGERS) {
+            Assertions.assertThrows(NumberFormatException.class, () -> CharSlice.of(text).parseInt());
+        }
+    }
+
+    @Test
+    void testParseLong() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final long value = RANDOM.nextLong();
+            final int radix = RANDOM.nextInt(Character.MAX_RADIX - 1) + 2;
+            Assertions.assertEquals(value, CharSlice.of(Long.toString(value, radix)).parseLong(radix));
+        }
+
+        Assertions.assertEquals(Long.MIN_VALUE, CharSlice.of("-9223372036854775808").parseLong());
+        Assertions.assertThrows(NumberFormatException.class, () -> CharSlice.of("9223372036854775808").parseLong());
+        Assertions.assertThrows(NumberFormatException.class, () -> CharSlice.of("1").parseLong(37));
+    }
+
+    @Test
+    void testParseDouble() {
+        for (final String text : DECIMALS) {
+            Assertions.assertEquals(Double.parseDouble(text), CharSlice.of(text).parseDouble(), text);
+        }
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            final double value = RANDOM.nextBoolean() ? RANDOM.nextDouble() * 1000 : RANDOM.nextGaussian() * 1e20;
+            final String text = Double.toString(value);
+            Assertions.assertEquals(value, CharSlice.of(text).parseDouble(), text);
+
+            final String shortText = String.format(Locale.ROOT, "%.3f", value);
+            Assertions.assertEquals(Double.parseDouble(shortText), Numbers.parseDouble(shortText), shortText);
+        }
+
+        for (final String text : INVALID_DECIMALS) {
+            Assertions.assertThrows(NumberFormatException.class, () -> CharSlice.of(text).parseDouble());
+        }
+    }
+
+    @Test
+    void testParsePosition() {
+        final CharSlice slice = CharSlice.of("12,-7,x,3.5e,99999999999");
+        final ParsePosition position = new ParsePosition(0);
+
+        Assertions.assertEquals(12, slice.parseInt(10, position));
+        Assertions.assertEquals(2, position.getIndex());
+        Assertions.assertEquals(-1, position.getErrorIndex());
+
+        position.setIndex(3);
+        Assertions.assertEquals(-7, slice.parseInt(10, position));
+        Assertions.assertEquals(5, position.getIndex());
+
+        position.setIndex(6);
+        Assertions.assertEquals(0, slice.parseInt(10, position));
+        Assertions.assertEquals(6, position.getIndex());
+        Assertions.assertEquals(6, position.getErrorIndex());
+
+        position.setIndex(8);
+        position.setErrorIndex(-1);
+        Assertions.assertEquals(3.5, slice.parseDouble(position));
+        Assertions.assertEquals(11, position.getIndex());
+
+        position.setIndex(13);
+        Assertions.assertEquals(0, slice.parseInt(10, position));
+        Assertions.assertEquals(22, position.getErrorIndex());
+        position.setErrorIndex(-1);
+        Assertions.assertEquals(99999999999L, slice.parseLong(10, position));
+        Assertions.assertEquals(24, position.getIndex());
+    }
+}
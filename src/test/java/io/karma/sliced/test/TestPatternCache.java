@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.Matchers;
+import io.karma.sliced.util.PatternCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestPatternCache extends AbstractTest {
+    @Test
+    void testCompileEqualContent() {
+        final PatternCache cache = new PatternCache(64);
+        final String input = "[a-z]+ [a-z]+ [0-9]+";
+
+        final Pattern first = cache.compile(CharSlice.of(input, 0, 6));
+        final Pattern second = cache.compile(CharSlice.of(input.toCharArray(), 7, 6));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals("[a-z]+", first.pattern());
+        Assertions.assertNotSame(first, cache.compile(CharSlice.of(input, 14, 6)));
+        Assertions.assertNotSame(first, cache.compile("[a-z]+", Pattern.CASE_INSENSITIVE));
+    }
+
+    @Test
+    void testEviction() {
+        final PatternCache cache = new PatternCache(16);
+        final Pattern evicted = cache.compile("y+");
+        final Pattern resident = cache.compile("z+");
+        Assertions.assertSame(resident, cache.compile("z+"));
+
+        for (int i = 0; i < ITERATIONS * 10; i++) {
+            final Pattern pattern = cache.compile("x{" + i + "}");
+            Assertions.assertEquals("x{" + i + "}", pattern.pattern());
+
+            // Every hit grants the resident pattern another chance
+            Assertions.assertSame(resident, cache.compile("z+"));
+        }
+
+        final Pattern recompiled = cache.compile("y+");
+        Assertions.assertNotSame(evicted, recompiled);
+        Assertions.assertEquals(evicted.pattern(), recompiled.pattern());
+
+        cache.clear();
+        Assertions.assertEquals(16, cache.capacity());
+        Assertions.assertNotSame(resident, cache.compile("z+"));
+    }
+
+    @Test
+    void testLocalMatcherWorkingSet() {
+        final Pattern[] patterns = new Pattern[50];
+
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = Pattern.compile("[a-z]{" + (i + 1) + "}");
+        }
+
+        final Matcher[] matchers = new Matcher[patterns.length];
+
+        for (int i = 0; i < patterns.length; i++) {
+            matchers[i] = Matchers.local(patterns[i], "abc");
+        }
+
+        for (int round = 0; round < 4; round++) {
+            for (int i = 0; i < patterns.length; i++) {
+                Assertions.assertSame(matchers[i], Matchers.local(patterns[i], "abc"));
+            }
+        }
+
+        final Matcher matcher = Matchers.local(patterns[2], "xyz");
+        Assertions.assertTrue(matcher.matches());
+        Matchers.release(matcher);
+        Assertions.assertFalse(matcher.find());
+    }
+
+    @Test
+    void testLocalMatcher() {
+        final Pattern pattern = Pattern.compile("([a-z]+)=([0-9]+)");
+        final CharSlice slice = CharSlice.of("  foo=42 ".toCharArray(), 2, 6);
+
+        final Matcher matcher = slice.localMatcher(pattern);
+        Assertions.assertTrue(matcher.matches());
+        Assertions.assertEquals("foo", matcher.group(1));
+        Assertions.assertEquals("42", matcher.group(2));
+        Assertions.assertSame(matcher, Matchers.local(pattern, "bar=1"));
+
+        Assertions.assertTrue(slice.matches(pattern));
+        Assertions.assertTrue(CharSlice.of("a b=7 c").find(pattern));
+        Assertions.assertFalse(CharSlice.of("a b c").find(pattern));
+        Assertions.assertSame(CharSlice.of("x+").compilePattern(), CharSlice.of("x+").compilePattern());
+    }
+}
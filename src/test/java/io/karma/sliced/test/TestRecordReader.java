@@ -0,0 +1,176 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.util.RecordReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestRecordReader extends AbstractTest {
+    private static List<List<String>> records(final RecordReader reader) throws IOException {
+        final ArrayList<List<String>> result = new ArrayList<>();
+
+        while (reader.next()) {
+            final ArrayList<String> record = new ArrayList<>();
+
+            for (int i = 0; i < reader.fieldCount(); i++) {
+                record.add(reader.field(i).toString());
+            }
+
+            result.add(record);
+        }
+
+        return result;
+    }
+
+    private static String randomField() {
+        final String alphabet = "ab,\"\n\r€";
+        final char[] chars = new char[RANDOM.nextInt(6)];
+
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = alphabet.charAt(RANDOM.nextInt(alphabet.length()));
+        }
+
+        return new String(chars);
+    }
+
+    private static String encode(final List<List<String>> records) {
+        final StringBuilder builder = new StringBuilder();
+
+        for (final List<String> record : records) {
+            for (int i = 0; i < record.size(); i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+
+                final String field = record.get(i);
+
+                if (field.isEmpty() || field.indexOf(',') >= 0 || field.indexOf('"') >= 0
+                    || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                    builder.append('"').append(field.replace("\"", "\"\"")).append('"');
+                }
+                else {
+                    builder.append(field);
+                }
+            }
+
+            builder.append(RANDOM.nextBoolean() ? "\r\n" : "\n");
+        }
+
+        return builder.toString();
+    }
+
+    @Test
+    void testCsv() throws IOException {
+        final String input = "a,\"b,c\",\"d\"\"e\"\r\n,\"multi\nline\",\r\nlast";
+        final RecordReader reader = RecordReader.csv(new StringReader(input));
+        Assertions.assertEquals(Arrays.asList(
+            Arrays.asList("a", "b,c", "d\"e"),
+            Arrays.asList("", "multi\nline", ""),
+            Arrays.asList("last")
+        ), records(reader));
+        Assertions.assertFalse(reader.next());
+    }
+
+    @Test
+    void testFieldBoundaries() throws IOException {
+        final RecordReader reader = RecordReader.csv(new StringReader("ab,\"c\"\"d\",e\n"));
+        Assertions.assertTrue(reader.next());
+
+        final IntSlice fields = reader.fields();
+        Assertions.assertEquals(6, fields.size());
+
+        for (int i = 0; i < reader.fieldCount(); i++) {
+            final int start = fields.getInt(i << 1);
+            final int end = fields.getInt((i << 1) + 1);
+            Assertions.assertEquals(reader.field(i).toString(), new String(reader.buffer().toCharArray(start, end - start)));
+        }
+
+        Assertions.assertEquals("c\"d", reader.field(1).toString());
+    }
+
+    @Test
+    void testTsvAndLineEndings() throws IOException {
+        final RecordReader reader = RecordReader.tsv(new StringReader("a\t\"b\"\rc\td\n\nx"));
+        Assertions.assertEquals(Arrays.asList(
+            Arrays.asList("a", "\"b\""),
+            Arrays.asList("c", "d"),
+            Arrays.asList(""),
+            Arrays.asList("x")
+        ), records(reader));
+    }
+
+    @Test
+    void testRefillAcrossChunks() throws IOException {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final ArrayList<List<String>> expected = new ArrayList<>();
+            final int recordCount = RANDOM.nextInt(8) + 1;
+
+            for (int j = 0; j < recordCount; j++) {
+                final ArrayList<String> record = new ArrayList<>();
+                final int fieldCount = RANDOM.nextInt(5) + 1;
+
+                for (int k = 0; k < fieldCount; k++) {
+                    record.add(randomField());
+                }
+
+                expected.add(record);
+            }
+
+            final String input = encode(expected);
+            final int bufferSize = RANDOM.nextInt(8) + 2;
+            Assertions.assertEquals(expected, records(new RecordReader(new StringReader(input), ',', '"', bufferSize)));
+            Assertions.assertEquals(expected, records(RecordReader.of(CharBuffer.wrap(input), ',', '"')));
+        }
+    }
+
+    @Test
+    void testMappedFile() throws IOException {
+        final Path path = Files.createTempFile("sliced", ".csv");
+
+        try {
+            Files.write(path, "name,price\n\"Brötchen\",0.5€\n".getBytes(StandardCharsets.UTF_8));
+
+            try (final RecordReader reader = RecordReader.open(path, StandardCharsets.UTF_8, ',', '"')) {
+                Assertions.assertEquals(Arrays.asList(
+                    Arrays.asList("name", "price"),
+                    Arrays.asList("Brötchen", "0.5€")
+                ), records(reader));
+            }
+        }
+        finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.util.IntRingBuffer;
+import io.karma.sliced.util.LongRingBuffer;
+import io.karma.sliced.util.RingBuffer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestRingBuffer extends AbstractTest {
+    private static final int COUNT = 200_000;
+
+    @Test
+    void testWindowsSplitAtWrapAround() {
+        final IntRingBuffer buffer = IntRingBuffer.singleProducer(6);
+        Assertions.assertEquals(8, buffer.capacity());
+
+        for (int i = 0; i < 8; i++) {
+            Assertions.assertTrue(buffer.offer(i));
+        }
+
+        Assertions.assertFalse(buffer.offer(8));
+        Assertions.assertEquals(IntSlice.of(0, 1, 2, 3, 4, 5, 6, 7), buffer.window());
+        buffer.release(5);
+        Assertions.assertTrue(buffer.offer(8));
+        Assertions.assertTrue(buffer.offer(9));
+
+        final List<IntSlice> windows = new ArrayList<>();
+        Assertions.assertEquals(5, buffer.drainWindows(window -> windows.add(IntSlice.of(window.toIntArray()))));
+        Assertions.assertEquals(2, windows.size());
+        Assertions.assertEquals(IntSlice.of(5, 6, 7), windows.get(0));
+        Assertions.assertEquals(IntSlice.of(8, 9), windows.get(1));
+        Assertions.assertTrue(buffer.isEmpty());
+        Assertions.assertEquals(0, buffer.window().size());
+        Assertions.assertThrows(NoSuchElementException.class, buffer::pollInt);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> buffer.release(1));
+    }
+
+    @Test
+    void testQueueView() {
+        final RingBuffer<String> buffer = RingBuffer.multiProducer(4);
+        Assertions.assertNull(buffer.peek());
+        Assertions.assertNull(buffer.poll());
+        buffer.offer("a");
+        buffer.offer("b");
+        buffer.offer("c");
+
+        Assertions.assertEquals("a", buffer.peek());
+        Assertions.assertEquals(3, buffer.size());
+        Assertions.assertTrue(buffer.contains("b"));
+        Assertions.assertEquals("[a, b, c]", buffer.toString());
+        Assertions.assertEquals("a", buffer.poll());
+        Assertions.assertEquals(2, buffer.asSlice().size());
+        Assertions.assertEquals("b", buffer.window().get(0));
+        Assertions.assertThrows(NullPointerException.class, () -> buffer.offer(null));
+    }
+
+    @Test
+    void testSingleProducer() throws InterruptedException {
+        final LongRingBuffer buffer = LongRingBuffer.singleProducer(1024);
+        final Thread producer = new Thread(() -> {
+            for (long i = 0; i < COUNT; i++) {
+                while (!buffer.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        final long[] expected = {0L};
+
+        while (expected[0] < COUNT) {
+            buffer.drainWindows(window -> {
+                for (int i = 0; i < window.size(); i++) {
+                    Assertions.assertEquals(expected[0]++, window.getLong(i));
+                }
+            });
+        }
+
+        producer.join();
+        Assertions.assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void testMultiProducer() throws InterruptedException {
+        final int producers = 4;
+        final IntRingBuffer buffer = IntRingBuffer.multiProducer(256);
+        final Thread[] threads = new Thread[producers];
+
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < COUNT / producers; i++) {
+                    while (!buffer.offer(i * producers + producer)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads[p].start();
+        }
+
+        // Values of every producer have to arrive in order, and exactly once
+        final int[] next = new int[producers];
+        final int[] received = {0};
+
+        while (received[0] < COUNT) {
+            received[0] += buffer.drainTo(value -> {
+                final int producer = value % producers;
+                Assertions.assertEquals(next[producer]++ * producers + producer, value);
+            });
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int p = 0; p < producers; p++) {
+            Assertions.assertEquals(COUNT / producers, next[p]);
+        }
+    }
+
+    @Test
+    void testPollOneByOne() {
+        for (final IntRingBuffer buffer : new IntRingBuffer[]{IntRingBuffer.singleProducer(1 << 17),
+            IntRingBuffer.multiProducer(1 << 17)}) {
+            for (int i = 0; i < buffer.capacity(); i++) {
+                Assertions.assertTrue(buffer.offer(i));
+            }
+
+            for (int i = 0; i < buffer.capacity(); i++) {
+                Assertions.assertEquals(buffer.capacity() - i, buffer.size());
+                Assertions.assertEquals(i, buffer.pollInt());
+            }
+
+            Assertions.assertTrue(buffer.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.Search;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestSearch extends AbstractTest {
+    // 'a' and 'š' share their lower 8 bits, which exercises skip table collisions
+    private static final char[] ALPHABET = {'a', 'b', 'c', 'š'};
+
+    private static String randomText(final int size) {
+        final char[] result = new char[size];
+
+        for (int i = 0; i < size; i++) {
+            result[i] = ALPHABET[RANDOM.nextInt(ALPHABET.length)];
+        }
+
+        return new String(result);
+    }
+
+    @Test
+    void testIndexOfMatchesString() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String text = randomText(RANDOM.nextInt(128));
+            final String needle = randomText(RANDOM.nextInt(5) + 1);
+            final CharSlice[] slices = {CharSlice.of(text), CharSlice.of(text.toCharArray()),
+                CharSlice.ofUtf8(text.getBytes(StandardCharsets.UTF_8))};
+
+            for (final CharSlice slice : slices) {
+                Assertions.assertEquals(text.indexOf(needle), slice.indexOf(needle));
+                Assertions.assertEquals(text.lastIndexOf(needle), slice.lastIndexOf(needle));
+                Assertions.assertEquals(text.indexOf(needle.charAt(0)), slice.indexOf(needle.charAt(0)));
+                Assertions.assertEquals(text.lastIndexOf(needle.charAt(0)), slice.lastIndexOf(needle.charAt(0)));
+                Assertions.assertEquals(text.contains(needle), slice.contains(needle));
+
+                final int from = RANDOM.nextInt(text.length() + 1);
+                Assertions.assertEquals(text.indexOf(needle, from), slice.indexOf(needle, from));
+                Assertions.assertEquals(text.lastIndexOf(needle, from), slice.lastIndexOf(needle, from));
+            }
+        }
+    }
+
+    @Test
+    void testIndexOfOnlyCoversWindow() {
+        final String text = "abcabc";
+        final CharSlice slice = CharSlice.of(("abc" + text + "abc").toCharArray(), 3, text.length());
+        Assertions.assertEquals(0, slice.indexOf("abc"));
+        Assertions.assertEquals(3, slice.lastIndexOf("abc"));
+        Assertions.assertEquals(-1, slice.indexOf("abcabca"));
+        Assertions.assertEquals(4, slice.indexOf("bc", 2, 4));
+        Assertions.assertEquals(-1, slice.indexOf("bc", 2, 2));
+        Assertions.assertEquals(2, slice.indexOf("", 2, 4));
+        Assertions.assertEquals(6, slice.lastIndexOf(""));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.indexOf("a", 4, 3));
+    }
+
+    @Test
+    void testByteIndexOf() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final String text = randomText(RANDOM.nextInt(128)).replace('š', 'd');
+            final String needle = randomText(RANDOM.nextInt(5) + 1).replace('š', 'd');
+            final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+            final byte[] needleBytes = needle.getBytes(StandardCharsets.US_ASCII);
+            final ByteSlice slice = ByteSlice.of(bytes);
+
+            Assertions.assertEquals(text.indexOf(needle), slice.indexOf(needleBytes));
+            Assertions.assertEquals(text.lastIndexOf(needle), slice.lastIndexOf(needleBytes));
+            Assertions.assertEquals(text.indexOf(needle.charAt(0)), slice.indexOf(needleBytes[0]));
+            Assertions.assertEquals(text.contains(needle), slice.contains(needleBytes));
+            Assertions.assertEquals(text.indexOf(needle), Search.indexOf(bytes, 0, bytes.length, needleBytes));
+        }
+    }
+
+    @Test
+    void testSplitBacktracks() {
+        final CharSlice[] parts = CharSlice.of("xaaaby").split("aab");
+        Assertions.assertEquals(2, parts.length);
+        Assertions.assertEquals("xa", parts[0].toString());
+        Assertions.assertEquals("y", parts[1].toString());
+    }
+
+    @Test
+    void testSplitRange() {
+        final CharSlice[] parts = CharSlice.split("a,b,,c", ',');
+        Assertions.assertEquals(4, parts.length);
+        Assertions.assertEquals("a", parts[0].toString());
+        Assertions.assertEquals("b", parts[1].toString());
+        Assertions.assertEquals("", parts[2].toString());
+        Assertions.assertEquals("c", parts[3].toString());
+
+        final CharSlice[] ranged = CharSlice.split("a::b::c", "::", 3, 4);
+        Assertions.assertEquals(2, ranged.length);
+        Assertions.assertEquals("b", ranged[0].toString());
+        Assertions.assertEquals("c", ranged[1].toString());
+        Assertions.assertEquals(1, CharSlice.split("", ',').length);
+    }
+}
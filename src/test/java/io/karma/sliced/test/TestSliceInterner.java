@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test;
+
+import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.util.SliceInterner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestSliceInterner extends AbstractTest {
+    @Test
+    void testInternEqualContent() {
+        final SliceInterner interner = new SliceInterner(1024);
+        final String input = "key=value;key=other;value=key";
+
+        final CharSlice first = interner.intern(CharSlice.of(input, 0, 3));
+        final CharSlice second = interner.intern(CharSlice.of(input, 10, 3));
+        final CharSlice third = interner.intern(CharSlice.of(input.toCharArray(), 26, 3));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertSame(first, third);
+        Assertions.assertEquals("key", first.toString());
+        Assertions.assertNotSame(first, interner.intern(CharSlice.of(input, 4, 5)));
+    }
+
+    @Test
+    void testInternBytesSeparatelyFromChars() {
+        final SliceInterner interner = new SliceInterner(64);
+        final byte[] bytes = randomBytes(128);
+
+        final ByteSlice first = interner.intern(ByteSlice.of(bytes, 8, 16));
+        final ByteSlice second = interner.intern(ByteSlice.of(bytes.clone(), 8, 16));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(0, first.offset());
+        Assertions.assertEquals(16, first.size());
+    }
+
+    @Test
+    void testCapacityIsBounded() {
+        final SliceInterner interner = new SliceInterner(100);
+        final String[] values = randomUniqueStrings(1000, 8);
+
+        for (final String value : values) {
+            Assertions.assertEquals(value, interner.intern(CharSlice.of(value)).toString());
+        }
+
+        Assertions.assertEquals(128, interner.capacity());
+        Assertions.assertTrue(interner.size() <= interner.capacity());
+    }
+}
@@ -59,7 +59,7 @@ public abstract class AbstractSliceTest<T, S extends Slice<T>> extends AbstractV
             final int b = values.length >> 4;
             final int o = RANDOM.nextInt(b);
             final int s = RANDOM.nextInt(b);
-            final int actualSize = values.length - s;
+            final int actualSize = values.length - (o + s);
 
             final S view1 = createArraySlice(values, o, actualSize);
             Assertions.assertNotNull(view1);
@@ -140,11 +140,12 @@ public abstract class AbstractSliceTest<T, S extends Slice<T>> extends AbstractV
             final int o2 = RANDOM.nextInt(ob);
             final int to = o1 + o2;
 
-            final S slice = createArraySlice(values, o1, numValues - o2);
+            final int actualSize = numValues - to;
+
+            final S slice = createArraySlice(values, o1, actualSize);
             Assertions.assertNotNull(slice);
             Assertions.assertEquals(o1, slice.offset());
-
-            final int actualSize = numValues - to;
+            Assertions.assertEquals(actualSize, slice.size());
 
             for (int j = 0; j < actualSize; j++) {
                 eaf.assertThat(values[j + o1], slice.get(j));
@@ -16,14 +16,24 @@
 
 package io.karma.sliced.test.slice;
 
+import io.karma.sliced.slice.BoolSlice;
+import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.CharSlice;
 import io.karma.sliced.slice.Slice;
 import io.karma.sliced.slice.impl.ArrayCharSlice;
 import io.karma.sliced.slice.impl.ListSlice;
+import io.karma.sliced.slice.mutable.MutableCharSlice;
 import io.karma.sliced.test.view.AbstractViewTest.PrimitiveTest;
+import io.karma.sliced.util.CharClass;
 import io.karma.sliced.util.MoreArrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+
 /**
  * @author Alexander Hinze
  * @since 06/09/2022
@@ -34,4 +44,95 @@ public final class TestCharSlice extends AbstractSliceTest<Character, Slice<Char
     public TestCharSlice() {
         super(() -> MoreArrays.box(randomChars(256)), (a, o, s) -> new ArrayCharSlice(MoreArrays.unbox(a), o, s), ListSlice::new);
     }
+
+    private static CharSlice[] slicesOf(final String value) {
+        final String padded = "x" + value + "x";
+        final char[] chars = padded.toCharArray();
+        final int size = value.length();
+        return new CharSlice[]{CharSlice.of(padded, 1, size), CharSlice.of(chars, 1, size),
+            MutableCharSlice.of(padded, 1, size), MutableCharSlice.of(chars, 1, size),
+            CharSlice.ofUtf8(value.getBytes(StandardCharsets.UTF_8))};
+    }
+
+    private static String strip(final String value, final boolean leading, final boolean trailing) {
+        int start = 0;
+        int end = value.length();
+
+        while (leading && start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+
+        while (trailing && end > start && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+
+        return value.substring(start, end);
+    }
+
+    @Test
+    void testTrim() {
+        final String[] values = {"", " ", "  a b  ", "\t\r\nvalue\u0000", "none", "\u2003 wide\u3000 ", " \u00A0"};
+
+        for (final String value : values) {
+            final String trimmed = value.trim();
+            final int start = value.indexOf(trimmed.isEmpty() ? value : trimmed);
+
+            for (final CharSlice slice : slicesOf(value)) {
+                Assertions.assertEquals(trimmed, slice.trim().toString());
+                Assertions.assertEquals(value.substring(trimmed.isEmpty() ? value.length() : start),
+                    slice.trimLeading().toString());
+                Assertions.assertEquals(value.substring(0, trimmed.isEmpty() ? 0 : start + trimmed.length()),
+                    slice.trimTrailing().toString());
+                Assertions.assertEquals(strip(value, true, true), slice.strip().toString());
+                Assertions.assertEquals(strip(value, true, false), slice.stripLeading().toString());
+                Assertions.assertEquals(strip(value, false, true), slice.stripTrailing().toString());
+            }
+        }
+    }
+
+    @Test
+    void testTrimCharClass() {
+        final CharClass quotes = CharClass.of('"', '\'');
+
+        for (final CharSlice slice : slicesOf("\"'quoted \"value'\"")) {
+            Assertions.assertEquals("quoted \"value", slice.trim(quotes).toString());
+            Assertions.assertEquals("quoted \"value'\"", slice.trimLeading(quotes).toString());
+            Assertions.assertEquals("\"'quoted \"value", slice.trimTrailing(quotes).toString());
+        }
+    }
+
+    @Test
+    void testTrimSharesStorage() {
+        final char[] chars = "  abc  ".toCharArray();
+        final CharSlice trimmed = CharSlice.of(chars, 1, 5).trim();
+        Assertions.assertEquals(2, trimmed.offset());
+        Assertions.assertEquals(3, trimmed.size());
+        Assertions.assertEquals("b", ((CharSlice) trimmed.slice(1, 1)).toString());
+        Assertions.assertEquals(CharSlice.of("abc"), trimmed);
+        Assertions.assertEquals(CharSlice.of("abc".toCharArray()).hashCode(), trimmed.hashCode());
+
+        final CharSlice leading = CharSlice.of("   ab".toCharArray()).trim();
+        Assertions.assertEquals("ab", leading.toString());
+        Assertions.assertEquals(CharSlice.of("ab".toCharArray()).hashCode(), leading.hashCode());
+        Assertions.assertEquals(leading, CharSlice.of("   ab".toCharArray()).strip());
+        Assertions.assertEquals(leading.hashCode(), CharSlice.of("   ab".toCharArray()).trimLeading().hashCode());
+
+        final HashSet<CharSlice> set = new HashSet<>();
+        set.add(leading);
+        Assertions.assertTrue(set.contains(CharSlice.of("ab".toCharArray())));
+    }
+
+    @Test
+    void testSliceBounds() {
+        final CharSlice slice = CharSlice.of("0123456789".toCharArray(), 2, 5);
+        Assertions.assertEquals("34", ((CharSlice) slice.slice(1, 2)).toString());
+        Assertions.assertEquals(0, slice.slice(5, 0).size());
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.slice(-1, 2));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.slice(4, 2));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.slice(0, -1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                                () -> ByteSlice.of(new byte[8], 2, 4).slice(1, 4));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                                () -> BoolSlice.of(new boolean[8], 2, 4).slice(3, 2));
+    }
 }
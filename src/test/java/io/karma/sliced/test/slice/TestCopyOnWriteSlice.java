@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.slice;
+
+import io.karma.sliced.slice.CopyOnWriteDoubleSlice;
+import io.karma.sliced.slice.CopyOnWriteIntSlice;
+import io.karma.sliced.slice.CopyOnWriteLongSlice;
+import io.karma.sliced.slice.CopyOnWriteSlice;
+import io.karma.sliced.slice.DoubleSlice;
+import io.karma.sliced.slice.IntSlice;
+import io.karma.sliced.slice.LongSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.test.AbstractTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.Arrays;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestCopyOnWriteSlice extends AbstractTest {
+    @Test
+    void testForksShareUntilWritten() {
+        final double[] state = randomDoubles(ITERATIONS);
+        final double[] original = state.clone();
+        final CopyOnWriteDoubleSlice base = CopyOnWriteDoubleSlice.of(state, 10, 50);
+        final CopyOnWriteDoubleSlice first = base.fork();
+        final CopyOnWriteDoubleSlice second = base.fork();
+
+        Assertions.assertTrue(base.isShared());
+        Assertions.assertEquals(DoubleSlice.of(state, 10, 50), first);
+        Assertions.assertEquals(DoubleSlice.of(state, 10, 50).hashCode(), first.hashCode());
+
+        first.setDouble(0, -1.0);
+        Assertions.assertFalse(first.isShared());
+        Assertions.assertEquals(-1.0, first.getDouble(0));
+        Assertions.assertEquals(original[11], first.getDouble(1));
+        Assertions.assertEquals(original[10], second.getDouble(0));
+        Assertions.assertEquals(original[10], base.getDouble(0));
+        Assertions.assertArrayEquals(original, state);
+
+        // Forking a written slice shares its copy again
+        final CopyOnWriteDoubleSlice third = first.fork();
+        Assertions.assertTrue(first.isShared());
+        third.set(1, 5.0);
+        Assertions.assertEquals(original[11], first.getDouble(1));
+        Assertions.assertEquals(5.0, third.getDouble(1));
+        Assertions.assertArrayEquals(original, state);
+    }
+
+    @Test
+    void testSliceKeepsObservedElements() {
+        final int[] values = randomInts(ITERATIONS);
+        final CopyOnWriteIntSlice slice = CopyOnWriteIntSlice.of(values);
+        slice.setInt(0, 1);
+        Assertions.assertFalse(slice.isShared());
+
+        final Slice<Integer> view = slice.slice(0, 2);
+        slice.setInt(0, 2);
+        Assertions.assertEquals(Integer.valueOf(1), view.get(0));
+        Assertions.assertEquals(2, slice.getInt(0));
+        Assertions.assertEquals(values[1], slice.getInt(1));
+        Assertions.assertArrayEquals(Arrays.copyOfRange(slice.toIntArray(), 1, ITERATIONS), Arrays.copyOfRange(values, 1, ITERATIONS));
+        Assertions.assertEquals(IntSlice.of(slice.toIntArray()), slice);
+    }
+
+    @Test
+    void testLongAndObjectSlices() {
+        final long[] values = randomLongs(ITERATIONS);
+        final CopyOnWriteLongSlice longs = CopyOnWriteLongSlice.of(values, ITERATIONS / 2, ITERATIONS / 4);
+        final CopyOnWriteLongSlice fork = longs.fork();
+        fork.setLong(ITERATIONS / 4 - 1, 0L);
+        Assertions.assertEquals(LongSlice.of(values, ITERATIONS / 2, ITERATIONS / 4), longs);
+        Assertions.assertEquals(0L, fork.getLong(ITERATIONS / 4 - 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> fork.setLong(ITERATIONS / 4, 0L));
+
+        final String[] strings = randomStrings(ITERATIONS, 8);
+        final CopyOnWriteSlice<String> objects = CopyOnWriteSlice.of(strings, 20, 10);
+        final CopyOnWriteSlice<String> objectFork = objects.fork();
+        objectFork.set(0, "changed");
+        Assertions.assertEquals(strings[20], objects.get(0));
+        Assertions.assertEquals("changed", objectFork.get(0));
+        Assertions.assertEquals(Slice.of(strings, 20, 10).copyArrayList(0, 10), objects.copyArrayList(0, 10));
+
+        int index = 0;
+
+        for (final String value : objectFork) {
+            Assertions.assertEquals(index == 0 ? "changed" : strings[20 + index], value);
+            index++;
+        }
+
+        Assertions.assertEquals(10, index);
+    }
+
+    @Test
+    void testIndicesStayWithinWindow() {
+        final int[] values = randomInts(ITERATIONS);
+        final int[] original = values.clone();
+        final CopyOnWriteIntSlice slice = CopyOnWriteIntSlice.of(values, 10, 20);
+        Assertions.assertEquals(10, slice.offset());
+
+        // Neither reads nor writes may reach the shared array outside of the window
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.getInt(-1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.getInt(20));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.setInt(-1, 0));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.setInt(20, 0));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.slice(15, 10));
+        Assertions.assertTrue(slice.isShared());
+        Assertions.assertArrayEquals(original, values);
+
+        // The first write rebases the slice onto its own copy of the window
+        slice.setInt(0, 1);
+        Assertions.assertEquals(0, slice.offset());
+        Assertions.assertEquals(20, slice.size());
+
+        final CopyOnWriteSlice<String> objects = CopyOnWriteSlice.of(randomStrings(8, 4), 2, 4);
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> objects.get(4));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> objects.set(-1, "x"));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                                () -> CopyOnWriteDoubleSlice.of(new double[8], 2, 4).setDouble(4, 1.0));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class,
+                                () -> CopyOnWriteLongSlice.of(new long[8], 2, 4).getLong(-1));
+    }
+}
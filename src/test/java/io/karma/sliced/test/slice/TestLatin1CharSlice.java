@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.slice;
+
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.Latin1CharSlice;
+import io.karma.sliced.slice.impl.ListSlice;
+import io.karma.sliced.test.view.AbstractViewTest.PrimitiveTest;
+import io.karma.sliced.util.MoreArrays;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@PrimitiveTest
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestLatin1CharSlice extends AbstractSliceTest<Character, Slice<Character>> {
+    public TestLatin1CharSlice() {
+        super(() -> MoreArrays.box(randomChars(256)), (a, o, s) -> new Latin1CharSlice(encode(MoreArrays.unbox(a)), o, s), ListSlice::new);
+    }
+
+    private static byte[] encode(final char[] chars) {
+        return new String(chars).getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static @NotNull CharSlice latin1(final @NotNull String value) {
+        return CharSlice.ofLatin1(value.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void testEqualsAndHashCodeMatchCharArray() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            final char[] chars = randomChars(64);
+            final CharSlice slice = new Latin1CharSlice(encode(chars), 0, chars.length);
+            final CharSlice expected = CharSlice.of(chars);
+
+            Assertions.assertEquals(expected, slice);
+            Assertions.assertEquals(slice, expected);
+            Assertions.assertEquals(expected.hashCode(), slice.hashCode());
+            Assertions.assertEquals(expected.hash64(), slice.hash64());
+            Assertions.assertEquals(0, slice.compareTo(expected));
+        }
+
+        final CharSlice upper = latin1("grüße ÿ");
+        Assertions.assertEquals("grüße ÿ", upper.toString());
+        Assertions.assertEquals(CharSlice.of("grüße ÿ".toCharArray()).hashCode(), upper.hashCode());
+        Assertions.assertTrue(latin1("ÿ").compareTo(latin1("a")) > 0);
+        Assertions.assertTrue(latin1("ab").compareTo(latin1("abc")) < 0);
+        Assertions.assertEquals(latin1("abc"), latin1("xabcx").slice(1, 3));
+    }
+
+    @Test
+    void testIndexOf() {
+        final CharSlice slice = latin1("key=välue;key=other");
+
+        Assertions.assertEquals(3, slice.indexOf('='));
+        Assertions.assertEquals(13, slice.lastIndexOf('='));
+        Assertions.assertEquals(5, slice.indexOf('ä'));
+        Assertions.assertEquals(-1, slice.indexOf('€'));
+        Assertions.assertEquals(10, slice.indexOf("key", 1));
+        Assertions.assertEquals(10, slice.lastIndexOf("key"));
+        Assertions.assertEquals(4, slice.indexOf(latin1("välue")));
+        Assertions.assertEquals(-1, slice.indexOf("v€"));
+        Assertions.assertTrue(slice.contains("other"));
+
+        // Needles which are windows into a larger array
+        final byte[] bytes = "[välue]key".getBytes(StandardCharsets.ISO_8859_1);
+        final CharSlice window = CharSlice.ofLatin1(bytes, 1, 5);
+        Assertions.assertEquals("välue", window.toString());
+        Assertions.assertEquals(4, slice.indexOf(window));
+        Assertions.assertEquals(4, slice.lastIndexOf(window));
+        Assertions.assertEquals(10, slice.lastIndexOf(CharSlice.ofLatin1(bytes, 7, 3)));
+        Assertions.assertEquals(-1, slice.indexOf(CharSlice.ofLatin1(bytes, 0, 6)));
+        Assertions.assertEquals(0, slice.indexOf(CharSlice.ofLatin1(bytes, 3, 0)));
+    }
+
+    @Test
+    void testFactories() {
+        final byte[] bytes = "  identifier  ".getBytes(StandardCharsets.US_ASCII);
+        final CharSlice ascii = CharSlice.ofAscii(bytes, 2, 10);
+        Assertions.assertEquals("identifier", ascii.toString());
+        Assertions.assertEquals(ascii, CharSlice.ofAscii(bytes).trim());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CharSlice.ofAscii((byte) 'a', (byte) 0xE4));
+
+        Assertions.assertTrue(CharSlice.compact("äbc") instanceof Latin1CharSlice);
+        Assertions.assertFalse(CharSlice.compact("a€c") instanceof Latin1CharSlice);
+        Assertions.assertEquals("a€c", CharSlice.compact("a€c").toString());
+        Assertions.assertTrue(((Latin1CharSlice) CharSlice.compact("abc")).isAscii());
+        Assertions.assertFalse(((Latin1CharSlice) CharSlice.compact("äbc")).isAscii());
+    }
+}
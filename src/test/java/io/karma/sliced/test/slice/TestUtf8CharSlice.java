@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.test.slice;
+
+import io.karma.sliced.slice.ByteSlice;
+import io.karma.sliced.slice.CharSlice;
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.impl.ListSlice;
+import io.karma.sliced.slice.impl.Utf8CharSlice;
+import io.karma.sliced.test.view.AbstractViewTest.PrimitiveTest;
+import io.karma.sliced.util.MoreArrays;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@PrimitiveTest
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestUtf8CharSlice extends AbstractSliceTest<Character, Slice<Character>> {
+    public TestUtf8CharSlice() {
+        super(() -> MoreArrays.box(randomChars(256)), (a, o, s) -> new Utf8CharSlice(encode(MoreArrays.unbox(a)), o, s), ListSlice::new);
+    }
+
+    private static byte[] encode(final char[] chars) {
+        return new String(chars).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static @NotNull CharSlice utf8(final @NotNull String value) {
+        return CharSlice.ofUtf8(ByteSlice.of(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testDecodesNonAscii() {
+        final String value = "grüße € 😀!";
+        final CharSlice slice = utf8(value);
+
+        Assertions.assertEquals(value.length(), slice.length());
+        Assertions.assertEquals(value, slice.toString());
+        Assertions.assertEquals(CharSlice.of(value.toCharArray()), slice);
+        Assertions.assertEquals(CharSlice.of(value.toCharArray()).hashCode(), slice.hashCode());
+
+        for (int i = 0; i < value.length(); i++) {
+            Assertions.assertEquals(value.charAt(i), slice.charAt(i));
+        }
+    }
+
+    @Test
+    void testTrimAndSplitOnBytes() {
+        final CharSlice slice = utf8("  ä,b€c,,d\t\n");
+        final CharSlice trimmed = slice.trim();
+        Assertions.assertEquals("ä,b€c,,d", trimmed.toString());
+
+        final CharSlice[] parts = trimmed.split(',');
+        Assertions.assertEquals(4, parts.length);
+        Assertions.assertEquals("ä", parts[0].toString());
+        Assertions.assertEquals("b€c", parts[1].toString());
+        Assertions.assertEquals("", parts[2].toString());
+        Assertions.assertEquals("d", parts[3].toString());
+
+        final CharSlice[] euroParts = trimmed.split('€');
+        Assertions.assertEquals(2, euroParts.length);
+        Assertions.assertEquals("ä,b", euroParts[0].toString());
+
+        final CharSlice[] overlapping = utf8("aaab").split("aab");
+        Assertions.assertEquals(2, overlapping.length);
+        Assertions.assertEquals("a", overlapping[0].toString());
+        Assertions.assertEquals("", overlapping[1].toString());
+    }
+
+    @Test
+    void testAsciiSlicing() {
+        final byte[] bytes = "header: value".getBytes(StandardCharsets.US_ASCII);
+        final CharSlice slice = CharSlice.ofUtf8(ByteSlice.of(bytes, 8, 5));
+        Assertions.assertEquals("value", slice.toString());
+        Assertions.assertEquals("alu", ((CharSlice) slice.slice(1, 3)).toString());
+        Assertions.assertEquals(utf8("value"), slice);
+    }
+
+    @Test
+    void testMalformedEquality() {
+        // Both sequences are invalid and decode to a single U+FFFD
+        final CharSlice first = CharSlice.ofUtf8((byte) 'a', (byte) 0xFF);
+        final CharSlice second = CharSlice.ofUtf8((byte) 'a', (byte) 0xFE);
+        final CharSlice decoded = CharSlice.of("a\uFFFD".toCharArray());
+
+        Assertions.assertEquals(decoded, first);
+        Assertions.assertEquals(decoded, second);
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        Assertions.assertEquals(decoded.hashCode(), first.hashCode());
+        Assertions.assertNotEquals(first, CharSlice.ofUtf8((byte) 'b', (byte) 0xFF));
+        Assertions.assertNotEquals(utf8("ab"), utf8("ac"));
+    }
+}
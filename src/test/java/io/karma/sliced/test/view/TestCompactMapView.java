@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.view;
+
+import io.karma.sliced.test.AbstractTest;
+import io.karma.sliced.view.MapView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestCompactMapView extends AbstractTest {
+    @SuppressWarnings("unchecked")
+    private static Entry<String, Integer>[] newEntries(final int size) {
+        return (Entry<String, Integer>[]) new Entry<?, ?>[size];
+    }
+
+    @Test
+    void testCopyOfMatchesSource() {
+        for (int i = 0; i < 8; i++) {
+            final Map<String, Integer> expected = new LinkedHashMap<>();
+            final int size = RANDOM.nextInt(5000);
+
+            while (expected.size() < size) {
+                expected.put(new String(randomChars(1 + RANDOM.nextInt(8))), RANDOM.nextInt());
+            }
+
+            final MapView<String, Integer> view = MapView.copyOf(expected);
+            Assertions.assertEquals(expected.size(), view.size());
+            Assertions.assertEquals(expected.hashCode(), view.hashCode());
+            Assertions.assertEquals(expected.keySet(), view.keys());
+            Assertions.assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(view.values()));
+
+            for (final Entry<String, Integer> entry : expected.entrySet()) {
+                Assertions.assertTrue(view.containsKey(entry.getKey()));
+                Assertions.assertEquals(entry.getValue(), view.get(entry.getKey()));
+            }
+
+            Assertions.assertNull(view.get("~not a key~"));
+
+            // Iteration order follows the source map
+            final List<Entry<String, Integer>> entries = new ArrayList<>(expected.entrySet());
+            int index = 0;
+
+            for (final Entry<String, Integer> entry : view) {
+                Assertions.assertEquals(entries.get(index++), entry);
+            }
+
+            Assertions.assertEquals(expected.size(), view.asSlice().size());
+            Assertions.assertEquals(expected.size(), view.toArray(TestCompactMapView::newEntries).length);
+        }
+    }
+
+    @Test
+    void testNullKeysAndValues() {
+        final Map<String, String> map = new HashMap<>();
+        map.put(null, "null key");
+        map.put("null value", null);
+        map.put("key", "value");
+
+        final MapView<String, String> view = MapView.copyOf(map);
+        Assertions.assertEquals("null key", view.get(null));
+        Assertions.assertTrue(view.containsKey("null value"));
+        Assertions.assertNull(view.get("null value"));
+        Assertions.assertTrue(view.containsValue(null));
+        Assertions.assertEquals(map.hashCode(), view.hashCode());
+        Assertions.assertEquals(view, MapView.copyOf(new LinkedHashMap<>(map)));
+    }
+}
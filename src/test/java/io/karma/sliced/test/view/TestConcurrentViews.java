@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.view;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.test.AbstractTest;
+import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.View;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.HashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestConcurrentViews extends AbstractTest {
+    @SuppressWarnings("unchecked")
+    private static Entry<Integer, Integer>[] newEntries(final int size) {
+        return (Entry<Integer, Integer>[]) new Entry<?, ?>[size];
+    }
+
+    private static Thread startWriter(final ConcurrentHashMap<Integer, Integer> map, final AtomicBoolean running) {
+        final Thread writer = new Thread(() -> {
+            int key = 0;
+
+            while (running.get()) {
+                map.put(key, key);
+                map.remove(key - 512);
+                key++;
+            }
+        });
+        writer.start();
+        return writer;
+    }
+
+    @Test
+    void testMapSnapshotIsSelfConsistent() throws InterruptedException {
+        final ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread writer = startWriter(map, running);
+
+        try {
+            for (int i = 0; i < ITERATIONS; i++) {
+                final MapView<Integer, Integer> snapshot = MapView.snapshotOf(map);
+                final Set<Integer> keys = new HashSet<>();
+                int count = 0;
+
+                for (final Entry<Integer, Integer> entry : snapshot) {
+                    Assertions.assertTrue(keys.add(entry.getKey()));
+                    Assertions.assertEquals(entry.getKey(), snapshot.get(entry.getKey()));
+                    Assertions.assertEquals(entry.getKey(), entry.getValue());
+                    count++;
+                }
+
+                Assertions.assertEquals(snapshot.size(), count);
+                Assertions.assertEquals(snapshot.size(), snapshot.asSlice().size());
+                Assertions.assertEquals(snapshot.size(), snapshot.toArray(TestConcurrentViews::newEntries).length);
+            }
+        }
+        finally {
+            running.set(false);
+            writer.join();
+        }
+
+        Assertions.assertEquals(MapView.snapshotOf(map), MapView.of(map));
+    }
+
+    @Test
+    void testConcurrentMapView() throws InterruptedException {
+        final ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+        final MapView<Integer, Integer> view = MapView.concurrentOf(map);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread writer = startWriter(map, running);
+
+        try {
+            for (int i = 0; i < ITERATIONS; i++) {
+                final Slice<Entry<Integer, Integer>> slice = view.asSlice();
+
+                for (int j = 0; j < slice.size(); j++) {
+                    Assertions.assertNotNull(slice.get(j));
+                }
+
+                for (final Entry<Integer, Integer> entry : view.toArray(TestConcurrentViews::newEntries)) {
+                    Assertions.assertNotNull(entry);
+                }
+            }
+        }
+        finally {
+            running.set(false);
+            writer.join();
+        }
+
+        Assertions.assertEquals(map.size(), view.asSlice().size());
+    }
+
+    @Test
+    void testCollectionSnapshot() {
+        final CopyOnWriteArrayList<Integer> list = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            list.add(i);
+        }
+
+        final View<Integer> snapshot = View.snapshotOf(list);
+        final View<Integer> live = View.concurrentOf(list);
+        list.add(ITERATIONS);
+
+        Assertions.assertEquals(ITERATIONS, snapshot.size());
+        Assertions.assertEquals(ITERATIONS, snapshot.toArray(Integer[]::new).length);
+        Assertions.assertFalse(snapshot.contains(ITERATIONS));
+        Assertions.assertEquals(ITERATIONS + 1, live.size());
+        Assertions.assertTrue(live.contains(ITERATIONS));
+
+        final Set<Integer> keys = ConcurrentHashMap.newKeySet();
+        keys.addAll(list);
+        final Slice<Integer> slice = View.concurrentOf(keys).asSlice();
+        Assertions.assertEquals(keys.size(), slice.size());
+        Assertions.assertEquals(keys, View.snapshotOf(keys).copy(HashSet::new));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.view;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.test.AbstractTest;
+import io.karma.sliced.view.MapView;
+import io.karma.sliced.view.NavigableMapView;
+import io.karma.sliced.view.View;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestMapView extends AbstractTest {
+    @SuppressWarnings("unchecked")
+    private static Entry<Integer, String>[] newEntries(final int size) {
+        return (Entry<Integer, String>[]) new Entry<?, ?>[size];
+    }
+
+    private Map<Integer, String> randomMap(final int size) {
+        final Map<Integer, String> map = new HashMap<>();
+
+        while (map.size() < size) {
+            map.put(RANDOM.nextInt(), new String(randomChars(8)));
+        }
+
+        return map;
+    }
+
+    @Test
+    void testSliceIsCachedUntilSizeChanges() {
+        final Map<Integer, String> map = randomMap(ITERATIONS);
+        final MapView<Integer, String> view = MapView.of(map);
+
+        final Slice<Entry<Integer, String>> first = view.asSlice();
+        final Slice<Entry<Integer, String>> second = view.asSlice();
+        Assertions.assertEquals(map.size(), first.size());
+
+        for (int i = 0; i < first.size(); i++) {
+            Assertions.assertSame(first.get(i), second.get(i));
+        }
+
+        map.put(map.keySet().iterator().next(), "replaced");
+        Assertions.assertTrue(view.asSlice().contains(first.get(0)));
+
+        while (map.size() == first.size()) {
+            map.put(RANDOM.nextInt(), "added");
+        }
+
+        Assertions.assertEquals(map.size(), view.asSlice().size());
+        Assertions.assertEquals(map.size(), view.toArray(TestMapView::newEntries).length);
+    }
+
+    @Test
+    void testRefresh() {
+        final Map<Integer, String> map = randomMap(16);
+        final MapView<Integer, String> view = MapView.of(map);
+        Assertions.assertEquals(16, view.asSlice().size());
+
+        final Integer removed = map.keySet().iterator().next();
+        map.remove(removed);
+
+        while (map.size() < 16) {
+            map.put(RANDOM.nextInt(), "added");
+        }
+
+        view.refresh();
+
+        for (final Entry<Integer, String> entry : view.asSlice()) {
+            Assertions.assertNotEquals(removed, entry.getKey());
+            Assertions.assertEquals(map.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    @Test
+    void testSnapshotEntriesStayCurrent() {
+        final Map<Integer, String> concurrent = new ConcurrentHashMap<>();
+        final Map<Integer, String> identity = new IdentityHashMap<>();
+        final Map<Lifecycle, String> enums = new EnumMap<>(Lifecycle.class);
+        concurrent.put(1, "old");
+        identity.put(1, "old");
+        enums.put(Lifecycle.PER_CLASS, "old");
+
+        final List<MapView<?, String>> views = Arrays.asList(MapView.of(concurrent), MapView.of(identity),
+            MapView.of(enums));
+
+        for (final MapView<?, String> view : views) {
+            Assertions.assertEquals("old", view.asSlice().get(0).getValue());
+        }
+
+        concurrent.put(1, "new");
+        identity.put(1, "new");
+        enums.put(Lifecycle.PER_CLASS, "new");
+
+        for (final MapView<?, String> view : views) {
+            Assertions.assertEquals("new", view.asSlice().get(0).getValue());
+        }
+    }
+
+    @Test
+    void testKeyAndValueViews() {
+        final Map<Integer, String> map = randomMap(ITERATIONS);
+        final MapView<Integer, String> view = MapView.of(map);
+        final View<Integer> keys = view.keyView();
+        final View<String> values = view.valueView();
+
+        Assertions.assertEquals(map.size(), keys.size());
+        Assertions.assertEquals(new ArrayList<>(map.keySet()), keys.copy(ArrayList::new));
+        Assertions.assertEquals(new ArrayList<>(map.values()), values.copy(ArrayList::new));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.keys().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> view.values().clear());
+
+        final MapView<Integer, String> copy = MapView.copyOf(map);
+        Assertions.assertEquals(new ArrayList<>(map.keySet()), copy.keyView().copy(ArrayList::new));
+        Assertions.assertEquals(new ArrayList<>(map.values()), copy.valueView().copy(ArrayList::new));
+    }
+
+    @Test
+    void testSizedSpliterators() {
+        final Map<Integer, String> map = randomMap(ITERATIONS * 10);
+        final MapView<Integer, String> compact = MapView.copyOf(map);
+        final NavigableMapView<Integer, String> sorted = NavigableMapView.copyOf(map);
+
+        for (final MapView<Integer, String> view : Arrays.<MapView<Integer, String>>asList(MapView.of(map), compact, sorted)) {
+            final Spliterator<Entry<Integer, String>> spliterator = view.spliterator();
+            Assertions.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            Assertions.assertEquals(map.size(), spliterator.getExactSizeIfKnown());
+            Assertions.assertEquals(map, view.parallelStream().collect(Collectors.toMap(Entry::getKey, Entry::getValue)));
+            Assertions.assertEquals(map.keySet(), view.parallelKeyStream().collect(Collectors.toSet()));
+            Assertions.assertEquals(map.size(), view.parallelValueStream().count());
+        }
+
+        // Array-backed views split into halves which know their exact size
+        final Spliterator<Entry<Integer, String>> suffix = compact.spliterator();
+        final Spliterator<Entry<Integer, String>> prefix = suffix.trySplit();
+        Assertions.assertNotNull(prefix);
+        Assertions.assertEquals(map.size(), prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown());
+
+        final NavigableMapView<Integer, String> range = sorted.headView(0);
+        Assertions.assertEquals(range.size(), range.spliterator().getExactSizeIfKnown());
+        Assertions.assertEquals(new TreeMap<>(map).headMap(0), range.parallelStream()
+            .collect(Collectors.toMap(Entry::getKey, Entry::getValue)));
+    }
+
+    @Test
+    void testForEachParallel() {
+        final Map<Integer, String> map = randomMap(ITERATIONS * 10);
+
+        for (final MapView<Integer, String> view : Arrays.<MapView<Integer, String>>asList(MapView.of(map),
+            MapView.of(new ConcurrentHashMap<>(map)), MapView.copyOf(map), NavigableMapView.copyOf(map), MapView.empty())) {
+            final Map<Integer, String> result = new ConcurrentHashMap<>();
+            view.forEachParallel(result::put);
+            Assertions.assertEquals(view.size(), result.size());
+
+            for (final Entry<Integer, String> entry : view) {
+                Assertions.assertEquals(entry.getValue(), result.get(entry.getKey()));
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.view;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.test.AbstractTest;
+import io.karma.sliced.view.NavigableMapView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestNavigableMapView extends AbstractTest {
+    private NavigableMap<Integer, String> randomMap() {
+        final NavigableMap<Integer, String> map = new TreeMap<>();
+        final int size = 1 + RANDOM.nextInt(ITERATIONS);
+
+        while (map.size() < size) {
+            final int key = RANDOM.nextInt(size * 4);
+            map.put(key, Integer.toString(key));
+        }
+
+        return map;
+    }
+
+    private static void assertSameEntries(final Map<Integer, String> expected, final NavigableMapView<Integer, String> view) {
+        Assertions.assertEquals(expected.size(), view.size());
+        Assertions.assertEquals(new ArrayList<>(expected.entrySet()), view.copy(ArrayList::new));
+        Assertions.assertEquals(expected.hashCode(), view.hashCode());
+
+        final Slice<Entry<Integer, String>> slice = view.asSlice();
+        Assertions.assertEquals(expected.size(), slice.size());
+        int index = 0;
+
+        for (final Entry<Integer, String> entry : expected.entrySet()) {
+            Assertions.assertEquals(entry, slice.get(index++));
+        }
+    }
+
+    private static void assertNavigation(final NavigableMap<Integer, String> expected,
+                                         final NavigableMapView<Integer, String> view) {
+        assertSameEntries(expected, view);
+
+        if (!expected.isEmpty()) {
+            Assertions.assertEquals(expected.firstKey(), view.firstKey());
+            Assertions.assertEquals(expected.lastKey(), view.lastKey());
+        }
+
+        for (int i = 0; i < 64; i++) {
+            final int key = RANDOM.nextInt(ITERATIONS * 4 + 2) - 1;
+            Assertions.assertEquals(expected.get(key), view.get(key));
+            Assertions.assertEquals(expected.containsKey(key), view.containsKey(key));
+            Assertions.assertEquals(expected.floorEntry(key), view.floorEntry(key));
+            Assertions.assertEquals(expected.ceilingEntry(key), view.ceilingEntry(key));
+            Assertions.assertEquals(expected.lowerEntry(key), view.lowerEntry(key));
+            Assertions.assertEquals(expected.higherEntry(key), view.higherEntry(key));
+            Assertions.assertEquals(expected.floorKey(key), view.floorKey(key));
+            Assertions.assertEquals(expected.ceilingKey(key), view.ceilingKey(key));
+        }
+    }
+
+    private void testRanges(final NavigableMap<Integer, String> expected, final NavigableMapView<Integer, String> view) {
+        assertNavigation(expected, view);
+
+        for (int i = 0; i < 16; i++) {
+            final int from = RANDOM.nextInt(ITERATIONS * 4);
+            final int to = from + RANDOM.nextInt(ITERATIONS);
+            final boolean fromInclusive = RANDOM.nextBoolean();
+            final boolean toInclusive = RANDOM.nextBoolean();
+
+            final NavigableMap<Integer, String> expectedSub = expected.subMap(from, fromInclusive, to, toInclusive);
+            final NavigableMapView<Integer, String> sub = view.subView(from, fromInclusive, to, toInclusive);
+            assertNavigation(expectedSub, sub);
+            assertNavigation(expected.headMap(to, toInclusive), view.headView(to, toInclusive));
+            assertNavigation(expected.tailMap(from, fromInclusive), view.tailView(from, fromInclusive));
+            assertSameEntries(expected.subMap(from, to), view.subView(from, to));
+            assertSameEntries(expected.headMap(to), view.headView(to));
+            assertSameEntries(expected.tailMap(from), view.tailView(from));
+
+            // Ranges of ranges have to stay within the bounds of their parent
+            final int middle = from + (to - from) / 2;
+
+            final boolean middleInRange = (middle > from || fromInclusive) && (middle < to || toInclusive);
+
+            if (middleInRange) {
+                assertNavigation(expectedSub.tailMap(middle, true), sub.tailView(middle));
+            }
+            else {
+                Assertions.assertThrows(IllegalArgumentException.class, () -> expectedSub.tailMap(middle, true));
+                Assertions.assertThrows(IllegalArgumentException.class, () -> sub.tailView(middle));
+            }
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sub.tailView(to + 1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sub.headView(from - 1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sub.subView(from - 1, to));
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> view.subView(2, 1));
+    }
+
+    private static void testNestedBounds(final NavigableMapView<Integer, String> view) {
+        // The bounds are kept even if there are no keys close to them
+        final NavigableMapView<Integer, String> sub = view.subView(10, 20);
+        Assertions.assertEquals(1, sub.size());
+        Assertions.assertEquals(1, sub.subView(12, 18).size());
+        Assertions.assertEquals(0, sub.subView(10, 12).size());
+        Assertions.assertEquals(1, sub.headView(20).size());
+        Assertions.assertEquals(1, sub.tailView(10).size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sub.subView(8, 18));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sub.headView(20, true));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sub.headView(21));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sub.tailView(9));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sub.tailView(10, false).tailView(10));
+        Assertions.assertEquals(0, sub.tailView(10, false).tailView(10, false).headView(11).size());
+    }
+
+    @Test
+    void testNestedBounds() {
+        final NavigableMap<Integer, String> map = new TreeMap<>();
+        map.put(5, "5");
+        map.put(15, "15");
+        map.put(25, "25");
+        testNestedBounds(NavigableMapView.of(map));
+        testNestedBounds(NavigableMapView.copyOf(map));
+    }
+
+    @Test
+    void testWrappedNavigableMap() {
+        for (int i = 0; i < 4; i++) {
+            final NavigableMap<Integer, String> map = randomMap();
+            testRanges(map, NavigableMapView.of(map));
+        }
+    }
+
+    @Test
+    void testSortedArrayCopy() {
+        for (int i = 0; i < 4; i++) {
+            final NavigableMap<Integer, String> map = randomMap();
+            testRanges(map, NavigableMapView.copyOf(new HashMap<>(map)));
+            testRanges(map, NavigableMapView.copyOf(map));
+        }
+    }
+
+    @Test
+    void testCustomComparator() {
+        final NavigableMap<Integer, String> expected = new TreeMap<>(Comparator.reverseOrder());
+        expected.putAll(randomMap());
+
+        final NavigableMapView<Integer, String> view = NavigableMapView.copyOf(new HashMap<>(expected), Comparator.reverseOrder());
+        assertNavigation(expected, view);
+        Assertions.assertEquals(expected.firstKey(), view.firstKey());
+        assertNavigation(expected.subMap(ITERATIONS, false, 0, true), view.subView(ITERATIONS, false, 0, true));
+
+        final Map<Integer, String> duplicates = new HashMap<>();
+        duplicates.put(1, "one");
+        duplicates.put(-1, "minus one");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> NavigableMapView.copyOf(duplicates, Comparator.comparingInt(Math::abs)));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.view;
+
+import io.karma.sliced.test.AbstractTest;
+import io.karma.sliced.view.IntIntMapView;
+import io.karma.sliced.view.IntObjMapView;
+import io.karma.sliced.view.LongLongMapView;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestPrimitiveMapView extends AbstractTest {
+    private static Map<Integer, String> randomIntMap(final int size) {
+        final Map<Integer, String> map = new HashMap<>();
+        map.put(0, "zero");
+
+        while (map.size() < size) {
+            final int key = RANDOM.nextInt();
+            map.put(key, Integer.toHexString(key));
+        }
+
+        return map;
+    }
+
+    @Test
+    void testIntObjMatchesHashMap() {
+        for (int i = 0; i < 8; i++) {
+            final Map<Integer, String> expected = randomIntMap(1 + RANDOM.nextInt(5000));
+            final IntObjMapView<String> view = IntObjMapView.copyOf(expected);
+
+            Assertions.assertEquals(expected.size(), view.size());
+            Assertions.assertEquals(expected.hashCode(), view.hashCode());
+
+            for (final Entry<Integer, String> entry : expected.entrySet()) {
+                Assertions.assertTrue(view.containsKey(entry.getKey().intValue()));
+                Assertions.assertEquals(entry.getValue(), view.get(entry.getKey().intValue()));
+                Assertions.assertEquals(entry.getValue(), view.get(entry.getKey()));
+            }
+
+            for (int j = 0; j < 100; j++) {
+                final int key = RANDOM.nextInt();
+                Assertions.assertEquals(expected.get(key), view.get(key));
+                Assertions.assertEquals(expected.getOrDefault(key, "-"), view.getOrDefault(key, "-"));
+            }
+
+            Assertions.assertEquals(expected.keySet(), view.keyIntStream().boxed().collect(Collectors.toSet()));
+            Assertions.assertEquals(expected.keySet(), view.parallelKeyIntStream().boxed().collect(Collectors.toSet()));
+            Assertions.assertEquals(expected.size(), view.keySlice().size());
+            Assertions.assertEquals(expected.size(), view.parallelValueStream().count());
+            Assertions.assertEquals(expected.keySet(), view.keys());
+            Assertions.assertTrue(view.containsValue("zero"));
+
+            final int[] count = {0};
+            view.forEachEntry((key, value) -> {
+                Assertions.assertEquals(expected.get(key), value);
+                count[0]++;
+            });
+            Assertions.assertEquals(expected.size(), count[0]);
+        }
+    }
+
+    @Test
+    void testIntIntAndLongLong() {
+        final int[] keys = {0, 1, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        final int[] values = {10, 11, 12, 13, 14, 15};
+        final IntIntMapView ints = IntIntMapView.of(keys, values);
+
+        for (int i = 0; i < keys.length; i++) {
+            Assertions.assertEquals(values[i], ints.get(keys[i]));
+        }
+
+        Assertions.assertEquals(0, ints.get(7));
+        Assertions.assertEquals(-1, ints.getOrDefault(7, -1));
+        Assertions.assertNull(ints.get(Integer.valueOf(7)));
+        Assertions.assertTrue(ints.containsValue(15));
+        Assertions.assertEquals(75, ints.valueIntStream().sum());
+        Assertions.assertEquals(75, ints.valueSlice().stream().mapToInt(Integer::intValue).sum());
+
+        final Map<Long, Long> expected = new HashMap<>();
+
+        while (expected.size() < 10000) {
+            final long key = RANDOM.nextLong();
+            expected.put(key, ~key);
+        }
+
+        final LongLongMapView longs = LongLongMapView.copyOf(expected);
+        Assertions.assertEquals(expected.hashCode(), longs.hashCode());
+        longs.forEachEntry((key, value) -> Assertions.assertEquals(~key, value));
+        Assertions.assertEquals(expected.keySet(), longs.parallelKeyLongStream().boxed().collect(Collectors.toSet()));
+        Assertions.assertEquals(expected.size(), longs.valueSlice().size());
+        Assertions.assertFalse(longs.containsKey(0L));
+
+        final Spliterator.OfLong spliterator = longs.keySpliterator();
+        Assertions.assertEquals(expected.size(), spliterator.getExactSizeIfKnown());
+        final Spliterator.OfLong prefix = spliterator.trySplit();
+        Assertions.assertNotNull(prefix);
+        Assertions.assertFalse(prefix.hasCharacteristics(Spliterator.SIZED));
+        Assertions.assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assertions.assertEquals(-1, spliterator.getExactSizeIfKnown());
+        final long[] total = {0};
+        prefix.forEachRemaining((long key) -> total[0]++);
+        spliterator.forEachRemaining((long key) -> total[0]++);
+        Assertions.assertEquals(expected.size(), total[0]);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntIntMapView.of(new int[]{1, 2, 1}, new int[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> IntIntMapView.of(new int[]{1}, new int[2]));
+    }
+}
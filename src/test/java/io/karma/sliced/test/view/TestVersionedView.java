@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.karma.sliced.test.view;
+
+import io.karma.sliced.slice.Slice;
+import io.karma.sliced.slice.StackSlice;
+import io.karma.sliced.test.AbstractTest;
+import io.karma.sliced.view.View;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestVersionedView extends AbstractTest {
+    @Test
+    void testVersionedListSlice() {
+        for (final List<String> list : Arrays.<List<String>>asList(new ArrayList<>(), new LinkedList<>())) {
+            list.addAll(Arrays.asList(randomStrings(ITERATIONS, 8)));
+            final Slice<String> slice = Slice.versionedOf(list, 10, 20);
+            final View<String> view = View.versionedOf(list);
+
+            Assertions.assertEquals(list.get(10), slice.get(0));
+            Assertions.assertEquals(list.subList(10, 30), slice.copyArrayList(0, 20));
+            Assertions.assertEquals(list, view.copy(ArrayList::new));
+
+            final Iterator<String> itr = view.iterator();
+            itr.next();
+            list.add("added");
+
+            Assertions.assertThrows(ConcurrentModificationException.class, () -> slice.get(0));
+            Assertions.assertThrows(ConcurrentModificationException.class, itr::next);
+            Assertions.assertThrows(ConcurrentModificationException.class, view::size);
+            Assertions.assertThrows(ConcurrentModificationException.class, view::iterator);
+
+            // Unversioned slices keep observing the list
+            Assertions.assertEquals(list.get(0), Slice.of(list).get(0));
+        }
+    }
+
+    @Test
+    void testVersionedStackSlice() {
+        final Stack<Integer> stack = new Stack<>();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            stack.push(i);
+        }
+
+        final StackSlice<Integer> slice = StackSlice.versionedOf(stack);
+        Assertions.assertEquals(ITERATIONS, slice.size());
+        Assertions.assertEquals(Integer.valueOf(5), slice.get(5));
+
+        stack.pop();
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> slice.get(5));
+    }
+
+    @Test
+    void testVersionedCollectionView() {
+        final Set<Integer> set = new HashSet<>();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            set.add(i);
+        }
+
+        final View<Integer> view = View.versionedOf(set);
+        Assertions.assertTrue(view.contains(5));
+        Assertions.assertEquals(ITERATIONS, view.size());
+        set.remove(5);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> view.contains(6));
+
+        final AtomicInteger version = new AtomicInteger();
+        final View<Integer> stamped = View.versionedOf(set, version::get);
+        Assertions.assertEquals(set.size(), stamped.asSlice().size());
+        version.incrementAndGet();
+        Assertions.assertThrows(ConcurrentModificationException.class, stamped::asSlice);
+    }
+
+    @Test
+    void testVersionedObjectFunctions() {
+        final Set<Integer> set = new HashSet<>(Arrays.asList(1, 2, 3));
+        final View<Integer> view = View.versionedOf(set);
+        final View<Integer> other = View.versionedOf(new HashSet<>(set));
+        Assertions.assertEquals(set.hashCode(), view.hashCode());
+        Assertions.assertEquals(set.toString(), view.toString());
+        Assertions.assertEquals(view, other);
+        Assertions.assertEquals(other, view);
+
+        set.add(4);
+        Assertions.assertThrows(ConcurrentModificationException.class, view::hashCode);
+        Assertions.assertThrows(ConcurrentModificationException.class, view::toString);
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> view.equals(other));
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> other.equals(view));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022 Karma Krafts
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.karma.sliced.util;
+
+import io.karma.sliced.test.AbstractTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Lives next to {@link RingIndex}, so it can hold a claimed slot
+ * unpublished like a producer which was preempted in between.
+ *
+ * @author Alexander Hinze
+ * @since 19/10/2026
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+public final class TestRingIndex extends AbstractTest {
+    @Test
+    void testReleaseSkipsInFlightClaims() {
+        final RingIndex index = new RingIndex(8, true);
+        final long inFlight = index.claim();
+        index.publish(index.claim());
+        index.publish(index.claim());
+
+        Assertions.assertFalse(index.hasReadable());
+        Assertions.assertEquals(0, index.readable());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> index.checkRelease(1));
+
+        index.publish(inFlight);
+        Assertions.assertTrue(index.hasReadable());
+        Assertions.assertEquals(2, index.readable(2));
+        Assertions.assertEquals(3, index.readable());
+        index.checkRelease(3);
+        index.release(1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> index.checkRelease(3));
+        index.checkRelease(2);
+        index.release(2);
+        Assertions.assertFalse(index.hasReadable());
+    }
+
+    @Test
+    void testReadableAcrossWraps() {
+        final RingIndex index = new RingIndex(4, true);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            final long first = index.claim();
+            final long second = index.claim();
+            index.publish(second);
+            Assertions.assertEquals(0, index.readable());
+
+            index.publish(first);
+            Assertions.assertEquals(2, index.readable());
+            index.release(1);
+            Assertions.assertEquals(1, index.readable());
+            index.release(1);
+            Assertions.assertFalse(index.hasReadable());
+        }
+    }
+}